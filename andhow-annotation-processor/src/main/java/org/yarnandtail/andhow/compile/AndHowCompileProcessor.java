@@ -23,10 +23,17 @@ import static javax.tools.StandardLocation.CLASS_OUTPUT;
  * Note: check to ensure that Props are not referenced in static init blocks b/c
  * we may need to load the class (and run its init) before andHow init can
  * complete, causing a circular init loop.
+ * <p>
+ * If the {@code andhow.externalizeText} option is set to true (i.e. the javac
+ * argument {@code -Aandhow.externalizeText=true}), the description and help
+ * text of each Property declared in its Javadoc is also written to a generated
+ * resource, allowing it to be loaded lazily at runtime.  See
+ * {@code PropertyTextResource}.
  *
  * @author ericeverman
  */
 @SupportedAnnotationTypes("*")
+@SupportedOptions(AndHowCompileProcessor.EXTERNALIZE_TEXT_OPTION)
 public class AndHowCompileProcessor extends AbstractProcessor {
 	private static final AndHowLog LOG = AndHowLog.getLogger(AndHowCompileProcessor.class);
 	
@@ -37,6 +44,9 @@ public class AndHowCompileProcessor extends AbstractProcessor {
 	
 	private static final String SERVICE_REGISTRY_META_DIR = "META-INF/services/";
 	
+	/** Processor option to write Property text to a generated PropertyTextResource */
+	public static final String EXTERNALIZE_TEXT_OPTION = "andhow.externalizeText";
+	
 	//Static to insure all generated classes have the same timestamp
 	private static Calendar runDate;
 
@@ -58,7 +68,8 @@ public class AndHowCompileProcessor extends AbstractProcessor {
 		boolean isLastRound = roundEnv.processingOver();
 		
 		Filer filer = this.processingEnv.getFiler();
-
+		boolean externalizeText = Boolean.parseBoolean(
+				this.processingEnv.getOptions().get(EXTERNALIZE_TEXT_OPTION));
 
 
 		if (isLastRound) {
@@ -113,7 +124,8 @@ public class AndHowCompileProcessor extends AbstractProcessor {
 						this.processingEnv, 
 						Property.class.getCanonicalName(),
 						INIT_CLASS_NAME,
-						TEST_INIT_CLASS_NAME);
+						TEST_INIT_CLASS_NAME,
+						externalizeText);
 				CompileUnit ret = st.scan(e);
 
 
@@ -144,6 +156,15 @@ public class AndHowCompileProcessor extends AbstractProcessor {
 						LOG.error("Unable to write generated classfile '" + gen.buildGeneratedClassFullName() + "'", ex);
 						throw new RuntimeException(ex);
 					}
+					
+					if (ret.hasPropertyText()) {
+						try {
+							writeTextResource(filer, ret, e);
+						} catch (IOException ex) {
+							LOG.error("Unable to write generated Property text for '" + ret.getRootCanonicalName() + "'", ex);
+							throw new RuntimeException(ex);
+						}
+					}
 				}
 
 				if (ret.getErrors().size() > 0) {
@@ -175,6 +196,25 @@ public class AndHowCompileProcessor extends AbstractProcessor {
 		}	
 	}
 	
+	/**
+	 * Writes the Property description and help text recorded in a CompileUnit
+	 * to a properties file next to the generated PropertyRegistrar.
+	 */
+	protected void writeTextResource(Filer filer, CompileUnit unit, Element causingElement) throws IOException {
+		
+		String pkg = (unit.getRootPackageName() != null)? unit.getRootPackageName() : "";
+		
+		FileObject textFile = filer.createResource(CLASS_OUTPUT, pkg,
+				PropertyTextResource.getResourceName(unit.getRootCanonicalName()), causingElement);
+		
+		Properties text = new Properties();
+		text.putAll(unit.getPropertyText());
+		
+		try (OutputStream out = textFile.openOutputStream()) {
+			text.store(out, "AndHow Property text for " + unit.getRootCanonicalName());
+		}
+	}
+	
 	protected void writeServiceFile(Filer filer, 
 			String fullyQualifiedServiceInterfaceName, 
 			List<CauseEffect> implementingClasses) throws IOException {
@@ -28,6 +28,8 @@ public class AndHowElementScanner7 extends ElementScanner7<CompileUnit, String>
 	private final TypeMirror initTypeMirror;
 	private final TypeMirror testInitTypeMirror;
 	private final Trees trees;
+	private final Elements elementUtils;
+	private final boolean recordText;	//Record desc & help text for a generated resource
 	
 	CompileUnit compileUnit;		//Info on a single compileable file.  Late init.
 
@@ -42,11 +44,31 @@ public class AndHowElementScanner7 extends ElementScanner7<CompileUnit, String>
 			String typeNameOfAndHowProperty,
 			String typeNameOfAndHowInit,
 			String typeNameOfAndHowTestInit) {
+		
+		this(processingEnv, typeNameOfAndHowProperty, typeNameOfAndHowInit, typeNameOfAndHowTestInit, false);
+	}
+	
+	/**
+	 * 
+	 * @param processingEnv	The ProcessingEnvironment that a javax.annotation.processing.Processor
+	 * is initialized with.
+	 * @param typeNameOfAndHowProperty The fully qualified name of the interface that
+	 * all AndHow Properties implement.
+	 * @param recordText If true, record the description and help text of each
+	 * Property in the CompileUnit.
+	 */
+	public AndHowElementScanner7(ProcessingEnvironment processingEnv,
+			String typeNameOfAndHowProperty,
+			String typeNameOfAndHowInit,
+			String typeNameOfAndHowTestInit,
+			boolean recordText) {
 
 		super(null);
 
 		trees = Trees.instance(processingEnv);
 		typeUtils = processingEnv.getTypeUtils();
+		elementUtils = processingEnv.getElementUtils();
+		this.recordText = recordText;
 		
 		//Type for a property
 		TypeElement propertyTypeElem = processingEnv.getElementUtils().getTypeElement(typeNameOfAndHowProperty);
@@ -77,12 +99,16 @@ public class AndHowElementScanner7 extends ElementScanner7<CompileUnit, String>
 			PropertyMarker marker = new PropertyMarker();
 			ts.scan(trees.getPath(e), marker);
 			if (marker.isNewProperty()) {
-				compileUnit.addProperty(
+				boolean added = compileUnit.addProperty(
 						new SimpleVariable(e.getSimpleName().toString(),
 						e.getModifiers().contains(Modifier.STATIC),
 						e.getModifiers().contains(Modifier.FINAL))
 				);
 				
+				if (added && recordText) {
+					recordPropertyText(e, marker);
+				}
+				
 				if (LOG.isLoggable(Level.FINE)) {
 					LOG.debug("Found creating of an AndHow Property in source code: {0}",
 							NameUtil.getAndHowName(compileUnit.getRootCanonicalName(), e.getSimpleName().toString(), compileUnit.getInnerPathNames()));
@@ -102,6 +128,76 @@ public class AndHowElementScanner7 extends ElementScanner7<CompileUnit, String>
 
 	}
 
+	/**
+	 * Records the description and help text of a Property from the Javadoc
+	 * comment on the Property field:  The first sentence is used as the
+	 * description and the remainder as the help text.
+	 * 
+	 * Nothing is recorded for a Property that sets its own text via desc() or
+	 * helpText(), even if the argument is not a literal, since that text is
+	 * what the Property holds at runtime.
+	 */
+	protected void recordPropertyText(VariableElement e, PropertyMarker marker) {
+		
+		if (! marker.isText()) {
+			String[] doc = splitDocComment(elementUtils.getDocComment(e));
+			compileUnit.addPropertyText(e.getSimpleName().toString(), doc[0], doc[1]);
+		}
+	}
+	
+	/**
+	 * Splits a Javadoc comment into its first sentence and the remaining text,
+	 * ignoring block tags like {@code @see}.  Whitespace is normalized to single
+	 * spaces, except for blank lines, which are kept as paragraph breaks.
+	 * 
+	 * @param docComment The comment as returned by Elements.getDocComment().  May be null.
+	 * @return A two element array of the first sentence and remainder, either
+	 * of which may be null.
+	 */
+	static String[] splitDocComment(String docComment) {
+		String[] split = new String[2];
+		
+		if (docComment == null) {
+			return split;
+		}
+		
+		//Drop block tags, which must start a line
+		StringBuilder text = new StringBuilder();
+		for (String line : docComment.split("\\r?\\n")) {
+			if (line.trim().startsWith("@")) break;
+			text.append(line.trim()).append("\n");
+		}
+		
+		StringBuilder normalized = new StringBuilder();
+		for (String para : text.toString().trim().split("\\n\\s*\\n")) {
+			if (normalized.length() > 0) normalized.append(System.lineSeparator());
+			normalized.append(para.trim().replaceAll("\\s+", " "));
+		}
+		
+		String body = normalized.toString();
+		
+		if (body.isEmpty()) {
+			return split;
+		}
+		
+		int end = body.indexOf(". ");
+		int lineEnd = body.indexOf(System.lineSeparator());
+		
+		if (lineEnd >= 0 && (end < 0 || lineEnd < end)) {
+			split[0] = body.substring(0, lineEnd).trim();
+			split[1] = body.substring(lineEnd).trim();
+		} else if (end >= 0) {
+			split[0] = body.substring(0, end + 1).trim();
+			split[1] = body.substring(end + 1).trim();
+		} else {
+			split[0] = body;
+		}
+		
+		if (split[1] != null && split[1].isEmpty()) split[1] = null;
+		
+		return split;
+	}
+
 	@Override
 	public CompileUnit visitType(TypeElement e, String p) {
 		
@@ -1,6 +1,7 @@
 package org.yarnandtail.andhow.compile;
 
 import org.yarnandtail.andhow.service.PropertyRegistrationList;
+import org.yarnandtail.andhow.service.PropertyTextResource;
 import org.yarnandtail.andhow.util.NameUtil;
 import java.util.*;
 
@@ -33,6 +34,7 @@ public class CompileUnit {
 	private final String classCanonName;
 	private PropertyRegistrationList registrations;	//late init
 	private List<String> errors;	//late init
+	private SortedMap<String, String> propertyText;	//late init
 	private boolean initClass;	//True if an AndHowInit instance (and not AndHowTestInit)
 	private boolean testInitClass;	//True if an AndHowTestInit instance
 	
@@ -193,6 +195,61 @@ public class CompileUnit {
 		return pathNames;
 	}
 
+	/**
+	 * Record the description and help text of a Property in the current scope,
+	 * to be written to a generated {@code PropertyTextResource}.
+	 *
+	 * Null or empty text is not recorded.
+	 *
+	 * @param propName The name of the variable the Property is assigned to.
+	 * @param description The description, which may be null.
+	 * @param helpText The help text, which may be null.
+	 */
+	public void addPropertyText(String propName, String description, String helpText) {
+
+		List<String> innerPath = getInnerPathNames();
+		String path = PropertyTextResource.getPropertyPath(propName,
+				innerPath.toArray(new String[innerPath.size()]));
+
+		if (description != null && description.trim().length() > 0) {
+			getOrCreatePropertyText().put(path + PropertyTextResource.DESC_SUFFIX, description.trim());
+		}
+
+		if (helpText != null && helpText.trim().length() > 0) {
+			getOrCreatePropertyText().put(path + PropertyTextResource.HELP_SUFFIX, helpText.trim());
+		}
+	}
+
+	private SortedMap<String, String> getOrCreatePropertyText() {
+		if (propertyText == null) {
+			propertyText = new TreeMap();
+		}
+
+		return propertyText;
+	}
+
+	/**
+	 * The recorded Property text, keyed as expected by {@code PropertyTextResource}.
+	 *
+	 * @return A map sorted by key, which is empty if no text was recorded.
+	 */
+	public SortedMap<String, String> getPropertyText() {
+		if (propertyText != null) {
+			return propertyText;
+		} else {
+			return Collections.emptySortedMap();
+		}
+	}
+
+	/**
+	 * Returns true if getPropertyText() would return a non-empty map.
+	 *
+	 * @return
+	 */
+	public boolean hasPropertyText() {
+		return propertyText != null && !propertyText.isEmpty();
+	}
+
 	public void addPropertyError(String propName, String msg) {
 
 		if (errors == null) {
@@ -16,6 +16,7 @@ public class PropertyMarker {
 	private boolean builder = false;
 	private boolean build = false;
 	private boolean direct = false;
+	private boolean text = false;
 	
 	/**
 	 * Marks a Property variable as being assigned to a Property class that
@@ -49,5 +50,23 @@ public class PropertyMarker {
 	public boolean isNewProperty() {
 		return builder && build || direct;
 	}
+	
+	/**
+	 * Marks a Property variable as being assigned to a Property that sets
+	 * its own description or help text via the builder's desc() or helpText()
+	 * methods, with any kind of argument.
+	 */
+	public void markText() {
+		text = true;
+	}
+	
+	/**
+	 * If true, the Property sets its own text, so its Javadoc is not used as
+	 * its text.
+	 * @return 
+	 */
+	public boolean isText() {
+		return text;
+	}
 
 }
@@ -2,6 +2,7 @@ package org.yarnandtail.andhow.compile;
 
 import com.sun.source.tree.*;
 import com.sun.source.util.TreePathScanner;
+import javax.lang.model.element.Name;
 
 /**
  * A compilation tree scanner used during compile time to scan for AndHow Property
@@ -25,6 +26,33 @@ public class PropertyVariableTreeScanner extends TreePathScanner<PropertyMarker,
 	}
 	
 
+	/**
+	 * Marks Properties that set their own text via the desc() or helpText()
+	 * builder methods.
+	 * 
+	 * The argument may be a literal, a constant, a concatenation or any other
+	 * expression, so it is not recorded:  The Property keeps the text it is
+	 * built with at runtime.
+	 * 
+	 * @param mit
+	 * @param p
+	 * @return 
+	 */
+	@Override
+	public PropertyMarker visitMethodInvocation(MethodInvocationTree mit, PropertyMarker p) {
+		
+		if (mit.getMethodSelect() instanceof MemberSelectTree && mit.getArguments().size() == 1) {
+			
+			Name method = ((MemberSelectTree) mit.getMethodSelect()).getIdentifier();
+			
+			if (method.contentEquals("desc") || method.contentEquals("helpText")) {
+				p.markText();
+			}
+		}
+		
+		return super.visitMethodInvocation(mit, p);
+	}
+
 	/**
 	 * Called for the actual invocation of a specific method.
 	 * 
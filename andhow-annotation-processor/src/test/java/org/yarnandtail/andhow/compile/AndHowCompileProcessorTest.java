@@ -86,6 +86,59 @@ public class AndHowCompileProcessorTest {
     }
 	
 
+    @Test
+    public void testExternalizedPropertyText() throws Exception {
+		
+		final String CLASS_NAME = "org.yarnandtail.andhow.compile.PropertyTextSample";
+		final String TEXT_PATH = "/org/yarnandtail/andhow/compile/$PropertyTextSample_AndHowText.properties";
+		
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final MemoryFileManager manager = new MemoryFileManager(compiler);
+		TestClassLoader loader = new TestClassLoader(manager);
+
+		List<String> options=new ArrayList();
+		options.add("-A" + AndHowCompileProcessor.EXTERNALIZE_TEXT_OPTION + "=true");
+  
+        Set<TestSource> input = new HashSet();
+        input.add(new TestSource(CLASS_NAME));
+
+        JavaCompiler.CompilationTask task = compiler.getTask(null, manager, null, options, null, input);
+        task.setProcessors(Collections.singleton(new AndHowCompileProcessor()));
+        task.call();
+        
+		Properties text = new Properties();
+		text.load(loader.getResourceAsStream(TEXT_PATH));
+		
+		assertEquals("Description from Javadoc.", text.getProperty("JAVADOC.desc"));
+		assertEquals("This is the help text, which wraps lines.", text.getProperty("JAVADOC.help"));
+		assertEquals("Inner description", text.getProperty("INNER.JAVADOC.desc"));
+		assertNull(text.getProperty("NO_TEXT.desc"));
+		
+		//Text set by the builder, in any form, is kept by the Property at runtime
+		assertNull(text.getProperty("LITERAL.desc"));
+		assertNull(text.getProperty("INNER.LITERAL.desc"));
+		assertNull(text.getProperty("CONSTANT.desc"));
+		assertNull(text.getProperty("CONCAT.desc"));
+		assertEquals(3, text.size());
+    }
+	
+    @Test
+    public void testPropertyTextIsNotGeneratedByDefault() throws Exception {
+		
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final MemoryFileManager manager = new MemoryFileManager(compiler);
+		TestClassLoader loader = new TestClassLoader(manager);
+  
+        Set<TestSource> input = new HashSet();
+        input.add(new TestSource("org.yarnandtail.andhow.compile.PropertyTextSample"));
+
+        JavaCompiler.CompilationTask task = compiler.getTask(null, manager, null, new ArrayList(), null, input);
+        task.setProcessors(Collections.singleton(new AndHowCompileProcessor()));
+        task.call();
+        
+		assertNull(loader.getResourceAsStream("/org/yarnandtail/andhow/compile/$PropertyTextSample_AndHowText.properties"));
+    }
+	
     @Test
     public void testServiceRegistrationOfOneProdAndOneTestInit() throws Exception {
 		
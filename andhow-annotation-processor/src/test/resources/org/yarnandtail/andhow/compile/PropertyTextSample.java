@@ -0,0 +1,43 @@
+package org.yarnandtail.andhow.compile;
+
+import org.yarnandtail.andhow.property.StrProp;
+
+/**
+ * Used for unit testing of the AndHowCompileProcessor when Property text is
+ * externalized to a generated resource.
+ * 
+ * @author ericeverman
+ */
+public class PropertyTextSample {
+
+	/** Not used, since the text is set by the builder */
+	public static final StrProp LITERAL = StrProp.builder()
+			.desc("Literal description").helpText("Literal help").build();
+	
+	/**
+	 * Description from Javadoc.  This is the help
+	 * text, which wraps lines.
+	 * 
+	 * @see PropertyTextSample
+	 */
+	public static final StrProp JAVADOC = StrProp.builder().build();
+	
+	public static final StrProp NO_TEXT = StrProp.builder().build();
+	
+	static final String SOME_CONSTANT = "Constant description";
+	
+	/** Not used, since the description is set by the builder */
+	public static final StrProp CONSTANT = StrProp.builder().desc(SOME_CONSTANT).build();
+	
+	/** Not used, since the help text is set by the builder */
+	public static final StrProp CONCAT = StrProp.builder()
+			.helpText(SOME_CONSTANT + " and more").build();
+
+	public static interface INNER {
+		
+		/** Inner description */
+		StrProp JAVADOC = StrProp.builder().build();
+		
+		StrProp LITERAL = StrProp.builder().desc("Inner literal").build();
+	}
+}
@@ -6,6 +6,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import org.yarnandtail.andhow.api.*;
 import org.yarnandtail.andhow.internal.AndHowCore;
 import org.yarnandtail.andhow.internal.ConstructionProblem;
+import org.yarnandtail.andhow.internal.StartupRecorder;
 import org.yarnandtail.andhow.util.AndHowUtil;
 
 /**
@@ -55,11 +56,7 @@ public class AndHow implements StaticPropertyConfiguration, ValidatedValues {
 
 	private AndHow(AndHowConfiguration config) throws AppFatalException {
 		synchronized (LOCK) {
-			
-			core = new AndHowCore(
-					config.getNamingStrategy(),
-					config.buildLoaders(),
-					config.getRegisteredGroups());
+			core = buildCore(config);
 		}
 	}
 	
@@ -138,6 +135,10 @@ public class AndHow implements StaticPropertyConfiguration, ValidatedValues {
 							initialization = new Initialization();	//Record initialization time & place
 							singleInstance = new AndHow(config);	//Build new instance
 							
+							if (singleInstance.core.isCompactMemory()) {
+								initialization = initialization.withoutStackTrace();
+							}
+							
 						} finally {
 							initializing.getAndSet(false);	//Done w/ init regardless of possible error
 						}
@@ -162,13 +163,14 @@ public class AndHow implements StaticPropertyConfiguration, ValidatedValues {
 							initializing.getAndSet(true);	//Block re-entrant initialization
 							initialization = new Initialization();	//Record initialization time & place
 
-							AndHowCore newCore = new AndHowCore(
-									config.getNamingStrategy(),
-									config.buildLoaders(),
-									config.getRegisteredGroups());
+							AndHowCore newCore = buildCore(config);
 							Field coreField = AndHow.class.getDeclaredField("core");
 							coreField.setAccessible(true);
 							coreField.set(singleInstance, newCore);
+							
+							if (newCore.isCompactMemory()) {
+								initialization = initialization.withoutStackTrace();
+							}
 
 						} catch (Exception ex) {
 							
@@ -197,6 +199,19 @@ public class AndHow implements StaticPropertyConfiguration, ValidatedValues {
 		}	//end sync
 	}
 
+	private static AndHowCore buildCore(AndHowConfiguration config) throws AppFatalException {
+		StartupRecorder recorder = StartupRecorder.start();
+		
+		NamingStrategy naming = config.getNamingStrategy();
+		List<Loader> loaders = config.buildLoaders();
+		recorder.endPhase(StartupReport.PHASE_BUILD_LOADERS);
+		
+		List<GroupProxy> groups = config.getRegisteredGroups();
+		recorder.endPhase(StartupReport.PHASE_FIND_GROUPS);
+		
+		return new AndHowCore(naming, loaders, groups, recorder);
+	}
+
 	/**
 	 * Determine if AndHow is initialized or not w/out forcing AndHow to load.
 	 *
@@ -217,8 +232,8 @@ public class AndHow implements StaticPropertyConfiguration, ValidatedValues {
 	 * or application code attempted to re-initialize AndHow.
 	 * 
 	 * @return A stacktrace if it is available (some JVMs may not provide one)
-	 * or an empty stacktrace array if it is not available or AndHow is not
-	 * yet initialized.
+	 * or an empty stacktrace array if it is not available, was released
+	 * because Options.COMPACT_MEMORY is set, or AndHow is not yet initialized.
 	 */
 	public static StackTraceElement[] getInitializationTrace() {
 		if (initialization != null) {
@@ -228,6 +243,39 @@ public class AndHow implements StaticPropertyConfiguration, ValidatedValues {
 		}
 	}
 
+	/**
+	 * How long each phase of startup took and what each Loader did.
+	 * 
+	 * Startup is only timed if the JVM system property
+	 * {@code org.yarnandtail.andhow.internal.StartupRecorder.enabled} is true
+	 * when AndHow initializes.  When JFR is available, startup timing is also
+	 * emitted as JFR events.
+	 * 
+	 * @return The report, or null if AndHow is not initialized or startup
+	 * timing was not enabled.
+	 */
+	public static StartupReport getStartupReport() {
+		AndHow ah = singleInstance;
+		AndHowCore c = (ah != null)? ah.core : null;
+		return (c != null)? c.getStartupReport() : null;
+	}
+
+	/**
+	 * How many times the value of each Property was read since startup, most
+	 * read first, and which Properties were never read.
+	 * 
+	 * Reads are only counted if Options.COUNT_PROPERTY_READS is set.  To print
+	 * the report, see ReportGenerator.printPropertyReadReport().
+	 * 
+	 * @return A new report, or null if AndHow is not initialized or reads are
+	 * not counted.
+	 */
+	public static PropertyReadReport getPropertyReadReport() {
+		AndHow ah = singleInstance;
+		AndHowCore c = (ah != null)? ah.core : null;
+		return (c != null)? c.getPropertyReadReport() : null;
+	}
+
 	//
 	//PropertyValues Interface
 	@Override
@@ -294,6 +342,8 @@ public class AndHow implements StaticPropertyConfiguration, ValidatedValues {
 	 * Useful for debugging re-entrant startups or uncontrolled startup conditions.
 	 */
 	public static class Initialization {
+		private static final StackTraceElement[] EMPTY_STACK_TRACE = new StackTraceElement[0];
+		
 		private StackTraceElement[] stackTrace;
 		private long timeStamp;
 		
@@ -302,6 +352,23 @@ public class AndHow implements StaticPropertyConfiguration, ValidatedValues {
 			StackTraceElement[] ste = new Exception().getStackTrace();
 			stackTrace = Arrays.copyOfRange(ste, 1, ste.length - 1);
 		}
+		
+		private Initialization(long timeStamp) {
+			this.timeStamp = timeStamp;
+			this.stackTrace = EMPTY_STACK_TRACE;
+		}
+		
+		/**
+		 * A copy of this Initialization w/ the same timestamp, but no stack trace.
+		 * 
+		 * Used in compact memory mode to release the stack trace once startup
+		 * has succeeded.
+		 * 
+		 * @return 
+		 */
+		public Initialization withoutStackTrace() {
+			return new Initialization(timeStamp);
+		}
 
 		public StackTraceElement[] getStackTrace() {
 			return stackTrace;
@@ -37,6 +37,7 @@ public abstract class BaseConfig<C extends BaseConfig<C>> implements AndHowConfi
 
 	//A list of command line arguments
 	protected final List<String> _cmdLineArgs = new ArrayList();
+	protected boolean _cmdLineArgFilesEnabled = false;
 
 	//Prop file on classpath
 	protected String classpathPropFilePathStr;	//mutually XOR
@@ -46,6 +47,9 @@ public abstract class BaseConfig<C extends BaseConfig<C>> implements AndHowConfi
 	//Prop file on filesystem path
 	protected StrProp filesystemPropFilePathProp;
 	protected boolean _missingFilesystemPropFileAProblem = false;
+	
+	//Prop file encoding - both prop file loaders
+	protected boolean _propFilesUtf8 = false;
 
 	//System Properties
 	protected Properties systemProperties;
@@ -77,6 +81,7 @@ public abstract class BaseConfig<C extends BaseConfig<C>> implements AndHowConfi
 	protected StdMainStringArgsLoader buildStdMainStringArgsLoader() {
 		StdMainStringArgsLoader loader = new StdMainStringArgsLoader();
 		loader.setKeyValuePairs(_cmdLineArgs);
+		loader.setArgumentFilesEnabled(_cmdLineArgFilesEnabled);
 		return loader;
 	}
 	
@@ -101,12 +106,14 @@ public abstract class BaseConfig<C extends BaseConfig<C>> implements AndHowConfi
 		StdPropFileOnFilesystemLoader loader = new StdPropFileOnFilesystemLoader();
 		loader.setFilePath(filesystemPropFilePathProp);
 		loader.setMissingFileAProblem(_missingFilesystemPropFileAProblem);
+		loader.setUtf8(_propFilesUtf8);
 		return loader;
 	}
 	
 	protected StdPropFileOnClasspathLoader buildStdPropFileOnClasspathLoader() {
 		StdPropFileOnClasspathLoader loader = new StdPropFileOnClasspathLoader();
 		loader.setMissingFileAProblem(_missingClasspathPropFileAProblem);
+		loader.setUtf8(_propFilesUtf8);
 		if (classpathPropFilePathStr != null) {
 			loader.setFilePath(classpathPropFilePathStr);
 		} else if (classpathPropFilePathProp != null) {
@@ -30,4 +30,30 @@ public interface Options {
 					+ "The special 'java.io.tmpdir' string is recognized as the current Java temp directory.")
 			.helpText("All paths should be specified w/ forward slashes, even on windows systems.")
 			.build();
+	FlagProp COMPACT_MEMORY = FlagProp.builder().aliasIn("AHCompactMemory")
+			.desc("After a successful startup, release all loader state except the effective value "
+					+ "of each property and which loader supplied it.")
+			.helpText("Reduces retained heap for applications with many properties.  When set, "
+					+ "shadowed values, per-loader value lists and the initialization stack trace "
+					+ "are discarded, so the per-loader diagnostic views are unavailable.")
+			.build();
+	FlagProp DEDUPLICATE_VALUES = FlagProp.builder().aliasIn("AHDeduplicateValues")
+			.desc("After a successful startup, share a single instance of equal String values "
+					+ "loaded for different properties or by different loaders.")
+			.helpText("Reduces retained heap when the same value, such as a host name, is "
+					+ "configured for many properties or in several places.")
+			.build();
+	FlagProp COUNT_PROPERTY_READS = FlagProp.builder().aliasIn("AHCountPropertyReads")
+			.desc("After a successful startup, count the reads of each property value, "
+					+ "to find properties that are read often or never.")
+			.helpText("See AndHow.getPropertyReadReport().  Each read is counted w/ a "
+					+ "contention-free counter.  When not set, reads are not counted and cost nothing extra.")
+			.build();
+	FlagProp REGISTER_MBEAN = FlagProp.builder().aliasIn("AHRegisterMBean")
+			.desc("After a successful startup, register a JMX MBean named "
+					+ "'org.yarnandtail.andhow:type=AndHow' that shows the loaded configuration.")
+			.helpText("Shows the value of each property and which loader supplied it, how long each "
+					+ "loader took, whether a reload is pending and the read count of each property.  "
+					+ "The values of properties built as secret() are masked.")
+			.build();
 }
@@ -75,6 +75,20 @@ public class StdConfig {
 			return (S) this;
 		}
 
+		/**
+		 * If set, command line arguments of the form {@code @path} are replaced
+		 * by the key value pairs in the argument file at that path.
+		 *
+		 * By default, argument files are not read, so an argument such as
+		 * {@code @foo} is just an (ignored) argument.
+		 *
+		 * @return
+		 */
+		public S cmdLineArgFilesEnabled() {
+			_cmdLineArgFilesEnabled = true;
+			return (S) this;
+		}
+
 		/**
 		 * Sets the classpath path to a properties file for the
 		 * StdPropFileOnClasspathLoader to load.
@@ -209,6 +223,21 @@ public class StdConfig {
 			return (S) this;
 		}
 
+		/**
+		 * If set, the properties files loaded by StdPropFileOnClasspathLoader and
+		 * StdPropFileOnFilesystemLoader are read as UTF-8.
+		 *
+		 * By default, properties files are read as ISO 8859-1, the same as
+		 * java.util.Properties.  In either case, characters may be written as
+		 * unicode escapes.
+		 *
+		 * @return
+		 */
+		public S propFilesUtf8() {
+			_propFilesUtf8 = true;
+			return (S) this;
+		}
+
 		/**
 		 * Allows system properties to be overridden.
 		 *
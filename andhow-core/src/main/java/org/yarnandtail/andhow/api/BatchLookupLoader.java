@@ -0,0 +1,37 @@
+package org.yarnandtail.andhow.api;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A LookupLoader that looks up many names in a single request.
+ * 
+ * A plain LookupLoader looks up each candidate name of each Property one at a
+ * time, which for a remote or IPC based source (a configuration daemon, a
+ * secrets agent on a local socket) is one round trip per name.  A
+ * BatchLookupLoader is passed the candidate names of many Properties at once
+ * and returns those it found, so the round trips are per batch.
+ * 
+ * See {@code org.yarnandtail.andhow.load.BatchLookupLoaderBase}, which builds
+ * the candidate names, splits them into batches and runs the batches in
+ * parallel w/ a deadline.
+ * 
+ * @author eeverman
+ */
+public interface BatchLookupLoader extends LookupLoader {
+	
+	/**
+	 * Looks up a batch of names.
+	 * 
+	 * This may be called concurrently from several threads, each w/ a
+	 * different batch.
+	 * 
+	 * @param names The names to look up, w/o duplicates.
+	 * @return The names that were found, mapped to their values.  Names that
+	 * are not found may be left out or mapped to null.  Never null.
+	 * @throws IOException If the source cannot be read.
+	 */
+	Map<String, ?> lookupBatch(List<String> names) throws IOException;
+	
+}
@@ -0,0 +1,36 @@
+package org.yarnandtail.andhow.api;
+
+/**
+ * A ValueType for a value of many elements, configured as a delimited String,
+ * such as a list or a map.
+ * 
+ * Sample printers use this to describe the expected format of the value.
+ * 
+ * @author eeverman
+ * @param <T> The type of the value
+ */
+public interface DelimitedValueType<T> extends ValueType<T> {
+	
+	/**
+	 * The delimiter between elements.
+	 * 
+	 * @return A non-empty String
+	 */
+	String getDelimiter();
+	
+	/**
+	 * A short name for the type of the value, such as {@code List<String>}
+	 * or {@code int[]}.
+	 * 
+	 * @return
+	 */
+	String getTypeName();
+	
+	/**
+	 * A description of the String form of the value, such as
+	 * {@code values delimited by ','}.
+	 * 
+	 * @return
+	 */
+	String getFormatDescription();
+}
@@ -0,0 +1,40 @@
+package org.yarnandtail.andhow.api;
+
+import java.util.List;
+
+/**
+ * A Property whose value is computed from the values of other Properties,
+ * rather than being loaded.
+ * 
+ * A DerivedProperty is declared and registered like any other Property, but
+ * Loaders never load it:  Configuring a value for it is a Problem.  After all
+ * loaded values are validated, AndHow computes each derived value once and
+ * stores it w/ the loaded values, so reading it costs the same as reading
+ * any other Property.
+ * 
+ * See {@code org.yarnandtail.andhow.property.DerivedProp}.
+ * 
+ * @author eeverman
+ * @param <T> The type of the derived value
+ */
+public interface DerivedProperty<T> extends Property<T> {
+	
+	/**
+	 * The Properties the value is derived from.
+	 * 
+	 * @return An unmodifiable list, never empty.
+	 */
+	List<Property<?>> getInputs();
+	
+	/**
+	 * Computes the value from the values of the inputs.
+	 * 
+	 * Implementations may return a previously computed value if the values of
+	 * the inputs are unchanged.
+	 * 
+	 * @param inputValues Values from which the value of each input is read.
+	 * @return The derived value, which may be null.
+	 * @throws RuntimeException If the value cannot be derived from the inputs.
+	 */
+	T derive(ValidatedValues inputValues);
+}
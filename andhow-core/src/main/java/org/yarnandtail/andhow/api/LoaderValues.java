@@ -3,6 +3,7 @@ package org.yarnandtail.andhow.api;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import org.yarnandtail.andhow.internal.UnresolvedValue;
 
 /**
  * The Properties and values loaded by a single Loader.
@@ -17,6 +18,7 @@ public class LoaderValues implements ValidatedValues {
 	private final Loader loader;
 	private final List<ValidatedValue> values;
 	private final ProblemList<Problem> problems;
+	private final long bytesRead;
 	
 	
 	/**
@@ -32,6 +34,7 @@ public class LoaderValues implements ValidatedValues {
 		
 		this.loader = loader;
 		values = EMPTY_PROP_VALUE_LIST;
+		bytesRead = 0L;
 	}
 	
 	/**
@@ -43,6 +46,7 @@ public class LoaderValues implements ValidatedValues {
 		this.problems = new ProblemList.UnmodifiableProblemList();
 		this.loader = loader;
 		values = EMPTY_PROP_VALUE_LIST;
+		bytesRead = 0L;
 	}
 	
 	public LoaderValues(Loader loader, List<ValidatedValue> inValues, ProblemList<Problem> problems) {
@@ -74,6 +78,56 @@ public class LoaderValues implements ValidatedValues {
 		}
 		
 		this.problems = new ProblemList.UnmodifiableProblemList(myProblems);
+		bytesRead = 0L;
+	}
+	
+	/**
+	 * Used by wrap().  The values are used as-is.
+	 */
+	private LoaderValues(Loader loader, List<ValidatedValue> values,
+			ProblemList.UnmodifiableProblemList<Problem> problems, long bytesRead) {
+		this.loader = loader;
+		this.values = values;
+		this.problems = problems;
+		this.bytesRead = bytesRead;
+	}
+	
+	/**
+	 * Creates an instance that uses the passed list of values w/o copying it.
+	 * 
+	 * Unlike the constructors, Problems already attached to the values are
+	 * not added, so this is intended for newly loaded values that have not
+	 * been validated.
+	 * 
+	 * @param loader The loader that loaded the values
+	 * @param values An unmodifiable list of values, which will not be copied.
+	 * @param problems Loader problems, which are copied.
+	 * @return 
+	 */
+	public static LoaderValues wrap(Loader loader, List<ValidatedValue> values, ProblemList<Problem> problems) {
+		return wrap(loader, values, problems, 0L);
+	}
+	
+	/**
+	 * Same as wrap(Loader, List, ProblemList), also recording the number
+	 * of bytes the loader read from its source.
+	 * 
+	 * @param loader The loader that loaded the values
+	 * @param values An unmodifiable list of values, which will not be copied.
+	 * @param problems Loader problems, which are copied.
+	 * @param bytesRead The number of bytes read from the source
+	 * @return 
+	 */
+	public static LoaderValues wrap(Loader loader, List<ValidatedValue> values,
+			ProblemList<Problem> problems, long bytesRead) {
+		
+		if (loader == null) {
+			throw new RuntimeException("The loader cannot be null");
+		}
+		
+		return new LoaderValues(loader, 
+				(values != null)? values : EMPTY_PROP_VALUE_LIST, 
+				new ProblemList.UnmodifiableProblemList(problems), bytesRead);
 	}
 
 	public Loader getLoader() {
@@ -84,11 +138,26 @@ public class LoaderValues implements ValidatedValues {
 		return values;
 	}
 	
+	/**
+	 * The number of bytes the loader read from its source, such as a file.
+	 * 
+	 * Only reported by loaders that read from byte oriented sources, for
+	 * startup reporting.
+	 * 
+	 * @return The number of bytes or zero if not reported.
+	 */
+	public long getBytesRead() {
+		return bytesRead;
+	}
+	
 	
 
 	/**
 	 * A linear search for the Property in the values loaded by this loader.
 	 * 
+	 * A value w/ {@code ${...}} references that are not yet resolved is
+	 * returned as null.
+	 * 
 	 * @param prop
 	 * @return 
 	 */
@@ -97,9 +166,10 @@ public class LoaderValues implements ValidatedValues {
 		if (prop == null) {
 			return null;
 		}
-		return prop.getValueType().cast(values.stream().filter(pv -> prop.equals(pv.getProperty())).
-						findFirst().map(pv -> pv.getValue()).orElse(null)
-		);
+		Object value = values.stream().filter(pv -> prop.equals(pv.getProperty())).
+						findFirst().map(pv -> pv.getValue()).orElse(null);
+		
+		return (value instanceof UnresolvedValue)? null : prop.getValueType().cast(value);
 	}
 	
 	@Override
@@ -17,6 +17,11 @@ public class Name {
 	 */
 	public static String ILLEGAL_PROPERTY_NAME_CHARS = " \t\n\r;/?:@=&\"<>#%{}|\\^~[]`";
 
+	//The illegal ASCII chars as a lookup table, since every Name is checked.
+	//Only used while ILLEGAL_PROPERTY_NAME_CHARS is the String it was built from.
+	private static final String ILLEGAL_TABLE_SOURCE = ILLEGAL_PROPERTY_NAME_CHARS;
+	private static final boolean[] ILLEGAL_TABLE = buildIllegalTable(ILLEGAL_TABLE_SOURCE);
+
 	private final boolean in;
 	private final boolean out;
 	private final String actual;
@@ -85,12 +90,33 @@ public class Name {
 		if (name.startsWith(".") || name.endsWith(".")) {
 			return false;
 		}
-		for (char c : ILLEGAL_PROPERTY_NAME_CHARS.toCharArray()) {
-			if (name.indexOf(c) > -1) {
+
+		String illegal = ILLEGAL_PROPERTY_NAME_CHARS;
+		boolean[] table = (illegal == ILLEGAL_TABLE_SOURCE)? ILLEGAL_TABLE : null;
+
+		//A single pass over the name, rather than a search of it for each illegal char
+		for (int i = 0; i < name.length(); i++) {
+			char c = name.charAt(i);
+
+			if ((table != null && c < table.length)? table[c] : illegal.indexOf(c) > -1) {
 				return false;
 			}
 		}
 		return true;
 	}
 
+	private static boolean[] buildIllegalTable(String illegal) {
+		boolean[] table = new boolean[128];
+
+		for (int i = 0; i < illegal.length(); i++) {
+			char c = illegal.charAt(i);
+
+			if (c < table.length) {
+				table[c] = true;
+			}
+		}
+
+		return table;
+	}
+
 }
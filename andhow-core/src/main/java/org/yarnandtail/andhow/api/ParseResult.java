@@ -0,0 +1,127 @@
+package org.yarnandtail.andhow.api;
+
+/**
+ * The outcome of parsing a String to a value, which is either the parsed value
+ * or a description of why the String could not be parsed.
+ * <p>
+ * Returned by {@link ValueType#tryParse(java.lang.String)}, which reports bad
+ * input via a failed result rather than an exception.  A ParsingException is
+ * only created if it is asked for via {@link #toParsingException()} or
+ * {@link #getValueOrThrow()}, so malformed values don't pay for building a
+ * stack trace unless one is actually needed.
+ * <p>
+ * Instances are immutable.
+ *
+ * @author eeverman
+ * @param <T> The type of the parsed value
+ */
+public final class ParseResult<T> {
+
+	private static final ParseResult<?> NULL_RESULT = new ParseResult(null, null, null);
+
+	private final T value;
+	private final String failureMessage;
+	private final String sourceValue;
+
+	private ParseResult(T value, String failureMessage, String sourceValue) {
+		this.value = value;
+		this.failureMessage = failureMessage;
+		this.sourceValue = sourceValue;
+	}
+
+	/**
+	 * A successful result.
+	 *
+	 * @param <T> The type of the parsed value
+	 * @param value The parsed value, which may be null.
+	 * @return A successful result, which is a shared instance for null.
+	 */
+	public static <T> ParseResult<T> success(T value) {
+		if (value != null) {
+			return new ParseResult(value, null, null);
+		} else {
+			return (ParseResult<T>) NULL_RESULT;
+		}
+	}
+
+	/**
+	 * A failed result.
+	 *
+	 * @param <T> The type the value would have been parsed to
+	 * @param failureMessage Why the value could not be parsed, which is used
+	 * as the message of a ParsingException if one is created.  Required.
+	 * @param sourceValue The String that could not be parsed.
+	 * @return A failed result.
+	 */
+	public static <T> ParseResult<T> failure(String failureMessage, String sourceValue) {
+		if (failureMessage == null) {
+			throw new IllegalArgumentException("The failure message cannot be null");
+		}
+
+		return new ParseResult(null, failureMessage, sourceValue);
+	}
+
+	/**
+	 * True if the String was successfully parsed.
+	 *
+	 * @return
+	 */
+	public boolean isSuccess() {
+		return failureMessage == null;
+	}
+
+	/**
+	 * The parsed value.
+	 *
+	 * @return The value, which is null if parsing failed or the parsed value is null.
+	 */
+	public T getValue() {
+		return value;
+	}
+
+	/**
+	 * Why parsing failed.
+	 *
+	 * @return The message or null if parsing succeeded.
+	 */
+	public String getFailureMessage() {
+		return failureMessage;
+	}
+
+	/**
+	 * The String that could not be parsed.
+	 *
+	 * @return The String or null if parsing succeeded.
+	 */
+	public String getSourceValue() {
+		return sourceValue;
+	}
+
+	/**
+	 * Creates a ParsingException describing a failed result.
+	 *
+	 * @return A new exception or null if parsing succeeded.
+	 */
+	public ParsingException toParsingException() {
+		if (isSuccess()) {
+			return null;
+		} else {
+			return new ParsingException(failureMessage, sourceValue);
+		}
+	}
+
+	/**
+	 * The parsed value, or a ParsingException if parsing failed.
+	 *
+	 * @return The parsed value, which may be null.
+	 * @throws ParsingException If parsing failed.
+	 */
+	public T getValueOrThrow() throws ParsingException {
+		if (isSuccess()) {
+			return value;
+		} else {
+			throw toParsingException();
+		}
+	}
+
+}
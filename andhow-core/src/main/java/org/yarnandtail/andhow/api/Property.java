@@ -142,4 +142,28 @@ public interface Property<T> {
 	 */
 	String getHelpText();
 
+	/**
+	 * True if the value is secret, such as a password, and must be masked
+	 * wherever AndHow shows configured values, such as via JMX.
+	 * 
+	 * The value itself is still returned as usual by getValue().
+	 * 
+	 * @return True if the value must be masked.  False by default.
+	 */
+	default boolean isSecret() {
+		return false;
+	}
+	
+	/**
+	 * True if {@code ${...}} references to other Properties in a loaded value
+	 * are replaced w/ the values of those Properties.
+	 * 
+	 * See {@link org.yarnandtail.andhow.internal.ValueInterpolator}.
+	 * 
+	 * @return True if references are resolved.  False by default.
+	 */
+	default boolean isInterpolated() {
+		return false;
+	}
+
 }
@@ -0,0 +1,119 @@
+package org.yarnandtail.andhow.api;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * How many times the value of each Property was read since AndHow started.
+ * <p>
+ * Properties that were read are ranked by the number of reads, most read
+ * first.  Properties that were never read are listed separately, in the order
+ * they are registered.  Such Properties may be unused and only cost startup
+ * time and memory, though some may only be read in rare cases.
+ * <p>
+ * Reads are only counted when {@code Options.COUNT_PROPERTY_READS} is set.
+ *
+ * @author eeverman
+ */
+public final class PropertyReadReport {
+
+	private final long elapsedNanos;
+	private final List<PropertyReads> ranked;
+	private final List<PropertyReads> unread;
+
+	/**
+	 * New instance
+	 *
+	 * @param elapsedNanos Time since counting started
+	 * @param reads The reads of every registered Property, in any order.
+	 */
+	public PropertyReadReport(long elapsedNanos, List<PropertyReads> reads) {
+		this.elapsedNanos = elapsedNanos;
+
+		List<PropertyReads> r = new ArrayList();
+		List<PropertyReads> u = new ArrayList();
+
+		for (PropertyReads pr : reads) {
+			if (pr.getCount() > 0) {
+				r.add(pr);
+			} else {
+				u.add(pr);
+			}
+		}
+
+		//Stable, so equal counts stay in registration order
+		r.sort((a, b) -> Long.compare(b.getCount(), a.getCount()));
+
+		ranked = Collections.unmodifiableList(r);
+		unread = Collections.unmodifiableList(u);
+	}
+
+	/**
+	 * Time since counting started, which is the end of startup.
+	 *
+	 * @return Nanoseconds
+	 */
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * The Properties that were read at least once, most read first.
+	 *
+	 * @return A non-null, unmodifiable list
+	 */
+	public List<PropertyReads> getRankedReads() {
+		return ranked;
+	}
+
+	/**
+	 * The Properties that were never read, in registration order.
+	 *
+	 * @return A non-null, unmodifiable list
+	 */
+	public List<PropertyReads> getUnreadProperties() {
+		return unread;
+	}
+
+	/**
+	 * The read rate of a Property over the time counted.
+	 *
+	 * @param reads The reads of a Property from this report
+	 * @return Reads per second
+	 */
+	public double getReadsPerSecond(PropertyReads reads) {
+		if (elapsedNanos > 0) {
+			return reads.getCount() * 1e9d / elapsedNanos;
+		} else {
+			return 0d;
+		}
+	}
+
+	/**
+	 * The number of reads of a single Property.
+	 */
+	public static final class PropertyReads {
+		private final Property<?> property;
+		private final String canonicalName;
+		private final long count;
+
+		public PropertyReads(Property<?> property, String canonicalName, long count) {
+			this.property = property;
+			this.canonicalName = canonicalName;
+			this.count = count;
+		}
+
+		public Property<?> getProperty() {
+			return property;
+		}
+
+		public String getCanonicalName() {
+			return canonicalName;
+		}
+
+		public long getCount() {
+			return count;
+		}
+	}
+}
@@ -29,6 +29,9 @@ public interface SamplePrinter {
 	/** Lead-in for a default value */
 	static final String DEFAULT_VALUE_TEXT = "Default Value";
 	
+	/** Lead-in for the format of a value w/ many elements */
+	static final String FORMAT_TEXT = "Format";
+	
 	void printSampleStart(StaticPropertyConfigurationInternal definition, PrintStream out);
 	
 	void printPropertyGroupStart(StaticPropertyConfigurationInternal definition, PrintStream out, 
@@ -0,0 +1,46 @@
+package org.yarnandtail.andhow.api;
+
+import org.yarnandtail.andhow.internal.PropertyValueSink;
+import org.yarnandtail.andhow.internal.StaticPropertyConfigurationInternal;
+
+/**
+ * A Loader that pushes each value into a sink provided by AndHow as it is
+ * found, rather than building and returning its own list of values.
+ * <p>
+ * During startup, AndHow calls
+ * {@link #load(StaticPropertyConfigurationInternal, ValidatedValuesWithContext, PropertyValueSink)}
+ * on SinkLoaders.  The sink detects duplicate values for a Property in
+ * constant time and its values become the LoaderValues for this Loader w/o
+ * being copied.  Loaders that only implement Loader continue to work:  AndHow
+ * pushes the values they return into a sink for them.
+ * <p>
+ * The single value load() is implemented in terms of the sink version, so
+ * subclasses should override the sink version only.
+ *
+ * @author eeverman
+ */
+public interface SinkLoader extends Loader {
+
+	/**
+	 * Loads property values from a configuration source, pushing each into
+	 * the sink.
+	 *
+	 * Loader level Problems are added to the sink as well.  As with
+	 * Loader.load(), validation of the values is handled elsewhere.
+	 *
+	 * @param runtimeDef The configuration being loaded
+	 * @param existingValues Values loaded by preceding Loaders
+	 * @param sink Receives the values and Problems of this Loader
+	 */
+	void load(StaticPropertyConfigurationInternal runtimeDef,
+			ValidatedValuesWithContext existingValues, PropertyValueSink sink);
+
+	@Override
+	default LoaderValues load(StaticPropertyConfigurationInternal runtimeDef,
+			ValidatedValuesWithContext existingValues) {
+
+		PropertyValueSink sink = new PropertyValueSink(runtimeDef, this);
+		load(runtimeDef, existingValues, sink);
+		return sink.toLoaderValues();
+	}
+}
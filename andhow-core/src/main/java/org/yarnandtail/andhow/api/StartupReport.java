@@ -0,0 +1,205 @@
+package org.yarnandtail.andhow.api;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * How long each phase of AndHow startup took and what each Loader did.
+ * <p>
+ * Phases are reported in the order they ran and together cover startup from
+ * finding the registered Properties to the last step before AndHow is ready.
+ * The time spent in each Loader is part of the {@link #PHASE_LOAD} phase and
+ * is also reported separately, w/ the number of values found, the number of
+ * those values shadowed by an earlier Loader, the number of problems and the
+ * number of bytes read, for loaders that report it.
+ * <p>
+ * Startup is only timed when enabled, see {@code AndHow.getStartupReport()}.
+ *
+ * @author eeverman
+ */
+public final class StartupReport {
+
+	public static final String PHASE_BUILD_LOADERS = "Build loaders";
+	public static final String PHASE_FIND_GROUPS = "Find registered groups";
+	public static final String PHASE_REGISTER = "Register properties";
+	public static final String PHASE_LOAD = "Load values";
+	public static final String PHASE_VALIDATE = "Validate values";
+	public static final String PHASE_EXPORT = "Export values";
+	public static final String PHASE_PRINT_SAMPLES = "Print samples";
+	public static final String PHASE_FINISH = "Finish";
+
+	private final List<Phase> phases;
+	private final List<LoaderRun> loaderRuns;
+
+	public StartupReport(List<Phase> phases, List<LoaderRun> loaderRuns) {
+		this.phases = Collections.unmodifiableList(new ArrayList(phases));
+		this.loaderRuns = Collections.unmodifiableList(new ArrayList(loaderRuns));
+	}
+
+	/**
+	 * The phases of startup, in the order they ran.
+	 *
+	 * @return A non-null, unmodifiable list
+	 */
+	public List<Phase> getPhases() {
+		return phases;
+	}
+
+	/**
+	 * The run of each Loader, in the order they ran.
+	 *
+	 * @return A non-null, unmodifiable list
+	 */
+	public List<LoaderRun> getLoaderRuns() {
+		return loaderRuns;
+	}
+
+	/**
+	 * The duration of a phase by name.
+	 *
+	 * @param name One of the PHASE_ constants
+	 * @return The duration in nanoseconds or -1 if there is no such phase.
+	 */
+	public long getPhaseNanos(String name) {
+		for (Phase p : phases) {
+			if (p.getName().equals(name)) {
+				return p.getNanos();
+			}
+		}
+
+		return -1L;
+	}
+
+	/**
+	 * The total duration of all phases.
+	 *
+	 * @return The duration in nanoseconds
+	 */
+	public long getTotalNanos() {
+		long total = 0L;
+
+		for (Phase p : phases) {
+			total += p.getNanos();
+		}
+
+		return total;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+
+		sb.append(String.format("AndHow startup: %.3f ms%n", getTotalNanos() / 1e6d));
+
+		for (Phase p : phases) {
+			sb.append(String.format("  %-24s %10.3f ms%n", p.getName(), p.getNanos() / 1e6d));
+
+			if (p.getName().equals(PHASE_LOAD)) {
+				for (LoaderRun r : loaderRuns) {
+					sb.append(String.format("    %-22s %10.3f ms  found: %d, shadowed: %d, problems: %d, bytes: %d  (%s)%n",
+							r.getLoaderType(), r.getNanos() / 1e6d, r.getValuesFound(), r.getValuesShadowed(),
+							r.getProblemCount(), r.getBytesRead(), r.getLoaderDescription()));
+				}
+			}
+		}
+
+		return sb.toString();
+	}
+
+	/**
+	 * A named phase of startup and its duration.
+	 */
+	public static final class Phase {
+		private final String name;
+		private final long nanos;
+
+		public Phase(String name, long nanos) {
+			this.name = name;
+			this.nanos = nanos;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public long getNanos() {
+			return nanos;
+		}
+	}
+
+	/**
+	 * A single run of a Loader.
+	 */
+	public static final class LoaderRun {
+		private final String loaderType;
+		private final String loaderDescription;
+		private final long nanos;
+		private final int valuesFound;
+		private final int valuesShadowed;
+		private final int problemCount;
+		private final long bytesRead;
+
+		public LoaderRun(String loaderType, String loaderDescription, long nanos,
+				int valuesFound, int valuesShadowed, int problemCount, long bytesRead) {
+
+			this.loaderType = loaderType;
+			this.loaderDescription = loaderDescription;
+			this.nanos = nanos;
+			this.valuesFound = valuesFound;
+			this.valuesShadowed = valuesShadowed;
+			this.problemCount = problemCount;
+			this.bytesRead = bytesRead;
+		}
+
+		/**
+		 * The type of Loader, as returned by Loader.getLoaderType().
+		 * @return
+		 */
+		public String getLoaderType() {
+			return loaderType;
+		}
+
+		/**
+		 * What the Loader loaded from, as returned by Loader.getSpecificLoadDescription().
+		 * @return
+		 */
+		public String getLoaderDescription() {
+			return loaderDescription;
+		}
+
+		public long getNanos() {
+			return nanos;
+		}
+
+		/**
+		 * The number of values the Loader found.
+		 * @return
+		 */
+		public int getValuesFound() {
+			return valuesFound;
+		}
+
+		/**
+		 * The number of values found that were already loaded by an earlier
+		 * Loader, so are not used.
+		 * @return
+		 */
+		public int getValuesShadowed() {
+			return valuesShadowed;
+		}
+
+		public int getProblemCount() {
+			return problemCount;
+		}
+
+		/**
+		 * The number of bytes read from the source, or zero if the Loader does
+		 * not report it.
+		 * @return
+		 */
+		public long getBytesRead() {
+			return bytesRead;
+		}
+	}
+}
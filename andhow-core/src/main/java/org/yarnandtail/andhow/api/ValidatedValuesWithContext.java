@@ -30,6 +30,9 @@ public interface ValidatedValuesWithContext extends ValidatedValues {
 	
 	/**
 	 * A sequential list of all loaders and all its values, even overwritten ones.
+	 * 
+	 * Implementations that release loader state after startup (compact memory
+	 * mode) may throw an UnsupportedOperationException.
 	 * @return 
 	 */
 	List<LoaderValues> getAllLoaderValues();
@@ -41,6 +44,9 @@ public interface ValidatedValuesWithContext extends ValidatedValues {
 	 * This is mostly for reporting and debugging to show the user what the loader
 	 * was able to find and load.
 	 * 
+	 * Implementations that release loader state after startup (compact memory
+	 * mode) may throw an UnsupportedOperationException.
+	 * 
 	 * @param loader
 	 * @return May return null if the passed Loader is not in use by AndHow.
 	 */
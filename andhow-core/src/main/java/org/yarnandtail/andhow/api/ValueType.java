@@ -32,6 +32,31 @@ public interface ValueType<T> {
 	 */
 	T parse(String sourceValue) throws ParsingException;
 	
+	/**
+	 * Attempts to parse the passed String into the destinationType, reporting
+	 * bad input via the returned result rather than an exception.
+	 * 
+	 * The same values must parse successfully, and to the same result, as
+	 * parse(String).  This is the preferred way for AndHow to parse values,
+	 * since the cost of creating an exception is only paid if a problem is
+	 * actually reported.
+	 * 
+	 * The default implementation calls parse() and converts a ParsingException
+	 * to a failed result.  Implementations should override it to avoid throwing
+	 * in the first place.
+	 * 
+	 * @param sourceValue
+	 * @return A result containing null if the sourceValue is null, a value of
+	 * type T, or a failure.  Never null.
+	 */
+	default ParseResult<T> tryParse(String sourceValue) {
+		try {
+			return ParseResult.success(parse(sourceValue));
+		} catch (ParsingException e) {
+			return ParseResult.failure(e.getMessage(), e.getProblemText());
+		}
+	}
+	
 	/**
 	 * Converts an instance of the destination type to string.
 	 * 
@@ -9,6 +9,7 @@ import org.yarnandtail.andhow.Options;
 import org.yarnandtail.andhow.api.*;
 import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
 import org.yarnandtail.andhow.util.AndHowLog;
+import org.yarnandtail.andhow.util.StringPool;
 
 /**
  * Actual central instance of the AndHow state after a successful startup.
@@ -27,13 +28,31 @@ public class AndHowCore implements StaticPropertyConfigurationInternal, Validate
 	
 	//Internal state
 	private final StaticPropertyConfigurationInternal staticConfig;
-	private final ValidatedValuesWithContext loadedValues;
+	private ValidatedValuesWithContext loadedValues;
+	private ValidatedValues valueReader;	//Reads values for the app, possibly counting reads
 	private final ProblemList<Problem> problems = new ProblemList();
+	private final StartupReport startupReport;
 	
 	public AndHowCore(NamingStrategy naming, List<Loader> loaders, 
 			List<GroupProxy> registeredGroups) 
 			throws AppFatalException {
 		
+		this(naming, loaders, registeredGroups, StartupRecorder.start());
+	}
+	
+	/**
+	 * New instance that times each phase of startup w/ the recorder.
+	 * 
+	 * @param naming The naming strategy, or null for the default.
+	 * @param loaders The loaders, in the order they run.
+	 * @param registeredGroups The groups of Properties to register.
+	 * @param recorder Times startup, continuing from any phases already ended.
+	 * @throws AppFatalException 
+	 */
+	public AndHowCore(NamingStrategy naming, List<Loader> loaders, 
+			List<GroupProxy> registeredGroups, StartupRecorder recorder) 
+			throws AppFatalException {
+		
 		NamingStrategy namingStrategy = (naming != null)?naming:new CaseInsensitiveNaming();
 		
 		if (loaders != null) {
@@ -68,6 +87,7 @@ public class AndHowCore implements StaticPropertyConfigurationInternal, Validate
 
 		StaticPropertyConfigurationMutable startupDef = AndHowUtil.buildDefinition(effRegGroups, loaders, namingStrategy, problems);
 		staticConfig = startupDef.toImmutable();
+		recorder.endPhase(StartupReport.PHASE_REGISTER);
 		
 		//
 		//If there are ConstructionProblems, we can't continue on to attempt to
@@ -84,9 +104,26 @@ public class AndHowCore implements StaticPropertyConfigurationInternal, Validate
 		
 		//No Construction problems, so continue on...
 		
-		loadedValues = loadValues(staticConfig, problems).getValueMapWithContextImmutable();
-		doPropertyValidations(staticConfig, loadedValues, problems);
-		checkForValuesWhichMustBeNonNull(staticConfig, problems);
+		List<LoaderValuesValidation> validations = new ArrayList();
+		ValidatedValuesWithContextMutable mutableValues = loadValues(staticConfig, problems, validations, recorder);
+		loadedValues = mutableValues.getValueMapWithContextImmutable();
+		valueReader = loadedValues;
+		recorder.endPhase(StartupReport.PHASE_LOAD);
+		
+		doPropertyValidations(validations, problems);
+		
+		//Resolve ${...} references, then parse and validate the resolved values
+		if (ValueInterpolator.hasUnresolvedValues(mutableValues)) {
+			mutableValues = ValueInterpolator.resolve(staticConfig, mutableValues, problems);
+			loadedValues = mutableValues.getValueMapWithContextImmutable();
+			valueReader = loadedValues;
+		}
+		
+		//Derived values are only computed from valid inputs
+		boolean derived = problems.isEmpty() && deriveValues(mutableValues, problems);
+		
+		checkForValuesWhichMustBeNonNull(staticConfig, problems, derived);
+		recorder.endPhase(StartupReport.PHASE_VALIDATE);
 
 		if (problems.size() > 0) {
 			AppFatalException afe = AndHowUtil.buildFatalException(problems);
@@ -108,11 +145,102 @@ public class AndHowCore implements StaticPropertyConfigurationInternal, Validate
 				}
 			}
 		}
+		recorder.endPhase(StartupReport.PHASE_EXPORT);
 		
 		//Print samples (if requested) to System.out
 		if (getValue(Options.CREATE_SAMPLES)) {
 			ReportGenerator.printConfigSamples(staticConfig, loaders, false);
 		}
+		recorder.endPhase(StartupReport.PHASE_PRINT_SAMPLES);
+		
+		//Keep the per-loader values for the MBean (if requested), before compacting
+		List<LoaderValues> mbeanLoaderValues = null;
+		if (getValue(Options.REGISTER_MBEAN)) {
+			mbeanLoaderValues = loadedValues.getAllLoaderValues();
+		}
+		
+		//Share equal String values (if requested)
+		if (getValue(Options.DEDUPLICATE_VALUES)) {
+			loadedValues = deduplicateStringValues(loadedValues);
+		}
+		
+		//Drop loader state (if requested) now that nothing else needs it
+		if (getValue(Options.COMPACT_MEMORY) &&
+				loadedValues.getAllLoaderValues().size() <= ValidatedValuesWithContextCompact.MAX_LOADER_COUNT) {
+			
+			loadedValues = new ValidatedValuesWithContextCompact(loadedValues.getAllLoaderValues());
+		}
+		
+		//Count reads (if requested) from here on
+		if (getValue(Options.COUNT_PROPERTY_READS)) {
+			valueReader = new ReadCountingValues(staticConfig, loadedValues);
+		} else {
+			valueReader = loadedValues;
+		}
+		
+		recorder.endPhase(StartupReport.PHASE_FINISH);
+		startupReport = recorder.toReport();
+		
+		//Register the MBean (if requested)
+		if (mbeanLoaderValues != null) {
+			ReadCountingValues readCounter = (valueReader instanceof ReadCountingValues)?
+					(ReadCountingValues) valueReader : null;
+			
+			AndHowInfo.register(new AndHowInfo(staticConfig, mbeanLoaderValues,
+					loadedValues, startupReport, readCounter));
+		}
+	}
+	
+	/**
+	 * How long each phase of startup took.
+	 * 
+	 * @return The report or null if startup timing was not enabled.
+	 */
+	public StartupReport getStartupReport() {
+		return startupReport;
+	}
+	
+	/**
+	 * How many times the value of each Property was read since startup.
+	 * 
+	 * @return A new report or null if Options.COUNT_PROPERTY_READS is not set.
+	 */
+	public PropertyReadReport getPropertyReadReport() {
+		if (valueReader instanceof ReadCountingValues) {
+			return ((ReadCountingValues) valueReader).getReport();
+		} else {
+			return null;
+		}
+	}
+	
+	/**
+	 * Rebuild the loaded values so that equal String values share a single instance.
+	 * 
+	 * @param values The values to deduplicate, which must not have problems.
+	 * @return A new immutable instance
+	 */
+	protected static ValidatedValuesWithContext deduplicateStringValues(ValidatedValuesWithContext values) {
+		
+		StringPool pool = new StringPool();
+		ValidatedValuesWithContextMutable deduped = new ValidatedValuesWithContextMutable();
+		
+		for (LoaderValues lvs : values.getAllLoaderValues()) {
+			List<ValidatedValue> vvs = new ArrayList(lvs.getValues().size());
+			
+			for (ValidatedValue vv : lvs.getValues()) {
+				if (vv.getValue() instanceof String) {
+					vvs.add(new ValidatedValue(vv.getProperty(), pool.intern((String) vv.getValue())));
+				} else {
+					vvs.add(vv);
+				}
+			}
+			
+			deduped.addValues(new LoaderValues(lvs.getLoader(), vvs, lvs.getProblems()));
+		}
+		
+		LOG.debug("Deduplicated {0} loaded String values", pool.getHitCount());
+		
+		return deduped.getValueMapWithContextImmutable();
 	}
 	
 	/**
@@ -140,30 +268,81 @@ public class AndHowCore implements StaticPropertyConfigurationInternal, Validate
 		
 	}
 	
+	/**
+	 * True if the loader state was released after startup because
+	 * Options.COMPACT_MEMORY was set.
+	 * 
+	 * @return 
+	 */
+	public boolean isCompactMemory() {
+		return loadedValues instanceof ValidatedValuesWithContextCompact;
+	}
+	
+	/**
+	 * The loaded values and the context of how they were loaded.
+	 * 
+	 * In compact memory mode, the per-loader views of the returned instance
+	 * are not available - see ValidatedValuesWithContextCompact.
+	 * 
+	 * @return 
+	 */
+	public ValidatedValuesWithContext getValuesWithContext() {
+		return loadedValues;
+	}
+	
 	@Override
 	public boolean isExplicitlySet(Property<?> prop) {
-		return loadedValues.isExplicitlySet(prop);
+		return valueReader.isExplicitlySet(prop);
 	}
 	
 	@Override
 	public <T> T getExplicitValue(Property<T> prop) {
-		return loadedValues.getExplicitValue(prop);
+		return valueReader.getExplicitValue(prop);
 	}
 	
 	@Override
 	public <T> T getValue(Property<T> prop) {
-		return loadedValues.getValue(prop);
+		return valueReader.getValue(prop);
 	}
 	
 	//TODO:  Shouldn't this be stateless and pass in the loader list?
-	private ValidatedValuesWithContext loadValues(StaticPropertyConfigurationInternal config, ProblemList<Problem> problems) {
+	/**
+	 * Runs each loader in order, starting validation of each loader's values
+	 * as soon as it returns so that validation overlaps the following loaders.
+	 * 
+	 * Each loader pushes its values into its own PropertyValueSink.  Loaders
+	 * that are not SinkLoaders are adapted via SinkLoaderAdapter.
+	 * 
+	 * @param config The configuration to load values for.
+	 * @param problems Add any loader problems to this list.
+	 * @param validations Add the validation of each loader's values to this list,
+	 *	in loader order.  Validation Problems are not reported until finished.
+	 * @param recorder Times each loader.
+	 * @return The loaded values.
+	 */
+	private ValidatedValuesWithContextMutable loadValues(StaticPropertyConfigurationInternal config,
+			ProblemList<Problem> problems, List<LoaderValuesValidation> validations,
+			StartupRecorder recorder) {
+		
 		ValidatedValuesWithContextMutable existingValues = new ValidatedValuesWithContextMutable();
 
 		for (Loader loader : loaders) {
-			LoaderValues result = loader.load(config, existingValues);
+			long loaderStart = recorder.startLoader();
+			PropertyValueSink sink = new PropertyValueSink(config, loader);
+			
+			if (loader instanceof SinkLoader) {
+				((SinkLoader)loader).load(config, existingValues, sink);
+			} else {
+				new SinkLoaderAdapter(loader).load(config, existingValues, sink);
+			}
+			
+			LoaderValues result = sink.toLoaderValues();
+			recorder.endLoader(loaderStart, result, existingValues);
 			existingValues.addValues(result);
 			problems.addAll(result.getProblems());
 			
+			validations.add(new LoaderValuesValidation(config, result).start());
+			
 			loader.releaseResources();
 		}
 
@@ -171,57 +350,62 @@ public class AndHowCore implements StaticPropertyConfigurationInternal, Validate
 	}
 	
 	/**
-	 * Validates all Property values.
+	 * Waits for the validation of all Property values to complete and adds
+	 * any problems found.
+	 * 
+	 * Validations are finished in loader order and each reports its problems
+	 * in value order, so problems are in the same order as if each value was
+	 * validated sequentially after all loaders had completed.
 	 * 
-	 * @param config Needed bc validation is done while construction is 
-	 *	not complete, thus the as-is definition is needed prior to it being complete.
-	 * @param loadedValues The values to be validated.
+	 * @param validations The validations started for each loader, in loader order.
 	 * @param problems Add any new problems to this list
 	 */
-	private void doPropertyValidations(StaticPropertyConfigurationInternal config, 
-			ValidatedValuesWithContext loadedValues, ProblemList<Problem> problems) {
+	private void doPropertyValidations(List<LoaderValuesValidation> validations,
+			ProblemList<Problem> problems) {
 		
-		for (LoaderValues lvs : loadedValues.getAllLoaderValues()) {
-			for (ValidatedValue pv : lvs.getValues()) {
-				doPropertyValidation(config, lvs.getLoader(), problems, pv);
-			}
+		for (LoaderValuesValidation validation : validations) {
+			validation.finish(problems);
 		}
 	}
 	
+
 	/**
-	 * Does validation on a single Property value as loaded by a single loader.
+	 * Computes the value of each DerivedProperty and validates them, adding
+	 * the values to the loaded values.
 	 * 
-	 * @param <T> The shared type of the Property and Value.
-	 * @param config Needed bc validation is done while construction is 
-	 *	not complete, thus the as-is definition is needed prior to it being complete.
-	 * @param loader The loader used to load the value, for context when creating a Problem.
-	 * @param problems Add any new problems to this list
-	 * @param propValue<T> The Property and its value, both of type 'T'.
+	 * @param values The loaded values, which must be valid.
+	 * @param problems Add any derivation or validation problems to this list
+	 * @return True if there are derived Properties, so values were derived.
 	 */
-	private <T> void doPropertyValidation(StaticPropertyConfigurationInternal config,
-			Loader loader, ProblemList<Problem> problems, ValidatedValue<T> propValue) {
-		
-		Property<T> prop = propValue.getProperty();
-		
-		for (Validator<T> v : prop.getValidators()) {
-			if (! v.isValid(propValue.getValue())) {
-				
-				ValueProblem.InvalidValueProblem problem = 
-						new ValueProblem.InvalidValueProblem(loader, 
-								config.getGroupForProperty(prop).getProxiedGroup(),
-								prop, propValue.getValue(), v);
-				
-				propValue.addProblem(problem);
-				problems.add(problem);
-			}
+	private boolean deriveValues(ValidatedValuesWithContextMutable values, ProblemList<Problem> problems) {
+		
+		if (! DerivedValueLoader.hasDerivedProperties(staticConfig)) {
+			return false;
 		}
+		
+		LoaderValues derived = new DerivedValueLoader().load(staticConfig, values);
+		values.addValues(derived);
+		problems.addAll(derived.getProblems());
+		new LoaderValuesValidation(staticConfig, derived).start().finish(problems);
+		
+		loadedValues = values.getValueMapWithContextImmutable();
+		valueReader = loadedValues;
+		return true;
 	}
-	
 
-	private void checkForValuesWhichMustBeNonNull(StaticPropertyConfigurationInternal config, ProblemList<Problem> problems) {
+	/**
+	 * Adds a Problem for each Property that must be non-null, but is null.
+	 * 
+	 * @param config
+	 * @param problems
+	 * @param derived If false, values were not derived, so DerivedProperties
+	 * are not checked.
+	 */
+	private void checkForValuesWhichMustBeNonNull(StaticPropertyConfigurationInternal config,
+			ProblemList<Problem> problems, boolean derived) {
 		
 		for (Property<?> prop : config.getProperties()) {
-			if (prop.isNonNullRequired()) {
+			if (prop.isNonNullRequired() && (derived || ! (prop instanceof DerivedProperty))) {
 				if (getValue(prop) == null) {
 					
 					problems.add(new RequirementProblem.NonNullPropertyProblem(
@@ -250,6 +434,11 @@ public class AndHowCore implements StaticPropertyConfigurationInternal, Validate
 	public GroupProxy getGroupForProperty(Property<?> prop) {
 		return staticConfig.getGroupForProperty(prop);
 	}
+	
+	@Override
+	public int getPropertyOrdinal(Property<?> prop) {
+		return staticConfig.getPropertyOrdinal(prop);
+	}
 
 	@Override
 	public List<Property<?>> getPropertiesForGroup(GroupProxy group) {
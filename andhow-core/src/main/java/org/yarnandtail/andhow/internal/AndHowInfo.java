@@ -0,0 +1,198 @@
+package org.yarnandtail.andhow.internal;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import javax.management.*;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.load.MountedDirectoryLoader;
+import org.yarnandtail.andhow.util.AndHowLog;
+import org.yarnandtail.andhow.util.TextUtil;
+
+/**
+ * The JMX MBean registered by AndHowCore when Options.REGISTER_MBEAN is set.
+ * <p>
+ * Everything that cannot change after startup is copied into arrays when
+ * this instance is built, so polling by monitoring agents only clones an
+ * array and takes no locks.  Read counts and pending reloads are read live.
+ *
+ * @author eeverman
+ */
+public class AndHowInfo implements AndHowInfoMBean {
+
+	private static final AndHowLog LOG = AndHowLog.getLogger(AndHowInfo.class);
+
+	/** The name the MBean is registered under */
+	public static final String OBJECT_NAME = "org.yarnandtail.andhow:type=AndHow";
+
+	/** Shown in place of the value of a secret Property */
+	public static final String MASK = "********";
+
+	/** Source of a Property value that comes from its default */
+	public static final String DEFAULT_SOURCE = "default";
+
+	private final String[] propertyNames;
+	private final String[] propertyValues;
+	private final String[] propertySources;
+	private final String[] loaderNames;
+	private final long[] loaderNanos;
+	private final int[] loaderValueCounts;
+	private final MountedDirectoryLoader[] reloadableLoaders;
+	private final ReadCountingValues readCounter;
+
+	/**
+	 * New instance.
+	 *
+	 * @param config The registered Properties
+	 * @param loaderValues The values of each Loader, in Loader order.
+	 * @param values The effective values.
+	 * @param startupReport The startup timing or null if not enabled.
+	 * @param readCounter Counts Property reads or null if not enabled.
+	 */
+	public AndHowInfo(StaticPropertyConfigurationInternal config, List<LoaderValues> loaderValues,
+			ValidatedValues values, StartupReport startupReport, ReadCountingValues readCounter) {
+
+		List<Property<?>> props = config.getProperties();
+
+		propertyNames = new String[props.size()];
+		propertyValues = new String[props.size()];
+		propertySources = new String[props.size()];
+
+		for (int i = 0; i < props.size(); i++) {
+			Property<?> prop = props.get(i);
+			Object value = values.getValue(prop);
+
+			propertyNames[i] = config.getCanonicalName(prop);
+
+			if (value == null) {
+				propertyValues[i] = null;
+			} else if (prop.isSecret()) {
+				propertyValues[i] = MASK;
+			} else {
+				propertyValues[i] = value.toString();
+			}
+
+			if (value != null) {
+				propertySources[i] = DEFAULT_SOURCE;
+			}
+		}
+
+		loaderNames = new String[loaderValues.size()];
+		loaderNanos = new long[loaderValues.size()];
+		loaderValueCounts = new int[loaderValues.size()];
+		List<MountedDirectoryLoader> reloadable = new ArrayList();
+
+		//The first Loader to supply a value is the source
+		for (int i = loaderValues.size() - 1; i >= 0; i--) {
+			LoaderValues lvs = loaderValues.get(i);
+			Loader loader = lvs.getLoader();
+
+			loaderNames[i] = loader.getLoaderType() + " " + loader.getSpecificLoadDescription();
+			loaderValueCounts[i] = lvs.getValues().size();
+
+			for (ValidatedValue vv : lvs.getValues()) {
+				int ordinal = config.getPropertyOrdinal(vv.getProperty());
+
+				if (ordinal > -1) {
+					propertySources[ordinal] = loaderNames[i];
+				}
+			}
+
+			if (loader instanceof MountedDirectoryLoader) {
+				reloadable.add((MountedDirectoryLoader) loader);
+			}
+		}
+
+		for (int i = 0; i < loaderNanos.length; i++) {
+			if (startupReport != null && i < startupReport.getLoaderRuns().size()) {
+				loaderNanos[i] = startupReport.getLoaderRuns().get(i).getNanos();
+			} else {
+				loaderNanos[i] = -1L;
+			}
+		}
+
+		reloadableLoaders = reloadable.toArray(new MountedDirectoryLoader[reloadable.size()]);
+		this.readCounter = readCounter;
+	}
+
+	/**
+	 * Registers an instance w/ the platform MBean server under OBJECT_NAME,
+	 * replacing any instance registered by a previous startup.
+	 * <p>
+	 * Failure to register is logged and otherwise ignored, since monitoring
+	 * is not a reason to fail startup.
+	 *
+	 * @param info The instance to register
+	 * @return True if registered
+	 */
+	public static boolean register(AndHowInfo info) {
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName name = new ObjectName(OBJECT_NAME);
+
+			synchronized (AndHowInfo.class) {
+				if (server.isRegistered(name)) {
+					server.unregisterMBean(name);
+				}
+
+				server.registerMBean(info, name);
+			}
+
+			LOG.debug("Registered the {0} MBean", OBJECT_NAME);
+			return true;
+		} catch (JMException | SecurityException ex) {
+			LOG.warn(TextUtil.format("Unable to register the {} MBean: {}", OBJECT_NAME, ex.getMessage()));
+			return false;
+		}
+	}
+
+	@Override
+	public String[] getPropertyNames() {
+		return propertyNames.clone();
+	}
+
+	@Override
+	public String[] getPropertyValues() {
+		return propertyValues.clone();
+	}
+
+	@Override
+	public String[] getPropertySources() {
+		return propertySources.clone();
+	}
+
+	@Override
+	public long[] getPropertyReadCounts() {
+		if (readCounter != null) {
+			return readCounter.getCounts();
+		} else {
+			return new long[0];
+		}
+	}
+
+	@Override
+	public String[] getLoaderNames() {
+		return loaderNames.clone();
+	}
+
+	@Override
+	public long[] getLoaderNanos() {
+		return loaderNanos.clone();
+	}
+
+	@Override
+	public int[] getLoaderValueCounts() {
+		return loaderValueCounts.clone();
+	}
+
+	@Override
+	public boolean isReloadPending() {
+		for (MountedDirectoryLoader loader : reloadableLoaders) {
+			if (loader.isUpdatePending()) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+}
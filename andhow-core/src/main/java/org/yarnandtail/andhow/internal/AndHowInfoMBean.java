@@ -0,0 +1,74 @@
+package org.yarnandtail.andhow.internal;
+
+/**
+ * JMX view of the configuration loaded by AndHow.
+ * <p>
+ * The Property arrays are all in Property registration order, so the same
+ * index refers to the same Property in each.  Likewise, the Loader arrays are
+ * all in Loader order.
+ *
+ * @author eeverman
+ */
+public interface AndHowInfoMBean {
+
+	/**
+	 * The canonical name of each registered Property.
+	 *
+	 * @return
+	 */
+	String[] getPropertyNames();
+
+	/**
+	 * The effective value of each Property as a String, or null if it has no
+	 * value.  The values of secret Properties are masked.
+	 *
+	 * @return
+	 */
+	String[] getPropertyValues();
+
+	/**
+	 * The Loader that supplied the value of each Property, or 'default' if
+	 * the default value is used, or null if there is no value.
+	 *
+	 * @return
+	 */
+	String[] getPropertySources();
+
+	/**
+	 * The number of reads of each Property's value since startup, or an empty
+	 * array if reads are not counted (see Options.COUNT_PROPERTY_READS).
+	 *
+	 * @return
+	 */
+	long[] getPropertyReadCounts();
+
+	/**
+	 * A description of each Loader.
+	 *
+	 * @return
+	 */
+	String[] getLoaderNames();
+
+	/**
+	 * How long each Loader took to load, or -1 for each if startup timing
+	 * was not enabled (see StartupRecorder).
+	 *
+	 * @return Nanoseconds
+	 */
+	long[] getLoaderNanos();
+
+	/**
+	 * The number of values found by each Loader.
+	 *
+	 * @return
+	 */
+	int[] getLoaderValueCounts();
+
+	/**
+	 * True if any Loader has found its source updated since startup and the
+	 * configuration would be different if reloaded.
+	 *
+	 * @return
+	 */
+	boolean isReloadPending();
+}
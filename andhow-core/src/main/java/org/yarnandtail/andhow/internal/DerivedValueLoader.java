@@ -0,0 +1,159 @@
+package org.yarnandtail.andhow.internal;
+
+import java.util.*;
+import org.yarnandtail.andhow.api.*;
+
+/**
+ * Computes the value of each registered DerivedProperty from the loaded
+ * values.
+ * <p>
+ * This is not a Loader that is configured:  AndHowCore runs it after all
+ * configured Loaders have run and their values have been validated, then
+ * adds its values w/ those of the other Loaders.  Each value is derived once.
+ * An input that is itself a DerivedProperty is derived first, regardless of
+ * the order in which the Properties were registered.
+ * <p>
+ * A DerivedProperty that a Loader has explicitly set is not derived.  Text
+ * based Loaders report a Problem for a configured derived value, but a fixed
+ * value, as used in testing, replaces the derived value.  A function that throws
+ * an exception is reported as a Problem and the value is left unset, which is
+ * seen as a null input by any DerivedProperty derived from it.
+ *
+ * @author eeverman
+ */
+public class DerivedValueLoader implements Loader {
+
+	@Override
+	public LoaderValues load(StaticPropertyConfigurationInternal runtimeDef,
+			ValidatedValuesWithContext existingValues) {
+
+		Derivations derivations = new Derivations(runtimeDef, existingValues);
+		List<ValidatedValue> values = new ArrayList();
+
+		for (Property<?> prop : runtimeDef.getProperties()) {
+			if (prop instanceof DerivedProperty && ! existingValues.isExplicitlySet(prop)) {
+
+				Object value = derivations.derive((DerivedProperty<?>) prop);
+
+				if (value != null) {
+					values.add(new ValidatedValue(prop, value));
+				}
+			}
+		}
+
+		return new LoaderValues(this, values, derivations.problems);
+	}
+
+	/**
+	 * True if any of the Properties are derived.
+	 *
+	 * @param config
+	 * @return
+	 */
+	public static boolean hasDerivedProperties(StaticPropertyConfigurationInternal config) {
+		for (Property<?> prop : config.getProperties()) {
+			if (prop instanceof DerivedProperty) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * The loaded values plus the values derived so far, which is what each
+	 * DerivedProperty reads its inputs from.
+	 */
+	private class Derivations implements ValidatedValues {
+
+		final StaticPropertyConfigurationInternal config;
+		final ValidatedValuesWithContext loaded;
+		final Map<Property<?>, Object> derived = new IdentityHashMap();
+		final ProblemList<Problem> problems = new ProblemList();
+
+		Derivations(StaticPropertyConfigurationInternal config, ValidatedValuesWithContext loaded) {
+			this.config = config;
+			this.loaded = loaded;
+		}
+
+		Object derive(DerivedProperty<?> prop) {
+			if (derived.containsKey(prop)) {
+				return derived.get(prop);
+			}
+
+			Object value = null;
+
+			try {
+				value = prop.derive(this);
+			} catch (RuntimeException e) {
+				GroupProxy group = config.getGroupForProperty(prop);
+
+				problems.add(new LoaderProblem.DerivedValueLoaderProblem(DerivedValueLoader.this,
+						(group != null)? group.getProxiedGroup() : null, prop,
+						"The value could not be derived from its inputs: " + e));
+			}
+
+			derived.put(prop, value);
+			return value;
+		}
+
+		@Override
+		public <T> T getExplicitValue(Property<T> prop) {
+			if (prop instanceof DerivedProperty && ! loaded.isExplicitlySet(prop)) {
+				return prop.getValueType().cast(derive((DerivedProperty<?>) prop));
+			} else {
+				return loaded.getExplicitValue(prop);
+			}
+		}
+
+		@Override
+		public <T> T getValue(Property<T> prop) {
+			T value = getExplicitValue(prop);
+			return (value != null)? value : prop.getDefaultValue();
+		}
+
+		@Override
+		public boolean isExplicitlySet(Property<?> prop) {
+			return getExplicitValue(prop) != null;
+		}
+	}
+
+	@Override
+	public Class<?> getClassConfig() {
+		return null;
+	}
+
+	@Override
+	public List<Property> getInstanceConfig() {
+		return Collections.emptyList();
+	}
+
+	@Override
+	public String getSpecificLoadDescription() {
+		return "values derived from other properties";
+	}
+
+	@Override
+	public boolean isTrimmingRequiredForStringValues() {
+		return false;
+	}
+
+	@Override
+	public SamplePrinter getConfigSamplePrinter() {
+		return null;
+	}
+
+	@Override
+	public String getLoaderType() {
+		return "Derived";
+	}
+
+	@Override
+	public String getLoaderDialect() {
+		return null;
+	}
+
+	@Override
+	public void releaseResources() {
+		//Nothing to release
+	}
+}
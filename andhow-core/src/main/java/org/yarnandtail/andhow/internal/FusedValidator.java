@@ -0,0 +1,160 @@
+package org.yarnandtail.andhow.internal;
+
+import java.util.*;
+import org.yarnandtail.andhow.api.Property;
+import org.yarnandtail.andhow.api.Validator;
+
+/**
+ * All of the Validators of a single Property, combined into a single check.
+ * <p>
+ * Values are checked against the Validators in order, stopping at the first
+ * failure.  Only if a value is invalid are the individual failing Validators
+ * found via {@link #getFailedValidators(java.lang.Object)}, so the common case
+ * of a valid value is a single pass w/o allocation.
+ * <p>
+ * Two results are remembered to avoid repeating work:
+ * <ul>
+ * <li>The Property's default value, once it has passed validation during
+ * registration.  A loaded value equal to the default is known to be valid.</li>
+ * <li>The most recently validated value and its result.</li>
+ * </ul>
+ * Instances are cached per Property for the life of the Property, so these
+ * results are reused when AndHow is rebuilt, e.g. during testing.  This
+ * assumes that Validators are stateless and that values are immutable, which
+ * is true of all the Validators and value types provided by AndHow.
+ *
+ * @author eeverman
+ * @param <T> The value type of the Property
+ */
+public class FusedValidator<T> {
+
+	private static final Map<Property<?>, FusedValidator<?>> CACHE =
+			Collections.synchronizedMap(new WeakHashMap());
+
+	private static final FusedValidator<?> NO_VALIDATORS = new FusedValidator(Collections.emptyList());
+
+	private final Validator<T>[] validators;
+	private volatile T validDefault;
+	private volatile Memo<T> memo;
+
+	/**
+	 * New instance.  Normally {@link #forProperty(org.yarnandtail.andhow.api.Property)}
+	 * should be used to get a shared instance.
+	 *
+	 * @param validators The validators to combine, in order.
+	 */
+	public FusedValidator(List<Validator<T>> validators) {
+		this.validators = validators.toArray(new Validator[validators.size()]);
+	}
+
+	/**
+	 * The shared instance for a Property.
+	 *
+	 * @param <T> The value type of the Property
+	 * @param property The Property
+	 * @return A cached instance, which is shared by all Properties w/o Validators.
+	 */
+	public static <T> FusedValidator<T> forProperty(Property<T> property) {
+
+		if (property.getValidators().isEmpty()) {
+			return (FusedValidator<T>) NO_VALIDATORS;
+		}
+
+		return (FusedValidator<T>) CACHE.computeIfAbsent(property,
+				p -> new FusedValidator(p.getValidators()));
+	}
+
+	/**
+	 * Returns true if the value passes all of the Validators.
+	 *
+	 * @param value The value to check, which may be null.
+	 * @return True if valid.
+	 */
+	public boolean isValid(T value) {
+
+		if (validators.length == 0) {
+			return true;
+		}
+
+		if (value != null) {
+			if (value.equals(validDefault)) {
+				return true;
+			}
+
+			Memo<T> m = memo;
+			if (m != null && value.equals(m.value)) {
+				return m.valid;
+			}
+		}
+
+		boolean valid = true;
+
+		for (Validator<T> v : validators) {
+			if (! v.isValid(value)) {
+				valid = false;
+				break;
+			}
+		}
+
+		if (value != null) {
+			memo = new Memo(value, valid);
+		}
+
+		return valid;
+	}
+
+	/**
+	 * Finds each Validator that the value fails, in Validator order.
+	 *
+	 * Results are not cached - this is intended for reporting problems.
+	 *
+	 * @param value The value to check, which may be null.
+	 * @return A list of the failed Validators, which is empty if the value is valid.
+	 */
+	public List<Validator<T>> getFailedValidators(T value) {
+
+		List<Validator<T>> failed = null;
+
+		for (Validator<T> v : validators) {
+			if (! v.isValid(value)) {
+				if (failed == null) failed = new ArrayList();
+				failed.add(v);
+			}
+		}
+
+		return (failed != null)? failed : Collections.emptyList();
+	}
+
+	/**
+	 * Validates a Property's default value and, if it is valid, remembers it
+	 * so that equal loaded values do not need to be validated again.
+	 *
+	 * @param defaultValue The default value of the Property.  May be null.
+	 * @return True if valid or null.
+	 */
+	public boolean validateDefault(T defaultValue) {
+		if (defaultValue == null) {
+			return true;
+		}
+
+		if (isValid(defaultValue)) {
+			if (validators.length > 0) validDefault = defaultValue;
+			return true;
+		} else {
+			return false;
+		}
+	}
+
+	/**
+	 * An immutable value and its validation result.
+	 */
+	private static final class Memo<T> {
+		final T value;
+		final boolean valid;
+
+		Memo(T value, boolean valid) {
+			this.value = value;
+			this.valid = valid;
+		}
+	}
+}
@@ -0,0 +1,176 @@
+package org.yarnandtail.andhow.internal;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.*;
+import org.yarnandtail.andhow.api.StartupReport;
+import org.yarnandtail.andhow.util.AndHowLog;
+
+/**
+ * Emits the JFR events of StartupRecorder, if JFR is available.
+ * <p>
+ * AndHow is compiled for Java 8, which has no JFR API, so the events are
+ * defined at run time via {@code jdk.jfr.EventFactory} and all JFR calls are
+ * reflective.  If JFR is not available or the events cannot be defined, all
+ * methods do nothing.  Events are passed to and from StartupRecorder as
+ * Objects.
+ * <p>
+ * Two events are defined in the 'AndHow / Startup' category:
+ * {@code org.yarnandtail.andhow.StartupPhase}, for each phase of startup, and
+ * {@code org.yarnandtail.andhow.LoaderRun}, for the run of each Loader.
+ *
+ * @author eeverman
+ */
+final class JfrStartupEvents {
+
+	private static final AndHowLog LOG = AndHowLog.getLogger(JfrStartupEvents.class);
+
+	private static final Object PHASE_FACTORY;
+	private static final Object LOADER_FACTORY;
+	private static final Method NEW_EVENT;
+	private static final Method BEGIN;
+	private static final Method END;
+	private static final Method SHOULD_COMMIT;
+	private static final Method SET;
+	private static final Method COMMIT;
+
+	static {
+		Object phaseFactory = null;
+		Object loaderFactory = null;
+		Method newEvent = null, begin = null, end = null, shouldCommit = null, set = null, commit = null;
+
+		try {
+			Class<?> factoryClass = Class.forName("jdk.jfr.EventFactory");
+			Class<?> eventClass = Class.forName("jdk.jfr.Event");
+
+			phaseFactory = createFactory(factoryClass, "org.yarnandtail.andhow.StartupPhase",
+					"AndHow Startup Phase", "A phase of AndHow startup",
+					new Object[][] {{String.class, "phase", "Phase"}});
+
+			loaderFactory = createFactory(factoryClass, "org.yarnandtail.andhow.LoaderRun",
+					"AndHow Loader Run", "A Loader loading values during AndHow startup",
+					new Object[][] {
+						{String.class, "loaderType", "Loader Type"},
+						{String.class, "source", "Source"},
+						{int.class, "valuesFound", "Values Found"},
+						{int.class, "valuesShadowed", "Values Shadowed"},
+						{int.class, "problems", "Problems"},
+						{long.class, "bytesRead", "Bytes Read"}
+					});
+
+			newEvent = factoryClass.getMethod("newEvent");
+			begin = eventClass.getMethod("begin");
+			end = eventClass.getMethod("end");
+			shouldCommit = eventClass.getMethod("shouldCommit");
+			set = eventClass.getMethod("set", int.class, Object.class);
+			commit = eventClass.getMethod("commit");
+
+		} catch (ClassNotFoundException e) {
+			phaseFactory = null;	//No JFR - Expected on some JVMs
+		} catch (Exception | LinkageError e) {
+			LOG.debug("Unable to define the AndHow JFR events: {0}", e);
+			phaseFactory = null;
+		}
+
+		PHASE_FACTORY = phaseFactory;
+		LOADER_FACTORY = (phaseFactory != null)? loaderFactory : null;
+		NEW_EVENT = newEvent;
+		BEGIN = begin;
+		END = end;
+		SHOULD_COMMIT = shouldCommit;
+		SET = set;
+		COMMIT = commit;
+	}
+
+	private JfrStartupEvents() {
+		//no instances
+	}
+
+	/**
+	 * Defines an event type via EventFactory.create(annotations, fields).
+	 *
+	 * @param fields Each field as {type, name, label}
+	 */
+	private static Object createFactory(Class<?> factoryClass, String name,
+			String label, String description, Object[][] fields) throws Exception {
+
+		List<Object> annotations = new ArrayList();
+		annotations.add(annotation("jdk.jfr.Name", name));
+		annotations.add(annotation("jdk.jfr.Label", label));
+		annotations.add(annotation("jdk.jfr.Description", description));
+		annotations.add(annotation("jdk.jfr.Category", new String[] {"AndHow", "Startup"}));
+
+		Class<?> descriptorClass = Class.forName("jdk.jfr.ValueDescriptor");
+		Constructor<?> descriptorCons = descriptorClass.getConstructor(Class.class, String.class, List.class);
+
+		List<Object> descriptors = new ArrayList();
+		for (Object[] field : fields) {
+			descriptors.add(descriptorCons.newInstance(field[0], field[1],
+					Collections.singletonList(annotation("jdk.jfr.Label", field[2]))));
+		}
+
+		return factoryClass.getMethod("create", List.class, List.class).invoke(null, annotations, descriptors);
+	}
+
+	private static Object annotation(String annotationClass, Object value) throws Exception {
+		Class<? extends Annotation> type = (Class<? extends Annotation>) Class.forName(annotationClass);
+		Class<?> elementClass = Class.forName("jdk.jfr.AnnotationElement");
+		return elementClass.getConstructor(Class.class, Object.class).newInstance(type, value);
+	}
+
+	static boolean isAvailable() {
+		return PHASE_FACTORY != null;
+	}
+
+	static Object beginPhase() {
+		return begin(PHASE_FACTORY);
+	}
+
+	static void endPhase(Object started, String name) {
+		end(started, name);
+	}
+
+	static Object beginLoader() {
+		return begin(LOADER_FACTORY);
+	}
+
+	static void endLoader(Object started, StartupReport.LoaderRun run) {
+		end(started, run.getLoaderType(), run.getLoaderDescription(), run.getValuesFound(),
+				run.getValuesShadowed(), run.getProblemCount(), run.getBytesRead());
+	}
+
+	private static Object begin(Object factory) {
+		if (factory == null) {
+			return null;
+		}
+
+		try {
+			Object event = NEW_EVENT.invoke(factory);
+			BEGIN.invoke(event);
+			return event;
+		} catch (Exception e) {
+			return null;	//Not worth failing startup over
+		}
+	}
+
+	private static void end(Object event, Object... values) {
+		if (event == null) {
+			return;
+		}
+
+		try {
+			END.invoke(event);
+
+			if ((Boolean) SHOULD_COMMIT.invoke(event)) {
+				for (int i = 0; i < values.length; i++) {
+					SET.invoke(event, i, values[i]);
+				}
+
+				COMMIT.invoke(event);
+			}
+		} catch (Exception e) {
+			//Not worth failing startup over
+		}
+	}
+}
@@ -14,6 +14,9 @@ public abstract class LoaderProblem implements Problem {
 	/** The Property that actually has the problem */
 	protected LoaderValueCoord badValueCoord;
 	
+	/** The specific source the problem was found in, if the loader reads several */
+	protected String sourcePath;
+	
 	/**
 	 * The Property that has the problem.
 	 * 
@@ -23,6 +26,25 @@ public abstract class LoaderProblem implements Problem {
 		return badValueCoord;
 	}
 	
+	/**
+	 * The specific source, such as one file of several read by a loader,
+	 * where the problem was found.
+	 * 
+	 * @return May return null if the loader's description is specific enough.
+	 */
+	public String getSourcePath() {
+		return sourcePath;
+	}
+	
+	/**
+	 * Sets the specific source where the problem was found, for loaders that
+	 * read from more than one source.
+	 * 
+	 * @param sourcePath The path or other description of the source.
+	 */
+	public void setSourcePath(String sourcePath) {
+		this.sourcePath = sourcePath;
+	}
 		
 	@Override
 	public String getFullMessage() {
@@ -32,6 +54,20 @@ public abstract class LoaderProblem implements Problem {
 	@Override
 	public String getProblemContext() {
 		
+		if (sourcePath != null) {
+			return TextUtil.format("{} (in {})", getLoaderContext(), sourcePath);
+		} else {
+			return getLoaderContext();
+		}
+	}
+	
+	/**
+	 * The context of the problem based on the loader and the Property.
+	 * 
+	 * @return 
+	 */
+	protected String getLoaderContext() {
+		
 		String loadDesc = null;
 		String loadName = null;
 		String propName = null;
@@ -82,6 +118,7 @@ public abstract class LoaderProblem implements Problem {
 		public IOLoaderProblem(Loader loader, Exception exception, String resourcePath) {
 			badValueCoord = new LoaderValueCoord(loader, null, null);
 			this.exception = exception;
+			this.resourcePath = resourcePath;
 		}
 		
 		@Override
@@ -155,6 +192,21 @@ public abstract class LoaderProblem implements Problem {
 		}
 	}
 	
+	public static class IncompatibleSourceLoaderProblem extends LoaderProblem {
+
+		String message;
+		
+		public IncompatibleSourceLoaderProblem(Loader loader, String message) {
+			badValueCoord = new LoaderValueCoord(loader, null, null);
+			this.message = message;
+		}
+		
+		@Override
+		public String getProblemDescription() {
+			return "The source was not created for the Properties of this application: " + message;
+		}
+	}
+	
 	public static class JndiContextLoaderProblem extends LoaderProblem {
 
 		public JndiContextLoaderProblem(Loader loader) {
@@ -207,4 +259,46 @@ public abstract class LoaderProblem implements Problem {
 		}
 	}
 	
+	/**
+	 * A problem w/ a DerivedProperty, which is either configured directly or
+	 * cannot be derived from its inputs.
+	 */
+	public static class DerivedValueLoaderProblem extends LoaderProblem {
+		String message;
+		
+		public DerivedValueLoaderProblem(
+				Loader loader, Class<?> group, Property prop, 
+				String message) {
+			
+			badValueCoord = new LoaderValueCoord(loader, group, prop);
+			this.message = message;
+		}
+
+		@Override
+		public String getProblemDescription() {
+			return message;
+		}
+	}
+	
+	/**
+	 * A problem resolving the {@code ${...}} references in a value, such as a
+	 * reference to an unknown Property or a cycle of references.
+	 */
+	public static class ReferenceLoaderProblem extends LoaderProblem {
+		String message;
+		
+		public ReferenceLoaderProblem(
+				Loader loader, Class<?> group, Property prop, 
+				String message) {
+			
+			badValueCoord = new LoaderValueCoord(loader, group, prop);
+			this.message = message;
+		}
+
+		@Override
+		public String getProblemDescription() {
+			return message;
+		}
+	}
+	
 }
@@ -0,0 +1,163 @@
+package org.yarnandtail.andhow.internal;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import org.yarnandtail.andhow.api.*;
+
+/**
+ * Validates the values loaded by a single Loader, possibly in parallel with
+ * other work such as running the next Loader.
+ * <p>
+ * Validation is started via {@link #start()} as soon as a Loader returns its
+ * values.  Loaders with many values are validated as a fork-join task in the
+ * common pool, split across ranges of values.  Loaders with few values are
+ * validated immediately on the calling thread, since that is cheaper than
+ * handing off the work.
+ * <p>
+ * Problems are found in the background, but are only reported when
+ * {@link #finish(org.yarnandtail.andhow.api.ProblemList)} is called.  That
+ * method adds each Problem to its ValidatedValue and to the ProblemList on the
+ * calling thread, in value order, so the order of reported Problems does not
+ * depend on which values were validated first.  Calling finish() for each
+ * Loader in Loader order results in the same Problem order as validating all
+ * values sequentially.
+ * <p>
+ * Validators are called from pool threads, so they must be thread safe, which
+ * is true of all the Validators provided by AndHow.
+ *
+ * @author eeverman
+ */
+public class LoaderValuesValidation {
+
+	/** Loaders w/ fewer values than this are validated on the calling thread */
+	public static final int PARALLEL_THRESHOLD = 64;
+
+	/** The number of values validated by a single fork-join leaf task */
+	static final int VALUES_PER_TASK = 32;
+
+	private final StaticPropertyConfigurationInternal config;
+	private final Loader loader;
+	private final List<ValidatedValue> values;
+
+	/** Problems for each value, by value index.  null for valid values. */
+	private final List<ValueProblem>[] problemsByValue;
+
+	private RangeTask task;
+
+	/**
+	 * New instance.  Validation does not begin until start() is called.
+	 *
+	 * @param config The configuration the values were loaded for.
+	 * @param loaderValues The values loaded by a single Loader.
+	 */
+	public LoaderValuesValidation(StaticPropertyConfigurationInternal config, LoaderValues loaderValues) {
+		this.config = config;
+		this.loader = loaderValues.getLoader();
+		this.values = loaderValues.getValues();
+		this.problemsByValue = new List[values.size()];
+	}
+
+	/**
+	 * Begin validation, which is complete before this method returns if there
+	 * are only a few values.
+	 *
+	 * @return this instance, for chaining.
+	 */
+	public LoaderValuesValidation start() {
+		if (task == null) {
+			task = new RangeTask(0, values.size());
+
+			if (values.size() < PARALLEL_THRESHOLD) {
+				task.invoke();
+			} else {
+				ForkJoinPool.commonPool().execute(task);
+			}
+		}
+
+		return this;
+	}
+
+	/**
+	 * Wait for validation to complete, then record the Problems found.
+	 * <p>
+	 * Each Problem is added to its ValidatedValue and to the passed list, in
+	 * value order.  This must only be called once.
+	 *
+	 * @param problems The list to add Problems to.
+	 */
+	public void finish(ProblemList<Problem> problems) {
+		start();
+		task.join();
+
+		for (int i = 0; i < problemsByValue.length; i++) {
+			if (problemsByValue[i] != null) {
+				ValidatedValue value = values.get(i);
+
+				for (ValueProblem p : problemsByValue[i]) {
+					value.addProblem(p);
+					problems.add(p);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Finds the Problems with a single value.
+	 *
+	 * @param <T> The shared type of the Property and Value.
+	 * @param propValue The Property and its value, both of type 'T'.
+	 * @return A list of Problems or null if the value is valid.
+	 */
+	protected <T> List<ValueProblem> validate(ValidatedValue<T> propValue) {
+
+		if (propValue.getValue() instanceof UnresolvedValue) {
+			return null;	//Validated once resolved
+		}
+
+		Property<T> prop = propValue.getProperty();
+		FusedValidator<T> validator = FusedValidator.forProperty(prop);
+
+		if (validator.isValid(propValue.getValue())) {
+			return null;
+		}
+
+		List<ValueProblem> found = new ArrayList();
+
+		for (Validator<T> v : validator.getFailedValidators(propValue.getValue())) {
+			found.add(new ValueProblem.InvalidValueProblem(loader,
+					config.getGroupForProperty(prop).getProxiedGroup(),
+					prop, propValue.getValue(), v));
+		}
+
+		return found;
+	}
+
+	/**
+	 * Validates a range of values, splitting the range in half until it is
+	 * small enough to validate directly.  Each value's results are written to
+	 * its own slot of problemsByValue, so no coordination is needed.
+	 */
+	private class RangeTask extends RecursiveAction {
+		private final int from;
+		private final int to;
+
+		RangeTask(int from, int to) {
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= VALUES_PER_TASK) {
+				for (int i = from; i < to; i++) {
+					problemsByValue[i] = validate(values.get(i));
+				}
+			} else {
+				int mid = (from + to) >>> 1;
+				invokeAll(new RangeTask(from, mid), new RangeTask(mid, to));
+			}
+		}
+	}
+
+}
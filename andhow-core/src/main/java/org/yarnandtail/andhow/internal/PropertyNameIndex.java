@@ -0,0 +1,323 @@
+package org.yarnandtail.andhow.internal;
+
+import java.util.*;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.util.StringPool;
+
+/**
+ * Finds Properties by their effective 'in' names and the canonical name and
+ * group of each Property.
+ * <p>
+ * Canonical names are not stored as full Strings.  A Property declared in a
+ * group is recorded as its group, which already holds the group canonical name,
+ * and its name within the group, so the group prefix is shared by all of the
+ * group's Properties rather than copied into each canonical name.  The full
+ * canonical name is only built the first time it is requested, then kept.
+ * Effective canonical names used for lookup are split the same way, into an
+ * open addressed table of effective group and member names.  The table is
+ * probed w/ the hash of each part of the name, so a lookup does not create
+ * substrings.
+ * <p>
+ * Aliases, and any canonical name that is not of the form
+ * {@code [group canonical name].[member name]}, are stored as full Strings.
+ * <p>
+ * An instance is mutable while a StaticPropertyConfigurationMutable is built,
+ * then copied to an unmodifiable instance.  Names are deduplicated via a
+ * StringPool while building, which is discarded by the copy.
+ *
+ * @author eeverman
+ */
+public class PropertyNameIndex {
+
+	private final Map<String, Property<?>> propertiesByEffectiveName;
+	private final Map<Property<?>, MemberName> namesByProperty;
+
+	//Table of split effective canonical names:  The same slot in each array
+	private String[] splitGroups;
+	private String[] splitMembers;
+	private Property<?>[] splitProperties;
+	private int splitCount;
+
+	private final StringPool pool;	//null once immutable
+
+	/**
+	 * New mutable instance.
+	 */
+	public PropertyNameIndex() {
+		propertiesByEffectiveName = new HashMap();
+		namesByProperty = new HashMap();
+		pool = new StringPool();
+
+		splitGroups = new String[16];
+		splitMembers = new String[16];
+		splitProperties = new Property<?>[16];
+	}
+
+	/**
+	 * New unmodifiable copy of an index.
+	 *
+	 * @param source The index to copy
+	 */
+	protected PropertyNameIndex(PropertyNameIndex source) {
+
+		propertiesByEffectiveName = Collections.unmodifiableMap(new HashMap(source.propertiesByEffectiveName));
+
+		splitGroups = source.splitGroups.clone();
+		splitMembers = source.splitMembers.clone();
+		splitProperties = source.splitProperties.clone();
+		splitCount = source.splitCount;
+
+		namesByProperty = Collections.unmodifiableMap(new HashMap(source.namesByProperty));
+		pool = null;
+	}
+
+	/**
+	 * An unmodifiable, detached copy of this index.
+	 *
+	 * @return A new instance
+	 */
+	public PropertyNameIndex toImmutable() {
+		return new PropertyNameIndex(this);
+	}
+
+	/**
+	 * Record the canonical name of a Property.
+	 *
+	 * @param property The Property
+	 * @param group The group containing the Property
+	 * @param canonicalName The canonical name of the Property
+	 * @param effectiveCanonicalName The effective 'in' version of the canonical name
+	 * @param naming The naming strategy that created the effective name
+	 */
+	public void addCanonicalName(Property<?> property, GroupProxy group,
+			String canonicalName, String effectiveCanonicalName, NamingStrategy naming) {
+
+		String groupName = group.getCanonicalName();
+		int glen = (groupName != null)? groupName.length() : -1;
+
+		if (glen > 0 && canonicalName.length() > glen + 1 &&
+				canonicalName.startsWith(groupName) && canonicalName.charAt(glen) == '.' &&
+				canonicalName.indexOf('.', glen + 1) < 0) {
+
+			String member = canonicalName.substring(glen + 1);
+			String simpleName = group.getSimpleName(property);
+
+			//Share the instance the group already holds, if it is the same
+			member = (member.equals(simpleName))? simpleName : pool.intern(member);
+
+			String effGroup = pool.intern(naming.toEffectiveName(groupName));
+			String effMember = pool.intern(naming.toEffectiveName(member));
+
+			if ((effGroup + "." + effMember).equals(effectiveCanonicalName)) {
+
+				putSplit(effGroup, effMember, property);
+				namesByProperty.put(property, new MemberName(group, member, true, namesByProperty.size()));
+				return;
+			}
+		}
+
+		//Can't split the name - store it in full
+		propertiesByEffectiveName.put(pool.intern(effectiveCanonicalName), property);
+		namesByProperty.put(property, new MemberName(group, pool.intern(canonicalName), false, namesByProperty.size()));
+	}
+
+	/**
+	 * Record an additional effective 'in' name, such as an alias, for a Property.
+	 *
+	 * @param property The Property
+	 * @param effectiveName The effective 'in' name
+	 */
+	public void addEffectiveName(Property<?> property, String effectiveName) {
+		propertiesByEffectiveName.put(pool.intern(effectiveName), property);
+	}
+
+	/**
+	 * Find a Property by any of its effective 'in' names.
+	 *
+	 * @param effectiveName An effective name, as returned by the NamingStrategy
+	 * @return The Property or null if not found.
+	 */
+	public Property<?> getProperty(String effectiveName) {
+		if (effectiveName == null) return null;
+
+		Property<?> prop = propertiesByEffectiveName.get(effectiveName);
+
+		if (prop == null) {
+			prop = getSplit(effectiveName);
+		}
+
+		return prop;
+	}
+
+	/**
+	 * The canonical name of a Property, which is built from the group name
+	 * and member name the first time it is requested.
+	 *
+	 * @param property The Property
+	 * @return The canonical name or null if the Property is not in the index.
+	 */
+	public String getCanonicalName(Property<?> property) {
+		MemberName mn = namesByProperty.get(property);
+		return (mn != null)? mn.getCanonicalName() : null;
+	}
+
+	/**
+	 * The group a Property was registered with.
+	 *
+	 * @param property The Property
+	 * @return The group or null if the Property is not in the index.
+	 */
+	public GroupProxy getGroup(Property<?> property) {
+		MemberName mn = namesByProperty.get(property);
+		return (mn != null)? mn.group : null;
+	}
+
+	/**
+	 * The position of a Property in the order Properties were added to the index,
+	 * which is also its position in the list of all registered Properties.
+	 *
+	 * @param property The Property
+	 * @return The zero based ordinal or -1 if the Property is not in the index.
+	 */
+	public int getOrdinal(Property<?> property) {
+		MemberName mn = namesByProperty.get(property);
+		return (mn != null)? mn.ordinal : -1;
+	}
+
+	public boolean containsProperty(Property<?> property) {
+		return namesByProperty.containsKey(property);
+	}
+
+	/**
+	 * Find a Property by an effective canonical name that was split into its
+	 * effective group and member names.
+	 *
+	 * @param effectiveName An effective name, as returned by the NamingStrategy
+	 * @return The Property or null if not found.
+	 */
+	private Property<?> getSplit(String effectiveName) {
+		int dot = effectiveName.lastIndexOf('.');
+
+		if (dot < 1) return null;
+
+		int len = effectiveName.length();
+		int mask = splitGroups.length - 1;
+		int i = hash(hash(effectiveName, 0, dot), hash(effectiveName, dot + 1, len)) & mask;
+
+		for (String group = splitGroups[i]; group != null; group = splitGroups[i]) {
+			String member = splitMembers[i];
+
+			if (group.length() == dot && member.length() == len - dot - 1 &&
+					effectiveName.startsWith(group) && effectiveName.endsWith(member)) {
+
+				return splitProperties[i];
+			}
+
+			i = (i + 1) & mask;
+		}
+
+		return null;
+	}
+
+	/**
+	 * Adds or replaces the Property for a split effective canonical name,
+	 * growing the table to keep it at most half full.
+	 */
+	private void putSplit(String effGroup, String effMember, Property<?> property) {
+
+		if ((splitCount + 1) * 2 > splitGroups.length) {
+			String[] groups = splitGroups;
+			String[] members = splitMembers;
+			Property<?>[] props = splitProperties;
+
+			splitGroups = new String[groups.length * 2];
+			splitMembers = new String[groups.length * 2];
+			splitProperties = new Property<?>[groups.length * 2];
+			splitCount = 0;
+
+			for (int i = 0; i < groups.length; i++) {
+				if (groups[i] != null) putSplit(groups[i], members[i], props[i]);
+			}
+		}
+
+		int mask = splitGroups.length - 1;
+		int i = hash(effGroup.hashCode(), effMember.hashCode()) & mask;
+
+		while (splitGroups[i] != null) {
+			if (splitGroups[i].equals(effGroup) && splitMembers[i].equals(effMember)) {
+				splitProperties[i] = property;
+				return;
+			}
+
+			i = (i + 1) & mask;
+		}
+
+		splitGroups[i] = effGroup;
+		splitMembers[i] = effMember;
+		splitProperties[i] = property;
+		splitCount++;
+	}
+
+	/**
+	 * Same as String.hashCode() for the substring from start to end, w/o
+	 * creating the substring.
+	 */
+	private static int hash(String str, int start, int end) {
+		int h = 0;
+		for (int i = start; i < end; i++) {
+			h = 31 * h + str.charAt(i);
+		}
+		return h;
+	}
+
+	/**
+	 * Combines the hashes of the two parts of a name and mixes the bits, since
+	 * names such as PROP_1, PROP_2 have consecutive hashes, which would form
+	 * long runs of filled slots in a linear probed table.
+	 */
+	private static int hash(int groupHash, int memberHash) {
+		int h = groupHash * 31 + memberHash;
+		h ^= h >>> 16;
+		h *= 0x85ebca6b;
+		h ^= h >>> 13;
+		h *= 0xc2b2ae35;
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * A Property's group, its name within the group or, if inGroup is
+	 * false, its full canonical name, and its ordinal.
+	 */
+	static final class MemberName {
+		final GroupProxy group;
+		final String name;
+		final boolean inGroup;
+		final int ordinal;
+		private String canonicalName;	//Built on first use
+
+		MemberName(GroupProxy group, String name, boolean inGroup, int ordinal) {
+			this.group = group;
+			this.name = name;
+			this.inGroup = inGroup;
+			this.ordinal = ordinal;
+		}
+
+		/**
+		 * The full canonical name, built the first time it is requested.
+		 * <p>
+		 * A race may build it more than once, but each thread sees an equal
+		 * String, so no synchronization is needed.
+		 */
+		String getCanonicalName() {
+			String cn = canonicalName;
+
+			if (cn == null) {
+				cn = (inGroup)? group.getCanonicalName() + "." + name : name;
+				canonicalName = cn;
+			}
+
+			return cn;
+		}
+	}
+
+}
@@ -0,0 +1,228 @@
+package org.yarnandtail.andhow.internal;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.LoaderProblem.DuplicatePropertyLoaderProblem;
+
+/**
+ * Receives the values found by a single Loader as they are found.
+ * <p>
+ * AndHow creates one sink for each Loader, sized to the number of registered
+ * Properties.  Each value is stored in the slot for its Property's ordinal
+ * (see {@link StaticPropertyConfigurationInternal#getPropertyOrdinal(Property)}),
+ * so finding a second value for the same Property is a single array lookup
+ * rather than a search of the values found so far.
+ * <p>
+ * Values are kept in the order they are pushed and the LoaderValues built by
+ * {@link #toLoaderValues()} wraps them w/o another copy.
+ * <p>
+ * A sink is used by a single thread and only for a single load.
+ *
+ * @author eeverman
+ */
+public class PropertyValueSink {
+
+	private final StaticPropertyConfigurationInternal config;
+	private final Loader loader;
+
+	/** Values indexed by Property ordinal */
+	private final ValidatedValue[] slots;
+
+	/** Values in the order they were pushed */
+	private final ValidatedValue[] pushed;
+	private int count;
+
+	private final ProblemList<Problem> problems = new ProblemList();
+
+	private long bytesRead;
+
+	/**
+	 * New instance for the values of one Loader.
+	 *
+	 * @param config The configuration being loaded, which provides the ordinals.
+	 * @param loader The Loader pushing values into this sink.
+	 */
+	public PropertyValueSink(StaticPropertyConfigurationInternal config, Loader loader) {
+
+		if (loader == null) {
+			throw new RuntimeException("The loader cannot be null");
+		}
+
+		this.config = config;
+		this.loader = loader;
+
+		int size = config.getProperties().size();
+		slots = new ValidatedValue[size];
+		pushed = new ValidatedValue[size];
+	}
+
+	/**
+	 * Adds a value, recording a DuplicatePropertyLoaderProblem if this
+	 * Loader already pushed a value for the same Property.
+	 *
+	 * @param value The value to add
+	 * @return True if added, false if it was a duplicate.
+	 */
+	public boolean put(ValidatedValue value) {
+		return put(ordinalOf(value.getProperty()), value);
+	}
+
+	/**
+	 * Adds a value for a Property at a known ordinal, recording a
+	 * DuplicatePropertyLoaderProblem if this Loader already pushed a value
+	 * for the same Property.
+	 *
+	 * @param ordinal The ordinal of the value's Property
+	 * @param value The value to add
+	 * @return True if added, false if it was a duplicate.
+	 */
+	public boolean put(int ordinal, ValidatedValue value) {
+		if (slots[ordinal] == null) {
+			store(ordinal, value);
+			return true;
+		} else {
+			Property<?> prop = value.getProperty();
+			problems.add(new DuplicatePropertyLoaderProblem(
+					loader, config.getGroupForProperty(prop).getProxiedGroup(), prop));
+			return false;
+		}
+	}
+
+	/**
+	 * Adds a value only if no value has been pushed for its Property, w/o
+	 * recording a Problem for a duplicate.
+	 *
+	 * @param value The value to add
+	 * @return True if added, false if a value was already present.
+	 */
+	public boolean putIfAbsent(ValidatedValue value) {
+		return putIfAbsent(ordinalOf(value.getProperty()), value);
+	}
+
+	/**
+	 * Adds a value for a Property at a known ordinal only if no value has been
+	 * pushed for that Property, w/o recording a Problem for a duplicate.
+	 *
+	 * @param ordinal The ordinal of the value's Property
+	 * @param value The value to add
+	 * @return True if added, false if a value was already present.
+	 */
+	public boolean putIfAbsent(int ordinal, ValidatedValue value) {
+		if (slots[ordinal] == null) {
+			store(ordinal, value);
+			return true;
+		} else {
+			return false;
+		}
+	}
+
+	/**
+	 * True if a value has already been pushed for the Property.
+	 *
+	 * @param prop The Property to check
+	 * @return
+	 */
+	public boolean contains(Property<?> prop) {
+		int ordinal = config.getPropertyOrdinal(prop);
+		return ordinal > -1 && slots[ordinal] != null;
+	}
+
+	/**
+	 * The value pushed for a Property.
+	 *
+	 * @param ordinal The ordinal of the Property
+	 * @return The value or null if none was pushed.
+	 */
+	public ValidatedValue get(int ordinal) {
+		return slots[ordinal];
+	}
+
+	/**
+	 * The number of values pushed.
+	 *
+	 * @return
+	 */
+	public int size() {
+		return count;
+	}
+
+	/**
+	 * Records a loader level Problem.
+	 *
+	 * @param problem
+	 */
+	public void addProblem(Problem problem) {
+		problems.add(problem);
+	}
+
+	/**
+	 * The Problems recorded so far, which may be added to directly.
+	 *
+	 * @return Never null
+	 */
+	public ProblemList<Problem> getProblems() {
+		return problems;
+	}
+
+	/**
+	 * Records bytes read from the source of the Loader, for startup reporting.
+	 *
+	 * @param count The number of bytes read
+	 */
+	public void addBytesRead(long count) {
+		bytesRead += count;
+	}
+
+	/**
+	 * The number of bytes the Loader reported reading.
+	 *
+	 * @return The number of bytes or zero if none were reported.
+	 */
+	public long getBytesRead() {
+		return bytesRead;
+	}
+
+	public Loader getLoader() {
+		return loader;
+	}
+
+	public StaticPropertyConfigurationInternal getConfig() {
+		return config;
+	}
+
+	/**
+	 * Builds the LoaderValues for the pushed values and recorded Problems.
+	 *
+	 * @return The values in push order and the Problems.
+	 */
+	public LoaderValues toLoaderValues() {
+		List<ValidatedValue> values;
+
+		if (count == 0) {
+			values = LoaderValues.EMPTY_PROP_VALUE_LIST;
+		} else if (count == pushed.length) {
+			values = Collections.unmodifiableList(Arrays.asList(pushed));
+		} else {
+			values = Collections.unmodifiableList(Arrays.asList(Arrays.copyOf(pushed, count)));
+		}
+
+		return LoaderValues.wrap(loader, values, problems, bytesRead);
+	}
+
+	private void store(int ordinal, ValidatedValue value) {
+		slots[ordinal] = value;
+		pushed[count++] = value;
+	}
+
+	private int ordinalOf(Property<?> prop) {
+		int ordinal = config.getPropertyOrdinal(prop);
+
+		if (ordinal < 0) {
+			throw new IllegalArgumentException("The Property is not registered with AndHow: " + prop);
+		}
+
+		return ordinal;
+	}
+}
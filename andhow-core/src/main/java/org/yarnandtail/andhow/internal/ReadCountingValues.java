@@ -0,0 +1,138 @@
+package org.yarnandtail.andhow.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import org.yarnandtail.andhow.api.*;
+
+/**
+ * Wraps the loaded values to count the reads of each Property's value.
+ * <p>
+ * Used by AndHowCore when Options.COUNT_PROPERTY_READS is set.  Each
+ * Property has a LongAdder, indexed by the Property's ordinal, so reads from
+ * many threads update separate cells rather than contending on one counter.
+ * When the option is not set this class is not used at all, so reads cost
+ * nothing extra.
+ * <p>
+ * Calls to getValue() and getExplicitValue() are counted, which is how
+ * {@code Property.getValue()} reads values.  All other calls are passed
+ * through uncounted.
+ *
+ * @author eeverman
+ */
+public class ReadCountingValues implements ValidatedValuesWithContext {
+
+	private final StaticPropertyConfigurationInternal config;
+	private final ValidatedValuesWithContext values;
+	private final LongAdder[] counts;
+	private final long startNanos;
+
+	public ReadCountingValues(StaticPropertyConfigurationInternal config, ValidatedValuesWithContext values) {
+		this.config = config;
+		this.values = values;
+
+		counts = new LongAdder[config.getProperties().size()];
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] = new LongAdder();
+		}
+
+		startNanos = System.nanoTime();
+	}
+
+	private void count(Property<?> prop) {
+		int ordinal = config.getPropertyOrdinal(prop);
+
+		if (ordinal > -1) {
+			counts[ordinal].increment();
+		}
+	}
+
+	/**
+	 * The reads counted so far.
+	 *
+	 * @return A new report
+	 */
+	public PropertyReadReport getReport() {
+		long elapsed = System.nanoTime() - startNanos;
+		List<Property<?>> props = config.getProperties();
+		List<PropertyReadReport.PropertyReads> reads = new ArrayList(props.size());
+
+		for (int i = 0; i < props.size(); i++) {
+			reads.add(new PropertyReadReport.PropertyReads(
+					props.get(i), config.getCanonicalName(props.get(i)), counts[i].sum()));
+		}
+
+		return new PropertyReadReport(elapsed, reads);
+	}
+
+	/**
+	 * The reads counted so far of each Property, by Property ordinal.
+	 *
+	 * @return A new array
+	 */
+	public long[] getCounts() {
+		long[] sums = new long[counts.length];
+
+		for (int i = 0; i < counts.length; i++) {
+			sums[i] = counts[i].sum();
+		}
+
+		return sums;
+	}
+
+	/**
+	 * The wrapped values
+	 *
+	 * @return
+	 */
+	public ValidatedValuesWithContext getValues() {
+		return values;
+	}
+
+	@Override
+	public <T> T getExplicitValue(Property<T> prop) {
+		count(prop);
+		return values.getExplicitValue(prop);
+	}
+
+	@Override
+	public <T> T getValue(Property<T> prop) {
+		count(prop);
+		return values.getValue(prop);
+	}
+
+	@Override
+	public boolean isExplicitlySet(Property<?> prop) {
+		return values.isExplicitlySet(prop);
+	}
+
+	@Override
+	public boolean hasProblems() {
+		return values.hasProblems();
+	}
+
+	@Override
+	public List<LoaderValues> getAllLoaderValues() {
+		return values.getAllLoaderValues();
+	}
+
+	@Override
+	public LoaderValues getAllValuesLoadedByLoader(Loader loader) {
+		return values.getAllValuesLoadedByLoader(loader);
+	}
+
+	@Override
+	public LoaderValues getEffectiveValuesLoadedByLoader(Loader loader) {
+		return values.getEffectiveValuesLoadedByLoader(loader);
+	}
+
+	@Override
+	public ValidatedValues getValueMapImmutable() {
+		return values.getValueMapImmutable();
+	}
+
+	@Override
+	public ValidatedValuesWithContext getValueMapWithContextImmutable() {
+		return values.getValueMapWithContextImmutable();
+	}
+}
@@ -0,0 +1,367 @@
+package org.yarnandtail.andhow.internal;
+
+import java.io.*;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.jar.JarEntry;
+import java.util.zip.CRC32;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.util.AndHowLog;
+import org.yarnandtail.andhow.util.AndHowUtil;
+import org.yarnandtail.andhow.util.TextUtil;
+
+/**
+ * An optional, on disk cache of the resolved registry of Properties, so that
+ * later starts can skip naming and checking every Property.
+ * <p>
+ * On each start, every registered Property is named by the NamingStrategy and
+ * checked for duplicate names, invalid validation configuration and invalid
+ * default values.  The results only change when code changes, so when enabled,
+ * the names of each Property and the groups w/ exporters are written to a
+ * cache file after a start that has no problems.  Later starts memory map the
+ * file and add each Property to the registry w/ its cached names, w/o naming
+ * or checking it again.  The Properties themselves are still found via the
+ * registered groups, since they are static fields of application classes.
+ * <p>
+ * The cache file is keyed by a fingerprint of the registered group classes,
+ * the checksums of their class files and the NamingStrategy (see
+ * {@link #fingerprint(List, NamingStrategy)}).  If the fingerprint differs, or
+ * the file is missing or corrupt, the registry is built the normal way and the
+ * file is rewritten.
+ * <p>
+ * The cache is disabled by default.  Enable it by setting the JVM system
+ * property {@code org.yarnandtail.andhow.internal.RegistryCache.file} to the
+ * path of the cache file.  The file is replaced atomically, so multiple JVMs
+ * may share it.  Failure to read or write the file is logged, never fatal.
+ *
+ * @author eeverman
+ */
+public final class RegistryCache {
+
+	private static final AndHowLog LOG = AndHowLog.getLogger(RegistryCache.class);
+
+	/** JVM system property containing the path of the cache file */
+	public static final String FILE_PROPERTY = RegistryCache.class.getCanonicalName() + ".file";
+
+	/** 'A' 'H' 'R' 'C' */
+	static final int MAGIC = 0x41485243;
+
+	static final short FORMAT_VERSION = 1;
+
+	private static final byte FLAG_IN = 1;
+	private static final byte FLAG_OUT = 2;
+
+	/** Size of the array names are read through, which fits nearly all names */
+	private static final int SCRATCH_SIZE = 512;
+
+	private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private RegistryCache() {
+		//no instances
+	}
+
+	/**
+	 * The cache file set via the {@link #FILE_PROPERTY} system property.
+	 *
+	 * @return The path or null if the cache is disabled.
+	 */
+	public static Path getCacheFile() {
+		String path = System.getProperty(FILE_PROPERTY);
+
+		if (path != null && path.trim().length() > 0) {
+			return Paths.get(path.trim());
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * A fingerprint of everything the cached registry is derived from.
+	 *
+	 * This covers the NamingStrategy and, for each group in order, its names,
+	 * the checksum of the class file of the group and the field name and
+	 * class of each of its Properties.  Aliases, defaults and validation are
+	 * declared in the static initializer of the group, so a change to them
+	 * changes the class file checksum w/o reading each Property.  A value
+	 * read from a non-constant field of another class is not covered:  Delete
+	 * the cache file if such a value changes.
+	 *
+	 * @param groups All groups, in the order they are registered
+	 * @param naming The naming strategy
+	 * @return A 64 bit FNV-1a hash.
+	 * @throws Exception If the groups cannot be read
+	 */
+	public static long fingerprint(List<GroupProxy> groups, NamingStrategy naming) throws Exception {
+		long hash = hash(FNV_OFFSET, naming.getClass().getName());
+		Map<String, Long> checksums = new HashMap();
+
+		for (GroupProxy group : groups) {
+			String javaName = group.getJavaCanonicalName();
+			Long checksum = checksums.get(javaName);
+
+			if (checksum == null) {
+				checksum = getClassFileChecksum(group.getProxiedGroup());
+				checksums.put(javaName, checksum);
+			}
+
+			hash = hash(hash, group.getCanonicalName());
+			hash = hash(hash, javaName);
+			hash = hash(hash, String.valueOf(group.isUserGroup()));
+			hash = hash(hash, Long.toHexString(checksum));
+
+			for (NameAndProperty nap : group.getProperties()) {
+				hash = hash(hash, nap.fieldName);
+				hash = hash(hash, nap.property.getClass().getName());
+			}
+		}
+
+		return hash;
+	}
+
+	/**
+	 * The CRC-32 of the class file of a class.
+	 *
+	 * For a class in a jar, this is the CRC recorded in the jar directory, so
+	 * the class file is not read.  Otherwise the class file is read.
+	 *
+	 * @param type The class
+	 * @return The checksum, or -1 if the class file is not found.
+	 * @throws IOException If the class file cannot be read
+	 */
+	static long getClassFileChecksum(Class<?> type) throws IOException {
+		String resource = type.getName().replace('.', '/') + ".class";
+		ClassLoader loader = type.getClassLoader();
+		URL url = (loader != null)? loader.getResource(resource) : ClassLoader.getSystemResource(resource);
+
+		if (url == null) {
+			return -1L;
+		}
+
+		URLConnection conn = url.openConnection();
+
+		if (conn instanceof JarURLConnection) {
+			JarEntry entry = ((JarURLConnection) conn).getJarEntry();
+
+			if (entry != null && entry.getCrc() > -1L) {
+				return entry.getCrc();
+			}
+		}
+
+		CRC32 crc = new CRC32();
+
+		try (InputStream in = conn.getInputStream()) {
+			byte[] buffer = new byte[8192];
+
+			for (int len = in.read(buffer); len > -1; len = in.read(buffer)) {
+				crc.update(buffer, 0, len);
+			}
+		}
+
+		return crc.getValue();
+	}
+
+	private static long hash(long hash, String str) {
+		if (str != null) {
+			for (int i = 0; i < str.length(); i++) {
+				hash ^= str.charAt(i);
+				hash *= FNV_PRIME;
+			}
+		}
+
+		hash ^= 0xFFFF;	//A non-character separator, so ('ab', 'c') and ('a', 'bc') differ
+		hash *= FNV_PRIME;
+		return hash;
+	}
+
+	/**
+	 * Restores a registry from a cache file.
+	 *
+	 * @param file The cache file
+	 * @param groups All groups, in the order they are registered
+	 * @param naming The naming strategy
+	 * @return The registry, or null if the file is missing, stale or corrupt.
+	 */
+	public static StaticPropertyConfigurationMutable read(Path file,
+			List<GroupProxy> groups, NamingStrategy naming) {
+
+		if (! Files.isRegularFile(file)) {
+			return null;
+		}
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+
+			ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+			if (buffer.getInt() != MAGIC || buffer.getShort() != FORMAT_VERSION) {
+				LOG.debug("Ignoring the registry cache {0}: Not a cache file of this version", file);
+				return null;
+			}
+
+			buffer.getShort();	//reserved
+
+			if (buffer.getLong() != fingerprint(groups, naming)) {
+				LOG.debug("Ignoring the registry cache {0}: The registered Properties have changed", file);
+				return null;
+			}
+
+			StaticPropertyConfigurationMutable appDef = new StaticPropertyConfigurationMutable(naming);
+			byte[] scratch = new byte[SCRATCH_SIZE];
+
+			for (GroupProxy group : groups) {
+				for (NameAndProperty nap : group.getProperties()) {
+					EffectiveName canon = readName(buffer, scratch);
+
+					int aliasCount = buffer.getInt();
+					List<EffectiveName> aliases = new ArrayList(aliasCount);
+
+					for (int i = 0; i < aliasCount; i++) {
+						aliases.add(readName(buffer, scratch));
+					}
+
+					appDef.addCheckedProperty(group, nap.property, new PropertyNaming(canon, aliases));
+				}
+			}
+
+			int exportGroupCount = buffer.getInt();
+
+			for (int i = 0; i < exportGroupCount; i++) {
+				GroupProxy group = groups.get(buffer.getInt());
+
+				for (Exporter e : AndHowUtil.getExporters(group)) {
+					appDef.addExportGroup(new ExportGroup(e, group));
+				}
+			}
+
+			if (buffer.hasRemaining()) {
+				throw new IllegalArgumentException("Unexpected data at the end of the file");
+			}
+
+			return appDef;
+
+		} catch (Exception e) {
+			//IO, a corrupt file or anything else is a reason to rebuild, not to fail
+			LOG.warn(TextUtil.format("Ignoring the registry cache {}: {}", file, e));
+			return null;
+		}
+	}
+
+	private static EffectiveName readName(ByteBuffer buffer, byte[] scratch) {
+		String actual = readString(buffer, scratch);
+		String effectiveIn = readString(buffer, scratch);
+		byte flags = buffer.get();
+		return new EffectiveName(actual, effectiveIn, (flags & FLAG_IN) != 0, (flags & FLAG_OUT) != 0);
+	}
+
+	/**
+	 * Reads a String via a scratch array, so only the String is created.  The
+	 * rare String longer than the scratch array uses an array of its own.
+	 */
+	private static String readString(ByteBuffer buffer, byte[] scratch) {
+		int len = buffer.getInt();
+
+		if (len < 0 || len > buffer.remaining()) {
+			throw new BufferUnderflowException();
+		}
+
+		byte[] bytes = (len <= scratch.length)? scratch : new byte[len];
+		buffer.get(bytes, 0, len);
+		return new String(bytes, 0, len, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Writes a registry to a cache file, replacing any existing file.
+	 *
+	 * The registry must have been built from the same groups, in the same order,
+	 * w/o problems.  Failure to write the file is logged and otherwise ignored.
+	 *
+	 * @param file The cache file
+	 * @param config The registry built from the groups
+	 * @param groups All groups, in the order they are registered
+	 * @param naming The naming strategy
+	 */
+	public static void write(Path file, StaticPropertyConfigurationInternal config,
+			List<GroupProxy> groups, NamingStrategy naming) {
+
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			DataOutputStream out = new DataOutputStream(bytes);
+
+			out.writeInt(MAGIC);
+			out.writeShort(FORMAT_VERSION);
+			out.writeShort(0);
+			out.writeLong(fingerprint(groups, naming));
+
+			for (GroupProxy group : groups) {
+				for (NameAndProperty nap : group.getProperties()) {
+
+					//Naming again is cheaper than keeping every PropertyNaming during normal startup
+					PropertyNaming propNames = naming.buildNames(nap.property, group);
+
+					writeName(out, propNames.getCanonicalName());
+					out.writeInt(propNames.getAliases().size());
+
+					for (EffectiveName alias : propNames.getAliases()) {
+						writeName(out, alias);
+					}
+				}
+			}
+
+			List<Integer> exportingGroups = new ArrayList();
+
+			for (ExportGroup eg : config.getExportGroups()) {
+				int index = groups.indexOf(eg.getGroup());
+
+				if (index < 0) {
+					return;	//Not an exporter from a group annotation - it can't be cached
+				} else if (! exportingGroups.contains(index)) {
+					exportingGroups.add(index);
+				}
+			}
+
+			out.writeInt(exportingGroups.size());
+			for (Integer index : exportingGroups) {
+				out.writeInt(index);
+			}
+
+			out.flush();
+
+			Path parent = file.toAbsolutePath().getParent();
+			if (parent != null) {
+				Files.createDirectories(parent);
+			}
+
+			//Write to a temp file and move, so readers never see a partial file
+			Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+
+			try {
+				Files.write(temp, bytes.toByteArray());
+				Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				Files.deleteIfExists(temp);
+			}
+
+		} catch (Exception e) {
+			LOG.warn(TextUtil.format("Unable to write the registry cache {}: {}", file, e));
+		}
+	}
+
+	private static void writeName(DataOutputStream out, EffectiveName name) throws IOException {
+		writeString(out, name.getActualName());
+		writeString(out, name.getEffectiveInName());
+		out.writeByte((name.isIn()? FLAG_IN : 0) | (name.isOut()? FLAG_OUT : 0));
+	}
+
+	private static void writeString(DataOutputStream out, String str) throws IOException {
+		byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+}
@@ -110,6 +110,35 @@ public class ReportGenerator {
 		}
 	}
 	
+	/**
+	 * Prints the Properties that were read, most read first, and those that
+	 * were never read.
+	 * 
+	 * @param out The stream to print to
+	 * @param report The report, from AndHow.getPropertyReadReport()
+	 */
+	public static void printPropertyReadReport(PrintStream out, PropertyReadReport report) {
+		
+		out.println(TextUtil.padRight("== Property reads from " + AndHow.ANDHOW_NAME + "  ", "=", DEFAULT_LINE_WIDTH));
+		TextUtil.println(out, "Reads counted over {} seconds.", String.format("%.1f", report.getElapsedNanos() / 1e9d));
+		out.println();
+		
+		out.println("PROPERTIES READ - Most read first:");
+		for (PropertyReadReport.PropertyReads pr : report.getRankedReads()) {
+			out.println(String.format("%12d reads %12.1f/s  %s", pr.getCount(),
+					report.getReadsPerSecond(pr), pr.getCanonicalName()));
+		}
+		
+		out.println();
+		TextUtil.println(out, DEFAULT_LINE_WIDTH, "", 
+				"PROPERTIES NEVER READ - These may be unused, or only read in rare cases:");
+		for (PropertyReadReport.PropertyReads pr : report.getUnreadProperties()) {
+			out.println("  " + pr.getCanonicalName());
+		}
+		
+		out.println(TextUtil.repeat("=", DEFAULT_LINE_WIDTH));
+	}
+	
 	public static void printProblemHR(PrintStream out) {
 		out.println(TextUtil.repeat("=", DEFAULT_LINE_WIDTH));
 	}
@@ -238,7 +267,9 @@ public class ReportGenerator {
 
 			try {
 				for (Property<?> prop : appDef.getPropertiesForGroup(group)) {
-					printer.printProperty(appDef, out, group, prop);
+					if (! (prop instanceof DerivedProperty)) {	//Not configurable
+						printer.printProperty(appDef, out, group, prop);
+					}
 				}
 			} catch (Exception ex) {
 				
@@ -0,0 +1,53 @@
+package org.yarnandtail.andhow.internal;
+
+import org.yarnandtail.andhow.api.*;
+
+/**
+ * Pushes the values returned by a Loader that does not implement SinkLoader
+ * into a sink, so AndHow can treat all Loaders the same way.
+ * <p>
+ * The sink is only used to receive the values:  Duplicate detection remains
+ * the responsibility of the wrapped Loader, so if it returns more than one
+ * value for a Property, the first is kept w/o an added Problem, matching the
+ * way the first value was always used.  Values for Properties that are not
+ * registered w/ AndHow are skipped, since they were never part of the
+ * configuration.
+ *
+ * @author eeverman
+ */
+public class SinkLoaderAdapter {
+
+	private final Loader loader;
+
+	public SinkLoaderAdapter(Loader loader) {
+		this.loader = loader;
+	}
+
+	/**
+	 * Calls load() on the wrapped Loader and pushes the result into the sink.
+	 *
+	 * @param runtimeDef The configuration being loaded
+	 * @param existingValues Values loaded by preceding Loaders
+	 * @param sink Receives the values and Problems of the Loader
+	 */
+	public void load(StaticPropertyConfigurationInternal runtimeDef,
+			ValidatedValuesWithContext existingValues, PropertyValueSink sink) {
+
+		LoaderValues result = loader.load(runtimeDef, existingValues);
+
+		for (ValidatedValue value : result.getValues()) {
+			int ordinal = runtimeDef.getPropertyOrdinal(value.getProperty());
+
+			if (ordinal > -1) {
+				sink.putIfAbsent(ordinal, value);
+			}
+		}
+
+		sink.getProblems().addAll(result.getProblems());
+		sink.addBytesRead(result.getBytesRead());
+	}
+
+	public Loader getLoader() {
+		return loader;
+	}
+}
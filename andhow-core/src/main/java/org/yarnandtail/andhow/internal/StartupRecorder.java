@@ -0,0 +1,157 @@
+package org.yarnandtail.andhow.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.util.AndHowLog;
+
+/**
+ * Times the phases of startup and the run of each Loader to build a
+ * StartupReport.
+ * <p>
+ * Timing is disabled by default.  Enable it by setting the JVM system
+ * property {@code org.yarnandtail.andhow.internal.StartupRecorder.enabled} to
+ * true.  When disabled, {@link #start()} returns a shared instance that does
+ * nothing, so the cost is a few calls to empty methods.
+ * <p>
+ * When enabled and JFR (Java Flight Recorder) is available, each phase and
+ * Loader run is also emitted as a JFR event, which is recorded if JFR is
+ * recording w/ those events enabled.
+ *
+ * @author eeverman
+ */
+public class StartupRecorder {
+
+	private static final AndHowLog LOG = AndHowLog.getLogger(StartupRecorder.class);
+
+	/** JVM system property to enable startup timing */
+	public static final String ENABLED_PROPERTY = StartupRecorder.class.getCanonicalName() + ".enabled";
+
+	private static final StartupRecorder DISABLED = new StartupRecorder(false);
+
+	private final boolean enabled;
+	private final boolean jfr;
+	private final List<StartupReport.Phase> phases = new ArrayList();
+	private final List<StartupReport.LoaderRun> loaderRuns = new ArrayList();
+	private long mark;
+	private Object jfrPhase;	//The JFR event of the current phase, if JFR is available
+	private Object jfrLoader;	//The JFR event of the current loader, if JFR is available
+
+	protected StartupRecorder(boolean enabled) {
+		this.enabled = enabled;
+
+		//Only touch JFR if enabled, since defining the events takes some time
+		this.jfr = enabled && JfrStartupEvents.isAvailable();
+
+		if (enabled) {
+			mark = System.nanoTime();
+
+			if (jfr) {
+				jfrPhase = JfrStartupEvents.beginPhase();
+			}
+		}
+	}
+
+	/**
+	 * Starts timing the first phase, if timing is enabled.
+	 *
+	 * @return A new recorder, or a shared instance that does nothing if timing
+	 * is disabled.
+	 */
+	public static StartupRecorder start() {
+		if (Boolean.getBoolean(ENABLED_PROPERTY)) {
+			return new StartupRecorder(true);
+		} else {
+			return DISABLED;
+		}
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Ends the current phase, which started when the previous phase ended, and
+	 * starts the next one.
+	 *
+	 * @param name The name of the phase that ended, one of the StartupReport
+	 * PHASE_ constants.
+	 */
+	public void endPhase(String name) {
+		if (enabled) {
+			long now = System.nanoTime();
+			phases.add(new StartupReport.Phase(name, now - mark));
+			mark = now;
+
+			if (jfr) {
+				JfrStartupEvents.endPhase(jfrPhase, name);
+				jfrPhase = JfrStartupEvents.beginPhase();
+			}
+		}
+	}
+
+	/**
+	 * Marks the start of a Loader run.
+	 *
+	 * @return The start time, to pass to endLoader.
+	 */
+	public long startLoader() {
+		if (enabled) {
+			if (jfr) {
+				jfrLoader = JfrStartupEvents.beginLoader();
+			}
+
+			return System.nanoTime();
+		} else {
+			return 0L;
+		}
+	}
+
+	/**
+	 * Records the end of a Loader run.
+	 *
+	 * @param startNanos The value returned by startLoader()
+	 * @param result The values loaded
+	 * @param existingValues The values of preceding Loaders, to find shadowed values.
+	 */
+	public void endLoader(long startNanos, LoaderValues result, ValidatedValuesWithContext existingValues) {
+		if (enabled) {
+			long nanos = System.nanoTime() - startNanos;
+
+			int shadowed = 0;
+			for (ValidatedValue vv : result.getValues()) {
+				if (existingValues.isExplicitlySet(vv.getProperty())) {
+					shadowed++;
+				}
+			}
+
+			Loader loader = result.getLoader();
+			StartupReport.LoaderRun run = new StartupReport.LoaderRun(
+					loader.getLoaderType(), loader.getSpecificLoadDescription(), nanos,
+					result.getValues().size(), shadowed, result.getProblems().size(), result.getBytesRead());
+
+			loaderRuns.add(run);
+
+			if (jfr) {
+				JfrStartupEvents.endLoader(jfrLoader, run);
+				jfrLoader = null;
+			}
+		}
+	}
+
+	/**
+	 * Builds the report of all phases ended so far.
+	 *
+	 * @return The report or null if timing is disabled.
+	 */
+	public StartupReport toReport() {
+		if (enabled) {
+			StartupReport report = new StartupReport(phases, loaderRuns);
+			LOG.debug("{0}", report);
+			return report;
+		} else {
+			return null;
+		}
+	}
+
+}
@@ -14,9 +14,8 @@ public class StaticPropertyConfigurationImmutable implements StaticPropertyConfi
 	private final List<GroupProxy> groupList;
 	private final List<Property<?>> properties;
 	private final Map<GroupProxy, List<Property<?>>> propertiesByGroup;
-	private final Map<String, Property<?>> propertiesByAnyName;
+	private final PropertyNameIndex names;
 	private final Map<Property<?>, List<EffectiveName>> aliasesByProperty;
-	private final Map<Property<?>, String> canonicalNameByProperty;
 	private final List<ExportGroup> exportGroups;
 	
 
@@ -25,9 +24,8 @@ public class StaticPropertyConfigurationImmutable implements StaticPropertyConfi
 			List<GroupProxy> groupList,
 			List<Property<?>> properties,
 			Map<GroupProxy, List<Property<?>>> propertiesByGroup, 
-			Map<String, Property<?>> propertiesByAnyName, 
+			PropertyNameIndex names, 
 			Map<Property<?>, List<EffectiveName>> aliasesByProperty, 
-			Map<Property<?>, String> canonicalNameByProperty,
 			List<ExportGroup> exportGroups) {
 		
 		this.namingStrategy = namingStrategy;
@@ -48,18 +46,12 @@ public class StaticPropertyConfigurationImmutable implements StaticPropertyConfi
 		propsByGrp.putAll(propertiesByGroup);
 		this.propertiesByGroup = Collections.unmodifiableMap(propsByGrp);
 		
-		Map<String, Property<?>> propsByName = new HashMap();
-		propsByName.putAll(propertiesByAnyName);
-		this.propertiesByAnyName = Collections.unmodifiableMap(propsByName);
+		this.names = names.toImmutable();
 		
 		Map<Property<?>, List<EffectiveName>> alsByProp = new HashMap();
 		alsByProp.putAll(aliasesByProperty);
 		this.aliasesByProperty = Collections.unmodifiableMap(alsByProp);
 
-		Map<Property<?>, String> canonByProp = new HashMap();
-		canonByProp.putAll(canonicalNameByProperty);
-		this.canonicalNameByProperty = Collections.unmodifiableMap(canonByProp);
-		
 		ArrayList<ExportGroup> expGroups = new ArrayList();
 		expGroups.addAll(exportGroups);
 		expGroups.trimToSize();
@@ -69,7 +61,7 @@ public class StaticPropertyConfigurationImmutable implements StaticPropertyConfi
 	
 	@Override
 	public Property<?> getProperty(String classpathStyleName) {
-		return propertiesByAnyName.get(namingStrategy.toEffectiveName(classpathStyleName));
+		return names.getProperty(namingStrategy.toEffectiveName(classpathStyleName));
 	}
 	
 	@Override
@@ -79,7 +71,7 @@ public class StaticPropertyConfigurationImmutable implements StaticPropertyConfi
 		
 	@Override
 	public String getCanonicalName(Property<?> prop) {
-		return canonicalNameByProperty.get(prop);
+		return names.getCanonicalName(prop);
 	}
 	
 	@Override
@@ -114,13 +106,12 @@ public class StaticPropertyConfigurationImmutable implements StaticPropertyConfi
 	
 	@Override
 	public GroupProxy getGroupForProperty(Property<?> prop) {
-		for (GroupProxy group : groupList) {
-			if (propertiesByGroup.get(group).contains(prop)) {
-				return group;
-			}
-		}
-		
-		return null;
+		return names.getGroup(prop);
+	}
+	
+	@Override
+	public int getPropertyOrdinal(Property<?> prop) {
+		return names.getOrdinal(prop);
 	}
 	
 	@Override
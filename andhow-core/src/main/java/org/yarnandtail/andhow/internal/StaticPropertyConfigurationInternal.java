@@ -28,6 +28,17 @@ public interface StaticPropertyConfigurationInternal extends StaticPropertyConfi
 	 */
 	List<Property<?>> getProperties();
 	
+	/**
+	 * The position of a Property in the list returned by getProperties().
+	 * 
+	 * Ordinals are dense, starting at zero, so they can be used to index
+	 * arrays sized to the number of Properties.
+	 * 
+	 * @param prop The Property to find
+	 * @return The zero based ordinal or -1 if the Property is not registered.
+	 */
+	int getPropertyOrdinal(Property<?> prop);
+	
 	/**
 	 * Returns true if any of the registered groups are user groups.
 	 * 
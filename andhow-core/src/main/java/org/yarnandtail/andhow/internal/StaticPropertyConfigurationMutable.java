@@ -16,8 +16,7 @@ public class StaticPropertyConfigurationMutable implements StaticPropertyConfigu
 	private final Map<GroupProxy, List<Property<?>>> propertiesByGroup = new HashMap();
 	private final List<GroupProxy> groupList = new ArrayList();
 	private final Map<Property<?>, List<EffectiveName>> aliasesByProperty = new HashMap();
-	private final Map<String, Property<?>> propertiesByAnyName = new HashMap();
-	private final Map<Property<?>, String> canonicalNameByProperty = new HashMap();
+	private final PropertyNameIndex names = new PropertyNameIndex();
 	private final List<Property<?>> properties = new ArrayList();
 	private final List<ExportGroup> exportGroups = new ArrayList();
 	
@@ -38,16 +37,16 @@ public class StaticPropertyConfigurationMutable implements StaticPropertyConfigu
 	 */
 	public ConstructionProblem addProperty(GroupProxy group, Property<?> property) {
 		
-		PropertyNaming names = null;
+		PropertyNaming propNames = null;
 		
 		if (group == null || property == null) {
 			throw new RuntimeException("Null values are not allowed when registering a property.");
 		}
 		
 		try {
-			names = namingStrategy.buildNames(property, group);
+			propNames = namingStrategy.buildNames(property, group);
 			
-			if (names == null) {
+			if (propNames == null) {
 				return new PropertyNotPartOfGroup(group, property);
 			}
 		} catch (Exception ex) {
@@ -56,15 +55,13 @@ public class StaticPropertyConfigurationMutable implements StaticPropertyConfigu
 		
 
 		
-		aliasesByProperty.put(property, names.getAliases());
-		
 		//The complete list of recognized names, as generated by the NamingStrategy
 		//Generally these will be all upper case
 		List<EffectiveName> allInNames = new ArrayList();
-		allInNames.add(names.getCanonicalName());
-		allInNames.addAll(names.getInAliases());
+		allInNames.add(propNames.getCanonicalName());
+		allInNames.addAll(propNames.getInAliases());
 		
-		if (canonicalNameByProperty.containsKey(property)) {
+		if (names.containsProperty(property)) {
 			ConstructionProblem.DuplicateProperty dupProp = new ConstructionProblem.DuplicateProperty(
 					getGroupForProperty(property),
 					property, group, property);
@@ -74,7 +71,7 @@ public class StaticPropertyConfigurationMutable implements StaticPropertyConfigu
 		
 		//Check for duplicate 'in' names
 		for (EffectiveName name : allInNames) {
-			Property<?> conflictProp = propertiesByAnyName.get(name.getEffectiveInName());
+			Property<?> conflictProp = names.getProperty(name.getEffectiveInName());
 			if (conflictProp != null) {
 				ConstructionProblem.NonUniqueNames notUniqueName = new ConstructionProblem.NonUniqueNames(
 					getGroupForProperty(conflictProp),
@@ -85,7 +82,7 @@ public class StaticPropertyConfigurationMutable implements StaticPropertyConfigu
 		}
 		
 		//Check for duplicate export (out) names
-		for (EffectiveName a : names.getOutAliases()) {
+		for (EffectiveName a : propNames.getOutAliases()) {
 			if (! propertiesByExportName.containsKey(a.getEffectiveOutName())) {
 				propertiesByExportName.put(a.getEffectiveOutName(), property);
 			} else {
@@ -115,20 +112,39 @@ public class StaticPropertyConfigurationMutable implements StaticPropertyConfigu
 		
 		//Check the default value against validation
 		ConstructionProblem invalidDefault = 
-				checkForInvalidDefaultValue(property, group, names.getCanonicalName().getActualName());
+				checkForInvalidDefaultValue(property, group, propNames.getCanonicalName().getActualName());
 		if (invalidDefault != null) {
 			return invalidDefault;
 		}
 		
 		//
 		//All checks pass, so add property
+		addCheckedProperty(group, property, propNames);
+		return  null;
+		
+	}
+	
+	/**
+	 * Adds a Property using names that have already been built and checked,
+	 * skipping the NamingStrategy and all of the checks done by addProperty().
+	 * 
+	 * Used when the registry is restored from a RegistryCache, which is only
+	 * written for a registry that passed all checks.
+	 * 
+	 * @param group The Group parent of the property
+	 * @param property The Property to be added
+	 * @param propNames The names of the Property, as built by the NamingStrategy
+	 */
+	void addCheckedProperty(GroupProxy group, Property<?> property, PropertyNaming propNames) {
+		
+		aliasesByProperty.put(property, propNames.getAliases());
 		
-		canonicalNameByProperty.put(property, names.getCanonicalName().getActualName());
+		EffectiveName canon = propNames.getCanonicalName();
+		names.addCanonicalName(property, group, canon.getActualName(), canon.getEffectiveInName(), namingStrategy);
 		properties.add(property);
 
-
-		for (EffectiveName n : allInNames) {
-			propertiesByAnyName.put(n.getEffectiveInName(), property);
+		for (EffectiveName n : propNames.getInAliases()) {
+			names.addEffectiveName(property, n.getEffectiveInName());
 		}
 
 		List<Property<?>> list = propertiesByGroup.get(group);
@@ -140,9 +156,6 @@ public class StaticPropertyConfigurationMutable implements StaticPropertyConfigu
 			propertiesByGroup.put(group, list);
 			groupList.add(group);
 		}
-		
-		return  null;
-		
 	}
 	
 	public void addExportGroup(ExportGroup exportGroup) {
@@ -151,7 +164,7 @@ public class StaticPropertyConfigurationMutable implements StaticPropertyConfigu
 	
 	@Override
 	public Property<?> getProperty(String classpathStyleName) {
-		return propertiesByAnyName.get(namingStrategy.toEffectiveName(classpathStyleName));
+		return names.getProperty(namingStrategy.toEffectiveName(classpathStyleName));
 	}
 	
 	@Override
@@ -161,7 +174,7 @@ public class StaticPropertyConfigurationMutable implements StaticPropertyConfigu
 		
 	@Override
 	public String getCanonicalName(Property<?> prop) {
-		return canonicalNameByProperty.get(prop);
+		return names.getCanonicalName(prop);
 	}
 	
 	@Override
@@ -196,13 +209,12 @@ public class StaticPropertyConfigurationMutable implements StaticPropertyConfigu
 	
 	@Override
 	public GroupProxy getGroupForProperty(Property<?> prop) {
-		for (GroupProxy group : groupList) {
-			if (propertiesByGroup.get(group).contains(prop)) {
-				return group;
-			}
-		}
-		
-		return null;
+		return names.getGroup(prop);
+	}
+	
+	@Override
+	public int getPropertyOrdinal(Property<?> prop) {
+		return names.getOrdinal(prop);
 	}
 	
 	@Override
@@ -233,16 +245,18 @@ public class StaticPropertyConfigurationMutable implements StaticPropertyConfigu
 			T t = property.getDefaultValue();
 			
 			if (t != null) {
+				
+				//A valid default is remembered, so it is not validated again if loaded
+				FusedValidator<T> validator = FusedValidator.forProperty(property);
 			
-				for (Validator<T> v : property.getValidators()) {
-					if (! v.isValid(t)) {
+				if (! validator.validateDefault(t)) {
+					Validator<T> v = validator.getFailedValidators(t).get(0);
 
-						ConstructionProblem.InvalidDefaultValue problem = 
-								new ConstructionProblem.InvalidDefaultValue(
-										group, property, 
-										v.getInvalidMessage(t));
-						return problem;
-					}
+					ConstructionProblem.InvalidDefaultValue problem = 
+							new ConstructionProblem.InvalidDefaultValue(
+									group, property, 
+									v.getInvalidMessage(t));
+					return problem;
 				}
 			}
 		}
@@ -257,9 +271,8 @@ public class StaticPropertyConfigurationMutable implements StaticPropertyConfigu
 	 */
 	public StaticPropertyConfigurationInternal toImmutable() {
 		return new StaticPropertyConfigurationImmutable(namingStrategy, groupList, properties,
-			propertiesByGroup, propertiesByAnyName, 
-			aliasesByProperty, canonicalNameByProperty, 
-			exportGroups);
+			propertiesByGroup, names,
+			aliasesByProperty, exportGroups);
 	}
 	
 }
@@ -0,0 +1,36 @@
+package org.yarnandtail.andhow.internal;
+
+/**
+ * A loaded String that contains {@code ${...}} references to other
+ * Properties, which is held in place of the value until the references are
+ * resolved.
+ * <p>
+ * Loaders create an UnresolvedValue via BaseLoader.createValue() rather
+ * than parsing the String.  After all Loaders have run, ValueInterpolator
+ * replaces each UnresolvedValue w/ the parsed value of the resolved String,
+ * so an UnresolvedValue is never seen once startup is complete.
+ *
+ * @author eeverman
+ */
+public final class UnresolvedValue {
+
+	private final String source;
+
+	public UnresolvedValue(String source) {
+		this.source = source;
+	}
+
+	/**
+	 * The loaded String, including its references.
+	 *
+	 * @return
+	 */
+	public String getSource() {
+		return source;
+	}
+
+	@Override
+	public String toString() {
+		return source;
+	}
+}
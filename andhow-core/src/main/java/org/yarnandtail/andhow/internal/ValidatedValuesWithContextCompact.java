@@ -0,0 +1,227 @@
+package org.yarnandtail.andhow.internal;
+
+import java.util.*;
+import org.yarnandtail.andhow.api.*;
+
+/**
+ * Minimal footprint ValidatedValuesWithContext used after a successful startup
+ * when <code>Options.COMPACT_MEMORY</code> is set.
+ * <p>
+ * Only the effective value of each Property is kept, along with a single byte
+ * recording which Loader supplied it.  The per-loader LoaderValues, each
+ * ValidatedValue and its ProblemList, as well as any values shadowed by an
+ * earlier Loader, are released.  As a result, getAllLoaderValues() and
+ * getAllValuesLoadedByLoader() are only available in the normal (diagnostics)
+ * mode and throw an UnsupportedOperationException here.
+ * <p>
+ * Values are stored in an open addressed table keyed on Property identity,
+ * which is how Properties are compared everywhere else in AndHow.
+ *
+ * @author eeverman
+ */
+public class ValidatedValuesWithContextCompact implements ValidatedValuesWithContext {
+
+	/** Maximum number of Loaders that can be recorded in the byte sized provenance */
+	public static final int MAX_LOADER_COUNT = 255;
+
+	/** Provenance marker for a table slot that has no explicit value */
+	private static final byte NO_LOADER = (byte)0xFF;
+
+	private static final String DIAGNOSTICS_ONLY_MSG =
+			"The values loaded by each Loader are discarded after startup when "
+			+ "Options.COMPACT_MEMORY is set.  Turn it off to enable this diagnostic method.";
+
+	private final Loader[] loaders;
+	private final Property<?>[] keys;
+	private final Object[] values;
+	private final byte[] provenance;
+	private final int mask;
+
+	/**
+	 * Compact the passed loader values, retaining only the effective values.
+	 *
+	 * @param loadedValuesList The values from each loader, in loader order.
+	 * @throws IllegalArgumentException if there are more than MAX_LOADER_COUNT loaders.
+	 */
+	public ValidatedValuesWithContextCompact(List<LoaderValues> loadedValuesList) {
+
+		if (loadedValuesList.size() > MAX_LOADER_COUNT) {
+			throw new IllegalArgumentException("Compact values can only be built for "
+					+ MAX_LOADER_COUNT + " or fewer loaders");
+		}
+
+		int valueCount = 0;
+		for (LoaderValues lvs : loadedValuesList) {
+			valueCount += lvs.getValues().size();
+		}
+
+		//Power of two table at no more than 50% load
+		int size = Integer.highestOneBit(Math.max(valueCount, 1) * 2 - 1) << 1;
+
+		loaders = new Loader[loadedValuesList.size()];
+		keys = new Property<?>[size];
+		values = new Object[size];
+		provenance = new byte[size];
+		mask = size - 1;
+
+		Arrays.fill(provenance, NO_LOADER);
+
+		for (int li = 0; li < loadedValuesList.size(); li++) {
+			LoaderValues lvs = loadedValuesList.get(li);
+			loaders[li] = lvs.getLoader();
+
+			for (ValidatedValue vv : lvs.getValues()) {
+				int slot = findSlot(vv.getProperty());
+
+				if (keys[slot] == null) {
+					//First loader to supply a value wins - later values are shadowed
+					keys[slot] = vv.getProperty();
+					values[slot] = vv.getValue();
+					provenance[slot] = (byte)li;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Finds the table slot for the Property, which is either the slot holding
+	 * the Property or the empty slot where it would be inserted.
+	 */
+	private int findSlot(Property<?> prop) {
+		int i = mix(System.identityHashCode(prop)) & mask;
+
+		while (keys[i] != null && keys[i] != prop) {
+			i = (i + 1) & mask;
+		}
+
+		return i;
+	}
+
+	private static int mix(int h) {
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * The Loader that supplied the effective value of a Property.
+	 *
+	 * @param prop The Property to look up
+	 * @return The Loader or null if the Property was not explicitly set.
+	 */
+	public Loader getEffectiveLoader(Property<?> prop) {
+		if (prop == null) return null;
+
+		int slot = findSlot(prop);
+
+		if (keys[slot] != null) {
+			return loaders[provenance[slot] & 0xFF];
+		} else {
+			return null;
+		}
+	}
+
+	@Override
+	public <T> T getExplicitValue(Property<T> prop) {
+		if (prop == null) return null;
+
+		int slot = findSlot(prop);
+		return prop.getValueType().cast(values[slot]);
+	}
+
+	@Override
+	public <T> T getValue(Property<T> prop) {
+		if (isExplicitlySet(prop)) {
+			return getExplicitValue(prop);
+		} else {
+			return prop.getDefaultValue();
+		}
+	}
+
+	@Override
+	public boolean isExplicitlySet(Property<?> prop) {
+		return prop != null && keys[findSlot(prop)] != null;
+	}
+
+	/**
+	 * Always false, since a compact instance is only created after a
+	 * successful startup.
+	 *
+	 * @return false
+	 */
+	@Override
+	public boolean hasProblems() {
+		return false;
+	}
+
+	/**
+	 * Not available in compact mode.
+	 *
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public List<LoaderValues> getAllLoaderValues() {
+		throw new UnsupportedOperationException(DIAGNOSTICS_ONLY_MSG);
+	}
+
+	/**
+	 * Not available in compact mode.
+	 *
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public LoaderValues getAllValuesLoadedByLoader(Loader loader) {
+		throw new UnsupportedOperationException(DIAGNOSTICS_ONLY_MSG);
+	}
+
+	/**
+	 * Rebuilds the effective values for a Loader from the provenance array.
+	 *
+	 * This is comparatively slow, but is only intended for reporting.
+	 *
+	 * @param loader
+	 * @return The effective values or null if the Loader is not in use.
+	 */
+	@Override
+	public LoaderValues getEffectiveValuesLoadedByLoader(Loader loader) {
+
+		int li = -1;
+		for (int i = 0; i < loaders.length; i++) {
+			if (loaders[i].equals(loader)) {
+				li = i;
+				break;
+			}
+		}
+
+		if (li < 0) {
+			return null;
+		}
+
+		List<ValidatedValue> effValues = new ArrayList();
+		for (int i = 0; i < keys.length; i++) {
+			if (keys[i] != null && (provenance[i] & 0xFF) == li) {
+				effValues.add(new ValidatedValue(keys[i], values[i]));
+			}
+		}
+
+		return new LoaderValues(loader, effValues, ProblemList.EMPTY_PROBLEM_LIST);
+	}
+
+	@Override
+	public ValidatedValues getValueMapImmutable() {
+		return this;
+	}
+
+	@Override
+	public ValidatedValuesWithContext getValueMapWithContextImmutable() {
+		return this;
+	}
+
+	/**
+	 * The Loaders in use, in load order.
+	 *
+	 * @return An unmodifiable list
+	 */
+	public List<Loader> getLoaders() {
+		return Collections.unmodifiableList(Arrays.asList(loaders));
+	}
+
+}
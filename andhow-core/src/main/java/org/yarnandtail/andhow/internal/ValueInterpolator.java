@@ -0,0 +1,398 @@
+package org.yarnandtail.andhow.internal;
+
+import java.util.*;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.valuetype.ParseCache;
+
+/**
+ * Resolves {@code ${...}} references to other Properties in loaded values,
+ * such as {@code jdbc:postgresql://${DB_HOST}:${DB_PORT}/app}.
+ * <p>
+ * Only the values of Properties built w/ {@code interpolated()} are
+ * interpolated.  For all other Properties, {@code $}{ is plain text, so
+ * existing values such as passwords and templates are not affected.
+ * <p>
+ * A reference is the canonical name or an 'in' alias of a Property, matched
+ * via the NamingStrategy as Loaders match names.  It is replaced w/ the
+ * effective value of that Property, formatted by its ValueType.  Write
+ * {@code $$}{ for a literal {@code $}{.  A {@code $}{ w/o a closing brace is
+ * literal text.
+ * <p>
+ * Loaders do not parse a String containing {@code $}{:  BaseLoader.createValue()
+ * holds it as an UnresolvedValue.  After all Loaders have run, AndHowCore
+ * calls {@link #resolve} once, which:
+ * <ul>
+ * <li>Builds a graph of the references between Properties, w/ an edge from
+ * each unresolved value to each Property it refers to.  Values shadowed by
+ * an earlier Loader are resolved, but nothing refers to them.
+ * <li>Resolves the graph in a single depth first pass in topological order,
+ * so each referred to value is resolved before the values that refer to it.
+ * Each value is resolved once and remembered, so the cost is linear in the
+ * number of values and references, regardless of how deeply they nest.  The
+ * pass uses its own stack, so long chains of references cannot overflow the
+ * thread's stack.
+ * <li>Reports a cycle of references, an unknown Property, a reference to a
+ * Property w/ no value or a reference from a Property that is not secret to
+ * a secret Property as a Problem.  The last would show the secret value
+ * unmasked wherever AndHow shows the value of the Property that refers to it,
+ * so such a Property must be built w/ {@code secret()} as well.  Values that
+ * refer, directly or not, to a value w/ a Problem are left unresolved w/o
+ * further Problems.
+ * <li>Parses each resolved String w/ the ValueType of its Property, so type
+ * conversion happens after interpolation, then validates it.  The parsed
+ * value replaces the UnresolvedValue in the values of its Loader.
+ * </ul>
+ * Values read by Loaders while loading, such as the path of a properties
+ * file, are read before references are resolved, so a Property w/ an
+ * unresolved value is seen as having no value at that time.
+ *
+ * @author eeverman
+ */
+public final class ValueInterpolator {
+
+	/** The start of a reference */
+	public static final String REF_START = "${";
+
+	/** The escaped form of a literal REF_START */
+	public static final String ESCAPED_REF_START = "$${";
+
+	private static final int NEW = 0;
+	private static final int ACTIVE = 1;
+	private static final int DONE = 2;
+
+	private ValueInterpolator() {
+		/* No instances */
+	}
+
+	/**
+	 * True if a loaded String must be interpolated before it is parsed.
+	 *
+	 * @param prop The Property the value is for
+	 * @param value The trimmed String
+	 * @return True if the Property is interpolated and the value has a reference
+	 */
+	public static boolean isInterpolated(Property<?> prop, String value) {
+		return prop.isInterpolated() && value != null && value.contains(REF_START);
+	}
+
+	/**
+	 * True if any loaded value is an UnresolvedValue.
+	 *
+	 * @param values
+	 * @return
+	 */
+	public static boolean hasUnresolvedValues(ValidatedValuesWithContext values) {
+		for (LoaderValues lvs : values.getAllLoaderValues()) {
+			for (ValidatedValue vv : lvs.getValues()) {
+				if (vv.getValue() instanceof UnresolvedValue) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Resolves the references in all UnresolvedValues, then parses and
+	 * validates the resolved Strings.
+	 *
+	 * @param config The configuration the values were loaded for
+	 * @param values The loaded values
+	 * @param problems Add any resolution, parsing or validation problems to this list
+	 * @return New values, where each UnresolvedValue is replaced by its parsed
+	 * value or is removed if it could not be resolved or parsed.
+	 */
+	public static ValidatedValuesWithContextMutable resolve(StaticPropertyConfigurationInternal config,
+			ValidatedValuesWithContext values, ProblemList<Problem> problems) {
+
+		List<LoaderValues> loaderValuesList = values.getAllLoaderValues();
+
+		//The effective value of each Property and the node of each unresolved value
+		Map<Property<?>, ValidatedValue> effective = new IdentityHashMap();
+		Map<Property<?>, Node> effectiveNodes = new IdentityHashMap();
+		Map<ValidatedValue, Node> nodes = new IdentityHashMap();
+		List<Node> nodeList = new ArrayList();
+		ProblemList<Problem> found = new ProblemList();
+
+		for (LoaderValues lvs : loaderValuesList) {
+			for (ValidatedValue vv : lvs.getValues()) {
+
+				boolean isEffective = effective.putIfAbsent(vv.getProperty(), vv) == null;
+
+				if (vv.getValue() instanceof UnresolvedValue) {
+					Node node = new Node(lvs.getLoader(), vv);
+					node.parse(config, found);
+					nodes.put(vv, node);
+					nodeList.add(node);
+
+					if (isEffective) {
+						effectiveNodes.put(vv.getProperty(), node);
+					}
+				}
+			}
+		}
+
+		//Single depth first pass, finishing each node after the nodes it refers to
+		Deque<Node> stack = new ArrayDeque();
+
+		for (Node root : nodeList) {
+			if (root.state != NEW) continue;
+
+			root.state = ACTIVE;
+			stack.push(root);
+
+			while (! stack.isEmpty()) {
+				Node node = stack.peek();
+				Node child = null;
+
+				while (child == null && node.next < node.segments.size()) {
+					Object seg = node.segments.get(node.next++);
+					Node target = (seg instanceof Property)? effectiveNodes.get(seg) : null;
+
+					if (target != null) {
+						if (target.state == NEW) {
+							child = target;
+						} else if (target.state == ACTIVE) {
+							found.add(buildCycleProblem(config, stack, target));
+						}
+					}
+				}
+
+				if (child != null) {
+					child.state = ACTIVE;
+					stack.push(child);
+				} else {
+					stack.pop();
+					node.finish(config, effective, effectiveNodes, found);
+					node.state = DONE;
+				}
+			}
+		}
+
+		//Parse the resolved Strings and replace the UnresolvedValues
+		ValidatedValuesWithContextMutable resolved = new ValidatedValuesWithContextMutable();
+		List<LoaderValues> toValidate = new ArrayList();
+
+		for (LoaderValues lvs : loaderValuesList) {
+
+			List<ValidatedValue> replaced = null;	//Only created if needed
+			List<ValidatedValue> parsed = new ArrayList();
+
+			for (int i = 0; i < lvs.getValues().size(); i++) {
+				ValidatedValue vv = lvs.getValues().get(i);
+				Node node = nodes.get(vv);
+
+				if (node != null) {
+					if (replaced == null) {
+						replaced = new ArrayList(lvs.getValues().subList(0, i));
+					}
+
+					ValidatedValue value = node.parseResolved(config, found);
+
+					if (value != null) {
+						replaced.add(value);
+						parsed.add(value);
+					}
+				} else if (replaced != null) {
+					replaced.add(vv);
+				}
+			}
+
+			if (replaced != null) {
+				resolved.addValues(LoaderValues.wrap(lvs.getLoader(),
+						Collections.unmodifiableList(replaced), lvs.getProblems(), lvs.getBytesRead()));
+				toValidate.add(LoaderValues.wrap(lvs.getLoader(), parsed, ProblemList.EMPTY_PROBLEM_LIST));
+			} else {
+				resolved.addValues(lvs);
+			}
+		}
+
+		problems.addAll(found);
+
+		for (LoaderValues lvs : toValidate) {
+			new LoaderValuesValidation(config, lvs).start().finish(problems);
+		}
+
+		return resolved;
+	}
+
+	/**
+	 * Reports a cycle of references and marks each value in it as failed.
+	 *
+	 * @param stack The nodes being resolved, top first
+	 * @param target The node on the stack that was referred to again
+	 * @return The Problem
+	 */
+	private static Problem buildCycleProblem(StaticPropertyConfigurationInternal config,
+			Deque<Node> stack, Node target) {
+
+		List<String> names = new ArrayList();
+
+		for (Node n : stack) {
+			n.failed = true;
+			names.add(0, config.getCanonicalName(n.prop));
+
+			if (n == target) {
+				break;
+			}
+		}
+
+		names.add(config.getCanonicalName(target.prop));
+
+		return target.problem(config, "The references form a cycle: " + String.join(" -> ", names));
+	}
+
+	/**
+	 * An unresolved value and its state during resolution.
+	 */
+	private static class Node {
+		final Loader loader;
+		final Property prop;
+		final String source;
+
+		/** Literal Strings and referred to Properties, in order */
+		final List<Object> segments = new ArrayList();
+
+		int state = NEW;
+		int next;	//The next segment to visit
+		boolean failed;
+		String resolved;
+
+		Node(Loader loader, ValidatedValue value) {
+			this.loader = loader;
+			this.prop = value.getProperty();
+			this.source = ((UnresolvedValue) value.getValue()).getSource();
+		}
+
+		/**
+		 * Splits the source into segments, adding a Problem for each reference
+		 * to an unknown Property.
+		 */
+		void parse(StaticPropertyConfigurationInternal config, ProblemList<Problem> found) {
+			StringBuilder literal = new StringBuilder();
+			int i = 0;
+
+			while (i < source.length()) {
+				int d = source.indexOf('$', i);
+
+				if (d < 0) {
+					literal.append(source, i, source.length());
+					break;
+				}
+
+				literal.append(source, i, d);
+
+				if (source.startsWith(ESCAPED_REF_START, d)) {
+					literal.append(REF_START);
+					i = d + ESCAPED_REF_START.length();
+					continue;
+				}
+
+				if (source.startsWith(REF_START, d)) {
+					int end = source.indexOf('}', d + REF_START.length());
+					String name = (end > -1)? source.substring(d + REF_START.length(), end).trim() : "";
+
+					if (! name.isEmpty()) {
+						if (literal.length() > 0) {
+							segments.add(literal.toString());
+							literal.setLength(0);
+						}
+
+						Property<?> ref = config.getProperty(name);
+
+						if (ref != null) {
+							segments.add(ref);
+						} else {
+							failed = true;
+							found.add(problem(config, "The reference '" + REF_START + name + "}' is not the name of a known property"));
+						}
+
+						i = end + 1;
+						continue;
+					}
+				}
+
+				literal.append('$');
+				i = d + 1;
+			}
+
+			if (literal.length() > 0) {
+				segments.add(literal.toString());
+			}
+		}
+
+		/**
+		 * Builds the resolved String, once each node it refers to is finished.
+		 */
+		void finish(StaticPropertyConfigurationInternal config, Map<Property<?>, ValidatedValue> effective,
+				Map<Property<?>, Node> effectiveNodes, ProblemList<Problem> found) {
+
+			if (failed) return;
+
+			StringBuilder sb = new StringBuilder(source.length());
+
+			for (Object seg : segments) {
+				if (seg instanceof String) {
+					sb.append((String) seg);
+				} else {
+					Property ref = (Property) seg;
+					Node target = effectiveNodes.get(ref);
+
+					if (ref.isSecret() && ! prop.isSecret()) {
+						failed = true;
+						found.add(problem(config, "The reference '" + REF_START + config.getCanonicalName(ref) +
+								"}' is to a secret property, so this property must be secret as well"));
+						return;
+					}
+
+					if (target != null) {
+						if (target.failed) {
+							failed = true;
+							return;
+						}
+
+						sb.append(target.resolved);
+					} else {
+						ValidatedValue vv = effective.get(ref);
+						Object value = (vv != null)? vv.getValue() : ref.getDefaultValue();
+
+						if (value == null) {
+							failed = true;
+							found.add(problem(config, "The reference '" + REF_START +
+									config.getCanonicalName(ref) + "}' is to a property with no value"));
+							return;
+						}
+
+						sb.append(ref.getValueType().toString(value));
+					}
+				}
+			}
+
+			resolved = sb.toString();
+		}
+
+		/**
+		 * Parses the resolved String w/ the ValueType of the Property.
+		 *
+		 * @return The value or null if there is no value or it could not be resolved or parsed.
+		 */
+		ValidatedValue parseResolved(StaticPropertyConfigurationInternal config, ProblemList<Problem> found) {
+			if (failed) return null;
+
+			ParseResult<?> result = ParseCache.tryParse(prop, resolved);
+
+			if (result.isSuccess()) {
+				return (result.getValue() != null)? new ValidatedValue(prop, result.getValue()) : null;
+			} else {
+				found.add(new LoaderProblem.StringConversionLoaderProblem(loader,
+						config.getGroupForProperty(prop).getProxiedGroup(), prop, resolved));
+				return null;
+			}
+		}
+
+		Problem problem(StaticPropertyConfigurationInternal config, String message) {
+			return new LoaderProblem.ReferenceLoaderProblem(loader,
+					config.getGroupForProperty(prop).getProxiedGroup(), prop, message);
+		}
+	}
+}
@@ -8,7 +8,11 @@ import org.yarnandtail.andhow.internal.LoaderProblem;
 import org.yarnandtail.andhow.internal.LoaderProblem.DuplicatePropertyLoaderProblem;
 import org.yarnandtail.andhow.internal.LoaderProblem.ObjectConversionValueProblem;
 import org.yarnandtail.andhow.internal.LoaderProblem.UnknownPropertyLoaderProblem;
+import org.yarnandtail.andhow.internal.PropertyValueSink;
+import org.yarnandtail.andhow.internal.UnresolvedValue;
+import org.yarnandtail.andhow.internal.ValueInterpolator;
 import org.yarnandtail.andhow.util.TextUtil;
+import org.yarnandtail.andhow.valuetype.ParseCache;
 
 /**
  *
@@ -16,6 +20,9 @@ import org.yarnandtail.andhow.util.TextUtil;
  */
 public abstract class BaseLoader implements Loader {
 	
+	/** Problem message for a value configured for a DerivedProperty */
+	protected static final String DERIVED_VALUE_CONFIGURED_MSG = 
+			"A derived property is computed from other properties and cannot be configured";
 	
 	@Override
 	public Class<?> getClassConfig() {
@@ -46,43 +53,11 @@ public abstract class BaseLoader implements Loader {
 	protected void attemptToAdd(StaticPropertyConfigurationInternal appConfigDef, List<ValidatedValue> values, 
 			ProblemList<Problem> loaderProblems, String key, String strValue) {
 		
-		key = TextUtil.trimToNull(key);
-		
-		if (key != null) {
-			
-			String effKey = appConfigDef.getNamingStrategy().toEffectiveName(key);
-			
-			Property prop = appConfigDef.getProperty(effKey);
-
-			if (prop != null) {
-				
-				ValidatedValue pv = null;
-				
-				try {
-					pv = createValue(appConfigDef, prop, strValue);
-				} catch (ParsingException e) {
-					loaderProblems.add(new LoaderProblem.StringConversionLoaderProblem(
-						this, appConfigDef.getGroupForProperty(prop).getProxiedGroup(), prop, e.getProblemText()));
-				}
-								
-				if (pv != null) {
-					ValidatedValue dup = findDuplicateProperty(pv, values);
-
-					if (dup == null) {
-						values.add(pv);
-					} else {
-						loaderProblems.add(new DuplicatePropertyLoaderProblem(
-							this, appConfigDef.getGroupForProperty(prop).getProxiedGroup(), prop));
-					}
-				}
-				
-			} else if (this instanceof ReadLoader) {
-				ReadLoader rl = (ReadLoader)this;
-				if (rl.isUnknownPropertyAProblem()) {
-					loaderProblems.add(new UnknownPropertyLoaderProblem(this, key));
-				}
-			}
+		Property prop = findProperty(appConfigDef, key, loaderProblems);
 
+		if (prop != null) {
+			addToList(appConfigDef, values, loaderProblems, 
+					createValue(appConfigDef, prop, strValue, loaderProblems));
 		}
 	}
 	
@@ -104,40 +79,142 @@ public abstract class BaseLoader implements Loader {
 			ProblemList<Problem> loaderProblems, Property prop, Object value) {
 		
 		if (prop != null) {
-			
-			ValidatedValue pv = null;
-			
-			if (value.getClass().equals(prop.getValueType().getDestinationType())) {
-
-				pv = new ValidatedValue(prop, value);
-
-			} else if (value instanceof String) {
+			addToList(appConfigDef, values, loaderProblems, 
+					createObjectValue(appConfigDef, prop, value, loaderProblems));
+		}
+	}
+	
+	/**
+	 * Util method to load a String to a property by name, pushing the value
+	 * into a sink.
+	 * 
+	 * Used for text based loaders.  Duplicates and other problems are added
+	 * to the sink.
+	 * 
+	 * @param appConfigDef Used to look up the property name for find the actual property
+	 * @param sink The sink receiving the values of this loader
+	 * @param key The property name
+	 * @param strValue The property value 
+	 */
+	protected void attemptToAdd(StaticPropertyConfigurationInternal appConfigDef, 
+			PropertyValueSink sink, String key, String strValue) {
+		
+		Property prop = findProperty(appConfigDef, key, sink.getProblems());
 
-				try {
-					pv = createValue(appConfigDef, prop, value.toString());
-				} catch (ParsingException e) {
-					loaderProblems.add(new LoaderProblem.StringConversionLoaderProblem(
-						this, appConfigDef.getGroupForProperty(prop).getProxiedGroup(), prop, e.getProblemText()));
-				}
+		if (prop != null) {
+			ValidatedValue pv = createValue(appConfigDef, prop, strValue, sink.getProblems());
 
-			} else {
-				loaderProblems.add(
-						new ObjectConversionValueProblem(this, appConfigDef.getGroupForProperty(prop).getProxiedGroup(), prop, value));
+			if (pv != null) {
+				sink.put(pv);
 			}
+		}
+	}
+	
+	/**
+	 * Util method to attempt to load an object of an unknown type to a property,
+	 * pushing the value into a sink.
+	 * 
+	 * Used for object based loaders where value are not in text form.
+	 * This loader assumes the passed property is a valid property to to load to,
+	 * but it will check to make sure it is not null, which is not treated as an error.
+	 * 
+	 * @param appConfigDef Used to look up the property name for find the actual property
+	 * @param sink The sink receiving the values of this loader
+	 * @param prop The Property to load to
+	 * @param value The Object to be loaded to this property
+	 */
+	protected void attemptToAdd(StaticPropertyConfigurationInternal appConfigDef, 
+			PropertyValueSink sink, Property prop, Object value) {
+		
+		if (prop != null) {
+			ValidatedValue pv = createObjectValue(appConfigDef, prop, value, sink.getProblems());
 			
 			if (pv != null) {
-				
-				ValidatedValue dup = findDuplicateProperty(pv, values);
-				
-				if (dup == null) {
-					values.add(pv);
-				} else {
-					loaderProblems.add(new DuplicatePropertyLoaderProblem(
-						this, appConfigDef.getGroupForProperty(prop).getProxiedGroup(), prop));
+				sink.put(pv);
+			}
+		}
+	}
+	
+	/**
+	 * Finds the Property for a name, adding an UnknownPropertyLoaderProblem
+	 * if there is none and this loader treats that as a problem.
+	 * 
+	 * @return The Property or null if the key is empty or not a Property name.
+	 */
+	private Property findProperty(StaticPropertyConfigurationInternal appConfigDef, 
+			String key, ProblemList<Problem> loaderProblems) {
+		
+		key = TextUtil.trimToNull(key);
+		
+		if (key != null) {
+			
+			String effKey = appConfigDef.getNamingStrategy().toEffectiveName(key);
+			
+			Property prop = appConfigDef.getProperty(effKey);
+
+			if (prop != null) {
+				return prop;
+			} else if (this instanceof ReadLoader) {
+				ReadLoader rl = (ReadLoader)this;
+				if (rl.isUnknownPropertyAProblem()) {
+					loaderProblems.add(new UnknownPropertyLoaderProblem(this, key));
 				}
 			}
 
 		}
+		
+		return null;
+	}
+	
+	/**
+	 * Creates a value from an Object that is either of the Property's type
+	 * or a String to be parsed.
+	 * 
+	 * @return The value or null if there is a problem or no value to create.
+	 */
+	private ValidatedValue createObjectValue(StaticPropertyConfigurationInternal appConfigDef, 
+			Property prop, Object value, ProblemList<Problem> loaderProblems) {
+		
+		if (prop instanceof DerivedProperty) {
+
+			loaderProblems.add(new LoaderProblem.DerivedValueLoaderProblem(
+					this, appConfigDef.getGroupForProperty(prop).getProxiedGroup(), 
+					prop, DERIVED_VALUE_CONFIGURED_MSG));
+			return null;
+
+		} else if (value.getClass().equals(prop.getValueType().getDestinationType())) {
+
+			return new ValidatedValue(prop, value);
+
+		} else if (value instanceof String) {
+
+			return createValue(appConfigDef, prop, value.toString(), loaderProblems);
+
+		} else {
+			loaderProblems.add(
+					new ObjectConversionValueProblem(this, appConfigDef.getGroupForProperty(prop).getProxiedGroup(), prop, value));
+			return null;
+		}
+	}
+	
+	/**
+	 * Adds a value to a list, adding a DuplicatePropertyLoaderProblem instead
+	 * if the list already has a value for the same Property.
+	 */
+	private void addToList(StaticPropertyConfigurationInternal appConfigDef, List<ValidatedValue> values, 
+			ProblemList<Problem> loaderProblems, ValidatedValue pv) {
+		
+		if (pv != null) {
+			ValidatedValue dup = findDuplicateProperty(pv, values);
+
+			if (dup == null) {
+				values.add(pv);
+			} else {
+				Property prop = pv.getProperty();
+				loaderProblems.add(new DuplicatePropertyLoaderProblem(
+					this, appConfigDef.getGroupForProperty(prop).getProxiedGroup(), prop));
+			}
+		}
 	}
 	
 	protected ValidatedValue findDuplicateProperty(ValidatedValue current, List<ValidatedValue> values) {
@@ -149,29 +226,95 @@ public abstract class BaseLoader implements Loader {
 		return null;
 	}
 	
+	/**
+	 * Parses a String to a value for a Property, throwing an exception if it
+	 * cannot be parsed.
+	 * 
+	 * Loaders should prefer the version of this method that adds a Problem
+	 * for unparsable values, which does not create an exception.
+	 * 
+	 * @param <T> The type of the Property
+	 * @param appConfigDef The configuration being loaded
+	 * @param prop The Property to create a value for
+	 * @param untrimmedString The String to parse, which is trimmed if needed.
+	 * @return The value or null if there is no value to create.
+	 * @throws ParsingException If the String cannot be parsed.
+	 */
 	protected <T> ValidatedValue createValue(StaticPropertyConfigurationInternal appConfigDef, 
 			Property<T> prop, String untrimmedString) throws ParsingException {
 		
-		T value = null;
-		
-		String trimmed = untrimmedString;
-
-		if (prop.getValueType().getDestinationType().equals(String.class) && 
-				this.isTrimmingRequiredForStringValues()) {
+		String trimmed = trimValue(prop, untrimmedString);
 
-			trimmed = prop.getTrimmer().trim(untrimmedString);
+		if (ValueInterpolator.isInterpolated(prop, trimmed)) {
+			return new ValidatedValue(prop, new UnresolvedValue(trimmed));	//Parsed once resolved
+		} else if (trimmed != null || prop.getPropertyType().isFlag()) {
+			return new ValidatedValue(prop, ParseCache.tryParse(prop, trimmed).getValueOrThrow());
+		} else {
+			return null;	//No value to create
 		}
+	}
+	
+	/**
+	 * Parses a String to a value for a Property, adding a Problem if it
+	 * cannot be parsed.
+	 * 
+	 * Parsing is done via ValueType.tryParse(), so a bad value is reported
+	 * w/o the cost of creating an exception.
+	 * 
+	 * @param <T> The type of the Property
+	 * @param appConfigDef The configuration being loaded
+	 * @param prop The Property to create a value for
+	 * @param untrimmedString The String to parse, which is trimmed if needed.
+	 * @param loaderProblems A list of Problems to add to if the String cannot be parsed.
+	 * @return The value or null if there is no value to create or it cannot be parsed.
+	 */
+	protected <T> ValidatedValue createValue(StaticPropertyConfigurationInternal appConfigDef, 
+			Property<T> prop, String untrimmedString, ProblemList<Problem> loaderProblems) {
+		
+		String trimmed = trimValue(prop, untrimmedString);
 
+		if (prop instanceof DerivedProperty && trimmed != null) {
+			
+			loaderProblems.add(new LoaderProblem.DerivedValueLoaderProblem(
+					this, appConfigDef.getGroupForProperty(prop).getProxiedGroup(), 
+					prop, DERIVED_VALUE_CONFIGURED_MSG));
+			return null;
+			
+		} else if (ValueInterpolator.isInterpolated(prop, trimmed)) {
+			
+			//Parsed once the references are resolved
+			return new ValidatedValue(prop, new UnresolvedValue(trimmed));
+			
+		} else if (trimmed != null || prop.getPropertyType().isFlag()) {
 
-		if (trimmed != null || prop.getPropertyType().isFlag()) {
-
-			value = prop.getValueType().parse(trimmed);
+			ParseResult<T> result = ParseCache.tryParse(prop, trimmed);
+			
+			if (result.isSuccess()) {
+				return new ValidatedValue(prop, result.getValue());
+			} else {
+				loaderProblems.add(new LoaderProblem.StringConversionLoaderProblem(
+						this, appConfigDef.getGroupForProperty(prop).getProxiedGroup(), 
+						prop, result.getSourceValue()));
+				return null;
+			}
 
 		} else {
 			return null;	//No value to create
 		}
-		
-		return new ValidatedValue(prop, value);
+	}
+	
+	/**
+	 * Trims a String value if the Property is a String type and this loader
+	 * requires trimming.
+	 */
+	private String trimValue(Property<?> prop, String untrimmedString) {
+		if (prop.getValueType().getDestinationType().equals(String.class) && 
+				this.isTrimmingRequiredForStringValues()) {
+
+			return prop.getTrimmer().trim(untrimmedString);
+		} else {
+			return untrimmedString;
+		}
 	}
 	
 	@Override
@@ -0,0 +1,248 @@
+package org.yarnandtail.andhow.load;
+
+import org.yarnandtail.andhow.internal.StaticPropertyConfigurationInternal;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.LoaderProblem;
+import org.yarnandtail.andhow.internal.PropertyValueSink;
+import org.yarnandtail.andhow.util.AndHowLog;
+import org.yarnandtail.andhow.util.TextUtil;
+
+/**
+ * Base for BatchLookupLoaders that handles everything except the lookup.
+ * 
+ * For each Property that has no value from a preceding loader, the candidate
+ * names are built via {@link #buildNames(StaticPropertyConfigurationInternal, Property)},
+ * which by default are the canonical name and the 'in' aliases.  Properties
+ * that already have a value are skipped, since preceding loaders take
+ * precedence.  The names are split into batches of at most
+ * {@link #getBatchSize()} names, which are looked up in parallel by up to
+ * {@link #getParallelism()} threads.  All batches must finish within
+ * {@link #getTimeout()}, so a slow source cannot hold up startup for longer.
+ * <p>
+ * String values are trimmed and converted like the values of text sources,
+ * such as properties files.  Other values must be of the Property value type.
+ * Values are added in the order of Properties and their candidate names, so
+ * the result does not depend on the order in which batches finish.  Finding
+ * values for more than one candidate name of the same Property is a duplicate
+ * property problem, as with other loaders.
+ * <p>
+ * By default, it is a problem if a batch fails or does not finish in time.
+ * If not a problem, the failure is logged and the values from the batches
+ * that did finish are used.
+ * 
+ * @author eeverman
+ */
+public abstract class BatchLookupLoaderBase extends BaseLoader implements BatchLookupLoader, SinkLoader {
+	
+	private static final AndHowLog LOG = AndHowLog.getLogger(BatchLookupLoaderBase.class);
+	
+	public static final int DEFAULT_BATCH_SIZE = 256;
+	public static final int DEFAULT_PARALLELISM = 4;
+	public static final long DEFAULT_TIMEOUT_MILLIS = 5000L;
+	
+	private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+	
+	protected int batchSize = DEFAULT_BATCH_SIZE;
+	protected int parallelism = DEFAULT_PARALLELISM;
+	protected long timeoutMillis = DEFAULT_TIMEOUT_MILLIS;
+	protected boolean failedEnvironmentAProblem = true;
+	
+	public BatchLookupLoaderBase() {
+		/* empty for easy construction */ }
+	
+	@Override
+	public void load(StaticPropertyConfigurationInternal appConfigDef,
+			ValidatedValuesWithContext existingValues, PropertyValueSink sink) {
+		
+		//Each name w/ the Property it is a candidate for, in lookup order
+		Map<String, Property<?>> candidates = new LinkedHashMap();
+		
+		for (Property<?> prop : appConfigDef.getProperties()) {
+			if (! existingValues.isExplicitlySet(prop)) {
+				for (String name : buildNames(appConfigDef, prop)) {
+					candidates.putIfAbsent(name, prop);
+				}
+			}
+		}
+		
+		if (candidates.isEmpty()) {
+			return;
+		}
+		
+		List<String> names = new ArrayList(candidates.keySet());
+		Map<String, Object> found = new HashMap();
+		
+		lookupAll(names, found, sink);
+		
+		for (Map.Entry<String, Property<?>> entry : candidates.entrySet()) {
+			Object value = found.get(entry.getKey());
+			
+			if (value instanceof String) {
+				//Text values are trimmed and converted, as w/ other text sources
+				ValidatedValue pv = createValue(appConfigDef, entry.getValue(), (String) value, sink.getProblems());
+				
+				if (pv != null) {
+					sink.put(pv);
+				}
+			} else if (value != null) {
+				attemptToAdd(appConfigDef, sink, entry.getValue(), value);
+			}
+		}
+	}
+	
+	/**
+	 * Looks up all names in batches, w/ a deadline for all batches.
+	 * 
+	 * @param names The names to look up
+	 * @param found Add the names found and their values to this map.
+	 * @param sink Add any problems to this sink.
+	 */
+	protected void lookupAll(List<String> names, Map<String, Object> found, PropertyValueSink sink) {
+		
+		List<Callable<Map<String, ?>>> batches = new ArrayList();
+		
+		for (int start = 0; start < names.size(); start += batchSize) {
+			List<String> batch = names.subList(start, Math.min(start + batchSize, names.size()));
+			batches.add(() -> lookupBatch(batch));
+		}
+		
+		ExecutorService exec = Executors.newFixedThreadPool(Math.min(parallelism, batches.size()), r -> {
+			Thread t = new Thread(r, "andhow-batch-lookup-" + THREAD_COUNT.incrementAndGet());
+			t.setDaemon(true);
+			return t;
+		});
+		
+		try {
+			List<Future<Map<String, ?>>> results = exec.invokeAll(batches, timeoutMillis, TimeUnit.MILLISECONDS);
+			
+			for (Future<Map<String, ?>> result : results) {
+				try {
+					Map<String, ?> values = result.get();
+					
+					if (values != null) {
+						found.putAll(values);
+					}
+				} catch (CancellationException e) {
+					batchFailed(new TimeoutException("The lookup did not finish within " + timeoutMillis + "ms"), sink);
+				} catch (ExecutionException e) {
+					batchFailed((e.getCause() instanceof Exception)? (Exception) e.getCause() : e, sink);
+				}
+			}
+			
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			batchFailed(e, sink);
+		} finally {
+			exec.shutdownNow();
+		}
+	}
+	
+	/**
+	 * Reports a failed batch as a problem or log message, depending on
+	 * isFailedEnvironmentAProblem().
+	 */
+	protected void batchFailed(Exception e, PropertyValueSink sink) {
+		if (isFailedEnvironmentAProblem()) {
+			sink.addProblem(new LoaderProblem.IOLoaderProblem(this, e, getSpecificLoadDescription()));
+		} else {
+			LOG.warn(TextUtil.format("A batch lookup from {} failed ({}) and is ignored",
+					getSpecificLoadDescription(), e.toString()));
+		}
+	}
+	
+	/**
+	 * Builds the names to look up for a Property.
+	 * 
+	 * @param appConfigDef The configuration being loaded
+	 * @param prop The Property
+	 * @return The canonical name and the 'in' aliases.
+	 */
+	protected List<String> buildNames(StaticPropertyConfigurationInternal appConfigDef, Property<?> prop) {
+		List<String> names = new ArrayList();
+		names.add(appConfigDef.getCanonicalName(prop));
+		
+		for (EffectiveName a : appConfigDef.getAliases(prop)) {
+			if (a.isIn()) {
+				names.add(a.getActualName());
+			}
+		}
+		
+		return names;
+	}
+	
+	@Override
+	public abstract Map<String, ?> lookupBatch(List<String> names) throws IOException;
+	
+	/**
+	 * Sets the maximum number of names looked up in one batch.
+	 * 
+	 * @param size Greater than zero
+	 */
+	public void setBatchSize(int size) {
+		if (size <= 0) {
+			throw new IllegalArgumentException("The batch size must be greater than zero");
+		}
+		batchSize = size;
+	}
+	
+	public int getBatchSize() {
+		return batchSize;
+	}
+	
+	/**
+	 * Sets the maximum number of batches looked up at the same time.
+	 * 
+	 * @param threads Greater than zero
+	 */
+	public void setParallelism(int threads) {
+		if (threads <= 0) {
+			throw new IllegalArgumentException("The parallelism must be greater than zero");
+		}
+		parallelism = threads;
+	}
+	
+	public int getParallelism() {
+		return parallelism;
+	}
+	
+	/**
+	 * Sets the time allowed for all batches to finish.
+	 * 
+	 * @param millis Milliseconds, greater than zero.
+	 */
+	public void setTimeout(long millis) {
+		if (millis <= 0) {
+			throw new IllegalArgumentException("The timeout must be greater than zero");
+		}
+		timeoutMillis = millis;
+	}
+	
+	public long getTimeout() {
+		return timeoutMillis;
+	}
+	
+	@Override
+	public boolean isTrimmingRequiredForStringValues() {
+		return true;
+	}
+	
+	@Override
+	public String getLoaderDialect() {
+		return null;
+	}
+	
+	@Override
+	public void setFailedEnvironmentAProblem(boolean isAProblem) {
+		failedEnvironmentAProblem = isAProblem;
+	}
+	
+	@Override
+	public boolean isFailedEnvironmentAProblem() {
+		return failedEnvironmentAProblem;
+	}
+	
+}
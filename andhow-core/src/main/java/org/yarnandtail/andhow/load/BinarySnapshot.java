@@ -0,0 +1,265 @@
+package org.yarnandtail.andhow.load;
+
+import java.io.*;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.StaticPropertyConfigurationInternal;
+
+/**
+ * The binary format of a configuration snapshot, which holds already parsed
+ * Property values so they can be loaded at startup w/o parsing text.
+ * <p>
+ * A snapshot is written by {@link BinarySnapshotTool} after running the normal
+ * Loaders and read by {@link BinarySnapshotLoader}.  The format is:
+ * <pre>
+ * int     MAGIC
+ * short   FORMAT_VERSION
+ * short   reserved, zero
+ * long    registry fingerprint (see fingerprint())
+ * int     number of Properties covered by the fingerprint
+ * int     number of entries, followed by each entry:
+ *   int     Property ordinal
+ *   int     hashCode of the Property's canonical name
+ *   byte    value type tag (one of the TAG_ constants)
+ *   ...     the value, encoded according to its tag
+ * </pre>
+ * All numbers are big endian.  Strings are an int byte count followed by
+ * UTF-8 bytes.
+ * <p>
+ * Entries refer to Properties by ordinal, so a snapshot is only valid for the
+ * same registered Properties in the same order.  The registry fingerprint
+ * covers the canonical name and value type of each Property in ordinal order,
+ * so a snapshot written for a different set of Properties is detected and
+ * rejected.
+ * <p>
+ * A snapshot may cover only the leading Properties of the registry.  The
+ * Properties of the application's groups and the AndHow Options come first,
+ * followed by the Properties used to configure the Loaders, which differ if
+ * the application uses different Loaders than the tool that wrote the
+ * snapshot.  BinarySnapshotTool only covers the application's Properties, so
+ * the snapshot remains valid when a BinarySnapshotLoader is added.
+ * <p>
+ * Values of the types String, Integer, Long, Double, Boolean and
+ * LocalDateTime are written in binary form.  Values of any other type are
+ * written as text via {@code ValueType.toString()} and parsed again by the
+ * Property's ValueType when read.
+ *
+ * @author eeverman
+ */
+public final class BinarySnapshot {
+
+	/** 'A' 'H' 'S' 'N' */
+	public static final int MAGIC = 0x4148534E;
+
+	public static final short FORMAT_VERSION = 1;
+
+	/** Size of the fixed header, before the first entry */
+	static final int HEADER_SIZE = 4 + 2 + 2 + 8 + 4 + 4;
+
+	static final byte TAG_STRING = 1;
+	static final byte TAG_INTEGER = 2;
+	static final byte TAG_LONG = 3;
+	static final byte TAG_DOUBLE = 4;
+	static final byte TAG_BOOLEAN = 5;
+	static final byte TAG_LOCAL_DATE_TIME = 6;
+	static final byte TAG_TEXT = 7;
+
+	private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private BinarySnapshot() {
+		//no instances
+	}
+
+	/**
+	 * A fingerprint of the registered Properties, based on the canonical name
+	 * and value type of each Property, in ordinal order.
+	 *
+	 * @param config The configuration
+	 * @return A 64 bit FNV-1a hash.
+	 */
+	public static long fingerprint(StaticPropertyConfigurationInternal config) {
+		return fingerprint(config, config.getProperties().size());
+	}
+
+	/**
+	 * A fingerprint of the leading registered Properties, based on the
+	 * canonical name and value type of each Property, in ordinal order.
+	 *
+	 * @param config The configuration
+	 * @param propertyCount The number of Properties to include, starting w/
+	 * ordinal zero.
+	 * @return A 64 bit FNV-1a hash.
+	 */
+	public static long fingerprint(StaticPropertyConfigurationInternal config, int propertyCount) {
+		long hash = FNV_OFFSET;
+
+		for (Property<?> prop : config.getProperties().subList(0, propertyCount)) {
+			hash = hash(hash, config.getCanonicalName(prop));
+			hash = hash(hash, prop.getValueType().getDestinationType().getName());
+		}
+
+		return hash;
+	}
+
+	private static long hash(long hash, String str) {
+		for (int i = 0; i < str.length(); i++) {
+			hash ^= str.charAt(i);
+			hash *= FNV_PRIME;
+		}
+
+		hash ^= 0xFFFF;	//A non-character separator, so ('ab', 'c') and ('a', 'bc') differ
+		hash *= FNV_PRIME;
+		return hash;
+	}
+
+	/**
+	 * Writes the explicitly set values of all registered Properties.
+	 *
+	 * @param config The configuration the values were loaded for
+	 * @param values The loaded values
+	 * @param out The stream to write to, which is not closed.
+	 * @return The number of values written
+	 * @throws IOException If the stream cannot be written to
+	 */
+	public static int write(StaticPropertyConfigurationInternal config,
+			ValidatedValues values, OutputStream out) throws IOException {
+
+		return write(config, config.getProperties().size(), values, out);
+	}
+
+	/**
+	 * Writes the explicitly set values of the leading registered Properties.
+	 *
+	 * @param config The configuration the values were loaded for
+	 * @param propertyCount The number of Properties to cover, starting w/
+	 * ordinal zero.
+	 * @param values The loaded values
+	 * @param out The stream to write to, which is not closed.
+	 * @return The number of values written
+	 * @throws IOException If the stream cannot be written to
+	 */
+	public static int write(StaticPropertyConfigurationInternal config, int propertyCount,
+			ValidatedValues values, OutputStream out) throws IOException {
+
+		List<Property<?>> props = config.getProperties().subList(0, propertyCount);
+
+		ByteArrayOutputStream entryBytes = new ByteArrayOutputStream();
+		DataOutputStream entries = new DataOutputStream(entryBytes);
+		int count = 0;
+
+		for (int ordinal = 0; ordinal < props.size(); ordinal++) {
+			Property<?> prop = props.get(ordinal);
+
+			//Derived values are recomputed when loaded, so are not written
+			if (values.isExplicitlySet(prop) && ! (prop instanceof DerivedProperty)) {
+				entries.writeInt(ordinal);
+				entries.writeInt(config.getCanonicalName(prop).hashCode());
+				writeValue(entries, prop, values.getExplicitValue(prop));
+				count++;
+			}
+		}
+
+		entries.flush();
+
+		DataOutputStream data = new DataOutputStream(out);
+		data.writeInt(MAGIC);
+		data.writeShort(FORMAT_VERSION);
+		data.writeShort(0);
+		data.writeLong(fingerprint(config, propertyCount));
+		data.writeInt(props.size());
+		data.writeInt(count);
+		entryBytes.writeTo(data);
+		data.flush();
+
+		return count;
+	}
+
+	private static void writeValue(DataOutputStream out, Property<?> prop, Object value) throws IOException {
+
+		if (value instanceof String) {
+			out.writeByte(TAG_STRING);
+			writeString(out, (String) value);
+		} else if (value instanceof Integer) {
+			out.writeByte(TAG_INTEGER);
+			out.writeInt((Integer) value);
+		} else if (value instanceof Long) {
+			out.writeByte(TAG_LONG);
+			out.writeLong((Long) value);
+		} else if (value instanceof Double) {
+			out.writeByte(TAG_DOUBLE);
+			out.writeLong(Double.doubleToRawLongBits((Double) value));
+		} else if (value instanceof Boolean) {
+			out.writeByte(TAG_BOOLEAN);
+			out.writeBoolean((Boolean) value);
+		} else if (value instanceof LocalDateTime) {
+			LocalDateTime ldt = (LocalDateTime) value;
+			out.writeByte(TAG_LOCAL_DATE_TIME);
+			out.writeInt(ldt.getYear());
+			out.writeByte(ldt.getMonthValue());
+			out.writeByte(ldt.getDayOfMonth());
+			out.writeByte(ldt.getHour());
+			out.writeByte(ldt.getMinute());
+			out.writeByte(ldt.getSecond());
+			out.writeInt(ldt.getNano());
+		} else {
+			out.writeByte(TAG_TEXT);
+			writeString(out, ((ValueType) prop.getValueType()).toString(value));
+		}
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	/**
+	 * Reads a value at the current position of the buffer.
+	 *
+	 * @param buffer The buffer, positioned after the tag.
+	 * @param tag The type tag of the value
+	 * @return The value
+	 * @throws IllegalArgumentException If the tag is unknown
+	 */
+	static Object readValue(ByteBuffer buffer, byte tag) {
+		switch (tag) {
+			case TAG_STRING:
+			case TAG_TEXT:
+				int len = buffer.getInt();
+				String str;
+
+				if (len < 0 || len > buffer.remaining()) {
+					throw new BufferUnderflowException();
+				}
+
+				if (buffer.hasArray()) {
+					str = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), len, StandardCharsets.UTF_8);
+					buffer.position(buffer.position() + len);
+				} else {
+					byte[] bytes = new byte[len];
+					buffer.get(bytes);
+					str = new String(bytes, StandardCharsets.UTF_8);
+				}
+
+				return str;
+			case TAG_INTEGER:
+				return buffer.getInt();
+			case TAG_LONG:
+				return buffer.getLong();
+			case TAG_DOUBLE:
+				return Double.longBitsToDouble(buffer.getLong());
+			case TAG_BOOLEAN:
+				return buffer.get() != 0;
+			case TAG_LOCAL_DATE_TIME:
+				return LocalDateTime.of(buffer.getInt(), buffer.get(), buffer.get(),
+						buffer.get(), buffer.get(), buffer.get(), buffer.getInt());
+			default:
+				throw new IllegalArgumentException("Unknown value type tag: " + tag);
+		}
+	}
+}
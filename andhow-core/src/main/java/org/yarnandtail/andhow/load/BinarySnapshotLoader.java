@@ -0,0 +1,279 @@
+package org.yarnandtail.andhow.load;
+
+import org.yarnandtail.andhow.internal.StaticPropertyConfigurationInternal;
+import java.io.*;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.time.DateTimeException;
+import java.util.*;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.LoaderProblem;
+import org.yarnandtail.andhow.internal.PropertyValueSink;
+import org.yarnandtail.andhow.util.AndHowLog;
+import org.yarnandtail.andhow.util.TextUtil;
+
+/**
+ * Loads already parsed values from a binary snapshot file, written by
+ * {@link BinarySnapshotTool}.
+ *
+ * The file is memory mapped and each value is installed directly into the
+ * slot for its Property, so no text is parsed.  Values are still validated
+ * like those of any other Loader.
+ *
+ * A snapshot is only valid for the Properties it was written for.  If the
+ * registered Properties have changed since the snapshot was written, the
+ * snapshot is stale (see {@link BinarySnapshot#fingerprint(StaticPropertyConfigurationInternal)})
+ * and no values are loaded from it.  By default that is a Problem, which
+ * stops startup.  If staleness is not a problem, the snapshot is ignored and
+ * a warning is logged, so later loaders can provide the values.
+ *
+ * As with other file loaders, a missing file is a problem by default, but a
+ * file path that is not configured is not.
+ *
+ * @author eeverman
+ */
+public class BinarySnapshotLoader extends BaseLoader implements LocalFileLoader, SinkLoader {
+
+	/** Property containing the path of the snapshot file. XOR w/ pathStr */
+	protected Property<String> pathProp;
+
+	/** String containing the path of the snapshot file. XOR w/ pathProp */
+	protected String pathStr;
+
+	protected boolean missingFileAProblem = true;
+
+	protected boolean staleSnapshotAProblem = true;
+
+	String specificLoadDescription = null;
+
+	public BinarySnapshotLoader() {
+		/* empty for easy construction */ }
+
+	@Override
+	public void load(StaticPropertyConfigurationInternal appConfigDef,
+			ValidatedValuesWithContext existingValues, PropertyValueSink sink) {
+
+		String path = getEffectivePath(existingValues);
+
+		if (path == null) {
+			specificLoadDescription = "unspecified snapshot file";
+			return;
+		}
+
+		Path file = Paths.get(path);
+		specificLoadDescription = TextUtil.format("binary snapshot file at path : {} ({})",
+				path, file.toAbsolutePath());
+
+		if (! Files.isRegularFile(file)) {
+			if (isMissingFileAProblem()) {
+				sink.addProblem(new LoaderProblem.SourceNotFoundLoaderProblem(this, "Expected file on filesystem:" + path));
+			}
+			return;
+		}
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+
+			ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			loadBuffer(buffer, appConfigDef, sink);
+
+		} catch (IOException e) {
+			sink.addProblem(new LoaderProblem.IOLoaderProblem(this, e, "filesystem:" + path));
+		}
+	}
+
+	/**
+	 * Installs the values of a snapshot into the sink.
+	 *
+	 * Nothing is added if the snapshot is stale or corrupt.
+	 *
+	 * @param buffer The snapshot, positioned at its start
+	 * @param appConfigDef The configuration being loaded
+	 * @param sink The sink receiving the values of this loader
+	 */
+	public void loadBuffer(ByteBuffer buffer,
+			StaticPropertyConfigurationInternal appConfigDef, PropertyValueSink sink) {
+
+		sink.addBytesRead(buffer.remaining());
+
+		try {
+
+			if (buffer.remaining() < BinarySnapshot.HEADER_SIZE || buffer.getInt() != BinarySnapshot.MAGIC) {
+				sink.addProblem(new LoaderProblem.IncompatibleSourceLoaderProblem(this, "The file is not a snapshot"));
+				return;
+			}
+
+			short version = buffer.getShort();
+			buffer.getShort();	//reserved
+
+			if (version != BinarySnapshot.FORMAT_VERSION) {
+				sink.addProblem(new LoaderProblem.IncompatibleSourceLoaderProblem(this,
+						"Snapshot format version " + version + " is not supported"));
+				return;
+			}
+
+			long fingerprint = buffer.getLong();
+			int propCount = buffer.getInt();
+			List<Property<?>> props = appConfigDef.getProperties();
+
+			if (propCount < 0 || propCount > props.size() ||
+					fingerprint != BinarySnapshot.fingerprint(appConfigDef, propCount)) {
+				reportStale(sink, "The registered Properties have changed since the snapshot was written");
+				return;
+			}
+
+			int count = buffer.getInt();
+
+			if (count < 0 || count > propCount) {
+				throw new IllegalArgumentException("Invalid number of entries: " + count);
+			}
+
+			ValidatedValue[] values = new ValidatedValue[count];
+			int[] ordinals = new int[count];
+
+			//Read everything before adding anything, so a corrupt file adds nothing
+			for (int i = 0; i < count; i++) {
+				int ordinal = buffer.getInt();
+				int nameHash = buffer.getInt();
+				byte tag = buffer.get();
+
+				if (ordinal < 0 || ordinal >= propCount ||
+						appConfigDef.getCanonicalName(props.get(ordinal)).hashCode() != nameHash) {
+
+					reportStale(sink, "The snapshot refers to a Property that is not registered");
+					return;
+				}
+
+				Property<?> prop = props.get(ordinal);
+				ordinals[i] = ordinal;
+				Object value = BinarySnapshot.readValue(buffer, tag);
+
+				if (tag == BinarySnapshot.TAG_TEXT) {
+					ParseResult<?> result = prop.getValueType().tryParse((String) value);
+
+					if (! result.isSuccess()) {
+						throw new IllegalArgumentException(result.getFailureMessage());
+					}
+
+					value = result.getValue();
+				}
+
+				values[i] = new ValidatedValue(prop, prop.getValueType().cast(value));
+			}
+
+			for (int i = 0; i < count; i++) {
+				sink.put(ordinals[i], values[i]);
+			}
+
+		} catch (BufferUnderflowException | IllegalArgumentException | ClassCastException | DateTimeException e) {
+			sink.addProblem(new LoaderProblem.IncompatibleSourceLoaderProblem(this,
+					"The snapshot is corrupt: " + e));
+		}
+	}
+
+	private void reportStale(PropertyValueSink sink, String message) {
+		if (isStaleSnapshotAProblem()) {
+			sink.addProblem(new LoaderProblem.IncompatibleSourceLoaderProblem(this, message));
+		} else {
+			AndHowLog.getLogger(BinarySnapshotLoader.class).warn(TextUtil.format(
+					"Ignoring the stale snapshot in {}: {}", getSpecificLoadDescription(), message));
+		}
+	}
+
+	/**
+	 * Utility method to simplify finding the effective path.
+	 *
+	 * @param existingValues
+	 * @return
+	 */
+	protected String getEffectivePath(ValidatedValuesWithContext existingValues) {
+		if (pathStr != null) {
+			return pathStr;
+		} else if (pathProp != null && existingValues != null) {
+			return existingValues.getValue(pathProp);
+		} else {
+			return null;
+		}
+	}
+
+	@Override
+	public List<Property> getInstanceConfig() {
+		if (pathProp != null) {
+			ArrayList<Property> list = new ArrayList();
+			list.add(pathProp);
+			return list;
+		} else {
+			return Collections.emptyList();
+		}
+	}
+
+	@Override
+	public String getSpecificLoadDescription() {
+		if (specificLoadDescription != null) {
+			return specificLoadDescription;
+		} else if (getEffectivePath(null) != null) {
+			return "binary snapshot file at path : " + getEffectivePath(null);
+		} else {
+			return "unconfigured snapshot file";
+		}
+	}
+
+	@Override
+	public boolean isTrimmingRequiredForStringValues() {
+		return false;	//Values were trimmed before the snapshot was written
+	}
+
+	@Override
+	public String getLoaderType() {
+		return "BinarySnapshot";
+	}
+
+	@Override
+	public String getLoaderDialect() {
+		return null;
+	}
+
+	@Override
+	public void setFilePath(String path) {
+		if (path != null && pathProp != null) {
+			throw new IllegalArgumentException("The FilePath cannot be specified "
+					+ "as both a String and StrProp");
+		}
+		pathStr = path;
+	}
+
+	@Override
+	public void setFilePath(Property<String> path) {
+		if (path != null && pathStr != null) {
+			throw new IllegalArgumentException("The FilePath cannot be specified "
+					+ "as both a String and StrProp");
+		}
+		pathProp = path;
+	}
+
+	@Override
+	public void setMissingFileAProblem(boolean isAProblem) {
+		missingFileAProblem = isAProblem;
+	}
+
+	@Override
+	public boolean isMissingFileAProblem() {
+		return missingFileAProblem;
+	}
+
+	/**
+	 * If set true (the default), a snapshot written for different registered
+	 * Properties is a Problem that stops startup.  If false, it is ignored.
+	 *
+	 * @param isAProblem
+	 */
+	public void setStaleSnapshotAProblem(boolean isAProblem) {
+		staleSnapshotAProblem = isAProblem;
+	}
+
+	public boolean isStaleSnapshotAProblem() {
+		return staleSnapshotAProblem;
+	}
+
+}
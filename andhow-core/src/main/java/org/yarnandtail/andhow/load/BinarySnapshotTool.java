@@ -0,0 +1,120 @@
+package org.yarnandtail.andhow.load;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import org.yarnandtail.andhow.AndHow;
+import org.yarnandtail.andhow.AndHowConfiguration;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.AndHowCore;
+
+/**
+ * A command line tool that writes a binary configuration snapshot for an
+ * application, as part of a build or deployment.
+ * <p>
+ * The tool must run w/ the application's classpath, so it finds the same
+ * registered Properties and the same AndHow configuration as the application.
+ * It runs the normal loaders, including properties files and the command line
+ * arguments passed after the output path, then writes every explicitly set
+ * value of the application's Properties to the snapshot file.  The Properties
+ * used to configure Loaders are not written.  Run it as:
+ * <pre>{@code
+ * java -cp [app classpath] org.yarnandtail.andhow.load.BinarySnapshotTool
+ *     target/config.snapshot com.bigcorp.Conf.DB_URL=jdbc:...
+ * }</pre>
+ * At startup, a {@link BinarySnapshotLoader} configured w/ the path of the
+ * snapshot then loads the values w/o parsing any text.
+ * <p>
+ * Exits w/ a non-zero status if the configuration has problems or the file
+ * cannot be written.
+ *
+ * @author eeverman
+ */
+public class BinarySnapshotTool {
+
+	public static void main(String[] args) {
+
+		if (args.length < 1) {
+			System.err.println("Usage: " + BinarySnapshotTool.class.getName() +
+					" <snapshot file> [key=value ...]");
+			System.exit(2);
+		}
+
+		try {
+			int count = write(AndHow.findConfig(), Paths.get(args[0]), Arrays.copyOfRange(args, 1, args.length));
+			System.out.println("Wrote " + count + " values to " + args[0]);
+		} catch (AppFatalException e) {
+			//Problems were already printed by AndHow
+			System.exit(1);
+		} catch (IOException | IllegalArgumentException e) {
+			System.err.println("Unable to write the snapshot: " + e.getMessage());
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Runs the loaders of the configuration and writes the loaded values to
+	 * a snapshot file.
+	 *
+	 * This does not initialize the AndHow singleton.
+	 *
+	 * @param config The configuration to load w/
+	 * @param file The snapshot file to write, which is replaced if it exists.
+	 * @param cmdLineArgs Key value pairs to load, as if from the command line.
+	 * @return The number of values written
+	 * @throws AppFatalException If the configuration has problems
+	 * @throws IOException If the file cannot be written
+	 */
+	public static int write(AndHowConfiguration<?> config, Path file, String[] cmdLineArgs) throws IOException {
+
+		if (cmdLineArgs != null && cmdLineArgs.length > 0) {
+			config.setCmdLineArgs(cmdLineArgs);
+		}
+
+		List<Loader> loaders = config.buildLoaders();
+
+		AndHowCore core = new AndHowCore(
+				config.getNamingStrategy(),
+				loaders,
+				config.getRegisteredGroups());
+
+		//Write in memory first, so a value that cannot be written leaves no partial file
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		int count = BinarySnapshot.write(core, countApplicationProperties(core, loaders),
+				core.getValuesWithContext(), out);
+
+		Path parent = file.toAbsolutePath().getParent();
+		if (parent != null) {
+			Files.createDirectories(parent);
+		}
+
+		Files.write(file, out.toByteArray());
+		return count;
+	}
+
+	/**
+	 * The number of leading Properties that belong to the application's groups
+	 * and the AndHow Options, rather than to the configuration of a Loader.
+	 *
+	 * Loader configuration Properties are registered after all others.
+	 */
+	static int countApplicationProperties(AndHowCore core, List<Loader> loaders) {
+		Set<Class<?>> loaderConfigs = new HashSet();
+
+		for (Loader loader : loaders) {
+			if (loader.getClassConfig() != null) {
+				loaderConfigs.add(loader.getClassConfig());
+			}
+		}
+
+		List<Property<?>> props = core.getProperties();
+
+		for (int i = 0; i < props.size(); i++) {
+			if (loaderConfigs.contains(core.getGroupForProperty(props.get(i)).getProxiedGroup())) {
+				return i;
+			}
+		}
+
+		return props.size();
+	}
+}
@@ -0,0 +1,565 @@
+package org.yarnandtail.andhow.load;
+
+import org.yarnandtail.andhow.internal.StaticPropertyConfigurationInternal;
+import java.io.*;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.LoaderProblem;
+import org.yarnandtail.andhow.util.AndHowLog;
+import org.yarnandtail.andhow.util.TextUtil;
+
+/**
+ * Reads a Java .property file from an HTTP(S) URL, such as a configuration
+ * service, keeping the last good response in a local cache file.
+ *
+ * The URL is set via setUrl() and the cache file via setFilePath().  W/o a
+ * cache file, the URL is read on every load and an unreachable URL is a
+ * problem.  With a cache file:
+ * <ul>
+ * <li>The request is a conditional GET, sending the ETag and Last-Modified
+ * of the cached response.  If the server responds 304 Not Modified, the
+ * cache file is read instead of downloading the body again.</li>
+ * <li>Each good (200) response that parses w/o error replaces the cache file
+ * atomically, so the cache file is always a complete response.</li>
+ * <li>If the server cannot be reached, times out or returns an error, the
+ * cache file is read instead and a warning is logged.</li>
+ * <li>If {@link #setCacheMaxAge(long)} is set, a cache file younger than that
+ * is read w/o contacting the server at all.</li>
+ * </ul>
+ * The cache file is itself a valid properties file:  The ETag, Last-Modified
+ * and URL are stored as comment lines before the response body.
+ *
+ * The whole request, from looking up the host to reading the last byte of
+ * the body, must complete within a single deadline, so a slow or unreachable
+ * server cannot hold up startup for longer than that.  The deadline is the sum
+ * of the connect and read timeouts unless set via {@link #setTimeout(int)}.
+ * The request runs on a separate daemon thread, so the deadline also applies
+ * to a slow host name lookup or a server that trickles the body.
+ *
+ * The response body is parsed the same way as by the other property file
+ * loaders, so the same rules for unknown properties, trimming and encoding
+ * apply.  A missing resource (404) is treated like a missing file.
+ *
+ * @author eeverman
+ */
+public class HttpPropFileLoader extends PropFileBaseLoader {
+
+	private static final AndHowLog LOG = AndHowLog.getLogger(HttpPropFileLoader.class);
+
+	private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+	/** Default timeout to connect to the server */
+	public static final int DEFAULT_CONNECT_TIMEOUT_MILLIS = 1000;
+
+	/** Default timeout to wait for data once connected */
+	public static final int DEFAULT_READ_TIMEOUT_MILLIS = 2000;
+
+	/** Prefix of the comment lines w/ the response metadata in the cache file */
+	static final String CACHE_HEADER_PREFIX = "#andhow-";
+
+	static final String ETAG_HEADER = "etag: ";
+	static final String LAST_MODIFIED_HEADER = "last-modified: ";
+	static final String URL_HEADER = "url: ";
+
+	/** Property containing the URL. XOR w/ urlStr */
+	protected Property<String> urlProp;
+
+	/** String containing the URL. XOR w/ urlProp */
+	protected String urlStr;
+
+	protected int connectTimeoutMillis = DEFAULT_CONNECT_TIMEOUT_MILLIS;
+
+	protected int readTimeoutMillis = DEFAULT_READ_TIMEOUT_MILLIS;
+
+	/** Deadline for the whole request, or zero for the connect + read timeouts */
+	protected int timeoutMillis = 0;
+
+	protected long cacheMaxAgeMillis = 0L;
+
+	/** How the values were last loaded:  One of the LoadSource values */
+	private volatile LoadSource lastLoadSource;
+
+	String specificLoadDescription = null;
+
+	/**
+	 * Where the values were read from by a load.
+	 */
+	public enum LoadSource {
+		/** A 200 response from the server */
+		SERVER,
+		/** The cache file, after a 304 Not Modified response */
+		CACHE_NOT_MODIFIED,
+		/** The cache file, since it was younger than the max cache age */
+		CACHE_FRESH,
+		/** The cache file, since the server could not be read */
+		CACHE_FALLBACK,
+		/** Nothing could be read */
+		NONE
+	}
+
+	public HttpPropFileLoader() {
+		/* empty for easy construction */ }
+
+	@Override
+	public LoaderValues load(StaticPropertyConfigurationInternal appConfigDef, ValidatedValuesWithContext existingValues) {
+
+		String url = getEffectiveUrl(existingValues);
+		String cachePath = getEffectivePath(existingValues);
+
+		if (url == null) {
+			specificLoadDescription = "unspecified URL";
+			lastLoadSource = LoadSource.NONE;
+			return new LoaderValues(this);
+		}
+
+		specificLoadDescription = TextUtil.format("properties file at URL : {} (cached at {})",
+				url, (cachePath != null)? cachePath : "[no cache]");
+
+		Path cacheFile = (cachePath != null)? Paths.get(cachePath) : null;
+		CacheHeader cached = (cacheFile != null)? readCacheHeader(cacheFile, url) : null;
+
+		if (cached != null && cacheMaxAgeMillis > 0 && cached.ageMillis < cacheMaxAgeMillis) {
+			return loadCache(appConfigDef, existingValues, cacheFile, LoadSource.CACHE_FRESH);
+		}
+
+		try {
+			Response response = fetch(url, cached);
+
+			if (response.status == HttpURLConnection.HTTP_OK) {
+
+				LoaderValues values = loadBufferToProps(ByteBuffer.wrap(response.body), url, appConfigDef, existingValues);
+
+				//Only a response that loads w/o problems replaces the last good response
+				if (cacheFile != null && values.getProblems().isEmpty()) {
+					writeCache(cacheFile, url, response.etag, response.lastModified, response.body);
+				}
+
+				lastLoadSource = LoadSource.SERVER;
+				return values;
+
+			} else if (response.status == HttpURLConnection.HTTP_NOT_MODIFIED && cached != null) {
+
+				return loadCache(appConfigDef, existingValues, cacheFile, LoadSource.CACHE_NOT_MODIFIED);
+
+			} else if (response.status == HttpURLConnection.HTTP_NOT_FOUND && cached == null) {
+
+				lastLoadSource = LoadSource.NONE;
+
+				if (isMissingFileAProblem()) {
+					return new LoaderValues(this, new LoaderProblem.SourceNotFoundLoaderProblem(this, "Expected resource at URL:" + url));
+				} else {
+					return new LoaderValues(this);
+				}
+
+			} else {
+				throw new IOException("Unexpected HTTP response status " + response.status);
+			}
+
+		} catch (LoaderException e) {
+			//The server sent an unparsable body - don't cache or fall back, since it may be the real config
+			lastLoadSource = LoadSource.NONE;
+			return new LoaderValues(this, new LoaderProblem.IOLoaderProblem(this, e.getCause(), "url:" + url));
+		} catch (IOException | RuntimeException e) {
+
+			if (cached != null) {
+				LOG.warn(TextUtil.format("Unable to read properties from {} ({}), so the cached copy at {} was used",
+						url, e.toString(), cachePath));
+
+				return loadCache(appConfigDef, existingValues, cacheFile, LoadSource.CACHE_FALLBACK);
+			} else {
+				lastLoadSource = LoadSource.NONE;
+				return new LoaderValues(this, new LoaderProblem.IOLoaderProblem(this, e, "url:" + url));
+			}
+
+		}
+	}
+
+	/**
+	 * Sends the request and reads the response on a daemon thread, giving up
+	 * if it does not complete by the deadline.
+	 *
+	 * @param url The URL to request
+	 * @param cached The metadata of the cached response, or null
+	 * @return The response
+	 * @throws IOException If the request fails or does not complete in time
+	 */
+	protected Response fetch(String url, CacheHeader cached) throws IOException {
+
+		int deadline = getTimeout();
+		HttpURLConnection[] conn = new HttpURLConnection[1];
+		boolean[] abandoned = new boolean[1];
+
+		FutureTask<Response> task = new FutureTask(() -> {
+			HttpURLConnection c = (HttpURLConnection) new URL(url).openConnection();
+
+			synchronized (conn) {
+				if (abandoned[0]) {
+					throw new IOException("The request was abandoned");
+				}
+				conn[0] = c;
+			}
+
+			return sendRequest(c, cached);
+		});
+
+		Thread t = new Thread(task, "andhow-http-load-" + THREAD_COUNT.incrementAndGet());
+		t.setDaemon(true);
+		t.start();
+
+		try {
+			return task.get(deadline, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			throw new IOException("The request did not complete within " + deadline + "ms");
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while waiting for the response", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else {
+				throw new IOException(cause);
+			}
+		} finally {
+			task.cancel(true);
+
+			synchronized (conn) {
+				abandoned[0] = true;
+
+				if (conn[0] != null) {
+					conn[0].disconnect();	//Closes the socket, ending a read still in progress
+				}
+			}
+		}
+	}
+
+	/**
+	 * Sends the request on a connection and reads the response.
+	 */
+	private Response sendRequest(HttpURLConnection conn, CacheHeader cached) throws IOException {
+		conn.setConnectTimeout(connectTimeoutMillis);
+		conn.setReadTimeout(readTimeoutMillis);
+		conn.setUseCaches(false);
+
+		if (cached != null) {
+			if (cached.etag != null) {
+				conn.setRequestProperty("If-None-Match", cached.etag);
+			}
+
+			if (cached.lastModified != null) {
+				conn.setRequestProperty("If-Modified-Since", cached.lastModified);
+			}
+		}
+
+		Response response = new Response();
+		response.status = conn.getResponseCode();
+
+		if (response.status == HttpURLConnection.HTTP_OK) {
+			try (InputStream in = conn.getInputStream()) {
+				response.body = readFully(in);
+			}
+
+			response.etag = conn.getHeaderField("ETag");
+			response.lastModified = conn.getHeaderField("Last-Modified");
+		}
+
+		return response;
+	}
+
+	/**
+	 * Reads the values from the memory mapped cache file.
+	 */
+	protected LoaderValues loadCache(StaticPropertyConfigurationInternal appConfigDef,
+			ValidatedValuesWithContext existingValues, Path cacheFile, LoadSource source) {
+
+		try (FileChannel channel = FileChannel.open(cacheFile, StandardOpenOption.READ)) {
+
+			ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			LoaderValues values = loadBufferToProps(buffer, cacheFile.toString(), appConfigDef, existingValues);
+			lastLoadSource = source;
+			return values;
+
+		} catch (LoaderException e) {
+			lastLoadSource = LoadSource.NONE;
+			return new LoaderValues(this, new LoaderProblem.IOLoaderProblem(this, e.getCause(), "filesystem:" + cacheFile));
+		} catch (IOException e) {
+			lastLoadSource = LoadSource.NONE;
+			return new LoaderValues(this, new LoaderProblem.IOLoaderProblem(this, e, "filesystem:" + cacheFile));
+		}
+	}
+
+	/**
+	 * Reads the response metadata from the comment lines at the start of the
+	 * cache file.
+	 *
+	 * @param cacheFile The cache file
+	 * @param url The URL being loaded.  A cache of a different URL is ignored.
+	 * @return The metadata or null if there is no usable cache file.
+	 */
+	protected CacheHeader readCacheHeader(Path cacheFile, String url) {
+
+		if (! Files.isRegularFile(cacheFile)) {
+			return null;
+		}
+
+		try (BufferedReader reader = Files.newBufferedReader(cacheFile, StandardCharsets.ISO_8859_1)) {
+
+			CacheHeader header = new CacheHeader();
+			String cachedUrl = null;
+			String line;
+
+			while ((line = reader.readLine()) != null && line.startsWith(CACHE_HEADER_PREFIX)) {
+				String field = line.substring(CACHE_HEADER_PREFIX.length());
+
+				if (field.startsWith(ETAG_HEADER)) {
+					header.etag = field.substring(ETAG_HEADER.length());
+				} else if (field.startsWith(LAST_MODIFIED_HEADER)) {
+					header.lastModified = field.substring(LAST_MODIFIED_HEADER.length());
+				} else if (field.startsWith(URL_HEADER)) {
+					cachedUrl = field.substring(URL_HEADER.length());
+				}
+			}
+
+			if (! url.equals(cachedUrl)) {
+				return null;
+			}
+
+			header.ageMillis = System.currentTimeMillis() - Files.getLastModifiedTime(cacheFile).toMillis();
+			return header;
+
+		} catch (IOException e) {
+			LOG.warn(TextUtil.format("Unable to read the cache file {} ({}), so it is ignored",
+					cacheFile, e.toString()));
+			return null;
+		}
+	}
+
+	/**
+	 * Replaces the cache file w/ a new response.
+	 *
+	 * The file is written to a temp file in the same directory, which is then
+	 * moved in place, so a load never sees a partial file.  Failure to write
+	 * the cache only logs a warning, since the values were loaded.
+	 */
+	protected void writeCache(Path cacheFile, String url, String etag, String lastModified, byte[] body) {
+
+		Path tmp = null;
+
+		try {
+			Path dir = cacheFile.toAbsolutePath().getParent();
+			Files.createDirectories(dir);
+			tmp = Files.createTempFile(dir, cacheFile.getFileName().toString(), ".tmp");
+
+			try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmp))) {
+				writeHeaderLine(out, URL_HEADER, url);
+				writeHeaderLine(out, ETAG_HEADER, etag);
+				writeHeaderLine(out, LAST_MODIFIED_HEADER, lastModified);
+				out.write(body);
+			}
+
+			try {
+				Files.move(tmp, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tmp, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+			}
+
+		} catch (IOException e) {
+			LOG.warn(TextUtil.format("Unable to write the cache file {} ({})", cacheFile, e.toString()));
+
+			if (tmp != null) {
+				try {
+					Files.deleteIfExists(tmp);
+				} catch (IOException e2) {
+					//Ignore - nothing more to do
+				}
+			}
+		}
+	}
+
+	private static void writeHeaderLine(OutputStream out, String field, String value) throws IOException {
+		if (value != null) {
+			//Line breaks would end the comment
+			String line = CACHE_HEADER_PREFIX + field + value.replace('\r', ' ').replace('\n', ' ') + "\n";
+			out.write(line.getBytes(StandardCharsets.ISO_8859_1));
+		}
+	}
+
+	private static byte[] readFully(InputStream in) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		byte[] buf = new byte[8192];
+		int count;
+
+		while ((count = in.read(buf)) > 0) {
+			bytes.write(buf, 0, count);
+		}
+
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Utility method to simplify finding the effective URL.
+	 *
+	 * @param existingValues
+	 * @return
+	 */
+	protected String getEffectiveUrl(ValidatedValuesWithContext existingValues) {
+		if (urlStr != null) {
+			return urlStr;
+		} else if (urlProp != null && existingValues != null) {
+			return existingValues.getValue(urlProp);
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * How the values were read by the last load.
+	 *
+	 * @return The source or null if not loaded.
+	 */
+	public LoadSource getLastLoadSource() {
+		return lastLoadSource;
+	}
+
+	public void setUrl(String url) {
+		if (url != null && urlProp != null) {
+			throw new IllegalArgumentException("The Url cannot be specified "
+					+ "as both a String and StrProp");
+		}
+		urlStr = url;
+	}
+
+	public void setUrl(Property<String> url) {
+		if (url != null && urlStr != null) {
+			throw new IllegalArgumentException("The Url cannot be specified "
+					+ "as both a String and StrProp");
+		}
+		urlProp = url;
+	}
+
+	/**
+	 * Sets the timeout to connect to the server.
+	 *
+	 * @param millis Milliseconds, which must be greater than zero.
+	 */
+	public void setConnectTimeout(int millis) {
+		if (millis <= 0) {
+			throw new IllegalArgumentException("The connect timeout must be greater than zero");
+		}
+		connectTimeoutMillis = millis;
+	}
+
+	public int getConnectTimeout() {
+		return connectTimeoutMillis;
+	}
+
+	/**
+	 * Sets the timeout to wait for data from the server once connected.
+	 *
+	 * @param millis Milliseconds, which must be greater than zero.
+	 */
+	public void setReadTimeout(int millis) {
+		if (millis <= 0) {
+			throw new IllegalArgumentException("The read timeout must be greater than zero");
+		}
+		readTimeoutMillis = millis;
+	}
+
+	public int getReadTimeout() {
+		return readTimeoutMillis;
+	}
+
+	/**
+	 * Sets the deadline for the whole request, including looking up the host,
+	 * connecting and reading the entire response.
+	 *
+	 * @param millis Milliseconds, or zero (the default) for the sum of the
+	 * connect and read timeouts.
+	 */
+	public void setTimeout(int millis) {
+		if (millis < 0) {
+			throw new IllegalArgumentException("The timeout cannot be negative");
+		}
+		timeoutMillis = millis;
+	}
+
+	/**
+	 * The deadline for the whole request.
+	 *
+	 * @return Milliseconds
+	 */
+	public int getTimeout() {
+		return (timeoutMillis > 0)? timeoutMillis : connectTimeoutMillis + readTimeoutMillis;
+	}
+
+	/**
+	 * Sets the age under which the cache file is read w/o contacting the server.
+	 *
+	 * @param millis Milliseconds, or zero (the default) to always contact the server.
+	 */
+	public void setCacheMaxAge(long millis) {
+		cacheMaxAgeMillis = Math.max(0L, millis);
+	}
+
+	public long getCacheMaxAge() {
+		return cacheMaxAgeMillis;
+	}
+
+	@Override
+	public List<Property> getInstanceConfig() {
+		List<Property> list = new ArrayList(super.getInstanceConfig());
+
+		if (urlProp != null) {
+			list.add(urlProp);
+		}
+
+		return list;
+	}
+
+	@Override
+	public String getSpecificLoadDescription() {
+
+		if (specificLoadDescription != null) {
+			return specificLoadDescription;
+		} else {
+
+			String url = getEffectiveUrl(null);
+			if (url != null) {
+				return TextUtil.format("properties file at URL : {}", url);
+			} else {
+				return "unconfigured URL";
+			}
+		}
+	}
+
+	/**
+	 * A response read from the server.
+	 */
+	protected static class Response {
+		int status;
+		byte[] body;
+		String etag;
+		String lastModified;
+	}
+
+	/**
+	 * The response metadata stored in the cache file.
+	 */
+	protected static class CacheHeader {
+		String etag;
+		String lastModified;
+		long ageMillis;
+	}
+
+}
@@ -0,0 +1,123 @@
+package org.yarnandtail.andhow.load;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A BatchLookupLoader backed by a map, standing in for a remote source in
+ * tests and benchmarks.
+ * 
+ * Each batch may be delayed to simulate the round trip to a remote source,
+ * and the number of batches and names looked up are counted, so the effect
+ * of the batch size and parallelism can be measured w/o a real source.
+ * 
+ * @author eeverman
+ */
+public class InMemoryLookupLoader extends BatchLookupLoaderBase {
+	
+	private final Map<String, Object> values = new ConcurrentHashMap();
+	private volatile long roundTripMillis = 0L;
+	private final AtomicInteger batchCount = new AtomicInteger();
+	private final AtomicLong nameCount = new AtomicLong();
+	
+	public InMemoryLookupLoader() {
+		/* empty for easy construction */ }
+	
+	/**
+	 * New instance w/ a copy of the passed values.
+	 * 
+	 * @param values Names mapped to values, which may be Strings or objects
+	 * of the Property value type.
+	 */
+	public InMemoryLookupLoader(Map<String, ?> values) {
+		this.values.putAll(values);
+	}
+	
+	@Override
+	public Map<String, ?> lookupBatch(List<String> names) throws IOException {
+		batchCount.incrementAndGet();
+		nameCount.addAndGet(names.size());
+		
+		if (roundTripMillis > 0) {
+			try {
+				Thread.sleep(roundTripMillis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted during the simulated round trip");
+			}
+		}
+		
+		Map<String, Object> found = new HashMap();
+		
+		for (String name : names) {
+			Object value = values.get(name);
+			
+			if (value != null) {
+				found.put(name, value);
+			}
+		}
+		
+		return found;
+	}
+	
+	/**
+	 * Adds or replaces a value.
+	 * 
+	 * @param name The name to look up
+	 * @param value The value
+	 */
+	public void put(String name, Object value) {
+		values.put(name, value);
+	}
+	
+	/**
+	 * Sets a delay for each batch, to simulate a round trip to a remote source.
+	 * 
+	 * @param millis Milliseconds, or zero for no delay.
+	 */
+	public void setRoundTripMillis(long millis) {
+		roundTripMillis = Math.max(0L, millis);
+	}
+	
+	public long getRoundTripMillis() {
+		return roundTripMillis;
+	}
+	
+	/**
+	 * The number of batches looked up since construction or the last reset.
+	 * 
+	 * @return 
+	 */
+	public int getBatchCount() {
+		return batchCount.get();
+	}
+	
+	/**
+	 * The number of names looked up since construction or the last reset.
+	 * 
+	 * @return 
+	 */
+	public long getNameCount() {
+		return nameCount.get();
+	}
+	
+	public void resetCounts() {
+		batchCount.set(0);
+		nameCount.set(0L);
+	}
+	
+	@Override
+	public String getSpecificLoadDescription() {
+		return "in-memory lookup of " + values.size() + " values";
+	}
+	
+	@Override
+	public String getLoaderType() {
+		return "InMemoryLookup";
+	}
+	
+}
@@ -10,6 +10,9 @@ import org.yarnandtail.andhow.util.TextUtil;
 public class KVP {
 	public static final KVP NULL_KVP = new KVP();
 	
+	/** Characters that have a special meaning in a regex */
+	private static final String REGEX_SPECIAL_CHARS = ".$|()[]{}^?*+\\";
+	
 	private String name;
 	private String value;
 	
@@ -51,12 +54,21 @@ public class KVP {
 	 * An ParsingException is thrown if there is only whitespace before
 	 * the delimiter.
 	 * 
+	 * The delimiter is a regex, however, a single character delimiter that is
+	 * not a regex special character is split w/o the regex engine, via
+	 * {@link #splitKVP(java.lang.String, char)}.
+	 * 
 	 * @param arg
 	 * @param delimiter
 	 * @return
 	 * @throws ParsingException 
 	 */
 	public static KVP splitKVP(String arg, String delimiter) throws ParsingException {
+		
+		if (delimiter.length() == 1 && REGEX_SPECIAL_CHARS.indexOf(delimiter.charAt(0)) < 0) {
+			return splitKVP(arg, delimiter.charAt(0));
+		}
+		
 		arg = TextUtil.trimToNull(arg);
 		
 		if (arg != null) {
@@ -81,4 +93,59 @@ public class KVP {
 			return KVP.NULL_KVP;
 		}
 	}
+	
+	/**
+	 * Splits a key value pair String into its key and value on the first
+	 * instance of the delimiter character.
+	 * 
+	 * This has the same result as {@link #splitKVP(java.lang.String, java.lang.String)},
+	 * but finds the delimiter and trims the key and value in a single pass
+	 * over the String, so the only Strings created are the key and value.
+	 * 
+	 * @param arg
+	 * @param delimiter
+	 * @return
+	 * @throws ParsingException 
+	 */
+	public static KVP splitKVP(String arg, char delimiter) throws ParsingException {
+		
+		if (arg == null) {
+			return KVP.NULL_KVP;
+		}
+		
+		//Bounds of the trimmed arg, trimming as String.trim() does
+		int start = 0;
+		int end = arg.length();
+		
+		while (start < end && arg.charAt(start) <= ' ') start++;
+		while (end > start && arg.charAt(end - 1) <= ' ') end--;
+		
+		if (start == end) {
+			return KVP.NULL_KVP;
+		}
+		
+		int delim = start;
+		while (delim < end && arg.charAt(delim) != delimiter) delim++;
+		
+		int nameEnd = delim;
+		while (nameEnd > start && arg.charAt(nameEnd - 1) <= ' ') nameEnd--;
+		
+		if (nameEnd == start) {
+			throw new ParsingException("The key (parameter name) cannot be empty", arg.substring(start, end));
+		}
+		
+		KVP kvp = new KVP();
+		kvp.name = arg.substring(start, nameEnd);
+		
+		if (delim < end) {
+			int valueStart = delim + 1;
+			while (valueStart < end && arg.charAt(valueStart) <= ' ') valueStart++;
+			
+			if (valueStart < end) {
+				kvp.value = arg.substring(valueStart, end);
+			}
+		}
+		
+		return kvp;
+	}
 }
@@ -4,6 +4,7 @@ import org.yarnandtail.andhow.internal.StaticPropertyConfigurationInternal;
 import java.util.*;
 import org.yarnandtail.andhow.api.*;
 import org.yarnandtail.andhow.internal.LoaderProblem;
+import org.yarnandtail.andhow.internal.PropertyValueSink;
 
 /**
  * Intended to reads properties from the command line, but could be used for
@@ -27,7 +28,7 @@ import org.yarnandtail.andhow.internal.LoaderProblem;
  * 
  * @author eeverman
  */
-public class KeyValuePairLoader extends BaseLoader implements ReadLoader {
+public class KeyValuePairLoader extends BaseLoader implements ReadLoader, SinkLoader {
 
 	protected boolean unknownPropertyAProblem = true;
 	
@@ -36,6 +37,11 @@ public class KeyValuePairLoader extends BaseLoader implements ReadLoader {
 	 */
 	public static final String KVP_DELIMITER = "=";
 	
+	/**
+	 * The default delimiter between a key and a value, as a char.
+	 */
+	public static final char KVP_DELIMITER_CHAR = '=';
+	
 	private List<String> keyValuePairs = new ArrayList();
 	
 	public KeyValuePairLoader() {
@@ -78,29 +84,36 @@ public class KeyValuePairLoader extends BaseLoader implements ReadLoader {
 	}
 	
 	@Override
-	public LoaderValues load(StaticPropertyConfigurationInternal appConfigDef, ValidatedValuesWithContext existingValues) {
-		
-		ArrayList<ValidatedValue> values = new ArrayList();
-		ProblemList<Problem> problems = new ProblemList();
+	public void load(StaticPropertyConfigurationInternal appConfigDef, 
+			ValidatedValuesWithContext existingValues, PropertyValueSink sink) {
 		
 		if (keyValuePairs != null) {
 			for (String s : keyValuePairs) {
-				try {
-					KVP kvp = KVP.splitKVP(s, KVP_DELIMITER);
-
-					attemptToAdd(appConfigDef, values, problems, kvp.getName(), kvp.getValue());
-
-				} catch (ParsingException e) {
-					//thrown by KVP.split - this is aloader level problem if we cannot
-					//determine even what the Property is.
-					problems.add(new LoaderProblem.ParsingLoaderProblem(this, null, null, e));
-				}
+				loadKeyValuePair(appConfigDef, sink, s);
 			}
-
-			values.trimToSize();
 		}
+	}
+	
+	/**
+	 * Splits a single key value pair and adds its value to the sink.
+	 * 
+	 * @param appConfigDef The configuration being loaded
+	 * @param sink The sink receiving the values of this loader
+	 * @param keyValuePair A key-value pair, just a key, or blank.
+	 */
+	protected void loadKeyValuePair(StaticPropertyConfigurationInternal appConfigDef, 
+			PropertyValueSink sink, String keyValuePair) {
 		
-		return new LoaderValues(this, values, problems);
+		try {
+			KVP kvp = KVP.splitKVP(keyValuePair, KVP_DELIMITER_CHAR);
+
+			attemptToAdd(appConfigDef, sink, kvp.getName(), kvp.getValue());
+
+		} catch (ParsingException e) {
+			//thrown by KVP.split - this is aloader level problem if we cannot
+			//determine even what the Property is.
+			sink.addProblem(new LoaderProblem.ParsingLoaderProblem(this, null, null, e));
+		}
 	}
 	
 	@Override
@@ -3,13 +3,14 @@ package org.yarnandtail.andhow.load;
 import org.yarnandtail.andhow.internal.StaticPropertyConfigurationInternal;
 import java.util.*;
 import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.PropertyValueSink;
 
 /**
  * Loads values from a map.
  * 
  * @author eeverman
  */
-public class MapLoader extends BaseLoader implements ReadLoader {
+public class MapLoader extends BaseLoader implements ReadLoader, SinkLoader {
 	
 	protected Map<?, ?> map;
 	
@@ -27,32 +28,23 @@ public class MapLoader extends BaseLoader implements ReadLoader {
 	}
 	
 	@Override
-	public LoaderValues load(StaticPropertyConfigurationInternal appConfigDef, 
-			ValidatedValuesWithContext existingValues) {
+	public void load(StaticPropertyConfigurationInternal appConfigDef, 
+			ValidatedValuesWithContext existingValues, PropertyValueSink sink) {
 		
 		Map<?, ?> props = getMap();
 		
 		if (props != null) {
-			ArrayList<ValidatedValue> values = new ArrayList();
-			ProblemList<Problem> problems = new ProblemList();
-
-			Set<?> keys = props.keySet();
-			for(Object key : keys) {
+			for (Map.Entry<?, ?> entry : props.entrySet()) {
+				Object key = entry.getKey();
+				
 				if (key != null) {
-					Object val = props.get(key);
+					Object val = entry.getValue();
 					String sVal = (val != null)?val.toString():null;
 
-					attemptToAdd(appConfigDef, values, problems, key.toString(), sVal);
+					attemptToAdd(appConfigDef, sink, key.toString(), sVal);
 				}
 			}
-
-			values.trimToSize();
-			return new LoaderValues(this, values, problems);
-		} else {
-			return new LoaderValues(this);
 		}
-		
-		
 	}
 	
 	@Override
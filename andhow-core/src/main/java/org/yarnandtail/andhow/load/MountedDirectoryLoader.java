@@ -0,0 +1,383 @@
+package org.yarnandtail.andhow.load;
+
+import org.yarnandtail.andhow.internal.StaticPropertyConfigurationInternal;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.LoaderProblem;
+import org.yarnandtail.andhow.internal.PropertyValueSink;
+import org.yarnandtail.andhow.util.TextUtil;
+
+/**
+ * Reads values from a directory where each file name is a property name and
+ * the content of the file is the value, which is how Kubernetes mounts
+ * ConfigMaps and Secrets.
+ *
+ * The directory is set via setFilePath().  Rather than listing the directory,
+ * this loader probes only for the files named after registered Properties.
+ * For each Property it looks for files named after the canonical name and each
+ * 'in' alias, as is and in the environment variable style, i.e. uppercase with
+ * dots and dashes replaced by underscores.  For example, a Property named
+ * {@code com.bigcorp.Conf.DB_URL} is read from a file named either
+ * {@code com.bigcorp.Conf.DB_URL} or {@code COM_BIGCORP_CONF_DB_URL}.  If more
+ * than one of these files exists for the same Property, it is a duplicate
+ * property Problem, as with other loaders.
+ *
+ * File content is read as UTF-8 and a single trailing line break, which
+ * editors and {@code echo} usually add, is removed.  String values are then
+ * trimmed by the Trimmer of their Property, as w/ other loaders.
+ *
+ * <h3>Updates</h3>
+ * Kubernetes updates a mounted directory atomically:  The files are written to
+ * a new timestamped directory and the {@code ..data} symlink is swapped to
+ * point to it.  When the {@code ..data} link is present, this loader reads all
+ * files from the directory it points to, so all values come from the same
+ * version, even if an update happens during loading.  The version that was
+ * loaded is available from {@link #getLoadedDataVersion()} and
+ * {@link #pollForUpdate()} reports each swap of the link exactly once, so an
+ * application that reloads its configuration does so once per update rather
+ * than once per changed file.
+ *
+ * By default, this loader considers it a problem not to find the configured
+ * directory.  A Property w/o a file is not a problem.
+ *
+ * @author eeverman
+ */
+public class MountedDirectoryLoader extends BaseLoader implements LocalFileLoader, SinkLoader {
+
+	/** The name of the symlink Kubernetes swaps to publish a new version */
+	public static final String DATA_LINK_NAME = "..data";
+
+	/** Property containing the path of the directory. XOR w/ pathStr */
+	protected Property<String> pathProp;
+
+	/** String containing the path of the directory. XOR w/ pathProp */
+	protected String pathStr;
+
+	protected boolean missingFileAProblem = true;
+
+	/** The ..data link target that was loaded, or null if there was none */
+	private volatile String loadedDataVersion;
+
+	/** The ..data link target last seen by pollForUpdate() */
+	private String polledDataVersion;
+
+	/** The directory that was loaded, used to poll for updates */
+	private volatile Path loadedDir;
+
+	String specificLoadDescription = null;
+
+	public MountedDirectoryLoader() {
+		/* empty for easy construction */ }
+
+	@Override
+	public void load(StaticPropertyConfigurationInternal appConfigDef,
+			ValidatedValuesWithContext existingValues, PropertyValueSink sink) {
+
+		String path = getEffectivePath(existingValues);
+
+		if (path == null) {
+			specificLoadDescription = "unspecified mounted directory";
+			return;
+		}
+
+		Path dir = Paths.get(path);
+		specificLoadDescription = TextUtil.format("files named for properties in the directory : {} ({})",
+				path, dir.toAbsolutePath());
+
+		if (! Files.isDirectory(dir)) {
+			if (isMissingFileAProblem()) {
+				sink.addProblem(new LoaderProblem.SourceNotFoundLoaderProblem(this, "Expected directory on filesystem:" + path));
+			}
+			return;
+		}
+
+		String version = readDataVersion(dir);
+		Path readDir = (version != null)? dir.resolve(version) : dir;
+
+		for (Property<?> prop : appConfigDef.getProperties()) {
+
+			Set<Path> found = new HashSet();
+
+			for (String name : buildFileNames(appConfigDef, prop)) {
+
+				Path file;
+
+				try {
+					file = readDir.resolve(name);
+				} catch (InvalidPathException e) {
+					continue;	//Not a valid file name on this filesystem
+				}
+
+				try {
+					String value = readValue(file);
+
+					//Case insensitive filesystems may find the same file by two names
+					if (value != null && found.add(file.toRealPath())) {
+						ValidatedValue pv = createValue(appConfigDef, prop, value, sink.getProblems());
+
+						if (pv != null) {
+							sink.put(pv);
+						}
+					}
+
+				} catch (NoSuchFileException e) {
+					//Ignore - this is expected
+				} catch (IOException e) {
+					LoaderProblem problem = new LoaderProblem.IOLoaderProblem(this, e, "filesystem:" + file);
+					problem.setSourcePath(file.toString());
+					sink.addProblem(problem);
+				}
+			}
+		}
+
+		synchronized (this) {
+			loadedDir = dir;
+			loadedDataVersion = version;
+			polledDataVersion = version;
+		}
+	}
+
+	/**
+	 * The file names that may contain the value of a Property, in the order
+	 * they are probed.
+	 *
+	 * @param appConfigDef The configuration being loaded
+	 * @param prop The Property
+	 * @return The names, w/o duplicates.
+	 */
+	protected Collection<String> buildFileNames(StaticPropertyConfigurationInternal appConfigDef, Property<?> prop) {
+		Set<String> names = new LinkedHashSet();
+
+		names.add(appConfigDef.getCanonicalName(prop));
+
+		for (EffectiveName alias : appConfigDef.getAliases(prop)) {
+			if (alias.isIn()) {
+				names.add(alias.getActualName());
+			}
+		}
+
+		List<String> envNames = new ArrayList(names.size());
+		for (String name : names) {
+			envNames.add(toEnvName(name));
+		}
+
+		names.addAll(envNames);
+		return names;
+	}
+
+	/**
+	 * Converts a name to the environment variable style:  Uppercase w/ dots
+	 * and dashes replaced by underscores.
+	 *
+	 * @param name
+	 * @return
+	 */
+	protected static String toEnvName(String name) {
+		return name.toUpperCase(Locale.ROOT).replace('.', '_').replace('-', '_');
+	}
+
+	/**
+	 * Reads a file as a UTF-8 String, removing one trailing line break.
+	 *
+	 * Small files are read w/ a single read into a buffer of the file's size.
+	 *
+	 * @param file The file to read
+	 * @return The content or null if the file is not a regular file.
+	 * @throws NoSuchFileException If there is no file by that name
+	 * @throws IOException If the file cannot be read
+	 */
+	protected String readValue(Path file) throws IOException {
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+
+			long size = channel.size();
+
+			if (size > Integer.MAX_VALUE) {
+				throw new IOException("The file is too large to be a property value: " + file);
+			}
+
+			ByteBuffer buffer = ByteBuffer.allocate((int) size);
+
+			while (buffer.hasRemaining() && channel.read(buffer) > -1) {
+				//Usually a single read
+			}
+
+			int len = buffer.position();
+
+			if (len > 0 && buffer.get(len - 1) == '\n') {
+				len--;
+				if (len > 0 && buffer.get(len - 1) == '\r') {
+					len--;
+				}
+			}
+
+			return new String(buffer.array(), 0, len, StandardCharsets.UTF_8);
+
+		} catch (NoSuchFileException e) {
+			throw e;
+		} catch (IOException e) {
+			if (Files.isDirectory(file)) {
+				return null;
+			} else {
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * The target of the {@code ..data} link in the directory, which identifies
+	 * the version of a Kubernetes mount.
+	 *
+	 * @param dir The mounted directory
+	 * @return The link target or null if there is no such link.
+	 */
+	protected String readDataVersion(Path dir) {
+		try {
+			return Files.readSymbolicLink(dir.resolve(DATA_LINK_NAME)).toString();
+		} catch (IOException | UnsupportedOperationException | SecurityException e) {
+			return null;	//Not a Kubernetes style mount
+		}
+	}
+
+	/**
+	 * The version of the mounted directory that was loaded, which is the
+	 * target of its {@code ..data} link.
+	 *
+	 * @return The version or null if not loaded or the directory has no
+	 * {@code ..data} link.
+	 */
+	public String getLoadedDataVersion() {
+		return loadedDataVersion;
+	}
+
+	/**
+	 * Checks if the mounted directory has been updated.
+	 *
+	 * Each swap of the {@code ..data} link is reported once:  After returning
+	 * true, this returns false until the link is swapped again.  Only the link
+	 * is read, so this is cheap enough to call on a timer.
+	 *
+	 * @return True if the directory was updated since the last load or the
+	 * last call that returned true.
+	 */
+	public synchronized boolean pollForUpdate() {
+		if (loadedDir == null || polledDataVersion == null) {
+			return false;
+		}
+
+		String current = readDataVersion(loadedDir);
+
+		if (current != null && ! current.equals(polledDataVersion)) {
+			polledDataVersion = current;
+			return true;
+		} else {
+			return false;
+		}
+	}
+
+	/**
+	 * Checks if the mounted directory has been updated since it was loaded.
+	 *
+	 * Unlike pollForUpdate(), this does not consume the update, so it can be
+	 * called by monitoring w/o hiding the update from the application.
+	 *
+	 * @return True if the {@code ..data} link has been swapped since the load.
+	 */
+	public boolean isUpdatePending() {
+		String loaded = loadedDataVersion;
+
+		if (loadedDir == null || loaded == null) {
+			return false;
+		}
+
+		String current = readDataVersion(loadedDir);
+		return current != null && ! current.equals(loaded);
+	}
+
+	/**
+	 * Utility method to simplify finding the effective path.
+	 *
+	 * @param existingValues
+	 * @return
+	 */
+	protected String getEffectivePath(ValidatedValuesWithContext existingValues) {
+		if (pathStr != null) {
+			return pathStr;
+		} else if (pathProp != null && existingValues != null) {
+			return existingValues.getValue(pathProp);
+		} else {
+			return null;
+		}
+	}
+
+	@Override
+	public List<Property> getInstanceConfig() {
+		if (pathProp != null) {
+			ArrayList<Property> list = new ArrayList();
+			list.add(pathProp);
+			return list;
+		} else {
+			return Collections.emptyList();
+		}
+	}
+
+	@Override
+	public String getSpecificLoadDescription() {
+		if (specificLoadDescription != null) {
+			return specificLoadDescription;
+		} else if (getEffectivePath(null) != null) {
+			return "files named for properties in the directory : " + getEffectivePath(null);
+		} else {
+			return "unconfigured mounted directory";
+		}
+	}
+
+	@Override
+	public boolean isTrimmingRequiredForStringValues() {
+		return true;
+	}
+
+	@Override
+	public String getLoaderType() {
+		return "MountedDirectory";
+	}
+
+	@Override
+	public String getLoaderDialect() {
+		return null;
+	}
+
+	@Override
+	public void setFilePath(String path) {
+		if (path != null && pathProp != null) {
+			throw new IllegalArgumentException("The FilePath cannot be specified "
+					+ "as both a String and StrProp");
+		}
+		pathStr = path;
+	}
+
+	@Override
+	public void setFilePath(Property<String> path) {
+		if (path != null && pathStr != null) {
+			throw new IllegalArgumentException("The FilePath cannot be specified "
+					+ "as both a String and StrProp");
+		}
+		pathProp = path;
+	}
+
+	@Override
+	public void setMissingFileAProblem(boolean isAProblem) {
+		missingFileAProblem = isAProblem;
+	}
+
+	@Override
+	public boolean isMissingFileAProblem() {
+		return missingFileAProblem;
+	}
+
+}
@@ -1,9 +1,11 @@
 package org.yarnandtail.andhow.load;
 
 import org.yarnandtail.andhow.internal.StaticPropertyConfigurationInternal;
-import java.io.InputStream;
+import java.io.*;
+import java.nio.ByteBuffer;
 import java.util.*;
 import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.PropertyValueSink;
 import org.yarnandtail.andhow.sample.PropFileLoaderSamplePrinter;
 
 /**
@@ -28,8 +30,26 @@ public abstract class PropFileBaseLoader extends BaseLoader
 	
 	protected boolean unknownPropertyAProblem = true;
 	
+	/**
+	 * If true, files are read as UTF-8 rather than ISO 8859-1.
+	 */
+	protected boolean utf8 = false;
+	
 	public PropFileBaseLoader() { /* empty for easy construction */ }
 	
+	/**
+	 * Reads a properties file from an InputStream.
+	 * 
+	 * The stream is read fully into memory and parsed via
+	 * {@link #loadBufferToProps(java.nio.ByteBuffer, java.lang.String, org.yarnandtail.andhow.internal.StaticPropertyConfigurationInternal, org.yarnandtail.andhow.api.ValidatedValuesWithContext) loadBufferToProps()}.
+	 * 
+	 * @param inputStream The stream to read, which is not closed.
+	 * @param fromPath A description of the source, for error messages.
+	 * @param appConfigDef The configuration being loaded
+	 * @param existingValues Values loaded by previous loaders
+	 * @return The loaded values
+	 * @throws LoaderException If the stream is null or cannot be read.
+	 */
 	public LoaderValues loadInputStreamToProps(InputStream inputStream, 
 			String fromPath, StaticPropertyConfigurationInternal appConfigDef,
 			ValidatedValuesWithContext existingValues) throws LoaderException {
@@ -41,27 +61,60 @@ public abstract class PropFileBaseLoader extends BaseLoader
 		}
 		
 		try {
-			Properties props = new Properties();
-			props.load(inputStream);
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			byte[] buf = new byte[8192];
+			int count;
 			
-			ArrayList<ValidatedValue> values = new ArrayList();
-			ProblemList<Problem> problems = new ProblemList();
-
-			Set<Object> keys = props.keySet();
-			for(Object key : keys) {
-				if (key != null) {
-					String k = key.toString();
-					String v = props.getProperty(k);
+			while ((count = inputStream.read(buf)) > 0) {
+				bytes.write(buf, 0, count);
+			}
+			
+			return loadBufferToProps(ByteBuffer.wrap(bytes.toByteArray()), fromPath, appConfigDef, existingValues);
+			
+		} catch (IOException e) {
+			throw new LoaderException(e, this, "properties file at '" + fromPath + "'");
+		}
+	}
+	
+	/**
+	 * Reads a properties file from a buffer, such as a memory mapped file.
+	 * 
+	 * The file is parsed by a PropFileParser, which follows the same rules as
+	 * java.util.Properties.  If unknown properties are not a problem for this
+	 * loader, only the keys that may be registered Property names are
+	 * converted to Strings - all other keys and values are skipped in place.
+	 * 
+	 * @param buffer The bytes of the file, from the current position to the limit.
+	 * @param fromPath A description of the source, for error messages.
+	 * @param appConfigDef The configuration being loaded
+	 * @param existingValues Values loaded by previous loaders
+	 * @return The loaded values
+	 * @throws LoaderException If the file cannot be parsed.
+	 */
+	public LoaderValues loadBufferToProps(ByteBuffer buffer, 
+			String fromPath, StaticPropertyConfigurationInternal appConfigDef,
+			ValidatedValuesWithContext existingValues) throws LoaderException {
+		
+		try {
+			PropFileParser.KeyFilter filter = null;
+			
+			if (! isUnknownPropertyAProblem()) {
+				filter = PropFileParser.KeyFilter.forConfig(appConfigDef);
+			}
+			
+			PropertyValueSink sink = new PropertyValueSink(appConfigDef, this);
+			sink.addBytesRead(buffer.remaining());
+			
+			Map<String, String> props = new PropFileParser(utf8).parse(buffer, filter);
 
-					attemptToAdd(appConfigDef, values, problems, k, v);
-				}
+			for (Map.Entry<String, String> entry : props.entrySet()) {
+				attemptToAdd(appConfigDef, sink, entry.getKey(), entry.getValue());
 			}
 
-			values.trimToSize();
-			return new LoaderValues(this, values, problems);
+			return sink.toLoaderValues();
 			
 		} catch (Exception e) {
-			//These are nominally IO exceptions
+			//These are nominally IO exceptions or malformed escapes
 			throw new LoaderException(e, this, "properties file at '" + fromPath + "'");
 		}
 	}
@@ -137,6 +190,22 @@ public abstract class PropFileBaseLoader extends BaseLoader
 		return missingFileAProblem;
 	}	
 	
+	/**
+	 * Sets the character encoding of the file to UTF-8, rather than the
+	 * ISO 8859-1 encoding used by java.util.Properties.
+	 * 
+	 * In either encoding, characters may also be written as \\uxxxx escapes.
+	 * 
+	 * @param isUtf8 True to read the file as UTF-8
+	 */
+	public void setUtf8(boolean isUtf8) {
+		utf8 = isUtf8;
+	}
+	
+	public boolean isUtf8() {
+		return utf8;
+	}
+	
 	@Override
 	public void setFilePath(String path) {
 		if (path != null && pathProp != null) {
@@ -0,0 +1,251 @@
+package org.yarnandtail.andhow.load;
+
+import org.yarnandtail.andhow.internal.StaticPropertyConfigurationInternal;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.LoaderProblem;
+import org.yarnandtail.andhow.internal.PropertyValueSink;
+import org.yarnandtail.andhow.util.IOUtil;
+import org.yarnandtail.andhow.util.TextUtil;
+
+/**
+ * Reads all the Java .property files in a directory that match a glob, such
+ * as the fragments in a {@code /etc/app/conf.d} directory.
+ *
+ * The directory is set the same way as the file path of the other Property
+ * File Loaders, via setFilePath().  Only regular files directly in the
+ * directory whose names match the glob (default {@code *.properties}) are read.
+ *
+ * The files are read and parsed in parallel, but are merged in a defined
+ * order:  Files are sorted by name and, if more than one file has a value for
+ * the same Property, the value from the last file wins.  This allows naming
+ * conventions like {@code 10-defaults.properties} and
+ * {@code 90-overrides.properties}.  Within a single file, the same rules as
+ * PropFileOnFilesystemLoader apply.
+ *
+ * Problems found in a file, such as unrecognized properties, are reported w/
+ * the path of that file.
+ *
+ * This loader trims incoming values for String type properties using the
+ * Trimmer of the associated Property.
+ *
+ * By default, this loader considers it a problem not find the configured
+ * directory or to find unrecognized properties in a properties file.  An
+ * existing directory w/ no matching files is not a problem.
+ *
+ * @author eeverman
+ */
+public class PropFileDirectoryLoader extends PropFileBaseLoader implements SinkLoader {
+
+	/** The glob used if none is set */
+	public static final String DEFAULT_FILE_GLOB = "*.properties";
+
+	protected String fileGlob = DEFAULT_FILE_GLOB;
+
+	String specificLoadDescription = null;
+
+	public PropFileDirectoryLoader() {
+		/* empty for easy construction */ }
+
+	@Override
+	public void load(StaticPropertyConfigurationInternal appConfigDef,
+			ValidatedValuesWithContext existingValues, PropertyValueSink sink) {
+
+		String path = getEffectivePath(existingValues);
+
+		if (path != null) {
+
+			specificLoadDescription = buildLoadDescription(path);
+
+			Path dir = Paths.get(path);
+
+			if (! Files.isDirectory(dir)) {
+				if (isMissingFileAProblem()) {
+					sink.addProblem(new LoaderProblem.SourceNotFoundLoaderProblem(this, "Expected directory on filesystem:" + path));
+				}
+
+				return;
+			}
+
+			List<Path> files;
+
+			try {
+				files = findFiles(dir);
+			} catch (IOException | DirectoryIteratorException e) {
+				sink.addProblem(new LoaderProblem.IOLoaderProblem(this, e, "filesystem:" + path));
+				return;
+			}
+
+			merge(readFiles(files, appConfigDef, existingValues), sink);
+
+		} else {
+			//The path is not specified, so just ignore
+			specificLoadDescription = "unspecified directory in the filesystem";
+		}
+	}
+
+	/**
+	 * Finds the regular files in the directory that match the glob, sorted
+	 * by file name.
+	 *
+	 * @param dir The directory to search
+	 * @return The files in the order they should be merged
+	 * @throws IOException
+	 */
+	protected List<Path> findFiles(Path dir) throws IOException {
+		List<Path> files = new ArrayList();
+
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, fileGlob)) {
+			for (Path p : stream) {
+				if (Files.isRegularFile(p)) {
+					files.add(p);
+				}
+			}
+		}
+
+		files.sort((a, b) -> a.getFileName().toString().compareTo(b.getFileName().toString()));
+		return files;
+	}
+
+	/**
+	 * Reads and parses each file, in parallel if there is more than one.
+	 *
+	 * @return The values of each file, in the same order as the files.
+	 */
+	protected List<LoaderValues> readFiles(List<Path> files,
+			StaticPropertyConfigurationInternal appConfigDef, ValidatedValuesWithContext existingValues) {
+
+		List<LoaderValues> results = new ArrayList(files.size());
+
+		if (files.size() == 1) {
+			results.add(readFile(files.get(0), appConfigDef, existingValues));
+		} else if (files.size() > 1) {
+			List<ForkJoinTask<LoaderValues>> tasks = new ArrayList(files.size());
+
+			for (Path file : files) {
+				tasks.add(ForkJoinPool.commonPool().submit(() -> readFile(file, appConfigDef, existingValues)));
+			}
+
+			for (ForkJoinTask<LoaderValues> task : tasks) {
+				results.add(task.join());
+			}
+		}
+
+		return results;
+	}
+
+	/**
+	 * Reads a single file into a buffer and parses it.
+	 *
+	 * Problems, including IO errors, are returned as part of the LoaderValues,
+	 * marked w/ the path of the file.
+	 */
+	protected LoaderValues readFile(Path file,
+			StaticPropertyConfigurationInternal appConfigDef, ValidatedValuesWithContext existingValues) {
+
+		String filePath = file.toString();
+		LoaderValues values;
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+
+			ByteBuffer buffer = IOUtil.readFile(channel);
+			values = loadBufferToProps(buffer, filePath, appConfigDef, existingValues);
+
+		} catch (LoaderException e) {
+			values = new LoaderValues(this, new LoaderProblem.IOLoaderProblem(this, e.getCause(), "filesystem:" + filePath));
+		} catch (IOException ioe) {
+			values = new LoaderValues(this, new LoaderProblem.IOLoaderProblem(this, ioe, "filesystem:" + filePath));
+		}
+
+		for (Problem p : values.getProblems()) {
+			if (p instanceof LoaderProblem) {
+				((LoaderProblem) p).setSourcePath(filePath);
+			}
+		}
+
+		return values;
+	}
+
+	/**
+	 * Merges the values of each file into the sink, later files overriding
+	 * earlier ones.  A Property keeps the position where it was first found.
+	 */
+	protected void merge(List<LoaderValues> fileValues, PropertyValueSink sink) {
+		Map<Property<?>, ValidatedValue> merged = new LinkedHashMap();
+
+		for (LoaderValues values : fileValues) {
+			for (ValidatedValue value : values.getValues()) {
+				merged.put(value.getProperty(), value);
+			}
+
+			sink.getProblems().addAll(values.getProblems());
+			sink.addBytesRead(values.getBytesRead());
+		}
+
+		for (ValidatedValue value : merged.values()) {
+			sink.put(value);
+		}
+	}
+
+	/**
+	 * Sets the glob used to match file names in the directory.
+	 *
+	 * The glob syntax is that of FileSystem.getPathMatcher(), e.g.
+	 * {@code *.properties} or {@code app-*.{properties,conf}}.
+	 *
+	 * @param glob The glob or null to use the default.
+	 */
+	public void setFileGlob(String glob) {
+		glob = TextUtil.trimToNull(glob);
+		fileGlob = (glob != null)? glob : DEFAULT_FILE_GLOB;
+	}
+
+	public String getFileGlob() {
+		return fileGlob;
+	}
+
+	@Override
+	public String getSpecificLoadDescription() {
+
+		if (specificLoadDescription != null) {
+			return specificLoadDescription;
+		} else {
+
+			String path = this.getEffectivePath(null);
+			if (path != null) {
+				return buildLoadDescription(path);
+			} else {
+				return "unconfigured directory";
+			}
+		}
+	}
+
+	private String buildLoadDescription(String path) {
+		return TextUtil.format("files matching {} in the directory on the file system at path : {} ({})",
+				fileGlob, path, getAbsPath(path));
+	}
+
+	/**
+	 * Completely safe way to convert a file system path to an absolute path.
+	 * never errors or returns null.
+	 * @param anything
+	 * @return
+	 */
+	private String getAbsPath(String anything) {
+
+		try {
+			File f = new File(anything);
+			return f.getAbsolutePath();
+		} catch (Exception e) {
+			return "[Unknown absolute path]";
+		}
+
+	}
+
+}
@@ -2,8 +2,12 @@ package org.yarnandtail.andhow.load;
 
 import org.yarnandtail.andhow.internal.StaticPropertyConfigurationInternal;
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import org.yarnandtail.andhow.api.*;
 import org.yarnandtail.andhow.internal.LoaderProblem;
+import org.yarnandtail.andhow.util.IOUtil;
 import org.yarnandtail.andhow.util.TextUtil;
 
 /**
@@ -19,8 +23,12 @@ import org.yarnandtail.andhow.util.TextUtil;
  * This loader trims incoming values for String type properties using the
  * Trimmer of the associated Property.
  *
- * Properties File Loaders use the java.util.Properties class to read
- * properties, so several behaviors are determined by that class.
+ * Properties File Loaders follow the rules of the java.util.Properties class to
+ * read properties, so several behaviors are determined by that class.  This
+ * loader reads the file into a single buffer, memory mapping it only if it is
+ * several megabytes or larger (see {@link IOUtil#readFile(FileChannel)}), and,
+ * if unknown properties are not considered a problem, skips the keys that are
+ * not registered Property names w/o creating Strings for them.
  *
  * By default, this loader considers it a problem not find a configured file or
  * to find unrecognized properties in a properties file and will throw a
@@ -71,11 +79,7 @@ public class PropFileOnFilesystemLoader extends PropFileBaseLoader {
 			try {
 				File propFile = new File(path);
 
-				try (FileInputStream inS = new FileInputStream(propFile)) {
-
-					return loadInputStreamToProps(inS, path, appConfigDef, existingValues);
-
-				} catch (FileNotFoundException e) {
+				if (! propFile.isFile()) {
 
 					if (isMissingFileAProblem()) {
 						return new LoaderValues(this, new LoaderProblem.SourceNotFoundLoaderProblem(this, "Expected file on filesystem:" + path));
@@ -83,6 +87,13 @@ public class PropFileOnFilesystemLoader extends PropFileBaseLoader {
 						return new LoaderValues(this);
 					}
 				}
+				
+				try (FileChannel channel = FileChannel.open(propFile.toPath(), StandardOpenOption.READ)) {
+
+					ByteBuffer buffer = IOUtil.readFile(channel);
+					return loadBufferToProps(buffer, path, appConfigDef, existingValues);
+
+				}
 
 			} catch (LoaderException e) {
 				return new LoaderValues(this, new LoaderProblem.IOLoaderProblem(this, e.getCause(), "filesystem:" + path));
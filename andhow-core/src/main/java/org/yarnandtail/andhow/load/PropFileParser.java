@@ -0,0 +1,506 @@
+package org.yarnandtail.andhow.load;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.StaticPropertyConfigurationInternal;
+import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
+
+/**
+ * Reads key-value pairs from the bytes of a properties file, following the
+ * same rules as {@code java.util.Properties.load()}, but only creating Strings
+ * for the keys that may be registered Property names.
+ * <p>
+ * Large properties files often contain many keys meant for other components.
+ * Rather than building a {@code Properties} instance holding every key and
+ * value, this parser reads the file a logical line at a time into a reusable
+ * buffer, unescapes the key into another reusable buffer and checks it against
+ * a {@link KeyFilter} of the registered names.  Only keys that pass the filter
+ * are converted to Strings, along with their values.
+ * <p>
+ * Lines, comments, line continuations, key / value separators and escapes
+ * ({@code \t \n \r \f \\uxxxx} and escaped literal characters) are handled
+ * exactly as {@code Properties.load()} does.  By default the bytes are read as
+ * ISO 8859-1, as {@code Properties.load(InputStream)} does.  If UTF-8 is
+ * selected, the bytes are decoded as UTF-8, malformed sequences are replaced
+ * w/ U+FFFD and a leading byte order mark is ignored.
+ * <p>
+ * Keys and values that are skipped are never unescaped or checked, so a
+ * malformed {@code \\uxxxx} escape in a skipped value is not an error.
+ * As with Properties, the last value for a key wins.
+ * <p>
+ * An instance is not thread safe, but may be reused for multiple buffers.
+ *
+ * @author ericeverman
+ */
+public class PropFileParser {
+
+	private static final char REPLACEMENT_CHAR = '\uFFFD';
+
+	private final boolean utf8;
+
+	private ByteBuffer in;
+	private int pendingChar = -1;		//2nd half of a UTF-8 surrogate pair
+	private char[] lineBuf = new char[256];
+	private char[] keyBuf = new char[64];
+	private char[] valueBuf = new char[256];
+
+	/**
+	 * New instance.
+	 *
+	 * @param utf8 If true, bytes are decoded as UTF-8.  Otherwise, as ISO 8859-1.
+	 */
+	public PropFileParser(boolean utf8) {
+		this.utf8 = utf8;
+	}
+
+	public boolean isUtf8() {
+		return utf8;
+	}
+
+	/**
+	 * Parses the remaining bytes in a buffer.
+	 * <p>
+	 * The buffer position is advanced to its limit.
+	 *
+	 * @param buffer The bytes of a properties file, such as a mapped file.
+	 * @param filter Only keys that might match this filter are returned.
+	 *	If null, all keys are returned.
+	 * @return A map of keys to values, in the order the keys first appear.
+	 * @throws IllegalArgumentException If a key or returned value contains a
+	 * malformed \\uxxxx escape, as Properties.load() does.
+	 */
+	public Map<String, String> parse(ByteBuffer buffer, KeyFilter filter) throws IllegalArgumentException {
+
+		in = buffer;
+		pendingChar = -1;
+
+		Map<String, String> entries = new LinkedHashMap();
+
+		try {
+			if (utf8) {
+				skipByteOrderMark();
+			}
+
+			int len;
+			while ((len = readLine()) >= 0) {
+
+				//Find the end of the key and the start of the value
+				int keyLen = 0;
+				int valueStart = len;
+				boolean hasSep = false;
+				boolean precedingBackslash = false;
+
+				while (keyLen < len) {
+					char c = lineBuf[keyLen];
+
+					if ((c == '=' || c == ':') && ! precedingBackslash) {
+						valueStart = keyLen + 1;
+						hasSep = true;
+						break;
+					} else if ((c == ' ' || c == '\t' || c == '\f') && ! precedingBackslash) {
+						valueStart = keyLen + 1;
+						break;
+					}
+
+					precedingBackslash = (c == '\\') ? ! precedingBackslash : false;
+					keyLen++;
+				}
+
+				while (valueStart < len) {
+					char c = lineBuf[valueStart];
+
+					if (c != ' ' && c != '\t' && c != '\f') {
+						if (! hasSep && (c == '=' || c == ':')) {
+							hasSep = true;
+						} else {
+							break;
+						}
+					}
+
+					valueStart++;
+				}
+
+				keyBuf = ensureCapacity(keyBuf, keyLen);
+				int unescapedKeyLen = unescape(lineBuf, 0, keyLen, keyBuf);
+				int keyEnd = unescapedKeyLen;
+
+				//Keys are trimmed when they are added, so match the trimmed key
+				int keyStart = 0;
+				while (keyStart < keyEnd && keyBuf[keyStart] <= ' ') keyStart++;
+				while (keyEnd > keyStart && keyBuf[keyEnd - 1] <= ' ') keyEnd--;
+
+				if (keyStart == keyEnd) {
+					continue;	//An empty key can't be a Property name
+				}
+
+				if (filter == null || filter.mightMatch(keyBuf, keyStart, keyEnd)) {
+					String key = new String(keyBuf, 0, unescapedKeyLen);
+
+					valueBuf = ensureCapacity(valueBuf, len - valueStart);
+					int valueLen = unescape(lineBuf, valueStart, len, valueBuf);
+
+					entries.put(key, new String(valueBuf, 0, valueLen));
+				}
+			}
+		} finally {
+			in = null;
+		}
+
+		return entries;
+	}
+
+	/**
+	 * Reads a logical line into lineBuf, following the rules of Properties.load():
+	 * Leading whitespace, blank lines and comment lines are skipped and lines
+	 * ending w/ an odd number of backslashes continue on the next line.
+	 *
+	 * @return The number of chars in the line, or -1 if there are no more lines.
+	 */
+	private int readLine() {
+		int len = 0;
+		boolean skipWhiteSpace = true;
+		boolean isCommentLine = false;
+		boolean isNewLine = true;
+		boolean appendedLineBegin = false;
+		boolean precedingBackslash = false;
+		boolean skipLF = false;
+
+		while (true) {
+			int next = nextChar();
+
+			if (next < 0) {
+				if (len == 0 || isCommentLine) {
+					return -1;
+				}
+
+				if (precedingBackslash) {
+					len--;
+				}
+
+				return len;
+			}
+
+			char c = (char) next;
+
+			if (skipLF) {
+				skipLF = false;
+				if (c == '\n') {
+					continue;
+				}
+			}
+
+			if (skipWhiteSpace) {
+				if (c == ' ' || c == '\t' || c == '\f') {
+					continue;
+				}
+
+				if (! appendedLineBegin && (c == '\r' || c == '\n')) {
+					continue;
+				}
+
+				skipWhiteSpace = false;
+				appendedLineBegin = false;
+			}
+
+			if (isNewLine) {
+				isNewLine = false;
+				if (c == '#' || c == '!') {
+					isCommentLine = true;
+					continue;
+				}
+			}
+
+			if (c != '\n' && c != '\r') {
+				if (! isCommentLine) {
+					if (len == lineBuf.length) {
+						lineBuf = Arrays.copyOf(lineBuf, len * 2);
+					}
+
+					lineBuf[len++] = c;
+					precedingBackslash = (c == '\\') ? ! precedingBackslash : false;
+				}
+			} else if (isCommentLine || len == 0) {
+				isCommentLine = false;
+				isNewLine = true;
+				skipWhiteSpace = true;
+				len = 0;
+			} else if (precedingBackslash) {
+				//Continues on the next line
+				len--;
+				skipWhiteSpace = true;
+				appendedLineBegin = true;
+				precedingBackslash = false;
+				skipLF = (c == '\r');
+			} else {
+				return len;
+			}
+		}
+	}
+
+	/**
+	 * Converts escapes in a range of chars, as Properties.load() does.
+	 *
+	 * @return The number of chars written to out, starting at zero.
+	 */
+	private static int unescape(char[] src, int start, int end, char[] out) {
+		int outLen = 0;
+		int i = start;
+
+		while (i < end) {
+			char c = src[i++];
+
+			if (c == '\\' && i < end) {
+				c = src[i++];
+
+				if (c == 'u') {
+					if (i + 4 > end) {
+						throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+					}
+
+					int value = 0;
+					for (int d = 0; d < 4; d++) {
+						char h = src[i++];
+						int digit;
+
+						if (h >= '0' && h <= '9') {
+							digit = h - '0';
+						} else if (h >= 'a' && h <= 'f') {
+							digit = h - 'a' + 10;
+						} else if (h >= 'A' && h <= 'F') {
+							digit = h - 'A' + 10;
+						} else {
+							throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+						}
+
+						value = (value << 4) + digit;
+					}
+
+					out[outLen++] = (char) value;
+				} else {
+					switch (c) {
+						case 't': c = '\t'; break;
+						case 'r': c = '\r'; break;
+						case 'n': c = '\n'; break;
+						case 'f': c = '\f'; break;
+						default: //The escaped char itself
+					}
+
+					out[outLen++] = c;
+				}
+			} else if (c != '\\') {
+				out[outLen++] = c;
+			}
+		}
+
+		return outLen;
+	}
+
+	/**
+	 * The next char from the buffer, or -1 at the end.
+	 */
+	private int nextChar() {
+		if (pendingChar >= 0) {
+			int c = pendingChar;
+			pendingChar = -1;
+			return c;
+		}
+
+		if (! in.hasRemaining()) {
+			return -1;
+		}
+
+		int b = in.get() & 0xFF;
+
+		if (! utf8 || b < 0x80) {
+			return b;
+		}
+
+		//Decode a multi-byte UTF-8 sequence
+		int extra;
+		int cp;
+		int min;
+
+		if ((b & 0xE0) == 0xC0) {
+			extra = 1;
+			cp = b & 0x1F;
+			min = 0x80;
+		} else if ((b & 0xF0) == 0xE0) {
+			extra = 2;
+			cp = b & 0x0F;
+			min = 0x800;
+		} else if ((b & 0xF8) == 0xF0) {
+			extra = 3;
+			cp = b & 0x07;
+			min = 0x10000;
+		} else {
+			return REPLACEMENT_CHAR;
+		}
+
+		for (int i = 0; i < extra; i++) {
+			if (! in.hasRemaining()) {
+				return REPLACEMENT_CHAR;
+			}
+
+			int pos = in.position();
+			int cont = in.get(pos) & 0xFF;
+
+			if ((cont & 0xC0) != 0x80) {
+				return REPLACEMENT_CHAR;	//Don't consume the byte - it starts the next char
+			}
+
+			in.position(pos + 1);
+			cp = (cp << 6) | (cont & 0x3F);
+		}
+
+		if (cp < min || cp > Character.MAX_CODE_POINT ||
+				(cp >= Character.MIN_SURROGATE && cp <= Character.MAX_SURROGATE)) {
+			return REPLACEMENT_CHAR;
+		}
+
+		if (cp >= Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+			pendingChar = Character.lowSurrogate(cp);
+			return Character.highSurrogate(cp);
+		}
+
+		return cp;
+	}
+
+	private void skipByteOrderMark() {
+		int pos = in.position();
+
+		if (in.remaining() >= 3 && (in.get(pos) & 0xFF) == 0xEF &&
+				(in.get(pos + 1) & 0xFF) == 0xBB && (in.get(pos + 2) & 0xFF) == 0xBF) {
+			in.position(pos + 3);
+		}
+	}
+
+	private static char[] ensureCapacity(char[] buf, int size) {
+		if (buf.length < size) {
+			return new char[Math.max(size, buf.length * 2)];
+		} else {
+			return buf;
+		}
+	}
+
+	/**
+	 * A compact, conservative test of whether a key might be one of the names
+	 * recognized by a configuration.
+	 * <p>
+	 * Only a hash of each name is kept, in a sorted array.  A key that does not
+	 * match any hash is certainly not a recognized name.  A key that does match
+	 * may still not be, in which case the loader finds it is unknown when it
+	 * looks up the Property.
+	 * <p>
+	 * Names are hashed after upper casing ASCII letters, so the filter is valid
+	 * for both case insensitive and case sensitive matching.  Keys containing
+	 * non-ASCII characters always pass.
+	 */
+	public static class KeyFilter {
+
+		private final int[] hashes;
+
+		/**
+		 * New instance.
+		 *
+		 * @param names The recognized names, which must all be ASCII.
+		 */
+		public KeyFilter(Collection<String> names) {
+			int[] h = new int[names.size()];
+			int count = 0;
+
+			for (String name : names) {
+				h[count++] = hash(name);
+			}
+
+			Arrays.sort(h);
+			hashes = h;
+		}
+
+		/**
+		 * Builds a filter for all of the names recognized by a configuration.
+		 * <p>
+		 * Filtering is only possible if the names can be matched without the
+		 * NamingStrategy, so this returns null if an unknown NamingStrategy is
+		 * used or if any name contains non-ASCII characters.
+		 *
+		 * @param config The configuration being loaded
+		 * @return A new filter, or null if keys cannot be filtered.
+		 */
+		public static KeyFilter forConfig(StaticPropertyConfigurationInternal config) {
+
+			NamingStrategy naming = config.getNamingStrategy();
+
+			if (naming == null || ! naming.getClass().equals(CaseInsensitiveNaming.class)) {
+				return null;
+			}
+
+			List<String> names = new ArrayList();
+
+			for (Property<?> prop : config.getProperties()) {
+				String canon = config.getCanonicalName(prop);
+				names.add(canon);
+				names.add(naming.toEffectiveName(canon));
+
+				List<EffectiveName> aliases = config.getAliases(prop);
+				if (aliases != null) {
+					for (EffectiveName alias : aliases) {
+						names.add(alias.getActualName());
+
+						if (alias.getEffectiveInName() != null) {
+							names.add(alias.getEffectiveInName());
+						}
+					}
+				}
+			}
+
+			for (String name : names) {
+				for (int i = 0; i < name.length(); i++) {
+					if (name.charAt(i) >= 0x80) {
+						return null;
+					}
+				}
+			}
+
+			return new KeyFilter(names);
+		}
+
+		/**
+		 * Returns true if the key in the range of chars might be a recognized name.
+		 *
+		 * @param chars Buffer containing the key
+		 * @param start Start of the key, inclusive
+		 * @param end End of the key, exclusive
+		 * @return False if the key is certainly not a recognized name.
+		 */
+		public boolean mightMatch(char[] chars, int start, int end) {
+			int h = 0;
+
+			for (int i = start; i < end; i++) {
+				char c = chars[i];
+
+				if (c >= 0x80) {
+					return true;
+				}
+
+				h = 31 * h + fold(c);
+			}
+
+			return Arrays.binarySearch(hashes, h) >= 0;
+		}
+
+		static int hash(String name) {
+			int h = 0;
+
+			for (int i = 0; i < name.length(); i++) {
+				h = 31 * h + fold(name.charAt(i));
+			}
+
+			return h;
+		}
+
+		private static char fold(char c) {
+			return (c >= 'a' && c <= 'z') ? (char)(c - ('a' - 'A')) : c;
+		}
+	}
+}
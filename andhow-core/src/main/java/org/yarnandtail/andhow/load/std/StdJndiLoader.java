@@ -7,6 +7,7 @@ import javax.naming.*;
 import org.yarnandtail.andhow.GroupInfo;
 import org.yarnandtail.andhow.api.*;
 import org.yarnandtail.andhow.internal.LoaderProblem.JndiContextLoaderProblem;
+import org.yarnandtail.andhow.internal.PropertyValueSink;
 import org.yarnandtail.andhow.load.BaseLoader;
 import org.yarnandtail.andhow.property.QuotedSpacePreservingTrimmer;
 import org.yarnandtail.andhow.property.StrProp;
@@ -105,7 +106,7 @@ import org.yarnandtail.andhow.util.TextUtil;
  *
  * @author eeverman
  */
-public class StdJndiLoader extends BaseLoader implements LookupLoader, StandardLoader {
+public class StdJndiLoader extends BaseLoader implements LookupLoader, StandardLoader, SinkLoader {
 
 	private boolean failedEnvironmentAProblem = false;
 	
@@ -117,15 +118,13 @@ public class StdJndiLoader extends BaseLoader implements LookupLoader, StandardL
 	}
 	
 	@Override
-	public LoaderValues load(StaticPropertyConfigurationInternal appConfigDef, ValidatedValuesWithContext existingValues) {
+	public void load(StaticPropertyConfigurationInternal appConfigDef, 
+			ValidatedValuesWithContext existingValues, PropertyValueSink sink) {
 
 		AndHowLog log = AndHowLog.getLogger(StdJndiLoader.class);
 		
 		List<String> jndiRoots = buildJndiRoots(existingValues);
 
-		ArrayList<ValidatedValue> values = new ArrayList();
-		ProblemList<Problem> problems = new ProblemList();
-
 		try {
 			InitialContext ctx = new InitialContext();
 			List<String> propNames = new ArrayList();
@@ -142,7 +141,7 @@ public class StdJndiLoader extends BaseLoader implements LookupLoader, StandardL
 						Object o = ctx.lookup(propName);
 
 						if (o != null) {
-							attemptToAdd(appConfigDef, values, problems, prop, o);
+							attemptToAdd(appConfigDef, sink, prop, o);
 						}
 
 					} catch (NameNotFoundException nnfe) {
@@ -166,13 +165,11 @@ public class StdJndiLoader extends BaseLoader implements LookupLoader, StandardL
 				log.error(
 						"Unable to read from JNDI - Does JNDI exist in this environment? "
 								+ "If this is expected, initialize the JndiLoader ignore non-JNDI environments.", ex);
-				problems.add(new JndiContextLoaderProblem(this));
+				sink.addProblem(new JndiContextLoaderProblem(this));
 			} else {
 				log.debug("No JNDI Environment found, or a naming error encountered.  The JndiLoader is configured to ignore this.");
 			}
 		}
-
-		return new LoaderValues(this, values, problems);
 	}
 
 	@Override
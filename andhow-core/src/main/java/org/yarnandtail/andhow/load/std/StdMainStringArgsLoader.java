@@ -1,6 +1,13 @@
 package org.yarnandtail.andhow.load.std;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
 import org.yarnandtail.andhow.api.StandardLoader;
+import org.yarnandtail.andhow.internal.LoaderProblem;
+import org.yarnandtail.andhow.internal.PropertyValueSink;
+import org.yarnandtail.andhow.internal.StaticPropertyConfigurationInternal;
 import org.yarnandtail.andhow.load.KeyValuePairLoader;
 
 /**
@@ -52,6 +59,27 @@ import org.yarnandtail.andhow.load.KeyValuePairLoader;
  * <pre>{@code java -jar MyJarName.jar full.name.of.MY_PROPERTY=someValue}</pre>
  * <a href="https://sites.google.com/view/andhow/usage-examples/main-startup-example">
  * Here is a complete example of using command line arguments</a>.
+ * <h3>Argument Files</h3>
+ * Operating systems limit the length of a command line, so many values can be
+ * passed in an argument file instead.  Argument files are off by default, so
+ * arguments meant for the application, such as {@code @foo}, are ignored as
+ * they always have been.  To turn them on:
+ * <pre>
+ * AndHow.findConfig()
+ *   .setCmdLineArgs(args)
+ *   .cmdLineArgFilesEnabled()
+ *   .build();
+ * </pre>
+ * When on, an argument of the form {@code @path}
+ * is replaced by the lines of the UTF-8 file at that path, each line being a
+ * key value pair in the same form as an argument.  Blank lines and lines
+ * starting with {@code #} are ignored, and lines are not themselves checked
+ * for {@code @path}.  The file is read line by line, so the lines of a large
+ * file are never all in memory at once.  An argument that really starts with
+ * {@code @} is passed as {@code @@}, e.g. {@code @@name=value} is read as
+ * {@code @name=value}.
+ * <pre>{@code java -jar MyJarName.jar @/etc/myapp/args.txt}</pre>
+ * When on, it is a problem if an argument file cannot be read.
  * 
  * <h3>This is a Standard Loader</h3>
  * Like all {@code StandardLoader}'s, this loader is intended to be auto-created
@@ -65,6 +93,8 @@ import org.yarnandtail.andhow.load.KeyValuePairLoader;
  */
 public class StdMainStringArgsLoader extends KeyValuePairLoader 
 		implements StandardLoader {
+	
+	protected boolean argumentFilesEnabled = false;
 
 	/**
 	 * There is no reason to use the constructor in production application code
@@ -73,5 +103,73 @@ public class StdMainStringArgsLoader extends KeyValuePairLoader
 	public StdMainStringArgsLoader() {
 		unknownPropertyAProblem = false;
 	}
+	
+	/**
+	 * Sets if arguments of the form {@code @path} are read as argument files.
+	 * 
+	 * If not enabled, the default, all arguments are read as key value pairs.
+	 * 
+	 * @param enabled True to read argument files
+	 */
+	public void setArgumentFilesEnabled(boolean enabled) {
+		argumentFilesEnabled = enabled;
+	}
+	
+	public boolean isArgumentFilesEnabled() {
+		return argumentFilesEnabled;
+	}
+
+	@Override
+	protected void loadKeyValuePair(StaticPropertyConfigurationInternal appConfigDef, 
+			PropertyValueSink sink, String keyValuePair) {
+		
+		if (! argumentFilesEnabled || keyValuePair == null) {
+			super.loadKeyValuePair(appConfigDef, sink, keyValuePair);
+		} else if (keyValuePair.startsWith("@@")) {
+			super.loadKeyValuePair(appConfigDef, sink, keyValuePair.substring(1));
+		} else if (keyValuePair.startsWith("@")) {
+			loadArgumentFile(appConfigDef, sink, keyValuePair.substring(1));
+		} else {
+			super.loadKeyValuePair(appConfigDef, sink, keyValuePair);
+		}
+	}
+	
+	/**
+	 * Streams the key value pairs from an argument file, one per line.
+	 * 
+	 * @param appConfigDef The configuration being loaded
+	 * @param sink The sink receiving the values of this loader
+	 * @param path The path of the argument file
+	 */
+	protected void loadArgumentFile(StaticPropertyConfigurationInternal appConfigDef, 
+			PropertyValueSink sink, String path) {
+		
+		try (BufferedReader reader = Files.newBufferedReader(Paths.get(path), StandardCharsets.UTF_8)) {
+			
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (! isComment(line)) {
+					super.loadKeyValuePair(appConfigDef, sink, line);
+				}
+			}
+			
+		} catch (NoSuchFileException e) {
+			sink.addProblem(new LoaderProblem.SourceNotFoundLoaderProblem(this, "Expected argument file on filesystem:" + path));
+		} catch (IOException | InvalidPathException e) {
+			sink.addProblem(new LoaderProblem.IOLoaderProblem(this, e, "filesystem:" + path));
+		}
+	}
+	
+	private static boolean isComment(String line) {
+		for (int i = 0; i < line.length(); i++) {
+			char c = line.charAt(i);
+			
+			if (c > ' ') {
+				return c == '#';
+			}
+		}
+		
+		return false;
+	}
 
 }
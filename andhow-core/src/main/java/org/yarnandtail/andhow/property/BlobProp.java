@@ -0,0 +1,68 @@
+package org.yarnandtail.andhow.property;
+
+import java.util.List;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.valid.BlobValidator;
+import org.yarnandtail.andhow.valuetype.Blob;
+import org.yarnandtail.andhow.valuetype.BlobType;
+
+/**
+ * A Property that refers to a large value, such as a PEM certificate chain or
+ * a JSON document, kept off the heap and read as a read-only ByteBuffer.
+ * 
+ * The value is configured as {@code file:[path]} to refer to a file, which is
+ * memory mapped when the value is first used, or as inline text or
+ * {@code base64:[bytes]}, which is held in a direct buffer.  Read the bytes
+ * via {@code getValue().getBuffer()} - see {@link Blob}.
+ * 
+ * By default, this uses the TrimToNullTrimmer, which removes all whitespace
+ * from around the configured value.
+ * 
+ * @author eeverman
+ */
+public class BlobProp extends PropertyBase<Blob> {
+	
+	public BlobProp(
+			Blob defaultValue, boolean nonNull, String shortDesc, List<Validator<Blob>> validators,
+			List<Name> aliases, PropertyType paramType, ValueType<Blob> valueType, Trimmer trimmer,
+			String helpText) {
+		
+		super(defaultValue, nonNull, shortDesc, validators, aliases, paramType, valueType, trimmer, helpText);
+	}
+	
+	public static BlobBuilder builder() {
+		return new BlobBuilder();
+	}
+	
+	
+	public static class BlobBuilder extends PropertyBuilderBase<BlobBuilder, BlobProp, Blob> {
+
+		
+		public BlobBuilder() {
+			instance = this;
+			valueType(BlobType.instance());
+			trimmer(TrimToNullTrimmer.instance());
+		}
+
+		@Override
+		public BlobProp build() {
+
+			BlobProp prop = new BlobProp(_defaultValue, _nonNull, _desc, _validators,
+				_aliases, PropertyType.SINGLE_NAME_VALUE, _valueType, _trimmer, _helpText);
+			applySecretAndInterpolated(prop);
+			return prop;
+		}
+		
+		public BlobBuilder mustBeNoLargerThan(long bytes) {
+			this.validation(new BlobValidator.MaxSize(bytes));
+			return this;
+		}
+		
+		public BlobBuilder mustStartWith(String prefix) {
+			this.validation(new BlobValidator.StartsWith(prefix));
+			return this;
+		}
+
+	}
+	
+}
@@ -40,8 +40,10 @@ public class BolProp extends PropertyBase<Boolean> {
 		@Override
 		public BolProp build() {
 
-			return new BolProp(_defaultValue, _nonNull, _desc, _aliases,
+			BolProp prop = new BolProp(_defaultValue, _nonNull, _desc, _aliases,
 				PropertyType.SINGLE_NAME_VALUE, _valueType, _trimmer, _helpText);
+			applySecretAndInterpolated(prop);
+			return prop;
 
 		}
 
@@ -0,0 +1,95 @@
+package org.yarnandtail.andhow.property;
+
+import java.util.List;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.valid.ElementValidator;
+import org.yarnandtail.andhow.valid.DblValidator;
+import org.yarnandtail.andhow.valuetype.DblArray;
+import org.yarnandtail.andhow.valuetype.DblArrayType;
+
+/**
+ * A Property that refers to an immutable array of double values, configured
+ * as delimited values, such as {@code 0.7, 0.2, 0.1}.
+ * 
+ * The value is parsed once when it is loaded and held as a double[] inside a
+ * DblArray, so reading elements does not box them or copy the array.  The
+ * delimiter is a comma by default - see {@link DblArrayBuilder#delimiter(String)}.
+ * 
+ * By default this uses the TrimToNullTrimmer, which removes all whitespace from
+ * the value and ultimately null if the value is all whitespace.  Each element
+ * is trimmed as well and empty elements are ignored.
+ * 
+ * @author eeverman
+ */
+public class DblArrayProp extends PropertyBase<DblArray> {
+	
+	public DblArrayProp(
+			DblArray defaultValue, boolean nonNull, String shortDesc, List<Validator<DblArray>> validators,
+			List<Name> aliases, PropertyType paramType, ValueType<DblArray> valueType, Trimmer trimmer,
+			String helpText) {
+		
+		super(defaultValue, nonNull, shortDesc, validators, aliases, paramType, valueType, trimmer, helpText);
+	}
+	
+	public static DblArrayBuilder builder() {
+		return new DblArrayBuilder();
+	}
+	
+	public static class DblArrayBuilder extends PropertyBuilderBase<DblArrayBuilder, DblArrayProp, DblArray> {
+
+		public DblArrayBuilder() {
+			instance = this;
+			valueType(DblArrayType.instance());
+			trimmer(TrimToNullTrimmer.instance());
+		}
+
+		@Override
+		public DblArrayProp build() {
+
+			DblArrayProp prop = new DblArrayProp(_defaultValue, _nonNull, _desc, _validators,
+				_aliases, PropertyType.SINGLE_NAME_VALUE, _valueType, _trimmer, _helpText);
+			applySecretAndInterpolated(prop);
+			return prop;
+
+		}
+		
+		public DblArrayBuilder defaultValue(double... values) {
+			return defaultValue(DblArray.of(values));
+		}
+		
+		/**
+		 * Sets the delimiter between elements, which is a comma by default.
+		 * 
+		 * @param delimiter The delimiter, as plain text
+		 * @return 
+		 */
+		public DblArrayBuilder delimiter(String delimiter) {
+			return valueType(DblArrayType.withDelimiter(delimiter));
+		}
+		
+		/**
+		 * Adds a validation rule for each element.
+		 * 
+		 * @param elementValidator A validator of a single element, such as
+		 * {@code new DblValidator.GreaterThan(0)}.
+		 * @return 
+		 */
+		public DblArrayBuilder elementValidation(Validator<Double> elementValidator) {
+			return validation(new ElementValidator.DblEach(elementValidator));
+		}
+		
+		public DblArrayBuilder mustHaveSizeBetween(int min, int max) {
+			return validation(new ElementValidator.Size(min, max));
+		}
+		
+		public DblArrayBuilder elementsMustBeGreaterThanOrEqualTo(double reference) {
+			return elementValidation(new DblValidator.GreaterThanOrEqualTo(reference));
+		}
+		
+		public DblArrayBuilder elementsMustBeLessThanOrEqualTo(double reference) {
+			return elementValidation(new DblValidator.LessThanOrEqualTo(reference));
+		}
+
+	}
+	
+}
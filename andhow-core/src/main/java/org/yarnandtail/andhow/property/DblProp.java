@@ -41,8 +41,10 @@ public class DblProp extends PropertyBase<Double> {
 		@Override
 		public DblProp build() {
 
-			return new DblProp(_defaultValue, _nonNull, _desc, _validators,
+			DblProp prop = new DblProp(_defaultValue, _nonNull, _desc, _validators,
 				_aliases, PropertyType.SINGLE_NAME_VALUE, _valueType, _trimmer, _helpText);
+			applySecretAndInterpolated(prop);
+			return prop;
 
 		}
 		
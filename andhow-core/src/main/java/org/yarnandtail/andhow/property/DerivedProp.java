@@ -0,0 +1,205 @@
+package org.yarnandtail.andhow.property;
+
+import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.valuetype.DerivedType;
+
+/**
+ * A Property whose value is computed once from other Properties, such as a
+ * compiled Pattern from a StrProp or a Duration from a LngProp of millis.
+ * 
+ * <pre>{@code
+ * DerivedProp<Pattern> NAME_PATTERN = DerivedProp.from(NAME_REGEX, Pattern::compile).build();
+ * DerivedProp<InetSocketAddress> ADDRESS = DerivedProp.from(HOST, PORT, InetSocketAddress::new).build();
+ * }</pre>
+ * 
+ * A DerivedProp is registered like any other Property, but it is never loaded:
+ * After the loaded values are validated, the function is called once and the
+ * result is stored w/ the loaded values, so {@code getValue()} returns the
+ * same instance each time w/o calling the function again.  A derived value
+ * may itself be the input of another DerivedProp.
+ * 
+ * The function is only called when every input has a non-null value,
+ * otherwise the derived value is null and the default value, if any, is used.
+ * An exception thrown by the function is reported as a Problem at startup.
+ * Validators and mustBeNonNull apply to the derived value.
+ * 
+ * When AndHow is rebuilt, the function is only called again if the value of
+ * an input has changed:  The last inputs and result are remembered and
+ * compared via equals().
+ * 
+ * @author eeverman
+ * @param <T> The type of the derived value
+ */
+public class DerivedProp<T> extends PropertyBase<T> implements DerivedProperty<T> {
+	
+	private final List<Property<?>> inputs;
+	private final Function<ValidatedValues, T> function;
+	
+	//The last inputs and result, replaced as a unit
+	private volatile Derivation<T> last;
+	
+	public DerivedProp(
+			T defaultValue, boolean nonNull, String shortDesc, List<Validator<T>> validators,
+			List<Name> aliases, PropertyType paramType, ValueType<T> valueType, Trimmer trimmer,
+			String helpText, List<Property<?>> inputs, Function<ValidatedValues, T> function) {
+		
+		super(defaultValue, nonNull, shortDesc, validators, aliases, paramType, valueType, trimmer, helpText);
+		
+		if (inputs == null || inputs.isEmpty() || inputs.contains(null) || function == null) {
+			throw new IllegalArgumentException("A DerivedProp requires a function and at least one non-null input");
+		}
+		
+		this.inputs = Collections.unmodifiableList(new ArrayList(inputs));
+		this.function = function;
+	}
+	
+	/**
+	 * Derives a value from a single Property.
+	 * 
+	 * @param <A> The type of the input
+	 * @param <T> The type of the derived value
+	 * @param input The Property to derive from
+	 * @param function Computes the value from the non-null value of the input
+	 * @return A builder
+	 */
+	public static <A, T> DerivedBuilder<T> from(Property<A> input, Function<? super A, ? extends T> function) {
+		return new DerivedBuilder<T>(Arrays.asList(input), values -> function.apply(values.getValue(input)));
+	}
+	
+	/**
+	 * Derives a value from two Properties.
+	 * 
+	 * @param <A> The type of the first input
+	 * @param <B> The type of the second input
+	 * @param <T> The type of the derived value
+	 * @param inputA The first Property to derive from
+	 * @param inputB The second Property to derive from
+	 * @param function Computes the value from the non-null values of the inputs
+	 * @return A builder
+	 */
+	public static <A, B, T> DerivedBuilder<T> from(Property<A> inputA, Property<B> inputB,
+			BiFunction<? super A, ? super B, ? extends T> function) {
+		
+		return new DerivedBuilder<T>(Arrays.asList(inputA, inputB),
+				values -> function.apply(values.getValue(inputA), values.getValue(inputB)));
+	}
+	
+	/**
+	 * Derives a value from any number of Properties.
+	 * 
+	 * The function reads the value of each input from the passed
+	 * ValidatedValues, which only contains values for the listed inputs.
+	 * 
+	 * @param <T> The type of the derived value
+	 * @param function Computes the value from the non-null values of the inputs
+	 * @param inputs The Properties to derive from
+	 * @return A builder
+	 */
+	public static <T> DerivedBuilder<T> from(Function<ValidatedValues, ? extends T> function, Property<?>... inputs) {
+		return new DerivedBuilder<T>(Arrays.asList(inputs), values -> function.apply(values));
+	}
+	
+	@Override
+	public List<Property<?>> getInputs() {
+		return inputs;
+	}
+	
+	@Override
+	public T derive(ValidatedValues inputValues) {
+		Object[] values = new Object[inputs.size()];
+		
+		for (int i = 0; i < values.length; i++) {
+			values[i] = inputValues.getValue(inputs.get(i));
+			
+			if (values[i] == null) {
+				return null;
+			}
+		}
+		
+		Derivation<T> prev = last;
+		
+		if (prev != null && Arrays.equals(prev.inputValues, values)) {
+			return prev.value;
+		}
+		
+		T value = function.apply(new InputValues(inputs, values));
+		last = new Derivation(values, value);
+		return value;
+	}
+	
+	/**
+	 * The remembered inputs and result of the last derivation.
+	 */
+	private static class Derivation<T> {
+		final Object[] inputValues;
+		final T value;
+		
+		Derivation(Object[] inputValues, T value) {
+			this.inputValues = inputValues;
+			this.value = value;
+		}
+	}
+	
+	/**
+	 * The values of the inputs, as read when the derivation started.
+	 */
+	private static class InputValues implements ValidatedValues {
+		private final List<Property<?>> inputs;
+		private final Object[] values;
+		
+		InputValues(List<Property<?>> inputs, Object[] values) {
+			this.inputs = inputs;
+			this.values = values;
+		}
+
+		@Override
+		public <T> T getExplicitValue(Property<T> prop) {
+			int index = inputs.indexOf(prop);
+			
+			if (index > -1) {
+				return prop.getValueType().cast(values[index]);
+			} else {
+				throw new IllegalArgumentException("The Property is not an input of this DerivedProp");
+			}
+		}
+
+		@Override
+		public <T> T getValue(Property<T> prop) {
+			return getExplicitValue(prop);
+		}
+
+		@Override
+		public boolean isExplicitlySet(Property<?> prop) {
+			return inputs.contains(prop);
+		}
+	}
+	
+	public static class DerivedBuilder<T> extends PropertyBuilderBase<DerivedBuilder<T>, DerivedProp<T>, T> {
+		
+		private final List<Property<?>> inputs;
+		private final Function<ValidatedValues, T> function;
+
+		DerivedBuilder(List<Property<?>> inputs, Function<ValidatedValues, T> function) {
+			instance = this;
+			valueType(DerivedType.instance());
+			trimmer(TrimToNullTrimmer.instance());
+			this.inputs = inputs;
+			this.function = function;
+		}
+
+		@Override
+		public DerivedProp<T> build() {
+
+			DerivedProp<T> prop = new DerivedProp(_defaultValue, _nonNull, _desc, _validators,
+				_aliases, PropertyType.SINGLE_NAME_VALUE, _valueType, _trimmer, _helpText,
+				inputs, function);
+			applySecretAndInterpolated(prop);
+			return prop;
+		}
+
+	}
+	
+}
@@ -0,0 +1,109 @@
+package org.yarnandtail.andhow.property;
+
+import java.util.List;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.valuetype.FeatureFlag;
+import org.yarnandtail.andhow.valuetype.FeatureFlagType;
+
+/**
+ * A feature switch that can be on for some keys, such as users or tenants,
+ * and off for others, configured as rollout rules such as
+ * {@code 10%; allow=beta-tenant; deny=big-customer}.
+ *
+ * Unlike a FlagProp or BolProp, which are on or off for everyone, a feature
+ * flag can be rolled out to a percentage of keys and to or away from specific
+ * keys.  See FeatureFlagType for the rules and FeatureFlag for how a key is
+ * evaluated.
+ * <p>
+ * The rules are compiled into a FeatureFlag once when the value is loaded, so
+ * evaluating a key does not allocate.  On a hot path, read the FeatureFlag via
+ * getValue() and evaluate it directly, rather than calling
+ * {@link #isEnabled(String)} for each evaluation, which looks up the
+ * value each time.
+ * <p>
+ * Like a FlagProp, a feature flag is never null:  It is off if not configured,
+ * unless the default is set otherwise.
+ *
+ * By default this uses the TrimToNullTrimmer, which removes all whitespace from
+ * the value and ultimately null if the value is all whitespace.
+ *
+ * @author eeverman
+ */
+public class FeatureFlagProp extends PropertyBase<FeatureFlag> {
+
+	public FeatureFlagProp(
+			FeatureFlag defaultValue, String shortDesc, List<Validator<FeatureFlag>> validators,
+			List<Name> aliases, PropertyType paramType, ValueType<FeatureFlag> valueType, Trimmer trimmer,
+			String helpText) {
+
+		super(defaultValue, true, shortDesc, validators, aliases, paramType, valueType, trimmer, helpText);
+	}
+
+	@Override
+	public FeatureFlag getValue() {
+		FeatureFlag f = super.getValue();
+
+		if (f != null) {
+			return f;
+		} else {
+			return FeatureFlag.OFF;
+		}
+	}
+
+	/**
+	 * True if the flag is on for all keys.
+	 *
+	 * @return
+	 */
+	public boolean isEnabled() {
+		return getValue().isEnabled();
+	}
+
+	/**
+	 * True if the flag is on for the key.
+	 *
+	 * @param key The key, such as a user or tenant id
+	 * @return
+	 */
+	public boolean isEnabled(String key) {
+		return getValue().isEnabled(key);
+	}
+
+	public static FeatureFlagBuilder builder() {
+		return new FeatureFlagBuilder();
+	}
+
+	public static class FeatureFlagBuilder extends PropertyBuilderBase<FeatureFlagBuilder, FeatureFlagProp, FeatureFlag> {
+
+		public FeatureFlagBuilder() {
+			instance = this;
+			valueType(FeatureFlagType.instance());
+			trimmer(TrimToNullTrimmer.instance());
+			_defaultValue = FeatureFlag.OFF;	//Off unless speced otherwise
+			_nonNull = true;	//always non-null, though the constructor doesn't even use this
+		}
+
+		@Override
+		public FeatureFlagProp build() {
+
+			FeatureFlagProp prop = new FeatureFlagProp(_defaultValue, _desc, _validators,
+				_aliases, PropertyType.SINGLE_NAME_VALUE, _valueType, _trimmer, _helpText);
+			applySecretAndInterpolated(prop);
+			return prop;
+
+		}
+
+		/**
+		 * Sets the default rules.
+		 *
+		 * @param rules The rules, such as {@code 5%; allow=beta-tenant}
+		 * @return
+		 * @throws IllegalArgumentException If the rules are not valid
+		 */
+		public FeatureFlagBuilder defaultValue(String rules) {
+			return defaultValue(FeatureFlag.of(rules));
+		}
+
+	}
+
+}
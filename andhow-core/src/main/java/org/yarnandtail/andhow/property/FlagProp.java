@@ -77,8 +77,10 @@ public class FlagProp extends PropertyBase<Boolean> {
 		@Override
 		public FlagProp build() {
 
-			return new FlagProp(_defaultValue, _desc, _aliases,
+			FlagProp prop = new FlagProp(_defaultValue, _desc, _aliases,
 				PropertyType.FLAG, _valueType, _trimmer, _helpText);
+			applySecretAndInterpolated(prop);
+			return prop;
 
 		}
 
@@ -0,0 +1,95 @@
+package org.yarnandtail.andhow.property;
+
+import java.util.List;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.valid.ElementValidator;
+import org.yarnandtail.andhow.valid.IntValidator;
+import org.yarnandtail.andhow.valuetype.IntArray;
+import org.yarnandtail.andhow.valuetype.IntArrayType;
+
+/**
+ * A Property that refers to an immutable array of int values, configured
+ * as delimited values, such as {@code 80, 443, 8080}.
+ * 
+ * The value is parsed once when it is loaded and held as a int[] inside a
+ * IntArray, so reading elements does not box them or copy the array.  The
+ * delimiter is a comma by default - see {@link IntArrayBuilder#delimiter(String)}.
+ * 
+ * By default this uses the TrimToNullTrimmer, which removes all whitespace from
+ * the value and ultimately null if the value is all whitespace.  Each element
+ * is trimmed as well and empty elements are ignored.
+ * 
+ * @author eeverman
+ */
+public class IntArrayProp extends PropertyBase<IntArray> {
+	
+	public IntArrayProp(
+			IntArray defaultValue, boolean nonNull, String shortDesc, List<Validator<IntArray>> validators,
+			List<Name> aliases, PropertyType paramType, ValueType<IntArray> valueType, Trimmer trimmer,
+			String helpText) {
+		
+		super(defaultValue, nonNull, shortDesc, validators, aliases, paramType, valueType, trimmer, helpText);
+	}
+	
+	public static IntArrayBuilder builder() {
+		return new IntArrayBuilder();
+	}
+	
+	public static class IntArrayBuilder extends PropertyBuilderBase<IntArrayBuilder, IntArrayProp, IntArray> {
+
+		public IntArrayBuilder() {
+			instance = this;
+			valueType(IntArrayType.instance());
+			trimmer(TrimToNullTrimmer.instance());
+		}
+
+		@Override
+		public IntArrayProp build() {
+
+			IntArrayProp prop = new IntArrayProp(_defaultValue, _nonNull, _desc, _validators,
+				_aliases, PropertyType.SINGLE_NAME_VALUE, _valueType, _trimmer, _helpText);
+			applySecretAndInterpolated(prop);
+			return prop;
+
+		}
+		
+		public IntArrayBuilder defaultValue(int... values) {
+			return defaultValue(IntArray.of(values));
+		}
+		
+		/**
+		 * Sets the delimiter between elements, which is a comma by default.
+		 * 
+		 * @param delimiter The delimiter, as plain text
+		 * @return 
+		 */
+		public IntArrayBuilder delimiter(String delimiter) {
+			return valueType(IntArrayType.withDelimiter(delimiter));
+		}
+		
+		/**
+		 * Adds a validation rule for each element.
+		 * 
+		 * @param elementValidator A validator of a single element, such as
+		 * {@code new IntValidator.GreaterThan(0)}.
+		 * @return 
+		 */
+		public IntArrayBuilder elementValidation(Validator<Integer> elementValidator) {
+			return validation(new ElementValidator.IntEach(elementValidator));
+		}
+		
+		public IntArrayBuilder mustHaveSizeBetween(int min, int max) {
+			return validation(new ElementValidator.Size(min, max));
+		}
+		
+		public IntArrayBuilder elementsMustBeGreaterThanOrEqualTo(int reference) {
+			return elementValidation(new IntValidator.GreaterThanOrEqualTo(reference));
+		}
+		
+		public IntArrayBuilder elementsMustBeLessThanOrEqualTo(int reference) {
+			return elementValidation(new IntValidator.LessThanOrEqualTo(reference));
+		}
+
+	}
+	
+}
@@ -41,8 +41,10 @@ public class IntProp extends PropertyBase<Integer> {
 		@Override
 		public IntProp build() {
 
-			return new IntProp(_defaultValue, _nonNull, _desc, _validators,
+			IntProp prop = new IntProp(_defaultValue, _nonNull, _desc, _validators,
 				_aliases, PropertyType.SINGLE_NAME_VALUE, _valueType, _trimmer, _helpText);
+			applySecretAndInterpolated(prop);
+			return prop;
 
 		}
 		
@@ -0,0 +1,95 @@
+package org.yarnandtail.andhow.property;
+
+import java.util.List;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.valid.ElementValidator;
+import org.yarnandtail.andhow.valid.LngValidator;
+import org.yarnandtail.andhow.valuetype.LngArray;
+import org.yarnandtail.andhow.valuetype.LngArrayType;
+
+/**
+ * A Property that refers to an immutable array of long values, configured
+ * as delimited values, such as {@code 1000, 60000}.
+ * 
+ * The value is parsed once when it is loaded and held as a long[] inside a
+ * LngArray, so reading elements does not box them or copy the array.  The
+ * delimiter is a comma by default - see {@link LngArrayBuilder#delimiter(String)}.
+ * 
+ * By default this uses the TrimToNullTrimmer, which removes all whitespace from
+ * the value and ultimately null if the value is all whitespace.  Each element
+ * is trimmed as well and empty elements are ignored.
+ * 
+ * @author eeverman
+ */
+public class LngArrayProp extends PropertyBase<LngArray> {
+	
+	public LngArrayProp(
+			LngArray defaultValue, boolean nonNull, String shortDesc, List<Validator<LngArray>> validators,
+			List<Name> aliases, PropertyType paramType, ValueType<LngArray> valueType, Trimmer trimmer,
+			String helpText) {
+		
+		super(defaultValue, nonNull, shortDesc, validators, aliases, paramType, valueType, trimmer, helpText);
+	}
+	
+	public static LngArrayBuilder builder() {
+		return new LngArrayBuilder();
+	}
+	
+	public static class LngArrayBuilder extends PropertyBuilderBase<LngArrayBuilder, LngArrayProp, LngArray> {
+
+		public LngArrayBuilder() {
+			instance = this;
+			valueType(LngArrayType.instance());
+			trimmer(TrimToNullTrimmer.instance());
+		}
+
+		@Override
+		public LngArrayProp build() {
+
+			LngArrayProp prop = new LngArrayProp(_defaultValue, _nonNull, _desc, _validators,
+				_aliases, PropertyType.SINGLE_NAME_VALUE, _valueType, _trimmer, _helpText);
+			applySecretAndInterpolated(prop);
+			return prop;
+
+		}
+		
+		public LngArrayBuilder defaultValue(long... values) {
+			return defaultValue(LngArray.of(values));
+		}
+		
+		/**
+		 * Sets the delimiter between elements, which is a comma by default.
+		 * 
+		 * @param delimiter The delimiter, as plain text
+		 * @return 
+		 */
+		public LngArrayBuilder delimiter(String delimiter) {
+			return valueType(LngArrayType.withDelimiter(delimiter));
+		}
+		
+		/**
+		 * Adds a validation rule for each element.
+		 * 
+		 * @param elementValidator A validator of a single element, such as
+		 * {@code new LngValidator.GreaterThan(0)}.
+		 * @return 
+		 */
+		public LngArrayBuilder elementValidation(Validator<Long> elementValidator) {
+			return validation(new ElementValidator.LngEach(elementValidator));
+		}
+		
+		public LngArrayBuilder mustHaveSizeBetween(int min, int max) {
+			return validation(new ElementValidator.Size(min, max));
+		}
+		
+		public LngArrayBuilder elementsMustBeGreaterThanOrEqualTo(long reference) {
+			return elementValidation(new LngValidator.GreaterThanOrEqualTo(reference));
+		}
+		
+		public LngArrayBuilder elementsMustBeLessThanOrEqualTo(long reference) {
+			return elementValidation(new LngValidator.LessThanOrEqualTo(reference));
+		}
+
+	}
+	
+}
@@ -41,8 +41,10 @@ public class LngProp extends PropertyBase<Long> {
 		@Override
 		public LngProp build() {
 
-			return new LngProp(_defaultValue, _nonNull, _desc, _validators,
+			LngProp prop = new LngProp(_defaultValue, _nonNull, _desc, _validators,
 				_aliases, PropertyType.SINGLE_NAME_VALUE, _valueType, _trimmer, _helpText);
+			applySecretAndInterpolated(prop);
+			return prop;
 
 		}
 		
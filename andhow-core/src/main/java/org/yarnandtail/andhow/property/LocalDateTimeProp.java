@@ -42,8 +42,10 @@ public class LocalDateTimeProp extends PropertyBase<LocalDateTime> {
 		@Override
 		public LocalDateTimeProp build() {
 
-			return new LocalDateTimeProp(_defaultValue, _nonNull, _desc, _validators,
+			LocalDateTimeProp prop = new LocalDateTimeProp(_defaultValue, _nonNull, _desc, _validators,
 				_aliases, PropertyType.SINGLE_NAME_VALUE, _valueType, _trimmer, _helpText);
+			applySecretAndInterpolated(prop);
+			return prop;
 
 		}
 		
@@ -4,6 +4,7 @@ import java.util.Collections;
 import java.util.List;
 import org.yarnandtail.andhow.AndHow;
 import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.service.PropertyTextResource;
 
 /**
  * Base property implementation that handles most of state information and common methods.
@@ -17,10 +18,16 @@ public abstract class PropertyBase<T> implements Property<T> {
 	private final Trimmer trimmer;
 	private final T defValue;
 	private final boolean nonNull;
-	private final String shortDesc;
+	private volatile String shortDesc;
 	private final List<Validator<T>> validators;
 	private final List<Name> aliases;
-	private final String helpText;
+	private volatile String helpText;
+	private boolean secret;	//Set by the builder before the Property is published
+	private boolean interpolated;	//Set by the builder before the Property is published
+	
+	//Only set if the text has been externalized to a generated resource
+	private volatile PropertyTextResource textResource;
+	private volatile String textPath;
 	
 	public PropertyBase(
 			T defaultValue, boolean nonNull, String shortDesc, List<Validator<T>> validators,
@@ -57,7 +64,14 @@ public abstract class PropertyBase<T> implements Property<T> {
 	
 	@Override
 	public String getDescription() {
-		return shortDesc;
+		String desc = shortDesc;
+		
+		if (desc == null) {
+			desc = textResource.getDescription(textPath);
+			if (desc == null) desc = "";
+		}
+		
+		return desc;
 	}
 	
 	@Override
@@ -72,7 +86,72 @@ public abstract class PropertyBase<T> implements Property<T> {
 
 	@Override
 	public String getHelpText() {
-		return helpText;
+		String help = helpText;
+		
+		if (help == null) {
+			help = textResource.getHelpText(textPath);
+			if (help == null) help = "";
+		}
+		
+		return help;
+	}
+	
+	/**
+	 * Release this Property's description and help text in favor of text
+	 * generated at compile time, which is loaded only when it is needed.
+	 * <p>
+	 * Only text present in the resource is used, and only if this Property
+	 * has no text of its own:  Text passed to the builder is always kept.
+	 * This is called during Property registration and is not intended to be
+	 * called by user code.
+	 * 
+	 * @param resource The generated text for the root class of this Property
+	 * @param propertyPath The inner path and name of this Property within the root class
+	 */
+	public void externalizeText(PropertyTextResource resource, String propertyPath) {
+		boolean desc = shortDesc.isEmpty() && resource.hasDescription(propertyPath);
+		boolean help = helpText.isEmpty() && resource.hasHelpText(propertyPath);
+		
+		if (desc || help) {
+			//Must be set before the text is released
+			textResource = resource;
+			textPath = propertyPath;
+			
+			if (desc) shortDesc = null;
+			if (help) helpText = null;
+		}
+	}
+	
+	@Override
+	public boolean isSecret() {
+		return secret;
+	}
+	
+	/**
+	 * Marks the value of this Property as secret.
+	 * <p>
+	 * Only called by the builder, before the Property is returned.
+	 * 
+	 * @param secret 
+	 */
+	void setSecret(boolean secret) {
+		this.secret = secret;
+	}
+	
+	@Override
+	public boolean isInterpolated() {
+		return interpolated;
+	}
+	
+	/**
+	 * Turns on resolving {@code ${...}} references in loaded values.
+	 * <p>
+	 * Only called by the builder, before the Property is returned.
+	 * 
+	 * @param interpolated 
+	 */
+	void setInterpolated(boolean interpolated) {
+		this.interpolated = interpolated;
 	}
 	
 	@Override
@@ -31,6 +31,8 @@ public abstract class PropertyBuilderBase<B extends PropertyBuilderBase, P exten
 	protected List<Validator<T>> _validators = new ArrayList();
 	protected List<Name> _aliases = new ArrayList();
 	protected String _helpText;
+	protected boolean _secret = false;
+	protected boolean _interpolated = false;
 	
 	
 	
@@ -98,6 +100,32 @@ public abstract class PropertyBuilderBase<B extends PropertyBuilderBase, P exten
 		return instance;
 	}
 	
+	/**
+	 * Marks the value as secret, such as a password, so that it is masked
+	 * wherever AndHow shows configured values, such as via JMX.
+	 * 
+	 * @return 
+	 */
+	public B secret() {
+		this._secret = true;
+		return instance;
+	}
+	
+	/**
+	 * Resolves {@code ${...}} references to other Properties in loaded values,
+	 * such as {@code jdbc:postgresql://${DB_HOST}:${DB_PORT}/app}.  W/o this,
+	 * {@code $}{ is plain text.
+	 * <p>
+	 * If the value refers to a secret Property, this Property must be secret
+	 * as well.  See {@link org.yarnandtail.andhow.internal.ValueInterpolator}.
+	 * 
+	 * @return 
+	 */
+	public B interpolated() {
+		this._interpolated = true;
+		return instance;
+	}
+	
 	/**
 	 * Same as description
 	 * 
@@ -215,6 +243,23 @@ public abstract class PropertyBuilderBase<B extends PropertyBuilderBase, P exten
 		return instance;
 	}
 	
+	/**
+	 * Applies the secret() and interpolated() settings of this builder to a
+	 * newly built Property.
+	 * <p>
+	 * Call from build() before returning the Property.  Builders outside this
+	 * package have no other way to set them.
+	 * 
+	 * @param <R> The type of the Property
+	 * @param prop The newly built Property
+	 * @return The same Property
+	 */
+	protected <R extends PropertyBase> R applySecretAndInterpolated(R prop) {
+		prop.setSecret(_secret);
+		prop.setInterpolated(_interpolated);
+		return prop;
+	}
+	
 	/**
 	 * Build the Property instance.
 	 * 
@@ -0,0 +1,100 @@
+package org.yarnandtail.andhow.property;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.valid.ElementValidator;
+import org.yarnandtail.andhow.valid.StringValidator;
+import org.yarnandtail.andhow.valuetype.StrListType;
+
+/**
+ * A Property that refers to an immutable List of Strings, configured as
+ * delimited values, such as {@code host1, host2, host3}.
+ * 
+ * The value is parsed once when it is loaded.  The delimiter is a comma by
+ * default - see {@link StrListBuilder#delimiter(String)}.
+ * 
+ * By default this uses the TrimToNullTrimmer, which removes all whitespace from
+ * the value and ultimately null if the value is all whitespace.  Each element
+ * is trimmed as well and empty elements are ignored.
+ * 
+ * @author eeverman
+ */
+public class StrListProp extends PropertyBase<List<String>> {
+	
+	public StrListProp(
+			List<String> defaultValue, boolean nonNull, String shortDesc, List<Validator<List<String>>> validators,
+			List<Name> aliases, PropertyType paramType, ValueType<List<String>> valueType, Trimmer trimmer,
+			String helpText) {
+		
+		super(defaultValue, nonNull, shortDesc, validators, aliases, paramType, valueType, trimmer, helpText);
+	}
+	
+	public static StrListBuilder builder() {
+		return new StrListBuilder();
+	}
+	
+	public static class StrListBuilder extends PropertyBuilderBase<StrListBuilder, StrListProp, List<String>> {
+
+		public StrListBuilder() {
+			instance = this;
+			valueType(StrListType.instance());
+			trimmer(TrimToNullTrimmer.instance());
+		}
+
+		@Override
+		public StrListProp build() {
+
+			StrListProp prop = new StrListProp(_defaultValue, _nonNull, _desc, _validators,
+				_aliases, PropertyType.SINGLE_NAME_VALUE, _valueType, _trimmer, _helpText);
+			applySecretAndInterpolated(prop);
+			return prop;
+
+		}
+		
+		@Override
+		public StrListBuilder defaultValue(List<String> defaultValue) {
+			if (defaultValue != null) {
+				defaultValue = Collections.unmodifiableList(new ArrayList(defaultValue));
+			}
+			return super.defaultValue(defaultValue);
+		}
+		
+		public StrListBuilder defaultValue(String... values) {
+			return defaultValue(Arrays.asList(values));
+		}
+		
+		/**
+		 * Sets the delimiter between elements, which is a comma by default.
+		 * 
+		 * @param delimiter The delimiter, as plain text
+		 * @return 
+		 */
+		public StrListBuilder delimiter(String delimiter) {
+			return valueType(StrListType.withDelimiter(delimiter));
+		}
+		
+		/**
+		 * Adds a validation rule for each element.
+		 * 
+		 * @param elementValidator A validator of a single element, such as
+		 * {@code new StringValidator.Regex("[a-z]+")}.
+		 * @return 
+		 */
+		public StrListBuilder elementValidation(Validator<String> elementValidator) {
+			return validation(new ElementValidator.ListEach(elementValidator));
+		}
+		
+		public StrListBuilder mustHaveSizeBetween(int min, int max) {
+			return validation(new ElementValidator.Size(min, max));
+		}
+		
+		public StrListBuilder elementsMustMatchRegex(String regex) {
+			return elementValidation(new StringValidator.Regex(regex));
+		}
+
+	}
+	
+}
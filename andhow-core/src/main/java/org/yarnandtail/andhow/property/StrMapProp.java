@@ -0,0 +1,101 @@
+package org.yarnandtail.andhow.property;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.valid.ElementValidator;
+import org.yarnandtail.andhow.valid.StringValidator;
+import org.yarnandtail.andhow.valuetype.StrMapType;
+
+/**
+ * A Property that refers to an immutable Map of String keys to String values,
+ * configured as delimited entries, such as {@code us=0.7, eu=0.2, ap=0.1}.
+ * 
+ * The value is parsed once when it is loaded and the Map keeps the configured
+ * order of the entries.  Entries are delimited by a comma and keys are
+ * delimited from values by an equals sign by default - see
+ * {@link StrMapBuilder#delimiters(String, String)}.
+ * 
+ * By default this uses the TrimToNullTrimmer, which removes all whitespace from
+ * the value and ultimately null if the value is all whitespace.  Each key and
+ * value is trimmed as well and empty entries are ignored.
+ * 
+ * @author eeverman
+ */
+public class StrMapProp extends PropertyBase<Map<String, String>> {
+	
+	public StrMapProp(
+			Map<String, String> defaultValue, boolean nonNull, String shortDesc, List<Validator<Map<String, String>>> validators,
+			List<Name> aliases, PropertyType paramType, ValueType<Map<String, String>> valueType, Trimmer trimmer,
+			String helpText) {
+		
+		super(defaultValue, nonNull, shortDesc, validators, aliases, paramType, valueType, trimmer, helpText);
+	}
+	
+	public static StrMapBuilder builder() {
+		return new StrMapBuilder();
+	}
+	
+	public static class StrMapBuilder extends PropertyBuilderBase<StrMapBuilder, StrMapProp, Map<String, String>> {
+
+		public StrMapBuilder() {
+			instance = this;
+			valueType(StrMapType.instance());
+			trimmer(TrimToNullTrimmer.instance());
+		}
+
+		@Override
+		public StrMapProp build() {
+
+			StrMapProp prop = new StrMapProp(_defaultValue, _nonNull, _desc, _validators,
+				_aliases, PropertyType.SINGLE_NAME_VALUE, _valueType, _trimmer, _helpText);
+			applySecretAndInterpolated(prop);
+			return prop;
+
+		}
+		
+		@Override
+		public StrMapBuilder defaultValue(Map<String, String> defaultValue) {
+			if (defaultValue != null) {
+				defaultValue = Collections.unmodifiableMap(new LinkedHashMap(defaultValue));
+			}
+			return super.defaultValue(defaultValue);
+		}
+		
+		/**
+		 * Sets the delimiters, which are a comma between entries and an equals
+		 * sign between the key and value of an entry by default.
+		 * 
+		 * @param delimiter The delimiter between entries, as plain text
+		 * @param keyValueDelimiter The delimiter between the key and value of
+		 * an entry, as plain text
+		 * @return 
+		 */
+		public StrMapBuilder delimiters(String delimiter, String keyValueDelimiter) {
+			return valueType(StrMapType.withDelimiters(delimiter, keyValueDelimiter));
+		}
+		
+		/**
+		 * Adds a validation rule for each value of the Map.
+		 * 
+		 * @param valueValidator A validator of a single value, such as
+		 * {@code new StringValidator.Regex("[0-9.]+")}.
+		 * @return 
+		 */
+		public StrMapBuilder valueValidation(Validator<String> valueValidator) {
+			return validation(new ElementValidator.MapEachValue(valueValidator));
+		}
+		
+		public StrMapBuilder mustHaveSizeBetween(int min, int max) {
+			return validation(new ElementValidator.Size(min, max));
+		}
+		
+		public StrMapBuilder valuesMustMatchRegex(String regex) {
+			return valueValidation(new StringValidator.Regex(regex));
+		}
+
+	}
+	
+}
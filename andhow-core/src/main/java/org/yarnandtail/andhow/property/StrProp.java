@@ -43,8 +43,10 @@ public class StrProp extends PropertyBase<String> {
 		@Override
 		public StrProp build() {
 
-			return new StrProp(_defaultValue, _nonNull, _desc, _validators,
+			StrProp prop = new StrProp(_defaultValue, _nonNull, _desc, _validators,
 				_aliases, PropertyType.SINGLE_NAME_VALUE, _valueType, _trimmer, _helpText);
+			applySecretAndInterpolated(prop);
+			return prop;
 		}
 		
 		public StrBuilder mustMatchRegex(String regex) {
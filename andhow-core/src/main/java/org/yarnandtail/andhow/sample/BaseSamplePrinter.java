@@ -33,6 +33,40 @@ public abstract class BaseSamplePrinter implements SamplePrinter {
 	
 	public abstract TextBlock getSampleFileEnd();
 	
+	/**
+	 * The name of the type of a Property's value, as shown in a sample.
+	 * 
+	 * For a DelimitedValueType, this is the type name, such as {@code int[]},
+	 * otherwise the simple name of the destination type.
+	 * 
+	 * @param prop
+	 * @return 
+	 */
+	protected String getTypeName(Property<?> prop) {
+		if (prop.getValueType() instanceof DelimitedValueType) {
+			return ((DelimitedValueType) prop.getValueType()).getTypeName();
+		} else {
+			return prop.getValueType().getDestinationType().getSimpleName();
+		}
+	}
+	
+	/**
+	 * The default value of a Property as it would be configured.
+	 * 
+	 * For a DelimitedValueType, the value is formatted by the ValueType so it
+	 * uses the configured delimiter, otherwise its toString() is used.
+	 * 
+	 * @param prop A Property w/ a non-null default value
+	 * @return 
+	 */
+	protected String getDefaultValueString(Property prop) {
+		if (prop.getValueType() instanceof DelimitedValueType) {
+			return prop.getValueType().toString(prop.getDefaultValue());
+		} else {
+			return prop.getDefaultValue().toString();
+		}
+	}
+	
 	protected void printIfNotNull(PrintStream out, String line) {
 		if (line != null) {
 			out.println(line);
@@ -193,7 +227,7 @@ public abstract class BaseSamplePrinter implements SamplePrinter {
 					
 			tb.addLine(TextUtil.format("{} ({}) {}{}", 
 					propFieldName,
-					prop.getValueType().getDestinationType().getSimpleName(),
+					getTypeName(prop),
 					(prop.isNonNullRequired())?SamplePrinter.REQUIRED_KEYWORD:"",
 					(TextUtil.trimToNull(prop.getDescription()) == null)?"":" - " + prop.getDescription()));
 
@@ -206,8 +240,12 @@ public abstract class BaseSamplePrinter implements SamplePrinter {
 				tb.addLine(TextUtil.format("Recognized aliases: {}", String.join(", ", inAliases)));
 			}
 						
+			if (prop.getValueType() instanceof DelimitedValueType) {
+				tb.addLine(FORMAT_TEXT + ": " + ((DelimitedValueType) prop.getValueType()).getFormatDescription());
+			}
+
 			if (prop.getDefaultValue() != null) {
-				tb.addLine(DEFAULT_VALUE_TEXT + ": " + prop.getDefaultValue());
+				tb.addLine(DEFAULT_VALUE_TEXT + ": " + getDefaultValueString(prop));
 			}
 
 			if (TextUtil.trimToNull(prop.getHelpText()) != null) {
@@ -53,20 +53,24 @@ public class JndiLoaderSamplePrinter extends BaseSamplePrinter implements Sample
 		
 		String propCanonName = definition.getNamingStrategy().getUriName(group.getCanonicalName(prop));
 		String type = prop.getValueType().getDestinationType().getCanonicalName();
+		
+		if (prop.getValueType() instanceof DelimitedValueType) {
+			type = String.class.getCanonicalName();	//Parsed from the delimited String
+		}
 
 		
 		if (prop.getDefaultValue() != null) {
 			tb.addLine(
 					TextUtil.format("<Environment name=\"{}\" value=\"{}\" type=\"{}\" override=\"false\"/>", 
 						propCanonName, 
-						TextUtil.escapeXml(prop.getDefaultValue().toString()),
+						TextUtil.escapeXml(getDefaultValueString(prop)),
 						type)
 			);
 		} else {
 			tb.addLine(
 					TextUtil.format("<Environment name=\"{}\" value=\"[{}]\" type=\"{}\" override=\"false\"/>", 
 						propCanonName, 
-						prop.getValueType().getDestinationType().getSimpleName(),
+						TextUtil.escapeXml(getTypeName(prop)),
 						type)
 			);
 		}
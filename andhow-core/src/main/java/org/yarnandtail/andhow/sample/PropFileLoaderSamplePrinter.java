@@ -55,13 +55,13 @@ public class PropFileLoaderSamplePrinter extends BaseSamplePrinter implements Sa
 			tb.addLine(
 					TextUtil.format("{} = {}", 
 						propCanonName, 
-						prop.getDefaultValue())
+						getDefaultValueString(prop))
 			);
 		} else {
 			tb.addLine(
 					TextUtil.format("{} = [{}]", 
 						propCanonName, 
-						prop.getValueType().getDestinationType().getSimpleName())
+						getTypeName(prop))
 			);
 		}
 		
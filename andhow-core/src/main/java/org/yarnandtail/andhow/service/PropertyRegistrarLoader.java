@@ -6,6 +6,7 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.yarnandtail.andhow.api.*;
 import org.yarnandtail.andhow.internal.NameAndProperty;
+import org.yarnandtail.andhow.property.PropertyBase;
 
 /**
  * Dedicated wrapper for a java.util.ServiceLoader that loads PropertyRegistrar instances.
@@ -78,6 +79,10 @@ public class PropertyRegistrarLoader {
 	 * method would only be called once, though there is no impact to calling it
 	 * multiple times.  The contained {@code Property}s are static instances
 	 * for which there will ever only be a single instance.
+	 * <p>
+	 * If description and help text was generated for a root class at compile
+	 * time, its Properties are switched to load their text lazily from the
+	 * generated {@code PropertyTextResource}.
 	 * 
 	 * @return A disconnected list of new {@code GroupProxy}s.
 	 */
@@ -89,6 +94,10 @@ public class PropertyRegistrarLoader {
 		List<PropertyRegistrar> registrars = getPropertyRegistrars();
 		
 		for (PropertyRegistrar registrar : registrars) {
+			
+			//Description and help text generated at compile time, if any
+			PropertyTextResource text = PropertyTextResource.find(registrar.getRootCanonicalName(), classLoader);
+			
 			for (PropertyRegistration registration : registrar.getRegistrationList()) {
 				String grpName = registration.getCanonicalParentName();
 				GroupProxyMutable grp = groups.get(grpName);
@@ -128,6 +137,11 @@ public class PropertyRegistrarLoader {
 					continue;
 				}
 				
+				if (text != null && prop instanceof PropertyBase) {
+					((PropertyBase)prop).externalizeText(text,
+							PropertyTextResource.getPropertyPath(registration.getPropertyName(), registration.getInnerPath()));
+				}
+				
 				NameAndProperty nap = new NameAndProperty(registration.getPropertyName(), prop);
 				grp.addProperty(nap);
 			}
@@ -0,0 +1,180 @@
+package org.yarnandtail.andhow.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.SoftReference;
+import java.util.Properties;
+
+/**
+ * Lazily loaded Property descriptions and help text, generated at compile time
+ * for a single root class.
+ * <p>
+ * When the AndHowCompileProcessor is run with the
+ * {@code -Aandhow.externalizeText=true} option, the description and help text
+ * of each Property is written to a generated properties file next to the
+ * generated {@code PropertyRegistrar}.  Text comes from the Javadoc comment on
+ * the Property field, and only for Properties that do not call the
+ * {@code desc()} or {@code helpText()} builder methods.
+ * <p>
+ * At runtime, Properties that extend {@code PropertyBase} fetch that text from
+ * here when a report or sample is produced.  The loaded text is only softly
+ * referenced, so it can be reclaimed and is reloaded the next time it is
+ * needed.  Text passed to the builder is kept by the Property, since it is
+ * already in the constant pool of the class that declares the Property, and
+ * may be computed in ways that are not known at compile time.
+ * <p>
+ * Keys are the path to the Property from the root class, i.e. the inner path
+ * and Property name separated by dots, followed by {@code .desc} or
+ * {@code .help}.
+ *
+ * @author ericeverman
+ */
+public class PropertyTextResource {
+
+	/** Key suffix for a Property description */
+	public static final String DESC_SUFFIX = ".desc";
+
+	/** Key suffix for Property help text */
+	public static final String HELP_SUFFIX = ".help";
+
+	private final String resourcePath;
+	private final ClassLoader classLoader;
+	private volatile SoftReference<Properties> text = new SoftReference(null);
+
+	/**
+	 * New instance for an existing resource.
+	 *
+	 * @param resourcePath Classpath resource path, w/o a leading slash
+	 * @param classLoader The ClassLoader to load the resource from
+	 */
+	public PropertyTextResource(String resourcePath, ClassLoader classLoader) {
+		this.resourcePath = resourcePath;
+		this.classLoader = classLoader;
+	}
+
+	/**
+	 * Find the generated text resource for a root class.
+	 *
+	 * @param rootCanonicalName The Java canonical name of a root class.
+	 * @param classLoader The ClassLoader to search.
+	 * @return The resource or null if no text was generated for the root class.
+	 */
+	public static PropertyTextResource find(String rootCanonicalName, ClassLoader classLoader) {
+		String path = getResourcePath(rootCanonicalName);
+
+		if (classLoader.getResource(path) != null) {
+			return new PropertyTextResource(path, classLoader);
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * The simple file name of the generated resource for a root class.
+	 *
+	 * @param rootCanonicalName The Java canonical name of a root class.
+	 * @return A name of the form {@code $SimpleName_AndHowText.properties}
+	 */
+	public static String getResourceName(String rootCanonicalName) {
+		int dotPos = rootCanonicalName.lastIndexOf(".");
+		return "$" + rootCanonicalName.substring(dotPos + 1) + "_AndHowText.properties";
+	}
+
+	/**
+	 * The classpath path of the generated resource for a root class.
+	 *
+	 * @param rootCanonicalName The Java canonical name of a root class.
+	 * @return The path w/o a leading slash, as used by ClassLoader.getResource()
+	 */
+	public static String getResourcePath(String rootCanonicalName) {
+		int dotPos = rootCanonicalName.lastIndexOf(".");
+
+		if (dotPos > 0) {
+			return rootCanonicalName.substring(0, dotPos).replace(".", "/") +
+					"/" + getResourceName(rootCanonicalName);
+		} else {
+			return getResourceName(rootCanonicalName);
+		}
+	}
+
+	/**
+	 * The path to a Property within its root class, which is the key prefix
+	 * used for its text.
+	 *
+	 * @param propName The name of the Property variable
+	 * @param innerPath The nested inner classes containing the Property,
+	 * from outermost to innermost.  May be null or empty.
+	 * @return The inner path and Property name, separated by dots.
+	 */
+	public static String getPropertyPath(String propName, String... innerPath) {
+		if (innerPath == null || innerPath.length == 0) {
+			return propName;
+		}
+
+		StringBuilder path = new StringBuilder();
+		for (String step : innerPath) {
+			path.append(step).append(".");
+		}
+
+		return path.append(propName).toString();
+	}
+
+	public String getResourcePath() {
+		return resourcePath;
+	}
+
+	public boolean hasDescription(String propertyPath) {
+		return getText().containsKey(propertyPath + DESC_SUFFIX);
+	}
+
+	public boolean hasHelpText(String propertyPath) {
+		return getText().containsKey(propertyPath + HELP_SUFFIX);
+	}
+
+	/**
+	 * The description of a Property.
+	 *
+	 * @param propertyPath The inner path and name of the Property within its root class.
+	 * @return The description or null if there is none.
+	 */
+	public String getDescription(String propertyPath) {
+		return getText().getProperty(propertyPath + DESC_SUFFIX);
+	}
+
+	/**
+	 * The help text of a Property.
+	 *
+	 * @param propertyPath The inner path and name of the Property within its root class.
+	 * @return The help text or null if there is none.
+	 */
+	public String getHelpText(String propertyPath) {
+		return getText().getProperty(propertyPath + HELP_SUFFIX);
+	}
+
+	/**
+	 * The loaded text, which is reloaded if it was previously reclaimed.
+	 *
+	 * If the resource cannot be read, an empty Properties is returned and
+	 * Properties using it will have no description or help text.
+	 */
+	protected Properties getText() {
+		Properties props = text.get();
+
+		if (props == null) {
+			props = new Properties();
+
+			try (InputStream in = classLoader.getResourceAsStream(resourcePath)) {
+				if (in != null) {
+					props.load(in);
+				}
+			} catch (IOException e) {
+				//Text is only used for reports - leave it empty
+			}
+
+			text = new SoftReference(props);
+		}
+
+		return props;
+	}
+
+}
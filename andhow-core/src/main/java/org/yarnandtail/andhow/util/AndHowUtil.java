@@ -1,6 +1,7 @@
 package org.yarnandtail.andhow.util;
 
 import java.lang.reflect.*;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -10,6 +11,7 @@ import org.yarnandtail.andhow.internal.StaticPropertyConfigurationMutable;
 import org.yarnandtail.andhow.internal.ConstructionProblem;
 import org.yarnandtail.andhow.internal.ConstructionProblem.TooManyAndHowInitInstances;
 import org.yarnandtail.andhow.internal.NameAndProperty;
+import org.yarnandtail.andhow.internal.RegistryCache;
 import org.yarnandtail.andhow.service.InitLoader;
 
 /**
@@ -23,6 +25,10 @@ public class AndHowUtil {
 	 * Build a fully populated ConstructionDefinition from the passed Groups,
 	 * using the NamingStrategy to generate names for each.
 	 *
+	 * If a RegistryCache file is configured and matches the Groups, the names
+	 * are restored from it rather than generated and checked again.  Otherwise
+	 * the cache file is written if there are no problems.
+	 *
 	 * @param groups The PropertyGroups from which to find Properties. May be
 	 * null.
 	 * @param loaders The Loaders, which may their own configurable
@@ -36,35 +42,10 @@ public class AndHowUtil {
 			List<GroupProxy> groups, List<Loader> loaders,
 			NamingStrategy naming, ProblemList<Problem> problems) {
 
-		StaticPropertyConfigurationMutable appDef = new StaticPropertyConfigurationMutable(naming);
-
 		//null groups is possible - used in testing and possibly early uses before params are created
+		List<GroupProxy> allGroups = new ArrayList();
 		if (groups != null) {
-			for (GroupProxy group : groups) {
-
-				problems.addAll(registerGroup(appDef, group));
-
-				try {
-					List<Exporter> exps = getExporters(group);
-
-					for (Exporter e : exps) {
-						ExportGroup eg = new ExportGroup(e, group);
-						appDef.addExportGroup(eg);
-					}
-
-				} catch (InstantiationException ex) {
-					ConstructionProblem.ExportException ee
-							= new ConstructionProblem.ExportException(ex, group,
-									"Unable to created a new instance of one of the Exporters for this group.  "
-									+ "Do they all have zero argument constructors?");
-					problems.add(ee);
-				} catch (IllegalAccessException ex) {
-					ConstructionProblem.SecurityException se
-							= new ConstructionProblem.SecurityException(ex, group.getProxiedGroup());
-					problems.add(se);
-				}
-
-			}
+			allGroups.addAll(groups);
 		}
 
 		//Loaders must be after properties b/c the loaders may look for registered
@@ -75,13 +56,42 @@ public class AndHowUtil {
 				//Add any implicit properties used to configure this loader
 				if (loader.getClassConfig() != null) {
 					try {
-						problems.addAll(registerGroup(appDef, AndHowUtil.buildGroupProxy(loader.getClassConfig(), false)));
+						allGroups.add(AndHowUtil.buildGroupProxy(loader.getClassConfig(), false));
 					} catch (Exception ex) {
 						ConstructionProblem.SecurityException ee
 								= new ConstructionProblem.SecurityException(ex, loader.getClassConfig());
 						problems.add(ee);
 					}
 				}
+			}
+		}
+
+		Path cacheFile = RegistryCache.getCacheFile();
+		StaticPropertyConfigurationMutable appDef = null;
+
+		if (cacheFile != null) {
+			appDef = RegistryCache.read(cacheFile, allGroups, naming);
+		}
+
+		boolean fromCache = (appDef != null);
+
+		if (! fromCache) {
+			appDef = new StaticPropertyConfigurationMutable(naming);
+
+			for (int i = 0; i < allGroups.size(); i++) {
+				GroupProxy group = allGroups.get(i);
+
+				problems.addAll(registerGroup(appDef, group));
+
+				//Only the registered groups are exported, not the loader configuration
+				if (groups != null && i < groups.size()) {
+					addExportGroups(appDef, group, problems);
+				}
+			}
+		}
+
+		if (loaders != null) {
+			for (Loader loader : loaders) {
 
 				//Check that user specified config properties for this loader are registered
 				for (Property p : loader.getInstanceConfig()) {
@@ -94,9 +104,37 @@ public class AndHowUtil {
 			}
 		}
 
+		if (cacheFile != null && ! fromCache && problems.isEmpty()) {
+			RegistryCache.write(cacheFile, appDef, allGroups, naming);
+		}
+
 		return appDef;
 	}
 
+	protected static void addExportGroups(StaticPropertyConfigurationMutable appDef,
+			GroupProxy group, ProblemList<Problem> problems) {
+
+		try {
+			List<Exporter> exps = getExporters(group);
+
+			for (Exporter e : exps) {
+				ExportGroup eg = new ExportGroup(e, group);
+				appDef.addExportGroup(eg);
+			}
+
+		} catch (InstantiationException ex) {
+			ConstructionProblem.ExportException ee
+					= new ConstructionProblem.ExportException(ex, group,
+							"Unable to created a new instance of one of the Exporters for this group.  "
+							+ "Do they all have zero argument constructors?");
+			problems.add(ee);
+		} catch (IllegalAccessException ex) {
+			ConstructionProblem.SecurityException se
+					= new ConstructionProblem.SecurityException(ex, group.getProxiedGroup());
+			problems.add(se);
+		}
+	}
+
 	protected static ProblemList<ConstructionProblem> registerGroup(StaticPropertyConfigurationMutable appDef,
 			GroupProxy group) {
 
@@ -1,6 +1,8 @@
 package org.yarnandtail.andhow.util;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 
 /**
@@ -11,6 +13,9 @@ public class IOUtil {
 
 	private static final String JAVA_TMP_KEY = "java.io.tmpdir";
 
+	/** Files of at least this many bytes are memory mapped by readFile() */
+	public static final long MAP_THRESHOLD_BYTES = 4L * 1024L * 1024L;
+
 	/**
 	 * All utility methods are static.
 	 */
@@ -95,6 +100,40 @@ public class IOUtil {
 		}
 	}
 
+	/**
+	 * Reads an entire file into a buffer.
+	 *
+	 * Files of at least MAP_THRESHOLD_BYTES are memory mapped, which avoids
+	 * copying them to the heap.  Smaller files are read into a heap buffer:
+	 * Mapping a small file costs more than reading it, and a mapping is only
+	 * released when its buffer is garbage collected, so it would hold a file
+	 * handle and address space long after a loader is done w/ it.
+	 *
+	 * @param channel An open channel positioned at the start of the file.
+	 * @return A buffer w/ the file content from its position to its limit.
+	 * @throws IOException If the file cannot be read or is too large for a
+	 * single buffer (over Integer.MAX_VALUE bytes).
+	 */
+	public static ByteBuffer readFile(FileChannel channel) throws IOException {
+		long size = channel.size();
+
+		if (size > Integer.MAX_VALUE) {
+			throw new IOException("The file is " + size + " bytes, which is larger than the max of " +
+					Integer.MAX_VALUE + " bytes that can be read");
+		} else if (size >= MAP_THRESHOLD_BYTES) {
+			return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+		} else {
+			ByteBuffer buffer = ByteBuffer.allocate((int) size);
+
+			while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+				//Keep reading until full or the end of the file
+			}
+
+			buffer.flip();
+			return buffer;
+		}
+	}
+
 	/**
 	 * Expands a file or directory path, replacing known values like java.io.tmpdir
 	 * w/ their values.  Paths are assumed to use forward slashes, which are replaced
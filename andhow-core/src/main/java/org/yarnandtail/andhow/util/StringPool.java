@@ -0,0 +1,60 @@
+package org.yarnandtail.andhow.util;
+
+import java.util.HashMap;
+
+/**
+ * Deduplicates equal Strings so that only a single instance of each is retained.
+ * <p>
+ * Unlike {@code String.intern()}, the pool is private and short lived:  It is
+ * intended to be used while building a structure, then discarded, so that only
+ * the deduplicated Strings remain on the heap.
+ * <p>
+ * This class is not thread safe.
+ *
+ * @author eeverman
+ */
+public class StringPool {
+
+	private final HashMap<String, String> pool = new HashMap();
+	private int hitCount;
+
+	/**
+	 * Returns the pooled instance equal to the passed String, adding it to the
+	 * pool if there is none.
+	 *
+	 * @param str The String to deduplicate.  May be null.
+	 * @return A String equal to str, or null if str is null.
+	 */
+	public String intern(String str) {
+		if (str == null) return null;
+
+		String pooled = pool.putIfAbsent(str, str);
+
+		if (pooled != null) {
+			hitCount++;
+			return pooled;
+		} else {
+			return str;
+		}
+	}
+
+	/**
+	 * The number of distinct Strings in the pool.
+	 *
+	 * @return
+	 */
+	public int size() {
+		return pool.size();
+	}
+
+	/**
+	 * The number of times intern() returned an existing instance, i.e. the
+	 * number of duplicate Strings that can be released.
+	 *
+	 * @return
+	 */
+	public int getHitCount() {
+		return hitCount;
+	}
+
+}
@@ -0,0 +1,104 @@
+package org.yarnandtail.andhow.valid;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.yarnandtail.andhow.api.Validator;
+import org.yarnandtail.andhow.valuetype.Blob;
+
+/**
+ * A collection of Blob validation types.
+ * 
+ * Validators read the Blob's buffer in place, w/o copying the bytes.  A
+ * validator that reads the bytes maps a file Blob during validation, at
+ * startup, rather than on first use.
+ * 
+ * @author ericeverman
+ */
+public class BlobValidator {
+	
+	/**
+	 * Validate that a Blob is no larger than a number of bytes.
+	 * 
+	 * Only the size is checked, so a file Blob is not mapped.
+	 */
+	public static class MaxSize implements Validator<Blob> {
+
+		long max;
+
+		public MaxSize(long max) {
+			this.max = max;
+		}
+
+		@Override
+		public boolean isSpecificationValid() {
+			return max >= 0;
+		}
+
+		@Override
+		public String getInvalidSpecificationMessage() {
+			return "The max size cannot be negative";
+		}
+
+		@Override
+		public boolean isValid(Blob value) {
+			if (value != null) {
+				return value.size() <= max;
+			}
+			return false;
+		}
+		
+		@Override
+		public String getTheValueMustDescription() {
+			return "be no larger than " + max + " bytes";
+		}
+	}
+	
+	/**
+	 * Validate that a Blob starts with a specific text, such as
+	 * {@code -----BEGIN CERTIFICATE-----} for a PEM certificate.
+	 * 
+	 * The text is compared as UTF-8 bytes.
+	 */
+	public static class StartsWith implements Validator<Blob> {
+
+		String prefix;
+		byte[] prefixBytes;
+
+		public StartsWith(String prefix) {
+			this.prefix = prefix;
+			this.prefixBytes = (prefix != null)? prefix.getBytes(StandardCharsets.UTF_8) : null;
+		}
+
+		@Override
+		public boolean isSpecificationValid() {
+			return prefix != null;
+		}
+
+		@Override
+		public String getInvalidSpecificationMessage() {
+			return "The StartWith expression cannot be null";
+		}
+
+		@Override
+		public boolean isValid(Blob value) {
+			if (value != null && value.size() >= prefixBytes.length) {
+				ByteBuffer buf = value.getBuffer();
+				
+				for (int i = 0; i < prefixBytes.length; i++) {
+					if (buf.get(i) != prefixBytes[i]) {
+						return false;
+					}
+				}
+				
+				return true;
+			}
+			return false;
+		}
+		
+		@Override
+		public String getTheValueMustDescription() {
+			return "start with '" + prefix + "'";
+		}
+	}
+	
+}
@@ -0,0 +1,299 @@
+package org.yarnandtail.andhow.valid;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.yarnandtail.andhow.api.Validator;
+import org.yarnandtail.andhow.valuetype.DblArray;
+import org.yarnandtail.andhow.valuetype.IntArray;
+import org.yarnandtail.andhow.valuetype.LngArray;
+
+/**
+ * A collection of validation types for values w/ many elements, such as a
+ * List or an IntArray.
+ * 
+ * Most apply a Validator of a single element type, such as an
+ * IntValidator, to each element, so the same validation rules are available
+ * for a single value and for each element of many.  The invalid message
+ * names the first element that is not valid.
+ * 
+ * @author ericeverman
+ */
+public class ElementValidator {
+	
+	/**
+	 * Base for validators that apply a Validator to each element.
+	 * 
+	 * @param <T> The type of the value
+	 * @param <E> The type of each element
+	 */
+	public static abstract class Each<T, E> implements Validator<T> {
+
+		protected final Validator<E> elementValidator;
+
+		public Each(Validator<E> elementValidator) {
+			this.elementValidator = elementValidator;
+		}
+		
+		/**
+		 * The index of the first element that is not valid.
+		 * 
+		 * @param value A non-null value
+		 * @return The index or -1 if all elements are valid
+		 */
+		protected abstract int findInvalid(T value);
+		
+		/**
+		 * The element at an index, for the invalid message.
+		 * 
+		 * @param value A non-null value
+		 * @param index The index of the element
+		 * @return 
+		 */
+		protected abstract Object getElement(T value, int index);
+
+		@Override
+		public boolean isSpecificationValid() {
+			return elementValidator != null && elementValidator.isSpecificationValid();
+		}
+
+		@Override
+		public String getInvalidSpecificationMessage() {
+			if (elementValidator == null) {
+				return "The element validator cannot be null";
+			} else {
+				return elementValidator.getInvalidSpecificationMessage();
+			}
+		}
+
+		@Override
+		public boolean isValid(T value) {
+			if (value != null) {
+				return findInvalid(value) < 0;
+			}
+			return false;
+		}
+		
+		@Override
+		public String getInvalidMessage(T value) {
+			int index = (value != null)? findInvalid(value) : -1;
+			
+			if (index > -1) {
+				return "The element '" + getElement(value, index) + "' at index " + index + 
+						" must " + elementValidator.getTheValueMustDescription();
+			} else {
+				return Validator.super.getInvalidMessage(value);
+			}
+		}
+		
+		@Override
+		public String getTheValueMustDescription() {
+			return "have every element " + elementValidator.getTheValueMustDescription();
+		}
+	}
+	
+	/**
+	 * Validate each String in a List.
+	 */
+	public static class ListEach extends Each<List<String>, String> {
+
+		public ListEach(Validator<String> elementValidator) {
+			super(elementValidator);
+		}
+
+		@Override
+		protected int findInvalid(List<String> value) {
+			for (int i = 0; i < value.size(); i++) {
+				if (! elementValidator.isValid(value.get(i))) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		@Override
+		protected Object getElement(List<String> value, int index) {
+			return value.get(index);
+		}
+	}
+	
+	/**
+	 * Validate each value in an IntArray.
+	 */
+	public static class IntEach extends Each<IntArray, Integer> {
+
+		public IntEach(Validator<Integer> elementValidator) {
+			super(elementValidator);
+		}
+
+		@Override
+		protected int findInvalid(IntArray value) {
+			for (int i = 0; i < value.size(); i++) {
+				if (! elementValidator.isValid(value.get(i))) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		@Override
+		protected Object getElement(IntArray value, int index) {
+			return value.get(index);
+		}
+	}
+	
+	/**
+	 * Validate each value in a LngArray.
+	 */
+	public static class LngEach extends Each<LngArray, Long> {
+
+		public LngEach(Validator<Long> elementValidator) {
+			super(elementValidator);
+		}
+
+		@Override
+		protected int findInvalid(LngArray value) {
+			for (int i = 0; i < value.size(); i++) {
+				if (! elementValidator.isValid(value.get(i))) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		@Override
+		protected Object getElement(LngArray value, int index) {
+			return value.get(index);
+		}
+	}
+	
+	/**
+	 * Validate each value in a DblArray.
+	 */
+	public static class DblEach extends Each<DblArray, Double> {
+
+		public DblEach(Validator<Double> elementValidator) {
+			super(elementValidator);
+		}
+
+		@Override
+		protected int findInvalid(DblArray value) {
+			for (int i = 0; i < value.size(); i++) {
+				if (! elementValidator.isValid(value.get(i))) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		@Override
+		protected Object getElement(DblArray value, int index) {
+			return value.get(index);
+		}
+	}
+	
+	/**
+	 * Validate each value of a Map.
+	 * 
+	 * Elements are counted in the iteration order of the Map, which is the
+	 * configured order for a Map loaded by a StrMapProp.
+	 */
+	public static class MapEachValue extends Each<Map<String, String>, String> {
+
+		public MapEachValue(Validator<String> elementValidator) {
+			super(elementValidator);
+		}
+
+		@Override
+		protected int findInvalid(Map<String, String> value) {
+			int i = 0;
+			for (String v : value.values()) {
+				if (! elementValidator.isValid(v)) {
+					return i;
+				}
+				i++;
+			}
+			return -1;
+		}
+
+		@Override
+		protected Object getElement(Map<String, String> value, int index) {
+			Map.Entry<String, String> entry = value.entrySet().stream().skip(index).findFirst().get();
+			return entry.getKey() + "=" + entry.getValue();
+		}
+		
+		@Override
+		public String getTheValueMustDescription() {
+			return "have every value " + elementValidator.getTheValueMustDescription();
+		}
+	}
+	
+	/**
+	 * Validate that the number of elements is within a range, inclusive.
+	 * 
+	 * Understands Collections, Maps, IntArray, LngArray and DblArray.
+	 * 
+	 * @param <T> The type of the value
+	 */
+	public static class Size<T> implements Validator<T> {
+
+		private final int min;
+		private final int max;
+
+		public Size(int min, int max) {
+			this.min = min;
+			this.max = max;
+		}
+		
+		/**
+		 * The number of elements in a value.
+		 * 
+		 * @param value A non-null value
+		 * @return The size or -1 if the type is not understood
+		 */
+		protected static int sizeOf(Object value) {
+			if (value instanceof Collection) {
+				return ((Collection) value).size();
+			} else if (value instanceof Map) {
+				return ((Map) value).size();
+			} else if (value instanceof IntArray) {
+				return ((IntArray) value).size();
+			} else if (value instanceof LngArray) {
+				return ((LngArray) value).size();
+			} else if (value instanceof DblArray) {
+				return ((DblArray) value).size();
+			} else {
+				return -1;
+			}
+		}
+
+		@Override
+		public boolean isSpecificationValid() {
+			return min >= 0 && max >= min;
+		}
+
+		@Override
+		public String getInvalidSpecificationMessage() {
+			return "The min size cannot be negative or larger than the max size";
+		}
+
+		@Override
+		public boolean isValid(T value) {
+			if (value != null) {
+				int size = sizeOf(value);
+				return size >= min && size <= max;
+			}
+			return false;
+		}
+		
+		@Override
+		public String getTheValueMustDescription() {
+			if (min == max) {
+				return "have exactly " + min + " elements";
+			} else {
+				return "have from " + min + " to " + max + " elements";
+			}
+		}
+	}
+	
+}
@@ -1,5 +1,7 @@
 package org.yarnandtail.andhow.valid;
 
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 import org.yarnandtail.andhow.api.Validator;
 
 /**
@@ -36,7 +38,7 @@ public class StringValidator {
 		public boolean isValid(String value) {
 			if (value != null) {
 				if (ignoreCase) {
-					return value.toUpperCase().startsWith(prefix.toUpperCase());
+					return value.regionMatches(true, 0, prefix, 0, prefix.length());
 				} else {
 					return value.startsWith(prefix);
 				}
@@ -78,7 +80,7 @@ public class StringValidator {
 		public boolean isValid(String value) {
 			if (value != null) {
 				if (ignoreCase) {
-					return value.toUpperCase().endsWith(sufix.toUpperCase());
+					return value.regionMatches(true, value.length() - sufix.length(), sufix, 0, sufix.length());
 				} else {
 					return value.endsWith(sufix);
 				}
@@ -94,25 +96,27 @@ public class StringValidator {
 	
 	/**
 	 * Validate based on a regex string.
+	 * 
+	 * The regex is compiled once, when the validator is constructed.
 	 */
 	public static class Regex implements Validator<String> {
 
 		private String regex;
+		private Pattern pattern;	//null if the regex is invalid
 
 		public Regex(String regex) {
 			this.regex = regex;
+			
+			try {
+				pattern = Pattern.compile(regex);
+			} catch (NullPointerException | PatternSyntaxException e) {
+				pattern = null;
+			}
 		}
 
 		@Override
 		public boolean isSpecificationValid() {
-
-			try {
-				"".matches(regex);
-				return true;
-			} catch (Exception e) {
-				return false;
-			}
-
+			return pattern != null;
 		}
 
 		@Override
@@ -122,7 +126,7 @@ public class StringValidator {
 
 		@Override
 		public boolean isValid(String value) {
-			if (value != null && value.matches(regex)) {
+			if (value != null && pattern != null && pattern.matcher(value).matches()) {
 				return true;
 			} else {
 				return false;
@@ -1,6 +1,5 @@
 package org.yarnandtail.andhow.valuetype;
 
-import org.yarnandtail.andhow.api.ParsingException;
 import org.yarnandtail.andhow.api.ValueType;
 
 /**
@@ -23,12 +22,7 @@ public abstract class BaseValueType<T> implements ValueType<T> {
 
 	@Override
 	public boolean isParsable(String sourceValue) {
-		try {
-			parse(sourceValue);
-			return true;
-		} catch (ParsingException e) {
-			return false;
-		}
+		return tryParse(sourceValue).isSuccess();
 	}
 	
 	@Override
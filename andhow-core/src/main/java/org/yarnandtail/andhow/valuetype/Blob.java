@@ -0,0 +1,215 @@
+package org.yarnandtail.andhow.valuetype;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.Base64;
+
+/**
+ * A large value, such as a certificate chain or a JSON document, kept off
+ * the heap and read as a read-only ByteBuffer.
+ * <p>
+ * A Blob is either a reference to a file, which is memory mapped the first
+ * time its buffer is requested, or inline bytes held in a direct buffer.
+ * Either way, the bytes are not copied to the heap and consumers that need
+ * bytes, such as a TLS or JSON library, can read them directly.
+ * <p>
+ * Each call to {@link #getBuffer()} returns a new read-only view of the same
+ * bytes, w/ its own position and limit, so views can be read concurrently.
+ * <p>
+ * A mapped file reflects changes made to the file in place, but not the
+ * replacement of the file, so files should be replaced, not rewritten, and
+ * AndHow reloaded to pick up the new file.
+ * <p>
+ * This class is threadsafe.
+ *
+ * @author eeverman
+ */
+public final class Blob {
+
+	/** Prefix of a value that refers to a file */
+	public static final String FILE_PREFIX = "file:";
+
+	/** Prefix of an inline value encoded as base64 */
+	public static final String BASE64_PREFIX = "base64:";
+
+	private final Path path;	//Null for inline bytes
+	private final long size;
+	private volatile ByteBuffer buffer;	//Read-only, mapped lazily for files
+
+	private Blob(Path path, long size, ByteBuffer buffer) {
+		this.path = path;
+		this.size = size;
+		this.buffer = buffer;
+	}
+
+	/**
+	 * A Blob of a file, which is not mapped until its buffer is first requested.
+	 *
+	 * @param path The file
+	 * @return A new instance
+	 * @throws IOException If the file does not exist, is not readable or is
+	 * too large to map.
+	 */
+	public static Blob ofFile(Path path) throws IOException {
+		if (! Files.isRegularFile(path)) {
+			throw new NoSuchFileException(path.toString());
+		} else if (! Files.isReadable(path)) {
+			throw new AccessDeniedException(path.toString());
+		}
+
+		long size = Files.size(path);
+
+		if (size > Integer.MAX_VALUE) {
+			throw new IOException("The file " + path + " is too large to map (" + size + " bytes)");
+		}
+
+		return new Blob(path, size, null);
+	}
+
+	/**
+	 * A Blob of inline bytes, which are copied to a direct buffer.
+	 *
+	 * @param bytes The bytes
+	 * @return A new instance
+	 */
+	public static Blob ofBytes(byte[] bytes) {
+		ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+		direct.put(bytes);
+		direct.flip();
+		return new Blob(null, bytes.length, direct.asReadOnlyBuffer());
+	}
+
+	/**
+	 * A read-only view of the bytes, positioned at zero.
+	 * <p>
+	 * For a file, the file is memory mapped by the first call.
+	 *
+	 * @return A new view of the same bytes
+	 * @throws UncheckedIOException If the file cannot be mapped.
+	 */
+	public ByteBuffer getBuffer() {
+		ByteBuffer buf = buffer;
+
+		if (buf == null) {
+			synchronized (this) {
+				buf = buffer;
+
+				if (buf == null) {
+					buf = map();
+					buffer = buf;
+				}
+			}
+		}
+
+		return buf.duplicate();
+	}
+
+	private ByteBuffer map() {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).asReadOnlyBuffer();
+		} catch (IOException e) {
+			throw new UncheckedIOException("Unable to map the file " + path, e);
+		}
+	}
+
+	/**
+	 * The number of bytes.
+	 * <p>
+	 * For a file, this is the size when the Blob was created and does not
+	 * require mapping the file.
+	 *
+	 * @return
+	 */
+	public long size() {
+		ByteBuffer buf = buffer;
+		return (buf != null)? buf.capacity() : size;
+	}
+
+	/**
+	 * True if this Blob refers to a file, false if it is inline bytes.
+	 *
+	 * @return
+	 */
+	public boolean isFile() {
+		return path != null;
+	}
+
+	/**
+	 * The file this Blob refers to.
+	 *
+	 * @return The path or null for inline bytes
+	 */
+	public Path getPath() {
+		return path;
+	}
+
+	/**
+	 * True if the bytes are in memory, i.e. inline or a file that has been mapped.
+	 *
+	 * @return
+	 */
+	public boolean isLoaded() {
+		return buffer != null;
+	}
+
+	/**
+	 * The String form of this Blob, which BlobType parses back to an equal Blob.
+	 * <p>
+	 * For a file, this is the file prefix and path.  For inline bytes, it is
+	 * the base64 prefix and the base64 encoded bytes, which are copied to
+	 * encode them.
+	 *
+	 * @return
+	 */
+	public String toSourceString() {
+		if (path != null) {
+			return FILE_PREFIX + path;
+		} else {
+			ByteBuffer src = getBuffer();
+			ByteBuffer encoded = Base64.getEncoder().encode(src);
+			byte[] bytes = new byte[encoded.remaining()];
+			encoded.get(bytes);
+			return BASE64_PREFIX + new String(bytes, StandardCharsets.ISO_8859_1);
+		}
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		} else if (obj instanceof Blob) {
+			Blob other = (Blob) obj;
+
+			if (path != null || other.path != null) {
+				return path != null && path.equals(other.path);
+			} else {
+				return getBuffer().equals(other.getBuffer());
+			}
+		} else {
+			return false;
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		return (path != null)? path.hashCode() : getBuffer().hashCode();
+	}
+
+	/**
+	 * A short description, which does not include the bytes.
+	 *
+	 * @return
+	 */
+	@Override
+	public String toString() {
+		if (path != null) {
+			return FILE_PREFIX + path;
+		} else {
+			return "[" + size + " inline bytes]";
+		}
+	}
+}
@@ -0,0 +1,87 @@
+package org.yarnandtail.andhow.valuetype;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.util.Base64;
+import org.yarnandtail.andhow.api.ParseResult;
+import org.yarnandtail.andhow.api.ParsingException;
+
+/**
+ * Type representation of a Blob.
+ * <p>
+ * The String form of a Blob is one of:
+ * <ul>
+ * <li>{@code file:[path]} - a reference to a file, which must exist and be
+ * readable.  The file is not read until the value is used.</li>
+ * <li>{@code base64:[bytes]} - inline bytes, encoded as base64</li>
+ * <li>Any other text - inline text, stored as UTF-8 bytes</li>
+ * </ul>
+ *
+ * This class is threadsafe and uses a singleton pattern to prevent multiple
+ * instances, since all users can safely use the same instance.
+ *
+ * @author eeverman
+ */
+public class BlobType extends BaseValueType<Blob> {
+
+	private static final BlobType instance = new BlobType();
+
+	private BlobType() {
+		super(Blob.class);
+	}
+
+	public static BlobType instance() {
+		return instance;
+	}
+
+	@Override
+	public Blob parse(String sourceValue) throws ParsingException {
+		return tryParse(sourceValue).getValueOrThrow();
+	}
+
+	@Override
+	public ParseResult<Blob> tryParse(String sourceValue) {
+
+		if (sourceValue == null) {
+			return ParseResult.success(null);
+		} else if (sourceValue.startsWith(Blob.FILE_PREFIX)) {
+
+			String path = sourceValue.substring(Blob.FILE_PREFIX.length());
+
+			try {
+				return ParseResult.success(Blob.ofFile(Paths.get(path)));
+			} catch (IOException | InvalidPathException e) {
+				return ParseResult.failure("Unable to read the file '" + path + "': " + e, sourceValue);
+			}
+
+		} else if (sourceValue.startsWith(Blob.BASE64_PREFIX)) {
+
+			try {
+				return ParseResult.success(Blob.ofBytes(Base64.getMimeDecoder().decode(
+						sourceValue.substring(Blob.BASE64_PREFIX.length()))));
+			} catch (IllegalArgumentException e) {
+				return ParseResult.failure("Unable to decode base64", sourceValue);
+			}
+
+		} else {
+			return ParseResult.success(Blob.ofBytes(sourceValue.getBytes(StandardCharsets.UTF_8)));
+		}
+	}
+
+	@Override
+	public String toString(Blob value) {
+		if (value != null) {
+			return value.toSourceString();
+		} else {
+			return null;
+		}
+	}
+
+	@Override
+	public Blob cast(Object o) throws RuntimeException {
+		return (Blob)o;
+	}
+
+}
@@ -1,6 +1,6 @@
 package org.yarnandtail.andhow.valuetype;
 
-import org.yarnandtail.andhow.util.TextUtil;
+import org.yarnandtail.andhow.api.ParseResult;
 
 /**
  * Metadata and parsing for the Boolean type.
@@ -28,12 +28,18 @@ public class BolType extends BaseValueType<Boolean> {
 
 	@Override
 	public Boolean parse(String sourceValue) throws IllegalArgumentException {
-
-		if (TextUtil.trimToNull(sourceValue) != null) {
-			return TextUtil.toBoolean(sourceValue);
-		} else {
-			return null;
-		}
+		return TextScanner.scanBoolean(sourceValue);
+	}
+	
+	/**
+	 * Any text can be parsed to a Boolean, so this never fails.
+	 * 
+	 * @param sourceValue
+	 * @return null if blank, otherwise true or false.
+	 */
+	@Override
+	public ParseResult<Boolean> tryParse(String sourceValue) {
+		return ParseResult.success(TextScanner.scanBoolean(sourceValue));
 	}
 	
 	@Override
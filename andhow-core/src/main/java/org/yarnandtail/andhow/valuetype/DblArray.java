@@ -0,0 +1,103 @@
+package org.yarnandtail.andhow.valuetype;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+import java.util.stream.DoubleStream;
+
+/**
+ * An immutable array of double values, as the value of a DblArrayProp.
+ * <p>
+ * The values are held in a double[] w/o boxing.  They are read in place via
+ * {@link #get(int)}, a read-only DoubleBuffer view or a stream, so reading does not
+ * copy the array.  Only {@link #toArray()} returns a copy.
+ * <p>
+ * This class is threadsafe.
+ *
+ * @author eeverman
+ */
+public final class DblArray {
+
+	/** An array w/ no values */
+	public static final DblArray EMPTY = new DblArray(new double[0]);
+
+	private final double[] values;
+
+	/**
+	 * New instance that takes ownership of the passed array, which must not
+	 * be modified afterwards.
+	 */
+	DblArray(double[] values) {
+		this.values = values;
+	}
+
+	/**
+	 * New instance w/ a copy of the passed values.
+	 *
+	 * @param values The values
+	 * @return A new instance
+	 */
+	public static DblArray of(double... values) {
+		return new DblArray(values.clone());
+	}
+
+	/**
+	 * The value at an index.
+	 *
+	 * @param index From zero to size() - 1
+	 * @return The value
+	 * @throws ArrayIndexOutOfBoundsException If the index is out of range
+	 */
+	public double get(int index) {
+		return values[index];
+	}
+
+	public int size() {
+		return values.length;
+	}
+
+	public boolean isEmpty() {
+		return values.length == 0;
+	}
+
+	/**
+	 * A read-only view of the values, positioned at zero.
+	 *
+	 * @return A new view of the same values
+	 */
+	public DoubleBuffer asBuffer() {
+		return DoubleBuffer.wrap(values).asReadOnlyBuffer();
+	}
+
+	/**
+	 * A stream of the values.
+	 *
+	 * @return
+	 */
+	public DoubleStream stream() {
+		return Arrays.stream(values);
+	}
+
+	/**
+	 * A copy of the values.
+	 *
+	 * @return A new array
+	 */
+	public double[] toArray() {
+		return values.clone();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return (obj instanceof DblArray) && Arrays.equals(values, ((DblArray) obj).values);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(values);
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(values);
+	}
+}
@@ -0,0 +1,94 @@
+package org.yarnandtail.andhow.valuetype;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.yarnandtail.andhow.api.ParseResult;
+import org.yarnandtail.andhow.api.ParsingException;
+
+/**
+ * Type representation of an immutable array of double values, configured as
+ * delimited values, such as {@code 0.7, 0.2, 0.1}.
+ * 
+ * Each element is parsed the same way as by DblType.
+ * 
+ * This class is threadsafe.  The default instance, w/ the default delimiter,
+ * is a singleton.
+ * 
+ * @author eeverman
+ */
+public class DblArrayType extends DelimitedTypeBase<DblArray> {
+
+	private static final DblArrayType instance = new DblArrayType(DEFAULT_DELIMITER);
+	
+	private DblArrayType(String delimiter) {
+		super(DblArray.class, delimiter);
+	}
+	
+	public static DblArrayType instance() {
+		return instance;
+	}
+	
+	/**
+	 * An instance that splits on the passed delimiter.
+	 * 
+	 * @param delimiter The delimiter, as plain text
+	 * @return An instance
+	 */
+	public static DblArrayType withDelimiter(String delimiter) {
+		return DEFAULT_DELIMITER.equals(delimiter)? instance : new DblArrayType(delimiter);
+	}
+
+	@Override
+	public DblArray parse(String sourceValue) throws ParsingException {
+		return tryParse(sourceValue).getValueOrThrow();
+	}
+	
+	@Override
+	public ParseResult<DblArray> tryParse(String sourceValue) {
+		if (sourceValue != null) {
+			List<String> elements = split(sourceValue, delimiter);
+			double[] values = new double[elements.size()];
+			
+			for (int i = 0; i < values.length; i++) {
+				ParseResult<Double> element = DblType.instance().tryParse(elements.get(i));
+				
+				if (element.isSuccess()) {
+					values[i] = element.getValue();
+				} else {
+					return ParseResult.failure("The element '" + elements.get(i) + "' is not valid: " +
+							element.getFailureMessage(), sourceValue);
+				}
+			}
+			
+			return ParseResult.success(new DblArray(values));
+		} else {
+			return ParseResult.success(null);
+		}
+	}
+	
+	@Override
+	public String toString(DblArray value) {
+		if (value != null) {
+			List<String> elements = new ArrayList(value.size());
+			
+			for (int i = 0; i < value.size(); i++) {
+				elements.add(Double.toString(value.get(i)));
+			}
+			
+			return join(elements);
+		} else {
+			return null;
+		}
+	}
+
+	@Override
+	public DblArray cast(Object o) throws RuntimeException {
+		return (DblArray)o;
+	}
+
+	@Override
+	public String getTypeName() {
+		return "double[]";
+	}
+	
+}
@@ -1,5 +1,6 @@
 package org.yarnandtail.andhow.valuetype;
 
+import org.yarnandtail.andhow.api.ParseResult;
 import org.yarnandtail.andhow.api.ParsingException;
 
 /**
@@ -13,6 +14,7 @@ import org.yarnandtail.andhow.api.ParsingException;
 public class DblType extends BaseValueType<Double> {
 
 	private static final DblType instance = new DblType();
+	private static final String FAILURE_MESSAGE = "Unable to convert to a Double numeric value";
 	
 	private DblType() {
 		super(Double.class);
@@ -28,15 +30,36 @@ public class DblType extends BaseValueType<Double> {
 
 	@Override
 	public Double parse(String sourceValue) throws ParsingException {
+		return tryParse(sourceValue).getValueOrThrow();
+	}
+	
+	/**
+	 * Parses the same text as {@code Double.parseDouble()}, but w/o throwing
+	 * an exception for invalid text.
+	 * 
+	 * Decimal text is checked by a scanner before it is converted.  The rarely
+	 * used hexadecimal format is left to the JDK to check.
+	 * 
+	 * @param sourceValue
+	 * @return 
+	 */
+	@Override
+	public ParseResult<Double> tryParse(String sourceValue) {
 		
 		if (sourceValue != null) {
-			try {
-				return Double.parseDouble(sourceValue);
-			} catch (Exception e) {
-				throw new ParsingException("Unable to convert to a Double numeric value", sourceValue, e);
+			if (TextScanner.isDecimal(sourceValue)) {
+				return ParseResult.success(Double.parseDouble(sourceValue));
+			} else if (TextScanner.isHexNumber(sourceValue)) {
+				try {
+					return ParseResult.success(Double.parseDouble(sourceValue));
+				} catch (NumberFormatException e) {
+					//fall through to failure
+				}
 			}
+			
+			return ParseResult.failure(FAILURE_MESSAGE, sourceValue);
 		} else {
-			return null;
+			return ParseResult.success(null);
 		}
 	}
 	
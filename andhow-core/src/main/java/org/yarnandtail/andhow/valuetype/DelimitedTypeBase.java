@@ -0,0 +1,98 @@
+package org.yarnandtail.andhow.valuetype;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.yarnandtail.andhow.api.DelimitedValueType;
+
+/**
+ * Base for ValueTypes of values configured as a delimited String.
+ * <p>
+ * Elements are split on each instance of the delimiter and trimmed.  Empty
+ * elements, such as after a trailing delimiter, are ignored.  The String is
+ * split w/o the regex engine, so the delimiter is plain text.
+ * <p>
+ * The value is parsed once when it is loaded, so reading the value never
+ * splits the String again.
+ *
+ * @author eeverman
+ * @param <T> The type of the value
+ */
+public abstract class DelimitedTypeBase<T> extends BaseValueType<T> implements DelimitedValueType<T> {
+
+	/** The default delimiter between elements */
+	public static final String DEFAULT_DELIMITER = ",";
+
+	protected final String delimiter;
+
+	protected DelimitedTypeBase(Class<T> clazzType, String delimiter) {
+		super(clazzType);
+
+		if (delimiter == null || delimiter.isEmpty()) {
+			throw new IllegalArgumentException("The delimiter cannot be empty");
+		}
+
+		this.delimiter = delimiter;
+	}
+
+	@Override
+	public String getDelimiter() {
+		return delimiter;
+	}
+
+	@Override
+	public String getFormatDescription() {
+		return "values delimited by '" + delimiter + "'";
+	}
+
+	/**
+	 * Splits a String on each instance of a delimiter, trimming each element
+	 * and skipping empty elements.
+	 *
+	 * @param source The String to split
+	 * @param delimiter The delimiter, as plain text
+	 * @return The non-empty elements, in order
+	 */
+	protected static List<String> split(String source, String delimiter) {
+		List<String> elements = new ArrayList();
+		int start = 0;
+
+		while (start <= source.length()) {
+			int end = source.indexOf(delimiter, start);
+
+			if (end < 0) {
+				end = source.length();
+			}
+
+			String element = source.substring(start, end).trim();
+
+			if (! element.isEmpty()) {
+				elements.add(element);
+			}
+
+			start = end + delimiter.length();
+		}
+
+		return elements;
+	}
+
+	/**
+	 * Joins the String form of each element w/ the delimiter.
+	 *
+	 * @param elements The elements
+	 * @return The joined String
+	 */
+	protected String join(Iterable<? extends CharSequence> elements) {
+		return String.join(delimiter, elements);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return obj != null && obj.getClass().equals(getClass()) &&
+				delimiter.equals(((DelimitedTypeBase) obj).delimiter);
+	}
+
+	@Override
+	public int hashCode() {
+		return getClass().hashCode() * 31 + delimiter.hashCode();
+	}
+}
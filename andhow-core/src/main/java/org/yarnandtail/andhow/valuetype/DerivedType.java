@@ -0,0 +1,45 @@
+package org.yarnandtail.andhow.valuetype;
+
+import org.yarnandtail.andhow.api.ParseResult;
+import org.yarnandtail.andhow.api.ParsingException;
+
+/**
+ * Type representation of the value of a DerivedProp, which is computed from
+ * other Properties rather than parsed.
+ * 
+ * Parsing always fails, since a derived value cannot be configured.  The
+ * value may be of any type, so values are cast w/o checking.
+ * 
+ * This class is threadsafe and uses a singleton pattern.
+ * 
+ * @author eeverman
+ * @param <T> The type of the derived value
+ */
+public class DerivedType<T> extends BaseValueType<T> {
+
+	private static final DerivedType instance = new DerivedType();
+	
+	private DerivedType() {
+		super((Class<T>) Object.class);
+	}
+	
+	public static <T> DerivedType<T> instance() {
+		return instance;
+	}
+
+	@Override
+	public T parse(String sourceValue) throws ParsingException {
+		return tryParse(sourceValue).getValueOrThrow();
+	}
+	
+	@Override
+	public ParseResult<T> tryParse(String sourceValue) {
+		return ParseResult.failure("A derived value is computed from other properties and cannot be configured", sourceValue);
+	}
+
+	@Override
+	public T cast(Object o) throws RuntimeException {
+		return (T)o;
+	}
+	
+}
@@ -0,0 +1,243 @@
+package org.yarnandtail.andhow.valuetype;
+
+import org.yarnandtail.andhow.api.ParseResult;
+
+/**
+ * A feature flag compiled from its rollout rules, as the value of a
+ * FeatureFlagProp.
+ * <p>
+ * A flag is evaluated for a key, such as a user or tenant id:
+ * <ol>
+ * <li>If the key is in the deny set, the flag is off.
+ * <li>If the key is in the allow set, the flag is on.
+ * <li>Otherwise the flag is on for a fixed fraction of all keys, which is
+ * none if the flag is off, all if it is on, or a percentage.  A key is
+ * placed in one of 2<sup>32</sup> buckets by mixing the bits of
+ * {@code String.hashCode()}, which is specified by the Java API, so a key is
+ * always in or out of a rollout, on every JVM, and raising the percentage only
+ * adds keys.
+ * </ol>
+ * The rules are compiled once, when the value is loaded:  The allow and deny
+ * sets are open addressing tables w/ the hash of each key in an int[], so a
+ * probe only compares Strings when their hashes are equal, and the percentage
+ * is a precomputed bucket threshold.  Strings cache their hash, so evaluating
+ * a key the application already holds only reads its chars to confirm a match
+ * in a set, and never allocates, boxes or locks.
+ * <p>
+ * By default, every flag places a key in the same bucket, so a key in a 10%
+ * rollout of one flag is also in a 10% rollout of another.  Flags w/ different
+ * salts place keys in independent buckets.
+ * <p>
+ * This class is threadsafe.
+ *
+ * @author eeverman
+ */
+public final class FeatureFlag {
+
+	/** The threshold of a flag that is on for all keys */
+	static final long ALL = 1L << 32;
+
+	/** A set w/ no keys, w/ the smallest size a slot can be found for */
+	private static final String[] EMPTY_KEYS = new String[2];
+	private static final int[] EMPTY_HASHES = new int[2];
+
+	/** A flag that is off for all keys */
+	public static final FeatureFlag OFF = new FeatureFlag(0L, 0L, new String[0], new String[0], "off");
+
+	/** A flag that is on for all keys */
+	public static final FeatureFlag ON = new FeatureFlag(ALL, 0L, new String[0], new String[0], "on");
+
+	private final long threshold;
+	private final long salt;
+	private final String[] allowKeys;
+	private final int[] allowHashes;
+	private final int allowShift;
+	private final String[] denyKeys;
+	private final int[] denyHashes;
+	private final int denyShift;
+	private final String rule;
+
+	/**
+	 * New instance.
+	 *
+	 * @param threshold Keys in buckets below this are on, from zero to ALL
+	 * @param salt Mixed into the hash of a key to find its bucket
+	 * @param allow The keys that are always on, w/o duplicates
+	 * @param deny The keys that are always off, w/o duplicates
+	 * @param rule The rules in the form they are configured
+	 */
+	FeatureFlag(long threshold, long salt, String[] allow, String[] deny, String rule) {
+		this.threshold = threshold;
+		this.salt = salt;
+		this.allowKeys = buildKeys(allow);
+		this.allowHashes = buildHashes(allowKeys);
+		this.allowShift = shiftFor(allowKeys.length);
+		this.denyKeys = buildKeys(deny);
+		this.denyHashes = buildHashes(denyKeys);
+		this.denyShift = shiftFor(denyKeys.length);
+		this.rule = rule;
+	}
+
+	/**
+	 * Parses a flag from its rules.
+	 *
+	 * @param rule The rules, as described in FeatureFlagType
+	 * @return The flag
+	 * @throws IllegalArgumentException If the rules are not valid
+	 */
+	public static FeatureFlag of(String rule) {
+		ParseResult<FeatureFlag> result = FeatureFlagType.instance().tryParse(rule);
+
+		if (result.isSuccess()) {
+			return result.getValue();
+		} else {
+			throw new IllegalArgumentException(result.getFailureMessage());
+		}
+	}
+
+	/**
+	 * True if the flag is on for all keys.
+	 *
+	 * Allow and deny sets are ignored, so this is the value w/o a key.
+	 *
+	 * @return
+	 */
+	public boolean isEnabled() {
+		return threshold >= ALL;
+	}
+
+	/**
+	 * True if the flag is on for the key.
+	 *
+	 * @param key The key, such as a user or tenant id.  If null, the same as
+	 * {@link #isEnabled()}.
+	 * @return
+	 */
+	public boolean isEnabled(String key) {
+		if (key == null) {
+			return isEnabled();
+		}
+
+		int hash = key.hashCode();
+
+		if (contains(denyKeys, denyHashes, denyShift, key, hash)) {
+			return false;
+		} else if (contains(allowKeys, allowHashes, allowShift, key, hash)) {
+			return true;
+		} else {
+			return (mix(hash ^ salt) >>> 32) < threshold;
+		}
+	}
+
+	/**
+	 * The fraction of keys not in the allow or deny sets for which the flag
+	 * is on.
+	 *
+	 * @return From zero to one
+	 */
+	public double getRolloutFraction() {
+		return (double) threshold / ALL;
+	}
+
+	/**
+	 * The MurmurHash3 64 bit finalizer, which spreads each bit of the input
+	 * across all bits of the result.
+	 */
+	static long mix(long h) {
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+
+	/**
+	 * The first slot to probe for a hash, by Fibonacci hashing.  Similar keys,
+	 * such as {@code tenant-1} and {@code tenant-2}, have nearly equal hashes,
+	 * which this spreads across the table rather than into a cluster.
+	 */
+	private static int slot(int hash, int shift) {
+		return (hash * 0x9e3779b9) >>> shift;
+	}
+
+	private static int shiftFor(int size) {
+		return 32 - Integer.numberOfTrailingZeros(size);
+	}
+
+	private static boolean contains(String[] keys, int[] hashes, int shift, String key, int hash) {
+		int mask = keys.length - 1;
+		int i = slot(hash, shift);
+		String k;
+
+		while ((k = keys[i]) != null) {
+			if (hashes[i] == hash && k.equals(key)) {
+				return true;
+			}
+			i = (i + 1) & mask;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Builds an open addressing table of the keys, at most half full so
+	 * there is always an empty slot to end a probe.
+	 */
+	private static String[] buildKeys(String[] keys) {
+		if (keys.length == 0) {
+			return EMPTY_KEYS;
+		}
+
+		int size = Integer.highestOneBit(keys.length * 2 - 1) << 1;
+		String[] table = new String[size];
+		int mask = size - 1;
+		int shift = shiftFor(size);
+
+		for (String key : keys) {
+			int i = slot(key.hashCode(), shift);
+
+			while (table[i] != null) {
+				i = (i + 1) & mask;
+			}
+
+			table[i] = key;
+		}
+
+		return table;
+	}
+
+	private static int[] buildHashes(String[] table) {
+		if (table == EMPTY_KEYS) {
+			return EMPTY_HASHES;
+		}
+
+		int[] hashes = new int[table.length];
+
+		for (int i = 0; i < table.length; i++) {
+			hashes[i] = (table[i] != null)? table[i].hashCode() : 0;
+		}
+
+		return hashes;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return (obj instanceof FeatureFlag) && rule.equals(((FeatureFlag) obj).rule);
+	}
+
+	@Override
+	public int hashCode() {
+		return rule.hashCode();
+	}
+
+	/**
+	 * The rules, in the form they are configured.
+	 *
+	 * @return
+	 */
+	@Override
+	public String toString() {
+		return rule;
+	}
+}
@@ -0,0 +1,141 @@
+package org.yarnandtail.andhow.valuetype;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.*;
+import org.yarnandtail.andhow.api.ParseResult;
+import org.yarnandtail.andhow.api.ParsingException;
+
+/**
+ * Type representation of a FeatureFlag, configured as rollout rules.
+ * <p>
+ * The rules are clauses separated by semicolons, in any order:
+ * <ul>
+ * <li>{@code on} or {@code off} (or true/false, yes/no, y/n, t/f) - the flag
+ * is on or off for all keys not in the allow or deny sets.
+ * <li>{@code 25%} - the flag is on for this percentage of keys not in the
+ * allow or deny sets.  Up to four decimal places, from 0 to 100.
+ * <li>{@code allow=acme, globex} - keys for which the flag is always on.
+ * <li>{@code deny=initech} - keys for which the flag is always off, even if
+ * also allowed.
+ * <li>{@code salt=checkout} - text that picks an independent set of keys for
+ * a percentage rollout.  See FeatureFlag.
+ * </ul>
+ * For example, {@code 10%; allow=beta-tenant; deny=big-customer} or simply
+ * {@code on}.  Only one of on, off or a percentage may be used and the flag is
+ * off if there is none.  Keys are trimmed and compared case sensitively.
+ * <p>
+ * The rules are compiled once when the value is parsed, so evaluating the flag
+ * never reads them again.
+ * <p>
+ * This class is threadsafe and uses a singleton pattern to prevent multiple
+ * instances, since all users can safely use the same instance.
+ *
+ * @author eeverman
+ */
+public class FeatureFlagType extends BaseValueType<FeatureFlag> {
+
+	private static final FeatureFlagType instance = new FeatureFlagType();
+
+	private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+	private static final BigDecimal ALL = BigDecimal.valueOf(FeatureFlag.ALL);
+	private static final int MAX_PERCENT_SCALE = 4;
+
+	private static final List<String> ON_WORDS = Arrays.asList("on", "true", "t", "yes", "y");
+	private static final List<String> OFF_WORDS = Arrays.asList("off", "false", "f", "no", "n");
+
+	private FeatureFlagType() {
+		super(FeatureFlag.class);
+	}
+
+	public static FeatureFlagType instance() {
+		return instance;
+	}
+
+	@Override
+	public FeatureFlag parse(String sourceValue) throws ParsingException {
+		return tryParse(sourceValue).getValueOrThrow();
+	}
+
+	@Override
+	public ParseResult<FeatureFlag> tryParse(String sourceValue) {
+		if (sourceValue == null) {
+			return ParseResult.success(null);
+		}
+
+		String fraction = null;
+		long threshold = 0L;
+		Set<String> allow = new LinkedHashSet();
+		Set<String> deny = new LinkedHashSet();
+		String salt = null;
+
+		for (String clause : DelimitedTypeBase.split(sourceValue, ";")) {
+			int eq = clause.indexOf('=');
+			String name = (eq > -1)? clause.substring(0, eq).trim().toLowerCase(Locale.ROOT) : null;
+			String lower = clause.toLowerCase(Locale.ROOT);
+
+			if ("allow".equals(name) || "deny".equals(name)) {
+				(name.equals("allow")? allow : deny).addAll(
+						DelimitedTypeBase.split(clause.substring(eq + 1), DelimitedTypeBase.DEFAULT_DELIMITER));
+			} else if ("salt".equals(name)) {
+				if (salt != null) {
+					return ParseResult.failure("The salt can only be set once", sourceValue);
+				}
+				salt = clause.substring(eq + 1).trim();
+			} else if (name != null) {
+				return ParseResult.failure("'" + name + "' is not a known rule, " +
+						"which can be 'allow', 'deny' or 'salt'", sourceValue);
+			} else if (fraction != null) {
+				return ParseResult.failure("Only one of on, off or a percentage can be used, " +
+						"but found '" + fraction + "' and '" + clause + "'", sourceValue);
+			} else if (ON_WORDS.contains(lower)) {
+				fraction = "on";
+				threshold = FeatureFlag.ALL;
+			} else if (OFF_WORDS.contains(lower)) {
+				fraction = "off";
+			} else if (clause.endsWith("%")) {
+				BigDecimal percent;
+
+				try {
+					percent = new BigDecimal(clause.substring(0, clause.length() - 1).trim());
+				} catch (NumberFormatException e) {
+					return ParseResult.failure("'" + clause + "' is not a valid percentage", sourceValue);
+				}
+
+				if (percent.signum() < 0 || percent.compareTo(HUNDRED) > 0 || percent.scale() > MAX_PERCENT_SCALE) {
+					return ParseResult.failure("The percentage must be from 0 to 100, " +
+							"w/ up to " + MAX_PERCENT_SCALE + " decimal places", sourceValue);
+				}
+
+				fraction = percent.stripTrailingZeros().toPlainString() + "%";
+				threshold = percent.multiply(ALL).divide(HUNDRED, 0, RoundingMode.HALF_UP).longValueExact();
+			} else {
+				return ParseResult.failure("'" + clause + "' is not on, off or a percentage", sourceValue);
+			}
+		}
+
+		StringBuilder rule = new StringBuilder((fraction != null)? fraction : "off");
+
+		if (! allow.isEmpty()) {
+			rule.append("; allow=").append(String.join(",", allow));
+		}
+
+		if (! deny.isEmpty()) {
+			rule.append("; deny=").append(String.join(",", deny));
+		}
+
+		if (salt != null && ! salt.isEmpty()) {
+			rule.append("; salt=").append(salt);
+		}
+
+		return ParseResult.success(new FeatureFlag(threshold,
+				(salt != null && ! salt.isEmpty())? FeatureFlag.mix(salt.hashCode()) : 0L,
+				allow.toArray(new String[allow.size()]), deny.toArray(new String[deny.size()]), rule.toString()));
+	}
+
+	@Override
+	public FeatureFlag cast(Object o) throws RuntimeException {
+		return (FeatureFlag)o;
+	}
+
+}
@@ -1,6 +1,6 @@
 package org.yarnandtail.andhow.valuetype;
 
-import org.yarnandtail.andhow.util.TextUtil;
+import org.yarnandtail.andhow.api.ParseResult;
 
 /**
  * Metadata and parsing for a Boolean type which is never null (nix flag behavior).
@@ -29,14 +29,27 @@ public class FlagType extends BaseValueType<Boolean> {
 	@Override
 	public Boolean parse(String sourceValue) throws IllegalArgumentException {
 
-		if (TextUtil.trimToNull(sourceValue) == null) {
+		Boolean value = TextScanner.scanBoolean(sourceValue);
+		
+		if (value == null) {
 			//regardless of trimming, all whitespace is considered == to the flag is present
 			return true;
 		} else {
-			return TextUtil.toBoolean(sourceValue);
+			return value;
 		}
 	}
 	
+	/**
+	 * Any text can be parsed to a flag value, so this never fails.
+	 * 
+	 * @param sourceValue
+	 * @return true if blank, otherwise true or false.
+	 */
+	@Override
+	public ParseResult<Boolean> tryParse(String sourceValue) {
+		return ParseResult.success(parse(sourceValue));
+	}
+	
 	@Override
 	public Boolean cast(Object o) throws RuntimeException {
 		return (Boolean)o;
@@ -0,0 +1,103 @@
+package org.yarnandtail.andhow.valuetype;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * An immutable array of int values, as the value of a IntArrayProp.
+ * <p>
+ * The values are held in a int[] w/o boxing.  They are read in place via
+ * {@link #get(int)}, a read-only IntBuffer view or a stream, so reading does not
+ * copy the array.  Only {@link #toArray()} returns a copy.
+ * <p>
+ * This class is threadsafe.
+ *
+ * @author eeverman
+ */
+public final class IntArray {
+
+	/** An array w/ no values */
+	public static final IntArray EMPTY = new IntArray(new int[0]);
+
+	private final int[] values;
+
+	/**
+	 * New instance that takes ownership of the passed array, which must not
+	 * be modified afterwards.
+	 */
+	IntArray(int[] values) {
+		this.values = values;
+	}
+
+	/**
+	 * New instance w/ a copy of the passed values.
+	 *
+	 * @param values The values
+	 * @return A new instance
+	 */
+	public static IntArray of(int... values) {
+		return new IntArray(values.clone());
+	}
+
+	/**
+	 * The value at an index.
+	 *
+	 * @param index From zero to size() - 1
+	 * @return The value
+	 * @throws ArrayIndexOutOfBoundsException If the index is out of range
+	 */
+	public int get(int index) {
+		return values[index];
+	}
+
+	public int size() {
+		return values.length;
+	}
+
+	public boolean isEmpty() {
+		return values.length == 0;
+	}
+
+	/**
+	 * A read-only view of the values, positioned at zero.
+	 *
+	 * @return A new view of the same values
+	 */
+	public IntBuffer asBuffer() {
+		return IntBuffer.wrap(values).asReadOnlyBuffer();
+	}
+
+	/**
+	 * A stream of the values.
+	 *
+	 * @return
+	 */
+	public IntStream stream() {
+		return Arrays.stream(values);
+	}
+
+	/**
+	 * A copy of the values.
+	 *
+	 * @return A new array
+	 */
+	public int[] toArray() {
+		return values.clone();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return (obj instanceof IntArray) && Arrays.equals(values, ((IntArray) obj).values);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(values);
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(values);
+	}
+}
@@ -0,0 +1,94 @@
+package org.yarnandtail.andhow.valuetype;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.yarnandtail.andhow.api.ParseResult;
+import org.yarnandtail.andhow.api.ParsingException;
+
+/**
+ * Type representation of an immutable array of int values, configured as
+ * delimited values, such as {@code 80, 443, 8080}.
+ * 
+ * Each element is parsed the same way as by IntType.
+ * 
+ * This class is threadsafe.  The default instance, w/ the default delimiter,
+ * is a singleton.
+ * 
+ * @author eeverman
+ */
+public class IntArrayType extends DelimitedTypeBase<IntArray> {
+
+	private static final IntArrayType instance = new IntArrayType(DEFAULT_DELIMITER);
+	
+	private IntArrayType(String delimiter) {
+		super(IntArray.class, delimiter);
+	}
+	
+	public static IntArrayType instance() {
+		return instance;
+	}
+	
+	/**
+	 * An instance that splits on the passed delimiter.
+	 * 
+	 * @param delimiter The delimiter, as plain text
+	 * @return An instance
+	 */
+	public static IntArrayType withDelimiter(String delimiter) {
+		return DEFAULT_DELIMITER.equals(delimiter)? instance : new IntArrayType(delimiter);
+	}
+
+	@Override
+	public IntArray parse(String sourceValue) throws ParsingException {
+		return tryParse(sourceValue).getValueOrThrow();
+	}
+	
+	@Override
+	public ParseResult<IntArray> tryParse(String sourceValue) {
+		if (sourceValue != null) {
+			List<String> elements = split(sourceValue, delimiter);
+			int[] values = new int[elements.size()];
+			
+			for (int i = 0; i < values.length; i++) {
+				ParseResult<Integer> element = IntType.instance().tryParse(elements.get(i));
+				
+				if (element.isSuccess()) {
+					values[i] = element.getValue();
+				} else {
+					return ParseResult.failure("The element '" + elements.get(i) + "' is not valid: " +
+							element.getFailureMessage(), sourceValue);
+				}
+			}
+			
+			return ParseResult.success(new IntArray(values));
+		} else {
+			return ParseResult.success(null);
+		}
+	}
+	
+	@Override
+	public String toString(IntArray value) {
+		if (value != null) {
+			List<String> elements = new ArrayList(value.size());
+			
+			for (int i = 0; i < value.size(); i++) {
+				elements.add(Integer.toString(value.get(i)));
+			}
+			
+			return join(elements);
+		} else {
+			return null;
+		}
+	}
+
+	@Override
+	public IntArray cast(Object o) throws RuntimeException {
+		return (IntArray)o;
+	}
+
+	@Override
+	public String getTypeName() {
+		return "int[]";
+	}
+	
+}
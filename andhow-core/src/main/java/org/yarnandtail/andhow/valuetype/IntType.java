@@ -1,5 +1,6 @@
 package org.yarnandtail.andhow.valuetype;
 
+import org.yarnandtail.andhow.api.ParseResult;
 import org.yarnandtail.andhow.api.ParsingException;
 
 /**
@@ -28,15 +29,29 @@ public class IntType extends BaseValueType<Integer> {
 
 	@Override
 	public Integer parse(String sourceValue) throws ParsingException {
+		return tryParse(sourceValue).getValueOrThrow();
+	}
+	
+	/**
+	 * Parses the same text as {@code Integer.parseInt()}, but w/o throwing an
+	 * exception for invalid text.
+	 * 
+	 * @param sourceValue
+	 * @return 
+	 */
+	@Override
+	public ParseResult<Integer> tryParse(String sourceValue) {
 
 		if (sourceValue != null) {
-			try {
-				return Integer.parseInt(sourceValue);
-			} catch (Exception e) {
-				throw new ParsingException("Unable to convert to an integer", sourceValue, e);
+			Long l = TextScanner.scanLong(sourceValue, Integer.MIN_VALUE, Integer.MAX_VALUE);
+			
+			if (l != null) {
+				return ParseResult.success(l.intValue());
+			} else {
+				return ParseResult.failure("Unable to convert to an integer", sourceValue);
 			}
 		} else {
-			return null;
+			return ParseResult.success(null);
 		}
 	}
 	
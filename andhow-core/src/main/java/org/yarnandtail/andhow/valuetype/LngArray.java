@@ -0,0 +1,103 @@
+package org.yarnandtail.andhow.valuetype;
+
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.stream.LongStream;
+
+/**
+ * An immutable array of long values, as the value of a LngArrayProp.
+ * <p>
+ * The values are held in a long[] w/o boxing.  They are read in place via
+ * {@link #get(int)}, a read-only LongBuffer view or a stream, so reading does not
+ * copy the array.  Only {@link #toArray()} returns a copy.
+ * <p>
+ * This class is threadsafe.
+ *
+ * @author eeverman
+ */
+public final class LngArray {
+
+	/** An array w/ no values */
+	public static final LngArray EMPTY = new LngArray(new long[0]);
+
+	private final long[] values;
+
+	/**
+	 * New instance that takes ownership of the passed array, which must not
+	 * be modified afterwards.
+	 */
+	LngArray(long[] values) {
+		this.values = values;
+	}
+
+	/**
+	 * New instance w/ a copy of the passed values.
+	 *
+	 * @param values The values
+	 * @return A new instance
+	 */
+	public static LngArray of(long... values) {
+		return new LngArray(values.clone());
+	}
+
+	/**
+	 * The value at an index.
+	 *
+	 * @param index From zero to size() - 1
+	 * @return The value
+	 * @throws ArrayIndexOutOfBoundsException If the index is out of range
+	 */
+	public long get(int index) {
+		return values[index];
+	}
+
+	public int size() {
+		return values.length;
+	}
+
+	public boolean isEmpty() {
+		return values.length == 0;
+	}
+
+	/**
+	 * A read-only view of the values, positioned at zero.
+	 *
+	 * @return A new view of the same values
+	 */
+	public LongBuffer asBuffer() {
+		return LongBuffer.wrap(values).asReadOnlyBuffer();
+	}
+
+	/**
+	 * A stream of the values.
+	 *
+	 * @return
+	 */
+	public LongStream stream() {
+		return Arrays.stream(values);
+	}
+
+	/**
+	 * A copy of the values.
+	 *
+	 * @return A new array
+	 */
+	public long[] toArray() {
+		return values.clone();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return (obj instanceof LngArray) && Arrays.equals(values, ((LngArray) obj).values);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(values);
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(values);
+	}
+}
@@ -0,0 +1,94 @@
+package org.yarnandtail.andhow.valuetype;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.yarnandtail.andhow.api.ParseResult;
+import org.yarnandtail.andhow.api.ParsingException;
+
+/**
+ * Type representation of an immutable array of long values, configured as
+ * delimited values, such as {@code 1000, 60000}.
+ * 
+ * Each element is parsed the same way as by LngType.
+ * 
+ * This class is threadsafe.  The default instance, w/ the default delimiter,
+ * is a singleton.
+ * 
+ * @author eeverman
+ */
+public class LngArrayType extends DelimitedTypeBase<LngArray> {
+
+	private static final LngArrayType instance = new LngArrayType(DEFAULT_DELIMITER);
+	
+	private LngArrayType(String delimiter) {
+		super(LngArray.class, delimiter);
+	}
+	
+	public static LngArrayType instance() {
+		return instance;
+	}
+	
+	/**
+	 * An instance that splits on the passed delimiter.
+	 * 
+	 * @param delimiter The delimiter, as plain text
+	 * @return An instance
+	 */
+	public static LngArrayType withDelimiter(String delimiter) {
+		return DEFAULT_DELIMITER.equals(delimiter)? instance : new LngArrayType(delimiter);
+	}
+
+	@Override
+	public LngArray parse(String sourceValue) throws ParsingException {
+		return tryParse(sourceValue).getValueOrThrow();
+	}
+	
+	@Override
+	public ParseResult<LngArray> tryParse(String sourceValue) {
+		if (sourceValue != null) {
+			List<String> elements = split(sourceValue, delimiter);
+			long[] values = new long[elements.size()];
+			
+			for (int i = 0; i < values.length; i++) {
+				ParseResult<Long> element = LngType.instance().tryParse(elements.get(i));
+				
+				if (element.isSuccess()) {
+					values[i] = element.getValue();
+				} else {
+					return ParseResult.failure("The element '" + elements.get(i) + "' is not valid: " +
+							element.getFailureMessage(), sourceValue);
+				}
+			}
+			
+			return ParseResult.success(new LngArray(values));
+		} else {
+			return ParseResult.success(null);
+		}
+	}
+	
+	@Override
+	public String toString(LngArray value) {
+		if (value != null) {
+			List<String> elements = new ArrayList(value.size());
+			
+			for (int i = 0; i < value.size(); i++) {
+				elements.add(Long.toString(value.get(i)));
+			}
+			
+			return join(elements);
+		} else {
+			return null;
+		}
+	}
+
+	@Override
+	public LngArray cast(Object o) throws RuntimeException {
+		return (LngArray)o;
+	}
+
+	@Override
+	public String getTypeName() {
+		return "long[]";
+	}
+	
+}
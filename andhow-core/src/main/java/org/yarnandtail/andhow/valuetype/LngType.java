@@ -1,5 +1,6 @@
 package org.yarnandtail.andhow.valuetype;
 
+import org.yarnandtail.andhow.api.ParseResult;
 import org.yarnandtail.andhow.api.ParsingException;
 
 /**
@@ -28,15 +29,29 @@ public class LngType extends BaseValueType<Long> {
 
 	@Override
 	public Long parse(String sourceValue) throws ParsingException {
-		
+		return tryParse(sourceValue).getValueOrThrow();
+	}
+	
+	/**
+	 * Parses the same text as {@code Long.parseLong()}, but w/o throwing an
+	 * exception for invalid text.
+	 * 
+	 * @param sourceValue
+	 * @return 
+	 */
+	@Override
+	public ParseResult<Long> tryParse(String sourceValue) {
+
 		if (sourceValue != null) {
-			try {
-				return Long.parseLong(sourceValue);
-			} catch (Exception e) {
-				throw new ParsingException("Unable to convert to a Long numeric value", sourceValue, e);
+			Long l = TextScanner.scanLong(sourceValue, Long.MIN_VALUE, Long.MAX_VALUE);
+			
+			if (l != null) {
+				return ParseResult.success(l);
+			} else {
+				return ParseResult.failure("Unable to convert to a Long numeric value", sourceValue);
 			}
 		} else {
-			return null;
+			return ParseResult.success(null);
 		}
 	}
 	
@@ -1,6 +1,11 @@
 package org.yarnandtail.andhow.valuetype;
 
-import java.time.LocalDateTime;
+import java.text.ParsePosition;
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import org.yarnandtail.andhow.api.ParseResult;
 import org.yarnandtail.andhow.api.ParsingException;
 
 /**
@@ -20,6 +25,12 @@ public class LocalDateTimeType extends BaseValueType<LocalDateTime> {
 
 	private static final LocalDateTimeType instance = new LocalDateTimeType();
 	
+	private static final ChronoField[] CHECKED_FIELDS = new ChronoField[] {
+		ChronoField.YEAR, ChronoField.MONTH_OF_YEAR, ChronoField.DAY_OF_MONTH,
+		ChronoField.HOUR_OF_DAY, ChronoField.MINUTE_OF_HOUR, ChronoField.SECOND_OF_MINUTE,
+		ChronoField.NANO_OF_SECOND
+	};
+	
 	private LocalDateTimeType() {
 		super(LocalDateTime.class);
 	}
@@ -51,16 +62,85 @@ public class LocalDateTimeType extends BaseValueType<LocalDateTime> {
 	 */
 	@Override
 	public LocalDateTime parse(String sourceValue) throws ParsingException {
+		return tryParse(sourceValue).getValueOrThrow();
+	}
+	
+	/**
+	 * Parses the same text as parse(), but w/o throwing an exception for
+	 * invalid text.
+	 * 
+	 * The text is parsed once w/o resolving it to a date, which reports errors
+	 * via a ParsePosition.  The individual fields are range checked and the
+	 * LocalDateTime is built directly from them, rather than parsing the
+	 * text a second time.
+	 * 
+	 * @param sourceValue
+	 * @return 
+	 */
+	@Override
+	public ParseResult<LocalDateTime> tryParse(String sourceValue) {
 		
 		if (sourceValue != null) {
-			try {
-				return LocalDateTime.parse(sourceValue);
-			} catch (Exception e) {
-				throw new ParsingException("Unable to convert to a LocalDateTime", sourceValue, e);
+			
+			ParsePosition pos = new ParsePosition(0);
+			TemporalAccessor fields = DateTimeFormatter.ISO_LOCAL_DATE_TIME.parseUnresolved(sourceValue, pos);
+			
+			if (fields != null && pos.getErrorIndex() < 0 && 
+					pos.getIndex() == sourceValue.length() && isInRange(fields)) {
+				
+				try {
+					return ParseResult.success(toLocalDateTime(fields));
+				} catch (DateTimeException e) {
+					//fall through to failure
+				}
 			}
+			
+			return ParseResult.failure("Unable to convert to a LocalDateTime", sourceValue);
 		} else {
-			return null;
+			return ParseResult.success(null);
+		}
+	}
+	
+	/**
+	 * Checks that each parsed field is within its valid range, including the
+	 * day within the month.
+	 */
+	private static boolean isInRange(TemporalAccessor fields) {
+		for (ChronoField f : CHECKED_FIELDS) {
+			if (fields.isSupported(f) && ! f.range().isValidValue(fields.getLong(f))) {
+				return false;
+			}
+		}
+		
+		if (fields.isSupported(ChronoField.YEAR) && fields.isSupported(ChronoField.MONTH_OF_YEAR) &&
+				fields.isSupported(ChronoField.DAY_OF_MONTH)) {
+			
+			boolean leap = Year.isLeap(fields.getLong(ChronoField.YEAR));
+			int maxDay = Month.of((int)fields.getLong(ChronoField.MONTH_OF_YEAR)).length(leap);
+			
+			return fields.getLong(ChronoField.DAY_OF_MONTH) <= maxDay;
 		}
+		
+		return true;
+	}
+	
+	/**
+	 * Builds the LocalDateTime from range checked fields.  Seconds and
+	 * fractional seconds are optional in the text and default to zero.
+	 */
+	private static LocalDateTime toLocalDateTime(TemporalAccessor fields) {
+		return LocalDateTime.of(
+				(int)fields.getLong(ChronoField.YEAR),
+				(int)fields.getLong(ChronoField.MONTH_OF_YEAR),
+				(int)fields.getLong(ChronoField.DAY_OF_MONTH),
+				(int)fields.getLong(ChronoField.HOUR_OF_DAY),
+				(int)fields.getLong(ChronoField.MINUTE_OF_HOUR),
+				(int)getLongOrZero(fields, ChronoField.SECOND_OF_MINUTE),
+				(int)getLongOrZero(fields, ChronoField.NANO_OF_SECOND));
+	}
+	
+	private static long getLongOrZero(TemporalAccessor fields, ChronoField field) {
+		return (fields.isSupported(field))? fields.getLong(field) : 0L;
 	}
 	
 	@Override
@@ -0,0 +1,297 @@
+package org.yarnandtail.andhow.valuetype;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+import org.yarnandtail.andhow.api.ParseResult;
+import org.yarnandtail.andhow.api.Property;
+import org.yarnandtail.andhow.api.ValueType;
+
+/**
+ * An optional, bounded cache of parsed values, shared by all loaders and kept
+ * across rebuilds of AndHow.
+ * <p>
+ * The same raw String is often parsed many times:  by loaders that shadow
+ * each other and each time AndHow is rebuilt, which is common during testing.
+ * When enabled, the result of parsing a String with a ValueType is remembered,
+ * so later requests to parse an equal String with the same ValueType share the
+ * result rather than parsing again.  Failed results are cached as well.
+ * <p>
+ * The cache is disabled by default.  Enable it by setting the JVM system
+ * property {@code org.yarnandtail.andhow.valuetype.ParseCache.maxSize} to the
+ * maximum number of entries, or by calling {@link #setMaxSize(int)}.  When the
+ * cache is full, the least recently used entry is evicted.
+ * <p>
+ * Only results that are safe to share are cached, which are nulls and values
+ * of known immutable types:  Strings, boxed primitives, BigInteger,
+ * BigDecimal, IntArray, LngArray, DblArray, FeatureFlag, enums and the
+ * {@code java.time} types.  Values of other types, such as those returned by
+ * custom ValueTypes, are always parsed.
+ * <p>
+ * The values of secret Properties are never cached, since the cache is static
+ * and its keys hold the raw Strings, which would keep the secrets in memory.
+ * <p>
+ * {@code BaseLoader.createValue()} parses all values through this cache, so
+ * all loaders extending BaseLoader benefit when it is enabled.
+ * <p>
+ * This class is threadsafe.
+ *
+ * @author eeverman
+ */
+public final class ParseCache {
+
+	/** JVM system property to set the max size of the cache at startup */
+	public static final String MAX_SIZE_PROPERTY = ParseCache.class.getCanonicalName() + ".maxSize";
+
+	private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet(Arrays.asList(
+			String.class, Boolean.class, Character.class, Byte.class, Short.class,
+			Integer.class, Long.class, Float.class, Double.class,
+			BigInteger.class, BigDecimal.class,
+			IntArray.class, LngArray.class, DblArray.class, FeatureFlag.class));
+
+	private static final Object LOCK = new Object();
+	private static volatile int maxSize;
+	private static LinkedHashMap<Key, ParseResult<?>> cache;
+	private static long hitCount;
+	private static long missCount;
+	private static long evictionCount;
+
+	static {
+		String size = System.getProperty(MAX_SIZE_PROPERTY);
+
+		if (size != null) {
+			try {
+				setMaxSize(Integer.parseInt(size.trim()));
+			} catch (NumberFormatException e) {
+				//Leave disabled - an unreadable size is treated as not set
+			}
+		}
+	}
+
+	private ParseCache() {
+		//no instances
+	}
+
+	/**
+	 * Parse a String for a Property, using a cached result if possible.
+	 * <p>
+	 * The value of a secret Property is always parsed w/o the cache.
+	 *
+	 * @param <T> The type of the value
+	 * @param prop The Property whose ValueType is used to parse
+	 * @param sourceValue The String to parse.  May be null.
+	 * @return The result of parsing w/ the ValueType of the Property, which
+	 * may be a shared instance.
+	 */
+	public static <T> ParseResult<T> tryParse(Property<T> prop, String sourceValue) {
+		if (prop.isSecret()) {
+			return prop.getValueType().tryParse(sourceValue);
+		} else {
+			return tryParse(prop.getValueType(), sourceValue);
+		}
+	}
+
+	/**
+	 * Parse a String w/ a ValueType, using a cached result if possible.
+	 * <p>
+	 * If the cache is disabled, this just calls tryParse() on the ValueType.
+	 *
+	 * @param <T> The type of the value
+	 * @param type The ValueType to parse with
+	 * @param sourceValue The String to parse.  May be null.
+	 * @return The result of calling type.tryParse(sourceValue), which may be
+	 * a shared instance.
+	 */
+	public static <T> ParseResult<T> tryParse(ValueType<T> type, String sourceValue) {
+
+		if (maxSize == 0 || sourceValue == null) {
+			return type.tryParse(sourceValue);
+		}
+
+		Key key = new Key(type, sourceValue);
+
+		synchronized (LOCK) {
+			if (cache != null) {
+				ParseResult<T> found = (ParseResult<T>) cache.get(key);
+
+				if (found != null) {
+					hitCount++;
+					return found;
+				}
+
+				missCount++;
+			}
+		}
+
+		//Parse outside the lock, since parsing may be expensive
+		ParseResult<T> result = type.tryParse(sourceValue);
+
+		if (isShareable(result)) {
+			synchronized (LOCK) {
+				if (cache != null) {
+					cache.put(key, result);
+				}
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Sets the maximum number of entries in the cache.
+	 * <p>
+	 * Changing the size clears the cache and resets the counters.
+	 *
+	 * @param size The max entries, or zero to disable the cache.
+	 */
+	public static void setMaxSize(int size) {
+		if (size < 0) {
+			throw new IllegalArgumentException("The max size cannot be negative");
+		}
+
+		synchronized (LOCK) {
+			if (size > 0) {
+				final int max = size;
+				cache = new LinkedHashMap<Key, ParseResult<?>>(Math.min(max, 1024), 0.75f, true) {
+					@Override
+					protected boolean removeEldestEntry(Map.Entry<Key, ParseResult<?>> eldest) {
+						if (size() > max) {
+							evictionCount++;
+							return true;
+						} else {
+							return false;
+						}
+					}
+				};
+			} else {
+				cache = null;
+			}
+
+			maxSize = size;
+			resetCounts();
+		}
+	}
+
+	/**
+	 * The maximum number of entries in the cache.
+	 *
+	 * @return The max size or zero if the cache is disabled.
+	 */
+	public static int getMaxSize() {
+		return maxSize;
+	}
+
+	public static boolean isEnabled() {
+		return maxSize > 0;
+	}
+
+	/**
+	 * The current number of entries in the cache.
+	 *
+	 * @return
+	 */
+	public static int size() {
+		synchronized (LOCK) {
+			return (cache != null)? cache.size() : 0;
+		}
+	}
+
+	/**
+	 * Remove all entries and reset the counters.  The cache remains enabled.
+	 */
+	public static void clear() {
+		synchronized (LOCK) {
+			if (cache != null) {
+				cache.clear();
+			}
+
+			resetCounts();
+		}
+	}
+
+	/**
+	 * The number of times a cached result was returned.
+	 *
+	 * @return
+	 */
+	public static long getHitCount() {
+		synchronized (LOCK) {
+			return hitCount;
+		}
+	}
+
+	/**
+	 * The number of times a String was not found in the cache and was parsed.
+	 *
+	 * @return
+	 */
+	public static long getMissCount() {
+		synchronized (LOCK) {
+			return missCount;
+		}
+	}
+
+	/**
+	 * The number of entries removed because the cache was full.
+	 *
+	 * @return
+	 */
+	public static long getEvictionCount() {
+		synchronized (LOCK) {
+			return evictionCount;
+		}
+	}
+
+	private static void resetCounts() {
+		hitCount = 0;
+		missCount = 0;
+		evictionCount = 0;
+	}
+
+	/**
+	 * Returns true if a result can be shared w/o risk of one user modifying
+	 * the value seen by another.
+	 */
+	static boolean isShareable(ParseResult<?> result) {
+		Object value = result.getValue();
+
+		if (value == null) {
+			return true;
+		}
+
+		Class<?> clazz = value.getClass();
+
+		return IMMUTABLE_TYPES.contains(clazz) || clazz.isEnum() ||
+				(clazz.getName().startsWith("java.time.") && ! clazz.getName().startsWith("java.time.format."));
+	}
+
+	/**
+	 * A ValueType, compared by identity, and a source String.
+	 */
+	private static final class Key {
+		private final ValueType<?> type;
+		private final String sourceValue;
+		private final int hash;
+
+		Key(ValueType<?> type, String sourceValue) {
+			this.type = type;
+			this.sourceValue = sourceValue;
+			this.hash = 31 * System.identityHashCode(type) + sourceValue.hashCode();
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj instanceof Key) {
+				Key other = (Key) obj;
+				return type == other.type && sourceValue.equals(other.sourceValue);
+			}
+
+			return false;
+		}
+	}
+}
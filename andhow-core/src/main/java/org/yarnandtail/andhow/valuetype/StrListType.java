@@ -0,0 +1,72 @@
+package org.yarnandtail.andhow.valuetype;
+
+import java.util.Collections;
+import java.util.List;
+import org.yarnandtail.andhow.api.ParseResult;
+import org.yarnandtail.andhow.api.ParsingException;
+
+/**
+ * Type representation of an immutable List of Strings, configured as
+ * delimited values, such as {@code host1, host2, host3}.
+ * 
+ * This class is threadsafe.  The default instance, w/ the default delimiter,
+ * is a singleton.
+ * 
+ * @author eeverman
+ */
+public class StrListType extends DelimitedTypeBase<List<String>> {
+
+	private static final StrListType instance = new StrListType(DEFAULT_DELIMITER);
+	
+	private StrListType(String delimiter) {
+		super((Class<List<String>>) (Class<?>) List.class, delimiter);
+	}
+	
+	public static StrListType instance() {
+		return instance;
+	}
+	
+	/**
+	 * An instance that splits on the passed delimiter.
+	 * 
+	 * @param delimiter The delimiter, as plain text
+	 * @return An instance
+	 */
+	public static StrListType withDelimiter(String delimiter) {
+		return DEFAULT_DELIMITER.equals(delimiter)? instance : new StrListType(delimiter);
+	}
+
+	@Override
+	public List<String> parse(String sourceValue) throws ParsingException {
+		return tryParse(sourceValue).getValueOrThrow();
+	}
+	
+	@Override
+	public ParseResult<List<String>> tryParse(String sourceValue) {
+		if (sourceValue != null) {
+			return ParseResult.success(Collections.unmodifiableList(split(sourceValue, delimiter)));
+		} else {
+			return ParseResult.success(null);
+		}
+	}
+	
+	@Override
+	public String toString(List<String> value) {
+		if (value != null) {
+			return join(value);
+		} else {
+			return null;
+		}
+	}
+
+	@Override
+	public List<String> cast(Object o) throws RuntimeException {
+		return (List<String>)o;
+	}
+
+	@Override
+	public String getTypeName() {
+		return "List<String>";
+	}
+	
+}
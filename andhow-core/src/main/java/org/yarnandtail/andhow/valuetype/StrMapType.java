@@ -0,0 +1,138 @@
+package org.yarnandtail.andhow.valuetype;
+
+import java.util.*;
+import org.yarnandtail.andhow.api.ParseResult;
+import org.yarnandtail.andhow.api.ParsingException;
+
+/**
+ * Type representation of an immutable Map of String keys to String values,
+ * configured as delimited entries, such as {@code us=0.7, eu=0.2, ap=0.1}.
+ * 
+ * Entries are split on the delimiter and each entry is split into a key and
+ * value on the first instance of the key value delimiter.  Keys and values
+ * are trimmed.  The Map keeps the configured order of the entries.  It is a
+ * parsing error for an entry to have no key value delimiter, an empty key or
+ * the same key as a previous entry.
+ * 
+ * This class is threadsafe.  The default instance, w/ the default delimiters,
+ * is a singleton.
+ * 
+ * @author eeverman
+ */
+public class StrMapType extends DelimitedTypeBase<Map<String, String>> {
+
+	/** The default delimiter between the key and value of an entry */
+	public static final String DEFAULT_KEY_VALUE_DELIMITER = "=";
+	
+	private static final StrMapType instance = new StrMapType(DEFAULT_DELIMITER, DEFAULT_KEY_VALUE_DELIMITER);
+	
+	private final String keyValueDelimiter;
+	
+	private StrMapType(String delimiter, String keyValueDelimiter) {
+		super((Class<Map<String, String>>) (Class<?>) Map.class, delimiter);
+		
+		if (keyValueDelimiter == null || keyValueDelimiter.isEmpty()) {
+			throw new IllegalArgumentException("The key value delimiter cannot be empty");
+		}
+		
+		this.keyValueDelimiter = keyValueDelimiter;
+	}
+	
+	public static StrMapType instance() {
+		return instance;
+	}
+	
+	/**
+	 * An instance that splits on the passed delimiters.
+	 * 
+	 * @param delimiter The delimiter between entries, as plain text
+	 * @param keyValueDelimiter The delimiter between the key and value of an
+	 * entry, as plain text
+	 * @return An instance
+	 */
+	public static StrMapType withDelimiters(String delimiter, String keyValueDelimiter) {
+		if (DEFAULT_DELIMITER.equals(delimiter) && DEFAULT_KEY_VALUE_DELIMITER.equals(keyValueDelimiter)) {
+			return instance;
+		} else {
+			return new StrMapType(delimiter, keyValueDelimiter);
+		}
+	}
+	
+	public String getKeyValueDelimiter() {
+		return keyValueDelimiter;
+	}
+
+	@Override
+	public Map<String, String> parse(String sourceValue) throws ParsingException {
+		return tryParse(sourceValue).getValueOrThrow();
+	}
+	
+	@Override
+	public ParseResult<Map<String, String>> tryParse(String sourceValue) {
+		if (sourceValue != null) {
+			Map<String, String> map = new LinkedHashMap();
+			
+			for (String entry : split(sourceValue, delimiter)) {
+				int kvd = entry.indexOf(keyValueDelimiter);
+				
+				if (kvd < 0) {
+					return ParseResult.failure("The entry '" + entry + "' has no '" + keyValueDelimiter + "' between its key and value", sourceValue);
+				}
+				
+				String key = entry.substring(0, kvd).trim();
+				String value = entry.substring(kvd + keyValueDelimiter.length()).trim();
+				
+				if (key.isEmpty()) {
+					return ParseResult.failure("The entry '" + entry + "' has an empty key", sourceValue);
+				} else if (map.put(key, value) != null) {
+					return ParseResult.failure("The key '" + key + "' is repeated", sourceValue);
+				}
+			}
+			
+			return ParseResult.success(Collections.unmodifiableMap(map));
+		} else {
+			return ParseResult.success(null);
+		}
+	}
+	
+	@Override
+	public String toString(Map<String, String> value) {
+		if (value != null) {
+			List<String> entries = new ArrayList(value.size());
+			
+			for (Map.Entry<String, String> e : value.entrySet()) {
+				entries.add(e.getKey() + keyValueDelimiter + e.getValue());
+			}
+			
+			return join(entries);
+		} else {
+			return null;
+		}
+	}
+
+	@Override
+	public Map<String, String> cast(Object o) throws RuntimeException {
+		return (Map<String, String>)o;
+	}
+
+	@Override
+	public String getTypeName() {
+		return "Map<String,String>";
+	}
+	
+	@Override
+	public String getFormatDescription() {
+		return "key" + keyValueDelimiter + "value entries delimited by '" + delimiter + "'";
+	}
+	
+	@Override
+	public boolean equals(Object obj) {
+		return super.equals(obj) && keyValueDelimiter.equals(((StrMapType) obj).keyValueDelimiter);
+	}
+
+	@Override
+	public int hashCode() {
+		return super.hashCode() * 31 + keyValueDelimiter.hashCode();
+	}
+	
+}
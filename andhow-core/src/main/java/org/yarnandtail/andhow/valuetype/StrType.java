@@ -1,5 +1,6 @@
 package org.yarnandtail.andhow.valuetype;
 
+import org.yarnandtail.andhow.api.ParseResult;
 import org.yarnandtail.andhow.api.ParsingException;
 
 /**
@@ -26,6 +27,11 @@ public class StrType extends BaseValueType<String> {
 	public String parse(String sourceValue) throws ParsingException {
 		return sourceValue;		//Too simple!  Trimming is handled separately
 	}
+	
+	@Override
+	public ParseResult<String> tryParse(String sourceValue) {
+		return ParseResult.success(sourceValue);
+	}
 
 	@Override
 	public String cast(Object o) throws RuntimeException {
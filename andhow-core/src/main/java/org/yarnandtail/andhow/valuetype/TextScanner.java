@@ -0,0 +1,225 @@
+package org.yarnandtail.andhow.valuetype;
+
+/**
+ * Hand-written scanners for the text formats of the numeric and boolean
+ * ValueTypes, which check and convert text without throwing exceptions.
+ * <p>
+ * Each scanner accepts exactly the same text as the JDK method it stands in
+ * for, so that {@code tryParse()} and {@code parse()} agree.
+ * <p>
+ * This class is threadsafe.
+ *
+ * @author eeverman
+ */
+public final class TextScanner {
+
+	private TextScanner() {
+		//no instances
+	}
+
+	/**
+	 * Scans a whole number in the format accepted by {@code Long.parseLong()},
+	 * returning null rather than throwing if the text is not a number in range.
+	 * <p>
+	 * Like the JDK, an optional leading '+' or '-' is allowed and any Unicode
+	 * decimal digit is accepted.  Whitespace is not allowed.
+	 *
+	 * @param text The text to scan.  May be null.
+	 * @param min The smallest allowed value
+	 * @param max The largest allowed value
+	 * @return The value or null if the text is null or not a number between min and max.
+	 */
+	public static Long scanLong(String text, long min, long max) {
+		if (text == null) return null;
+
+		final int len = text.length();
+		if (len == 0) return null;
+
+		int i = 0;
+		boolean negative = false;
+		char first = text.charAt(0);
+
+		if (first == '-' || first == '+') {
+			if (len == 1) return null;	//A sign alone
+			negative = (first == '-');
+			i = 1;
+		}
+
+		//Accumulate negatively, since the negative range is larger
+		long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+		long multMin = limit / 10;
+		long result = 0;
+
+		for (; i < len; i++) {
+			char c = text.charAt(i);
+			int digit;
+
+			if (c >= '0' && c <= '9') {
+				digit = c - '0';
+			} else if (c < 128) {
+				return null;
+			} else {
+				digit = Character.digit(c, 10);
+				if (digit < 0) return null;
+			}
+
+			if (result < multMin) return null;
+
+			result *= 10;
+
+			if (result < limit + digit) return null;
+
+			result -= digit;
+		}
+
+		long value = negative ? result : -result;
+
+		if (value < min || value > max) {
+			return null;
+		}
+
+		return value;
+	}
+
+	/**
+	 * Returns true if the text is a decimal floating point number in the format
+	 * accepted by {@code Double.parseDouble()}, including 'NaN', 'Infinity',
+	 * exponents and type suffixes.
+	 * <p>
+	 * Hexadecimal floating point text, such as {@code 0x1.8p1}, is not
+	 * recognized by this method - see {@link #isHexNumber(java.lang.String)}.
+	 *
+	 * @param text The text to scan.  May be null.
+	 * @return True if Double.parseDouble() will parse the text.
+	 */
+	public static boolean isDecimal(String text) {
+		if (text == null) return false;
+
+		//Double.parseDouble ignores leading and trailing whitespace & controls
+		int start = 0;
+		int end = text.length();
+		while (start < end && text.charAt(start) <= ' ') start++;
+		while (end > start && text.charAt(end - 1) <= ' ') end--;
+
+		if (start == end) return false;
+
+		int i = start;
+		char c = text.charAt(i);
+
+		if (c == '-' || c == '+') {
+			i++;
+		}
+
+		if (text.startsWith("NaN", i)) {
+			return i + 3 == end;
+		} else if (text.startsWith("Infinity", i)) {
+			return i + 8 == end;
+		}
+
+		int intDigits = 0;
+		while (i < end && isAsciiDigit(text.charAt(i))) {
+			i++;
+			intDigits++;
+		}
+
+		int fractDigits = 0;
+		if (i < end && text.charAt(i) == '.') {
+			i++;
+			while (i < end && isAsciiDigit(text.charAt(i))) {
+				i++;
+				fractDigits++;
+			}
+		}
+
+		if (intDigits + fractDigits == 0) return false;
+
+		if (i < end && (text.charAt(i) == 'e' || text.charAt(i) == 'E')) {
+			i++;
+
+			if (i < end && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+				i++;
+			}
+
+			int expDigits = 0;
+			while (i < end && isAsciiDigit(text.charAt(i))) {
+				i++;
+				expDigits++;
+			}
+
+			if (expDigits == 0) return false;
+		}
+
+		if (i < end) {
+			c = text.charAt(i);
+			if (c == 'f' || c == 'F' || c == 'd' || c == 'D') {
+				i++;
+			}
+		}
+
+		return i == end;
+	}
+
+	/**
+	 * Returns true if the text, after optional whitespace and sign, starts with
+	 * a hexadecimal prefix ('0x' or '0X').
+	 *
+	 * @param text The text to scan.  May be null.
+	 * @return True if the text looks like a hexadecimal number.
+	 */
+	public static boolean isHexNumber(String text) {
+		if (text == null) return false;
+
+		int i = 0;
+		final int len = text.length();
+		while (i < len && text.charAt(i) <= ' ') i++;
+
+		if (i < len && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+			i++;
+		}
+
+		return i + 1 < len && text.charAt(i) == '0' &&
+				(text.charAt(i + 1) == 'x' || text.charAt(i + 1) == 'X');
+	}
+
+	/**
+	 * Scans text as a boolean, w/ the same result as
+	 * {@link org.yarnandtail.andhow.util.TextUtil#toBoolean(java.lang.String)},
+	 * but w/o creating trimmed or lower case copies of the text.
+	 * <p>
+	 * Case insensitive 'true', 't', 'yes', 'y' and 'on' are true, ignoring
+	 * surrounding whitespace.  All other non-blank text is false.
+	 *
+	 * @param text The text to scan.  May be null.
+	 * @return True or false, or null if the text is null or only whitespace.
+	 */
+	public static Boolean scanBoolean(String text) {
+		if (text == null) return null;
+
+		int start = 0;
+		int end = text.length();
+		while (start < end && text.charAt(start) <= ' ') start++;
+		while (end > start && text.charAt(end - 1) <= ' ') end--;
+
+		if (start == end) return null;
+
+		return matches(text, start, end, "true") || matches(text, start, end, "t") ||
+				matches(text, start, end, "yes") || matches(text, start, end, "y") ||
+				matches(text, start, end, "on");
+	}
+
+	private static boolean matches(String text, int start, int end, String lowerCaseWord) {
+		if (end - start != lowerCaseWord.length()) return false;
+
+		for (int i = start; i < end; i++) {
+			if (Character.toLowerCase(text.charAt(i)) != lowerCaseWord.charAt(i - start)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static boolean isAsciiDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+}
@@ -115,6 +115,53 @@ public class AndHowTest extends AndHowCoreTestBase {
 
 	}
 	
+	@Test
+	public void testCompactMemoryReleasesLoaderState() {
+		
+		AndHowConfiguration config = AndHowCoreTestConfig.instance()
+				.groups(configPtGroups)
+				.addFixedValue(Options.COMPACT_MEMORY, true)
+				.setCmdLineArgs(cmdLineArgsWFullClassName);
+		
+		AndHow.instance(config);
+		
+		AndHowCore core = AndHowCoreTestUtil.getAndHowCore();
+		assertTrue(core.isCompactMemory());
+		assertTrue(core.getValuesWithContext() instanceof ValidatedValuesWithContextCompact);
+		assertEquals(0, AndHow.getInitializationTrace().length);
+		
+		//Values are unaffected
+		assertEquals("test", SimpleParams.STR_BOB.getValue());
+		assertEquals(false, SimpleParams.FLAG_TRUE.getValue());
+		assertEquals(new Integer(10), SimpleParams.INT_TEN.getValue());
+		assertNull(SimpleParams.INT_NULL.getValue());
+		
+		try {
+			core.getValuesWithContext().getAllLoaderValues();
+			fail("Loader values are not available in compact mode");
+		} catch (UnsupportedOperationException e) {
+			//expected
+		}
+	}
+	
+	@Test
+	public void testDeduplicateValuesSharesEqualStrings() {
+		
+		AndHowConfiguration config = AndHowCoreTestConfig.instance()
+				.groups(configPtGroups)
+				.addFixedValue(Options.DEDUPLICATE_VALUES, true)
+				.setCmdLineArgs(new String[] {
+					paramFullPath + "STR_BOB" + KeyValuePairLoader.KVP_DELIMITER + "same.host.com",
+					paramFullPath + "STR_NULL" + KeyValuePairLoader.KVP_DELIMITER + "same.host.com"
+				});
+		
+		AndHow.instance(config);
+		
+		assertEquals("same.host.com", SimpleParams.STR_BOB.getValue());
+		assertSame(SimpleParams.STR_BOB.getValue(), SimpleParams.STR_NULL.getValue());
+		assertEquals(true, SimpleParams.FLAG_TRUE.getValue());	//Non-Strings are unaffected
+	}
+	
 	/**
 	 * This is really testing how the NonProductionConfig works - how can this be
 	 * targeted to the init config?
@@ -48,6 +48,15 @@ public class StdConfigTest {
 		assertEquals(StdPropFileOnFilesystemLoader.class, loaders.get(5).getClass());
 		assertEquals(StdPropFileOnClasspathLoader.class, loaders.get(6).getClass());
 	}
+	
+	@Test
+	public void testCmdLineArgFilesEnabled() {
+		StdConfigImpl std = StdConfig.instance();
+		assertFalse(((StdMainStringArgsLoader) std.buildLoaders().get(1)).isArgumentFilesEnabled());
+		
+		std.cmdLineArgFilesEnabled();
+		assertTrue(((StdMainStringArgsLoader) std.buildLoaders().get(1)).isArgumentFilesEnabled());
+	}
 
 	@Test
 	public void testBuildLoadersWithCustomListOfStandardLoaders() {
@@ -0,0 +1,110 @@
+package org.yarnandtail.andhow.internal;
+
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import javax.management.*;
+import org.junit.After;
+import org.junit.Test;
+import org.yarnandtail.andhow.load.KeyValuePairLoader;
+import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
+import org.yarnandtail.andhow.property.IntProp;
+import org.yarnandtail.andhow.property.StrProp;
+import org.yarnandtail.andhow.util.AndHowUtil;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author eeverman
+ */
+public class AndHowInfoTest {
+
+	public interface InfoParams {
+		StrProp PASSWORD = StrProp.builder().secret().build();
+		StrProp HOST = StrProp.builder().build();
+		IntProp PORT = IntProp.builder().defaultValue(80).build();
+		StrProp UNSET = StrProp.builder().build();
+	}
+
+	@After
+	public void afterTest() throws Exception {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName(AndHowInfo.OBJECT_NAME);
+
+		if (server.isRegistered(name)) {
+			server.unregisterMBean(name);
+		}
+	}
+
+	@Test
+	public void testSecretIsSetByBuilder() {
+		assertTrue(InfoParams.PASSWORD.isSecret());
+		assertFalse(InfoParams.HOST.isSecret());
+	}
+
+	@Test
+	public void testNotRegisteredByDefault() throws Exception {
+		buildCore(false);
+		assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(
+				new ObjectName(AndHowInfo.OBJECT_NAME)));
+	}
+
+	@Test
+	public void testRegisteredMBeanShowsConfiguration() throws Exception {
+		AndHowCore core = buildCore(true);
+
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName(AndHowInfo.OBJECT_NAME);
+
+		assertTrue(server.isRegistered(name));
+
+		List<String> names = Arrays.asList((String[]) server.getAttribute(name, "PropertyNames"));
+		String[] values = (String[]) server.getAttribute(name, "PropertyValues");
+		String[] sources = (String[]) server.getAttribute(name, "PropertySources");
+
+		String prefix = InfoParams.class.getCanonicalName() + ".";
+		int pw = names.indexOf(prefix + "PASSWORD");
+		int host = names.indexOf(prefix + "HOST");
+		int port = names.indexOf(prefix + "PORT");
+		int unset = names.indexOf(prefix + "UNSET");
+
+		assertEquals(AndHowInfo.MASK, values[pw]);
+		assertEquals("localhost", values[host]);
+		assertEquals("80", values[port]);
+		assertNull(values[unset]);
+
+		assertTrue(sources[host].startsWith(new KeyValuePairLoader().getLoaderType()));
+		assertEquals(AndHowInfo.DEFAULT_SOURCE, sources[port]);
+		assertNull(sources[unset]);
+
+		String[] loaderNames = (String[]) server.getAttribute(name, "LoaderNames");
+		long[] loaderNanos = (long[]) server.getAttribute(name, "LoaderNanos");
+		int[] loaderCounts = (int[]) server.getAttribute(name, "LoaderValueCounts");
+
+		assertEquals(1, loaderNames.length);
+		assertEquals(-1L, loaderNanos[0]);	//Startup timing not enabled
+		assertEquals(3, loaderCounts[0]);
+		assertEquals(Boolean.FALSE, server.getAttribute(name, "ReloadPending"));
+
+		//Reads are not counted, so there are no counts
+		assertEquals(0, ((long[]) server.getAttribute(name, "PropertyReadCounts")).length);
+
+		//Rebuilding replaces the registered instance
+		buildCore(true);
+		assertTrue(server.isRegistered(name));
+	}
+
+	AndHowCore buildCore(boolean registerMBean) throws Exception {
+		String prefix = InfoParams.class.getCanonicalName() + ".";
+		KeyValuePairLoader kvp = new KeyValuePairLoader();
+
+		if (registerMBean) {
+			kvp.setKeyValuePairs(prefix + "PASSWORD=hunter2", prefix + "HOST=localhost", "AHRegisterMBean");
+		} else {
+			kvp.setKeyValuePairs(prefix + "PASSWORD=hunter2", prefix + "HOST=localhost");
+		}
+
+		return new AndHowCore(new CaseInsensitiveNaming(), Collections.singletonList(kvp),
+				AndHowUtil.buildGroupProxies(Collections.singletonList(InfoParams.class)));
+	}
+}
@@ -0,0 +1,117 @@
+package org.yarnandtail.andhow.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import org.yarnandtail.andhow.api.Validator;
+import org.yarnandtail.andhow.property.IntProp;
+import org.yarnandtail.andhow.property.StrProp;
+import org.yarnandtail.andhow.valid.IntValidator;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author eeverman
+ */
+public class FusedValidatorTest {
+	
+	@Test
+	public void testIsValidAndFailedValidators() {
+		IntProp prop = IntProp.builder().mustBeGreaterThan(5).mustBeLessThan(10).build();
+		FusedValidator<Integer> fv = FusedValidator.forProperty(prop);
+		
+		assertTrue(fv.isValid(7));
+		assertFalse(fv.isValid(5));
+		assertFalse(fv.isValid(10));
+		assertTrue(fv.getFailedValidators(7).isEmpty());
+		assertEquals(1, fv.getFailedValidators(10).size());
+		assertTrue(fv.getFailedValidators(10).get(0) instanceof IntValidator.LessThan);
+		
+		//Shared per property
+		assertSame(fv, FusedValidator.forProperty(prop));
+		assertNotSame(fv, FusedValidator.forProperty(IntProp.builder().mustBeGreaterThan(5).build()));
+	}
+	
+	@Test
+	public void testPropertyWithNoValidators() {
+		StrProp prop = StrProp.builder().build();
+		FusedValidator<String> fv = FusedValidator.forProperty(prop);
+		
+		assertTrue(fv.isValid("anything"));
+		assertTrue(fv.isValid(null));
+		assertTrue(fv.validateDefault("anything"));
+		assertTrue(fv.getFailedValidators("anything").isEmpty());
+	}
+	
+	@Test
+	public void testResultsAreRemembered() {
+		CountingValidator counter = new CountingValidator();
+		List<Validator<String>> validators = new ArrayList();
+		validators.add(counter);
+		
+		FusedValidator<String> fv = new FusedValidator(validators);
+		
+		//A valid default is never validated again
+		assertTrue(fv.validateDefault("default"));
+		assertEquals(1, counter.count);
+		assertTrue(fv.isValid("default"));
+		assertEquals(1, counter.count);
+		
+		//The last result is remembered
+		assertFalse(fv.isValid("bad"));
+		assertFalse(fv.isValid(new String("bad")));
+		assertEquals(2, counter.count);
+		
+		assertTrue(fv.isValid("good"));
+		assertTrue(fv.isValid("default"));
+		assertFalse(fv.isValid("bad"));
+		assertEquals(4, counter.count);
+		
+		//Null is not cached
+		assertFalse(fv.isValid(null));
+		assertFalse(fv.isValid(null));
+		assertEquals(6, counter.count);
+	}
+	
+	@Test
+	public void testInvalidDefaultIsNotRemembered() {
+		CountingValidator counter = new CountingValidator();
+		List<Validator<String>> validators = new ArrayList();
+		validators.add(counter);
+		
+		FusedValidator<String> fv = new FusedValidator(validators);
+		
+		assertFalse(fv.validateDefault("bad"));
+		assertTrue(fv.isValid("good"));
+		assertFalse(fv.isValid("bad"));
+		assertEquals(3, counter.count);
+	}
+	
+	/** Valid unless the value is 'bad' or null, and counts invocations */
+	static class CountingValidator implements Validator<String> {
+		int count;
+		
+		@Override
+		public boolean isValid(String value) {
+			count++;
+			return value != null && ! value.equals("bad");
+		}
+
+		@Override
+		public String getInvalidSpecificationMessage() {
+			return "";
+		}
+
+		@Override
+		public boolean isSpecificationValid() {
+			return true;
+		}
+
+		@Override
+		public String getTheValueMustDescription() {
+			return "not be 'bad'";
+		}
+	}
+	
+}
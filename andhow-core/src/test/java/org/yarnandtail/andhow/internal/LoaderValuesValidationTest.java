@@ -0,0 +1,120 @@
+package org.yarnandtail.andhow.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.load.KeyValuePairLoader;
+import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
+import org.yarnandtail.andhow.property.StrProp;
+import org.yarnandtail.andhow.util.AndHowUtil;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author eeverman
+ */
+public class LoaderValuesValidationTest {
+
+	public interface SimpleParams {
+		StrProp STR_AZ = StrProp.builder().mustStartWith("a").mustEndWith("z").build();
+	}
+
+	StaticPropertyConfigurationInternal config;
+
+	@Before
+	public void setup() throws Exception {
+		StaticPropertyConfigurationMutable mutable = new StaticPropertyConfigurationMutable(new CaseInsensitiveNaming());
+		mutable.addProperty(AndHowUtil.buildGroupProxy(SimpleParams.class), SimpleParams.STR_AZ);
+		config = mutable.toImmutable();
+	}
+
+	@Test
+	public void testSmallLoaderIsValidatedInOrder() {
+		doTestProblemOrder(LoaderValuesValidation.PARALLEL_THRESHOLD - 1);
+	}
+
+	@Test
+	public void testLargeLoaderIsValidatedInOrder() {
+		doTestProblemOrder(LoaderValuesValidation.PARALLEL_THRESHOLD * 20);
+	}
+
+	@Test
+	public void testProblemsAreNotReportedUntilFinished() {
+		List<ValidatedValue> values = buildValues(LoaderValuesValidation.PARALLEL_THRESHOLD * 2);
+		LoaderValues lvs = new LoaderValues(new KeyValuePairLoader(), values, new ProblemList());
+
+		LoaderValuesValidation validation = new LoaderValuesValidation(config, lvs).start();
+
+		for (ValidatedValue v : values) {
+			assertFalse(v.hasProblems());
+		}
+
+		ProblemList<Problem> problems = new ProblemList();
+		validation.finish(problems);
+		assertTrue(problems.size() > 0);
+		assertEquals(0, lvs.getProblems().size());	//Captured when constructed
+	}
+
+	void doTestProblemOrder(int count) {
+		List<ValidatedValue> values = buildValues(count);
+		KeyValuePairLoader loader = new KeyValuePairLoader();
+		LoaderValues lvs = new LoaderValues(loader, values, new ProblemList());
+
+		ProblemList<Problem> problems = new ProblemList();
+		new LoaderValuesValidation(config, lvs).start().finish(problems);
+
+		//Expected problems, found one value at a time in order
+		List<String> expected = new ArrayList();
+		for (ValidatedValue<String> v : values) {
+			for (Validator<String> validator : SimpleParams.STR_AZ.getValidators()) {
+				if (! validator.isValid(v.getValue())) {
+					expected.add(validator.getInvalidMessage(v.getValue()));
+				}
+			}
+		}
+
+		assertTrue(expected.size() > count / 2);
+		assertEquals(expected.size(), problems.size());
+
+		for (int i = 0; i < expected.size(); i++) {
+			ValueProblem.InvalidValueProblem p = (ValueProblem.InvalidValueProblem) problems.get(i);
+			assertEquals(expected.get(i), p.getProblemDescription());
+			assertSame(loader, p.getBadValueCoord().getLoader());
+			assertEquals(SimpleParams.class, p.getBadValueCoord().getGroup());
+		}
+
+		//Problems are also recorded on the values
+		for (ValidatedValue<String> v : values) {
+			int invalidCount = 0;
+			for (Validator<String> validator : SimpleParams.STR_AZ.getValidators()) {
+				if (! validator.isValid(v.getValue())) invalidCount++;
+			}
+
+			assertEquals(invalidCount, v.getProblems().size());
+		}
+
+		assertTrue(problems.get(0).getProblemDescription().contains("b0"));
+	}
+
+	/**
+	 * Values that are valid, fail one Validator or fail both, by index.
+	 */
+	List<ValidatedValue> buildValues(int count) {
+		List<ValidatedValue> values = new ArrayList();
+
+		for (int i = 0; i < count; i++) {
+			String str;
+			switch (i % 3) {
+				case 0: str = "b" + i; break;	//Fails both
+				case 1: str = "a" + i; break;	//Fails ends with
+				default: str = "a" + i + "z";	//Valid
+			}
+			values.add(new ValidatedValue(SimpleParams.STR_AZ, str));
+		}
+
+		return values;
+	}
+}
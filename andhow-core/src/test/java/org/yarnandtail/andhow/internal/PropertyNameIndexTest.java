@@ -0,0 +1,58 @@
+package org.yarnandtail.andhow.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
+import org.yarnandtail.andhow.property.StrProp;
+import org.yarnandtail.andhow.util.AndHowUtil;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author eeverman
+ */
+public class PropertyNameIndexTest {
+
+	public interface SimpleParams {
+		StrProp STR_A = StrProp.builder().build();
+	}
+
+	@Test
+	public void testManySplitNamesAreFoundAfterTheTableGrows() throws Exception {
+		NamingStrategy naming = new CaseInsensitiveNaming();
+		GroupProxy group = AndHowUtil.buildGroupProxy(SimpleParams.class);
+		String groupName = group.getCanonicalName();
+
+		PropertyNameIndex index = new PropertyNameIndex();
+		List<Property<?>> props = new ArrayList();
+
+		for (int i = 0; i < 100; i++) {
+			Property<?> prop = StrProp.builder().build();
+			String name = groupName + ".PROP_" + i;
+			index.addCanonicalName(prop, group, name, naming.toEffectiveName(name), naming);
+			props.add(prop);
+		}
+
+		PropertyNameIndex immutable = index.toImmutable();
+
+		for (int i = 0; i < 100; i++) {
+			String name = groupName + ".PROP_" + i;
+
+			assertSame(props.get(i), index.getProperty(naming.toEffectiveName(name)));
+			assertSame(props.get(i), immutable.getProperty(naming.toEffectiveName(name)));
+			assertEquals(name, immutable.getCanonicalName(props.get(i)));
+			assertSame(immutable.getCanonicalName(props.get(i)), immutable.getCanonicalName(props.get(i)));
+			assertEquals(i, immutable.getOrdinal(props.get(i)));
+		}
+
+		assertNull(immutable.getProperty(naming.toEffectiveName(groupName + ".PROP_100")));
+		assertNull(immutable.getProperty(naming.toEffectiveName(groupName + "X.PROP_1")));
+		assertNull(immutable.getProperty(naming.toEffectiveName("PROP_1")));
+		assertNull(immutable.getProperty(naming.toEffectiveName(".PROP_1")));
+		assertNull(immutable.getProperty(null));
+	}
+
+}
@@ -0,0 +1,141 @@
+package org.yarnandtail.andhow.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.yarnandtail.andhow.PropertyValue;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.LoaderProblem.DuplicatePropertyLoaderProblem;
+import org.yarnandtail.andhow.load.FixedValueLoader;
+import org.yarnandtail.andhow.load.KeyValuePairLoader;
+import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
+import org.yarnandtail.andhow.property.IntProp;
+import org.yarnandtail.andhow.property.StrProp;
+import org.yarnandtail.andhow.util.AndHowUtil;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author eeverman
+ */
+public class PropertyValueSinkTest {
+
+	public interface SimpleParams {
+		StrProp STR_A = StrProp.builder().build();
+		StrProp STR_B = StrProp.builder().build();
+		IntProp INT_C = IntProp.builder().build();
+	}
+
+	StaticPropertyConfigurationInternal config;
+
+	@Before
+	public void setup() throws Exception {
+		StaticPropertyConfigurationMutable mutable = new StaticPropertyConfigurationMutable(new CaseInsensitiveNaming());
+		GroupProxy proxy = AndHowUtil.buildGroupProxy(SimpleParams.class);
+		mutable.addProperty(proxy, SimpleParams.STR_A);
+		mutable.addProperty(proxy, SimpleParams.STR_B);
+		mutable.addProperty(proxy, SimpleParams.INT_C);
+		config = mutable.toImmutable();
+	}
+
+	@Test
+	public void testOrdinalsMatchPropertyOrder() {
+		List<Property<?>> props = config.getProperties();
+
+		for (int i = 0; i < props.size(); i++) {
+			assertEquals(i, config.getPropertyOrdinal(props.get(i)));
+		}
+
+		assertEquals(-1, config.getPropertyOrdinal(StrProp.builder().build()));
+	}
+
+	@Test
+	public void testValuesAreKeptInPushOrder() {
+		PropertyValueSink sink = new PropertyValueSink(config, new KeyValuePairLoader());
+
+		assertTrue(sink.put(new ValidatedValue(SimpleParams.INT_C, 1)));
+		assertTrue(sink.put(new ValidatedValue(SimpleParams.STR_A, "a")));
+
+		assertTrue(sink.contains(SimpleParams.STR_A));
+		assertFalse(sink.contains(SimpleParams.STR_B));
+		assertEquals("a", sink.get(config.getPropertyOrdinal(SimpleParams.STR_A)).getValue());
+
+		LoaderValues lvs = sink.toLoaderValues();
+		assertEquals(2, lvs.getValues().size());
+		assertEquals(SimpleParams.INT_C, lvs.getValues().get(0).getProperty());
+		assertEquals(SimpleParams.STR_A, lvs.getValues().get(1).getProperty());
+		assertEquals(0, lvs.getProblems().size());
+	}
+
+	@Test
+	public void testDuplicateIsAProblemAndFirstValueWins() {
+		PropertyValueSink sink = new PropertyValueSink(config, new KeyValuePairLoader());
+
+		assertTrue(sink.put(new ValidatedValue(SimpleParams.STR_A, "first")));
+		assertFalse(sink.put(new ValidatedValue(SimpleParams.STR_A, "second")));
+		assertFalse(sink.putIfAbsent(new ValidatedValue(SimpleParams.STR_A, "third")));
+
+		LoaderValues lvs = sink.toLoaderValues();
+		assertEquals(1, lvs.getValues().size());
+		assertEquals("first", lvs.getExplicitValue(SimpleParams.STR_A));
+		assertEquals(1, lvs.getProblems().size());
+		assertTrue(lvs.getProblems().get(0) instanceof DuplicatePropertyLoaderProblem);
+	}
+
+	@Test
+	public void testKeyValuePairLoaderDuplicate() {
+		KeyValuePairLoader loader = new KeyValuePairLoader();
+		String name = SimpleParams.class.getCanonicalName() + ".STR_B";
+		loader.setKeyValuePairs(name + "=one", name + "=two");
+
+		LoaderValues lvs = loader.load(config, new ValidatedValuesWithContextMutable());
+
+		assertEquals(1, lvs.getValues().size());
+		assertEquals("one", lvs.getExplicitValue(SimpleParams.STR_B));
+		assertEquals(1, lvs.getProblems().size());
+		assertTrue(lvs.getProblems().get(0) instanceof DuplicatePropertyLoaderProblem);
+	}
+
+	@Test
+	public void testAdapterPushesLoaderValues() {
+		FixedValueLoader loader = new FixedValueLoader();
+		List<PropertyValue> values = new ArrayList();
+		values.add(new PropertyValue(SimpleParams.STR_B, "b"));
+		values.add(new PropertyValue(SimpleParams.INT_C, 3));
+		loader.setPropertyValues(values);
+
+		PropertyValueSink sink = new PropertyValueSink(config, loader);
+		new SinkLoaderAdapter(loader).load(config, new ValidatedValuesWithContextMutable(), sink);
+
+		LoaderValues lvs = sink.toLoaderValues();
+		assertSame(loader, lvs.getLoader());
+		assertEquals(2, lvs.getValues().size());
+		assertEquals("b", lvs.getExplicitValue(SimpleParams.STR_B));
+		assertEquals(new Integer(3), lvs.getExplicitValue(SimpleParams.INT_C));
+	}
+
+	@Test
+	public void testAdapterSkipsUnregisteredProperties() {
+		FixedValueLoader loader = new FixedValueLoader();
+		List<PropertyValue> values = new ArrayList();
+		values.add(new PropertyValue(StrProp.builder().build(), "x"));
+		values.add(new PropertyValue(SimpleParams.STR_A, "a"));
+		loader.setPropertyValues(values);
+
+		PropertyValueSink sink = new PropertyValueSink(config, loader);
+		new SinkLoaderAdapter(loader).load(config, new ValidatedValuesWithContextMutable(), sink);
+
+		LoaderValues lvs = sink.toLoaderValues();
+		assertEquals(1, lvs.getValues().size());
+		assertEquals("a", lvs.getExplicitValue(SimpleParams.STR_A));
+		assertEquals(0, lvs.getProblems().size());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnregisteredPropertyIsRejected() {
+		PropertyValueSink sink = new PropertyValueSink(config, new KeyValuePairLoader());
+		sink.put(new ValidatedValue(StrProp.builder().build(), "x"));
+	}
+}
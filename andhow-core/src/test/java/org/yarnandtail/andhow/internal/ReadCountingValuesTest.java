@@ -0,0 +1,99 @@
+package org.yarnandtail.andhow.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.*;
+import java.util.concurrent.*;
+import org.junit.Test;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.load.KeyValuePairLoader;
+import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
+import org.yarnandtail.andhow.property.IntProp;
+import org.yarnandtail.andhow.property.StrProp;
+import org.yarnandtail.andhow.util.AndHowUtil;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author eeverman
+ */
+public class ReadCountingValuesTest {
+
+	public interface CountedParams {
+		StrProp HOT = StrProp.builder().build();
+		IntProp WARM = IntProp.builder().defaultValue(1).build();
+		StrProp NEVER_READ = StrProp.builder().build();
+	}
+
+	@Test
+	public void testReadsAreNotCountedByDefault() throws Exception {
+		AndHowCore core = buildCore(false);
+
+		assertEquals("hot", core.getValue(CountedParams.HOT));
+		assertNull(core.getPropertyReadReport());
+	}
+
+	@Test
+	public void testReadsAreCountedAndRanked() throws Exception {
+		AndHowCore core = buildCore(true);
+
+		//Read from several threads at once
+		ExecutorService exec = Executors.newFixedThreadPool(4);
+		List<Future<?>> futures = new ArrayList();
+
+		for (int t = 0; t < 4; t++) {
+			futures.add(exec.submit(() -> {
+				for (int i = 0; i < 250; i++) {
+					assertEquals("hot", core.getValue(CountedParams.HOT));
+				}
+			}));
+		}
+
+		for (Future<?> f : futures) {
+			f.get();
+		}
+		exec.shutdown();
+
+		assertEquals(new Integer(1), core.getValue(CountedParams.WARM));
+		assertNull(core.getExplicitValue(CountedParams.WARM));
+
+		PropertyReadReport report = core.getPropertyReadReport();
+
+		assertEquals(2, report.getRankedReads().size());
+		assertEquals(CountedParams.HOT, report.getRankedReads().get(0).getProperty());
+		assertEquals(1000L, report.getRankedReads().get(0).getCount());
+		assertEquals(CountedParams.WARM, report.getRankedReads().get(1).getProperty());
+		assertEquals(2L, report.getRankedReads().get(1).getCount());
+		assertTrue(report.getReadsPerSecond(report.getRankedReads().get(0)) > 0d);
+
+		List<Property<?>> unread = new ArrayList();
+		for (PropertyReadReport.PropertyReads pr : report.getUnreadProperties()) {
+			unread.add(pr.getProperty());
+		}
+
+		assertTrue(unread.contains(CountedParams.NEVER_READ));
+		assertFalse(unread.contains(CountedParams.HOT));
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ReportGenerator.printPropertyReadReport(new PrintStream(bytes, true), report);
+		String printed = bytes.toString("UTF-8");
+
+		assertTrue(printed.contains(CountedParams.class.getCanonicalName() + ".HOT"));
+		assertTrue(printed.indexOf(".HOT") < printed.indexOf(".WARM"));
+		assertTrue(printed.indexOf("NEVER READ") < printed.indexOf(".NEVER_READ"));
+	}
+
+	AndHowCore buildCore(boolean countReads) throws Exception {
+		KeyValuePairLoader kvp = new KeyValuePairLoader();
+
+		if (countReads) {
+			kvp.setKeyValuePairs(CountedParams.class.getCanonicalName() + ".HOT=hot", "AHCountPropertyReads");
+		} else {
+			kvp.setKeyValuePairs(CountedParams.class.getCanonicalName() + ".HOT=hot");
+		}
+
+		return new AndHowCore(new CaseInsensitiveNaming(), Collections.singletonList(kvp),
+				AndHowUtil.buildGroupProxies(Collections.singletonList(CountedParams.class)));
+	}
+}
@@ -0,0 +1,151 @@
+package org.yarnandtail.andhow.internal;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.zip.CRC32;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.yarnandtail.andhow.GroupExport;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.export.SysPropExporter;
+import org.yarnandtail.andhow.load.std.StdJndiLoader;
+import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
+import org.yarnandtail.andhow.property.IntProp;
+import org.yarnandtail.andhow.property.StrProp;
+import org.yarnandtail.andhow.util.AndHowUtil;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author eeverman
+ */
+public class RegistryCacheTest {
+
+	Path cacheFile;
+
+	@GroupExport(
+		exporter=SysPropExporter.class,
+		exportByCanonicalName=Exporter.EXPORT_CANONICAL_NAME.ALWAYS,
+		exportByOutAliases=Exporter.EXPORT_OUT_ALIASES.ALWAYS
+	)
+	public interface CacheParams {
+		StrProp STR = StrProp.builder().aliasIn("str_in").aliasInAndOut("str.both").mustMatchRegex("[a-z]*").build();
+		IntProp INT = IntProp.builder().defaultValue(5).build();
+	}
+
+	public interface OtherParams {
+		StrProp OTHER = StrProp.builder().build();
+	}
+
+	@Before
+	public void init() throws Exception {
+		cacheFile = Files.createTempDirectory("andhow_test").resolve("registry.cache");
+		System.setProperty(RegistryCache.FILE_PROPERTY, cacheFile.toString());
+	}
+
+	@After
+	public void afterTest() throws Exception {
+		System.clearProperty(RegistryCache.FILE_PROPERTY);
+		Files.deleteIfExists(cacheFile);
+		Files.deleteIfExists(cacheFile.getParent());
+	}
+
+	@Test
+	public void testCacheIsWrittenAndRestored() throws Exception {
+		List<GroupProxy> groups = AndHowUtil.buildGroupProxies(Collections.singletonList(CacheParams.class));
+		List<Loader> loaders = Collections.singletonList(new StdJndiLoader());
+		ProblemList<Problem> problems = new ProblemList();
+
+		StaticPropertyConfigurationMutable built = AndHowUtil.buildDefinition(groups, loaders, new CaseInsensitiveNaming(), problems);
+
+		assertEquals(0, problems.size());
+		assertTrue(Files.isRegularFile(cacheFile));
+
+		List<GroupProxy> allGroups = new ArrayList(groups);
+		allGroups.add(AndHowUtil.buildGroupProxy(StdJndiLoader.CONFIG.class, false));
+
+		StaticPropertyConfigurationMutable restored = RegistryCache.read(cacheFile, allGroups, new CaseInsensitiveNaming());
+
+		assertNotNull(restored);
+		assertEquals(built.getProperties(), restored.getProperties());
+		assertEquals(built.getPropertyGroups().size(), restored.getPropertyGroups().size());
+		assertEquals(CacheParams.STR, restored.getProperty("STR_IN"));
+		assertEquals(CacheParams.STR, restored.getProperty("Str.Both"));
+		assertEquals(CacheParams.STR, restored.getProperty(CacheParams.class.getCanonicalName().toLowerCase() + ".str"));
+		assertEquals(built.getCanonicalName(CacheParams.INT), restored.getCanonicalName(CacheParams.INT));
+		assertEquals(2, restored.getAliases(CacheParams.STR).size());
+		assertEquals("str.both", restored.getAliases(CacheParams.STR).get(1).getActualName());
+		assertTrue(restored.getAliases(CacheParams.STR).get(1).isOut());
+		assertEquals(1, restored.getPropertyOrdinal(CacheParams.INT));
+
+		assertEquals(1, restored.getExportGroups().size());
+		assertEquals(CacheParams.class, restored.getExportGroups().get(0).getGroup().getProxiedGroup());
+
+		//Building again uses the cache and gives the same result
+		problems = new ProblemList();
+		StaticPropertyConfigurationMutable rebuilt = AndHowUtil.buildDefinition(groups, loaders, new CaseInsensitiveNaming(), problems);
+		assertEquals(0, problems.size());
+		assertEquals(built.getProperties(), rebuilt.getProperties());
+	}
+
+	@Test
+	public void testStaleOrCorruptCacheIsIgnored() throws Exception {
+		List<GroupProxy> groups = AndHowUtil.buildGroupProxies(Collections.singletonList(CacheParams.class));
+		List<GroupProxy> others = AndHowUtil.buildGroupProxies(Collections.singletonList(OtherParams.class));
+
+		assertNotEquals(RegistryCache.fingerprint(groups, new CaseInsensitiveNaming()),
+				RegistryCache.fingerprint(others, new CaseInsensitiveNaming()));
+
+		AndHowUtil.buildDefinition(groups, null, new CaseInsensitiveNaming(), new ProblemList());
+		assertNotNull(RegistryCache.read(cacheFile, groups, new CaseInsensitiveNaming()));
+
+		//Stale
+		assertNull(RegistryCache.read(cacheFile, others, new CaseInsensitiveNaming()));
+
+		//...and is rewritten by the next build
+		ProblemList<Problem> problems = new ProblemList();
+		StaticPropertyConfigurationMutable appDef = AndHowUtil.buildDefinition(others, null, new CaseInsensitiveNaming(), problems);
+		assertEquals(0, problems.size());
+		assertEquals(OtherParams.OTHER, appDef.getProperties().get(0));
+		assertNotNull(RegistryCache.read(cacheFile, others, new CaseInsensitiveNaming()));
+
+		//Corrupt
+		byte[] bytes = Files.readAllBytes(cacheFile);
+		Files.write(cacheFile, Arrays.copyOf(bytes, bytes.length - 3));
+		assertNull(RegistryCache.read(cacheFile, others, new CaseInsensitiveNaming()));
+	}
+
+	@Test
+	public void testClassFileChecksum() throws Exception {
+		//A class file in a directory is read
+		CRC32 crc = new CRC32();
+		try (InputStream in = CacheParams.class.getResourceAsStream("RegistryCacheTest$CacheParams.class")) {
+			byte[] bytes = new byte[8192];
+			for (int len = in.read(bytes); len > -1; len = in.read(bytes)) {
+				crc.update(bytes, 0, len);
+			}
+		}
+
+		assertEquals(crc.getValue(), RegistryCache.getClassFileChecksum(CacheParams.class));
+		assertNotEquals(RegistryCache.getClassFileChecksum(CacheParams.class),
+				RegistryCache.getClassFileChecksum(OtherParams.class));
+
+		//A class in a jar uses the CRC of the jar entry
+		assertTrue(RegistryCache.getClassFileChecksum(Test.class) > -1L);
+	}
+
+	@Test
+	public void testCacheIsNotWrittenIfThereAreProblems() throws Exception {
+		List<GroupProxy> groups = AndHowUtil.buildGroupProxies(Arrays.asList(CacheParams.class, CacheParams.class));
+		ProblemList<Problem> problems = new ProblemList();
+
+		AndHowUtil.buildDefinition(groups, null, new CaseInsensitiveNaming(), problems);
+
+		assertTrue(problems.size() > 0);
+		assertFalse(Files.exists(cacheFile));
+	}
+}
@@ -0,0 +1,91 @@
+package org.yarnandtail.andhow.internal;
+
+import java.util.*;
+import org.junit.After;
+import org.junit.Test;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.load.KeyValuePairLoader;
+import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
+import org.yarnandtail.andhow.property.StrProp;
+import org.yarnandtail.andhow.util.AndHowUtil;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author eeverman
+ */
+public class StartupRecorderTest {
+
+	public interface TimedParams {
+		StrProp STR_1 = StrProp.builder().build();
+		StrProp STR_2 = StrProp.builder().build();
+	}
+
+	@After
+	public void afterTest() {
+		System.clearProperty(StartupRecorder.ENABLED_PROPERTY);
+	}
+
+	@Test
+	public void testDisabledByDefault() throws Exception {
+		StartupRecorder recorder = StartupRecorder.start();
+
+		assertFalse(recorder.isEnabled());
+		assertSame(recorder, StartupRecorder.start());
+		recorder.endPhase(StartupReport.PHASE_REGISTER);
+		assertNull(recorder.toReport());
+
+		AndHowCore core = buildCore();
+		assertNull(core.getStartupReport());
+	}
+
+	@Test
+	public void testPhasesAndLoadersAreReported() throws Exception {
+		System.setProperty(StartupRecorder.ENABLED_PROPERTY, "true");
+
+		AndHowCore core = buildCore();
+		StartupReport report = core.getStartupReport();
+
+		assertNotNull(report);
+
+		List<String> phaseNames = new ArrayList();
+		for (StartupReport.Phase p : report.getPhases()) {
+			phaseNames.add(p.getName());
+			assertTrue(p.getNanos() >= 0);
+		}
+
+		assertEquals(Arrays.asList(StartupReport.PHASE_REGISTER, StartupReport.PHASE_LOAD,
+				StartupReport.PHASE_VALIDATE, StartupReport.PHASE_EXPORT,
+				StartupReport.PHASE_PRINT_SAMPLES, StartupReport.PHASE_FINISH), phaseNames);
+
+		assertTrue(report.getTotalNanos() >= report.getPhaseNanos(StartupReport.PHASE_LOAD));
+		assertEquals(-1L, report.getPhaseNanos("Not a phase"));
+
+		assertEquals(2, report.getLoaderRuns().size());
+
+		StartupReport.LoaderRun first = report.getLoaderRuns().get(0);
+		assertEquals(2, first.getValuesFound());
+		assertEquals(0, first.getValuesShadowed());
+		assertEquals(0, first.getProblemCount());
+
+		StartupReport.LoaderRun second = report.getLoaderRuns().get(1);
+		assertEquals(1, second.getValuesFound());
+		assertEquals(1, second.getValuesShadowed());
+
+		assertTrue(report.toString().contains(StartupReport.PHASE_LOAD));
+	}
+
+	AndHowCore buildCore() throws Exception {
+		String prefix = TimedParams.class.getCanonicalName() + ".";
+
+		KeyValuePairLoader kvp1 = new KeyValuePairLoader();
+		kvp1.setKeyValuePairs(prefix + "STR_1=a", prefix + "STR_2=b");
+
+		KeyValuePairLoader kvp2 = new KeyValuePairLoader();
+		kvp2.setKeyValuePairs(prefix + "STR_2=c");
+
+		return new AndHowCore(new CaseInsensitiveNaming(), Arrays.asList(kvp1, kvp2),
+				AndHowUtil.buildGroupProxies(Collections.singletonList(TimedParams.class)));
+	}
+}
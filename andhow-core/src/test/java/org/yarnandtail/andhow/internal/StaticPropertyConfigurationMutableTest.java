@@ -68,6 +68,58 @@ public class StaticPropertyConfigurationMutableTest {
 		assertEquals(SimpleParams.FLAG_FALSE, appDef.getPropertiesForGroup(proxy).get(1));
 	}
 	
+	@Test
+	public void testNameLookupIsCaseInsensitiveForCanonicalNamesAndAliases() throws Exception {
+		
+		StaticPropertyConfigurationMutable appDef = new StaticPropertyConfigurationMutable(new CaseInsensitiveNaming());
+		GroupProxy proxy = AndHowUtil.buildGroupProxy(SimpleParams.class);
+		
+		appDef.addProperty(proxy, SimpleParams.STR_BOB);
+		appDef.addProperty(proxy, SimpleParams.FLAG_FALSE);
+		
+		assertEquals(SimpleParams.STR_BOB, appDef.getProperty((paramFullPath + "STR_BOB").toLowerCase()));
+		assertEquals(SimpleParams.STR_BOB, appDef.getProperty("STRING_BOB"));
+		assertEquals(SimpleParams.STR_BOB, appDef.getProperty("stringy.bob"));
+		assertNull(appDef.getProperty(paramFullPath + "STR_XXX"));
+		assertNull(appDef.getProperty(paramFullPath));
+		assertNull(appDef.getProperty("STR_BOB"));
+		
+		assertEquals(proxy, appDef.getGroupForProperty(SimpleParams.FLAG_FALSE));
+		assertNull(appDef.getGroupForProperty(RandomUnregisteredGroup.STR_RND));
+		
+		//Same results after conversion to immutable
+		StaticPropertyConfigurationInternal immutable = appDef.toImmutable();
+		assertEquals(paramFullPath + "STR_BOB", immutable.getCanonicalName(SimpleParams.STR_BOB));
+		assertEquals(SimpleParams.STR_BOB, immutable.getProperty((paramFullPath + "STR_BOB").toLowerCase()));
+		assertEquals(SimpleParams.STR_BOB, immutable.getProperty("stringy.bob"));
+		assertEquals(proxy, immutable.getGroupForProperty(SimpleParams.STR_BOB));
+	}
+	
+	@Test
+	public void testCanonicalNameNotPrefixedByGroupName() throws Exception {
+		
+		//A group that names its Properties w/o the group name as a prefix
+		GroupProxyMutable proxy = new GroupProxyMutable("org.grp", "org.grp") {
+			@Override
+			public String getCanonicalName(Property<?> memberProperty) {
+				return "custom.name." + getSimpleName(memberProperty);
+			}
+		};
+		proxy.addProperty(new NameAndProperty("STR_1", SampleGroup.STR_1));
+		
+		StaticPropertyConfigurationMutable appDef = new StaticPropertyConfigurationMutable(new CaseInsensitiveNaming());
+		assertNull(appDef.addProperty(proxy, SampleGroup.STR_1));
+		
+		assertEquals("custom.name.STR_1", appDef.getCanonicalName(SampleGroup.STR_1));
+		assertEquals(SampleGroup.STR_1, appDef.getProperty("Custom.Name.STR_1"));
+		assertNull(appDef.getProperty("org.grp.STR_1"));
+		assertEquals(proxy, appDef.getGroupForProperty(SampleGroup.STR_1));
+		
+		StaticPropertyConfigurationInternal immutable = appDef.toImmutable();
+		assertEquals("custom.name.STR_1", immutable.getCanonicalName(SampleGroup.STR_1));
+		assertEquals(SampleGroup.STR_1, immutable.getProperty("custom.name.str_1"));
+	}
+	
 	@Test
 	public void testDuplicatePropertiesInSeparateGroupWithDistinctNames() throws Exception {
 		
@@ -0,0 +1,97 @@
+package org.yarnandtail.andhow.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.yarnandtail.andhow.SimpleParams;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.load.PropFileOnClasspathLoader;
+import org.yarnandtail.andhow.load.KeyValuePairLoader;
+
+/**
+ *
+ * @author eeverman
+ */
+public class ValidatedValuesWithContextCompactTest {
+
+	@Test
+	public void testCompactValuesMatchImmutableValues() {
+
+		ValidatedValuesWithContextMutable builder = new ValidatedValuesWithContextMutable();
+
+		Loader cmdLineLoad = new KeyValuePairLoader();
+		PropFileOnClasspathLoader propFileLoad = new PropFileOnClasspathLoader();
+		Loader unusedLoad = new KeyValuePairLoader();
+
+		List<ValidatedValue> firstSet = new ArrayList();
+		firstSet.add(new ValidatedValue(SimpleParams.STR_BOB, "test"));
+		firstSet.add(new ValidatedValue(SimpleParams.FLAG_TRUE, Boolean.FALSE));
+		firstSet.add(new ValidatedValue(SimpleParams.FLAG_NULL, Boolean.TRUE));
+		builder.addValues(new LoaderValues(cmdLineLoad, firstSet, new ProblemList<Problem>()));
+
+		List<ValidatedValue> secondSet = new ArrayList();
+		secondSet.add(new ValidatedValue(SimpleParams.STR_BOB, "blah"));
+		secondSet.add(new ValidatedValue(SimpleParams.STR_NULL, "blah"));
+		secondSet.add(new ValidatedValue(SimpleParams.INT_TEN, 20));
+		builder.addValues(new LoaderValues(propFileLoad, secondSet, new ProblemList<Problem>()));
+
+		ValidatedValuesWithContext full = builder.getValueMapWithContextImmutable();
+		ValidatedValuesWithContextCompact compact =
+				new ValidatedValuesWithContextCompact(full.getAllLoaderValues());
+
+		//Effective values are the same as the full version
+		assertEquals("test", compact.getExplicitValue(SimpleParams.STR_BOB));
+		assertEquals("blah", compact.getExplicitValue(SimpleParams.STR_NULL));
+		assertEquals(false, compact.getExplicitValue(SimpleParams.FLAG_TRUE));
+		assertEquals(true, compact.getExplicitValue(SimpleParams.FLAG_NULL));
+		assertEquals(new Integer(20), compact.getValue(SimpleParams.INT_TEN));
+
+		//Unset values fall back to defaults
+		assertFalse(compact.isExplicitlySet(SimpleParams.FLAG_FALSE));
+		assertNull(compact.getExplicitValue(SimpleParams.FLAG_FALSE));
+		assertEquals(false, compact.getValue(SimpleParams.FLAG_FALSE));
+		assertEquals(new Long(10), compact.getValue(SimpleParams.LNG_TEN));
+		assertFalse(compact.isExplicitlySet(null));
+
+		//Provenance
+		assertSame(cmdLineLoad, compact.getEffectiveLoader(SimpleParams.STR_BOB));
+		assertSame(propFileLoad, compact.getEffectiveLoader(SimpleParams.STR_NULL));
+		assertSame(propFileLoad, compact.getEffectiveLoader(SimpleParams.INT_TEN));
+		assertNull(compact.getEffectiveLoader(SimpleParams.LNG_TEN));
+
+		LoaderValues effProp = compact.getEffectiveValuesLoadedByLoader(propFileLoad);
+		assertEquals(2, effProp.getValues().size());
+		assertEquals("blah", effProp.getExplicitValue(SimpleParams.STR_NULL));
+		assertEquals(new Integer(20), effProp.getExplicitValue(SimpleParams.INT_TEN));
+		assertNull(effProp.getExplicitValue(SimpleParams.STR_BOB));
+
+		assertEquals(3, compact.getEffectiveValuesLoadedByLoader(cmdLineLoad).getValues().size());
+		assertNull(compact.getEffectiveValuesLoadedByLoader(unusedLoad));
+
+		assertFalse(compact.hasProblems());
+		assertSame(compact, compact.getValueMapImmutable());
+		assertSame(compact, compact.getValueMapWithContextImmutable());
+		assertEquals(2, compact.getLoaders().size());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testGetAllLoaderValuesIsUnavailable() {
+		List<LoaderValues> lvs = new ArrayList();
+		lvs.add(new LoaderValues(new KeyValuePairLoader()));
+
+		new ValidatedValuesWithContextCompact(lvs).getAllLoaderValues();
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testGetAllValuesLoadedByLoaderIsUnavailable() {
+		Loader loader = new KeyValuePairLoader();
+		List<LoaderValues> lvs = new ArrayList();
+		lvs.add(new LoaderValues(loader));
+
+		new ValidatedValuesWithContextCompact(lvs).getAllValuesLoadedByLoader(loader);
+	}
+
+}
@@ -0,0 +1,155 @@
+package org.yarnandtail.andhow.load;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.yarnandtail.andhow.AndHowCoreTestConfig;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.*;
+import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
+import org.yarnandtail.andhow.property.*;
+import org.yarnandtail.andhow.util.AndHowUtil;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author eeverman
+ */
+public class BinarySnapshotTest {
+
+	Path snapshotFile;
+
+	public interface SnapParams {
+		StrProp STR = StrProp.builder().build();
+		IntProp INT = IntProp.builder().build();
+		LngProp LNG = LngProp.builder().build();
+		DblProp DBL = DblProp.builder().build();
+		FlagProp FLAG = FlagProp.builder().build();
+		LocalDateTimeProp LDT = LocalDateTimeProp.builder().build();
+		BlobProp BLOB = BlobProp.builder().build();
+		StrProp NOT_SET = StrProp.builder().build();
+	}
+
+	public interface OtherParams {
+		StrProp OTHER = StrProp.builder().build();
+	}
+
+	@Before
+	public void init() throws Exception {
+		snapshotFile = Files.createTempFile("andhow_test", ".snapshot");
+	}
+
+	@After
+	public void afterTest() throws Exception {
+		Files.deleteIfExists(snapshotFile);
+	}
+
+	@Test
+	public void testToolWritesAndLoaderReadsAllTypes() throws Exception {
+		String prefix = SnapParams.class.getCanonicalName() + ".";
+
+		int count = BinarySnapshotTool.write(
+				AndHowCoreTestConfig.instance().group(SnapParams.class),
+				snapshotFile, new String[] {
+					prefix + "STR=  \" quoted \"  ", prefix + "INT=-12", prefix + "LNG=9000000000",
+					prefix + "DBL=1.5", prefix + "FLAG", prefix + "LDT=2011-12-03T10:15:30.000000123",
+					prefix + "BLOB=inline blob"
+				});
+
+		assertEquals(7, count);
+
+		BinarySnapshotLoader loader = new BinarySnapshotLoader();
+		loader.setFilePath(snapshotFile.toString());
+
+		AndHowCore core = new AndHowCore(new CaseInsensitiveNaming(), java.util.Collections.singletonList(loader),
+				AndHowUtil.buildGroupProxies(java.util.Collections.singletonList(SnapParams.class)));
+
+		assertEquals(" quoted ", core.getValue(SnapParams.STR));
+		assertEquals(new Integer(-12), core.getValue(SnapParams.INT));
+		assertEquals(new Long(9000000000L), core.getValue(SnapParams.LNG));
+		assertEquals(new Double(1.5), core.getValue(SnapParams.DBL));
+		assertEquals(Boolean.TRUE, core.getValue(SnapParams.FLAG));
+		assertEquals(LocalDateTime.of(2011, 12, 3, 10, 15, 30, 123), core.getValue(SnapParams.LDT));
+		assertEquals(ByteBuffer.wrap("inline blob".getBytes("UTF-8")), core.getValue(SnapParams.BLOB).getBuffer());
+		assertFalse(core.isExplicitlySet(SnapParams.NOT_SET));
+	}
+
+	@Test
+	public void testStaleSnapshotIsRejected() throws Exception {
+		StaticPropertyConfigurationInternal snapConfig = buildConfig(SnapParams.class);
+		StaticPropertyConfigurationInternal otherConfig = buildConfig(OtherParams.class);
+
+		assertNotEquals(BinarySnapshot.fingerprint(snapConfig), BinarySnapshot.fingerprint(otherConfig));
+
+		ValidatedValuesWithContextMutable values = new ValidatedValuesWithContextMutable();
+		KeyValuePairLoader kvp = new KeyValuePairLoader();
+		kvp.setKeyValuePairs(SnapParams.class.getCanonicalName() + ".STR=abc");
+		values.addValues(kvp.load(snapConfig, values));
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		BinarySnapshot.write(snapConfig, values, out);
+
+		BinarySnapshotLoader loader = new BinarySnapshotLoader();
+
+		//Same config loads
+		PropertyValueSink sink = new PropertyValueSink(snapConfig, loader);
+		loader.loadBuffer(ByteBuffer.wrap(out.toByteArray()), snapConfig, sink);
+		assertEquals("abc", sink.toLoaderValues().getExplicitValue(SnapParams.STR));
+
+		//A different config is a problem
+		sink = new PropertyValueSink(otherConfig, loader);
+		loader.loadBuffer(ByteBuffer.wrap(out.toByteArray()), otherConfig, sink);
+		assertEquals(0, sink.size());
+		assertEquals(1, sink.getProblems().size());
+		assertTrue(sink.getProblems().get(0) instanceof LoaderProblem.IncompatibleSourceLoaderProblem);
+
+		//...unless stale snapshots are ignored
+		loader.setStaleSnapshotAProblem(false);
+		sink = new PropertyValueSink(otherConfig, loader);
+		loader.loadBuffer(ByteBuffer.wrap(out.toByteArray()), otherConfig, sink);
+		assertEquals(0, sink.size());
+		assertEquals(0, sink.getProblems().size());
+	}
+
+	@Test
+	public void testCorruptSnapshotIsAProblem() throws Exception {
+		StaticPropertyConfigurationInternal snapConfig = buildConfig(SnapParams.class);
+
+		ValidatedValuesWithContextMutable values = new ValidatedValuesWithContextMutable();
+		KeyValuePairLoader kvp = new KeyValuePairLoader();
+		kvp.setKeyValuePairs(SnapParams.class.getCanonicalName() + ".STR=abc");
+		values.addValues(kvp.load(snapConfig, values));
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		BinarySnapshot.write(snapConfig, values, out);
+		byte[] truncated = java.util.Arrays.copyOf(out.toByteArray(), out.size() - 1);
+
+		BinarySnapshotLoader loader = new BinarySnapshotLoader();
+		PropertyValueSink sink = new PropertyValueSink(snapConfig, loader);
+		loader.loadBuffer(ByteBuffer.wrap(truncated), snapConfig, sink);
+
+		assertEquals(0, sink.size());
+		assertEquals(1, sink.getProblems().size());
+
+		sink = new PropertyValueSink(snapConfig, loader);
+		loader.loadBuffer(ByteBuffer.wrap("abc=123".getBytes()), snapConfig, sink);
+		assertEquals(1, sink.getProblems().size());
+	}
+
+	StaticPropertyConfigurationInternal buildConfig(Class<?> group) throws Exception {
+		StaticPropertyConfigurationMutable mutable = new StaticPropertyConfigurationMutable(new CaseInsensitiveNaming());
+		GroupProxy proxy = AndHowUtil.buildGroupProxy(group);
+
+		for (NameAndProperty nap : proxy.getProperties()) {
+			mutable.addProperty(proxy, nap.property);
+		}
+
+		return mutable.toImmutable();
+	}
+}
@@ -0,0 +1,272 @@
+package org.yarnandtail.andhow.load;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.LoaderProblem;
+import org.yarnandtail.andhow.internal.StaticPropertyConfigurationMutable;
+import org.yarnandtail.andhow.internal.ValidatedValuesWithContextMutable;
+import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
+import org.yarnandtail.andhow.property.IntProp;
+import org.yarnandtail.andhow.property.StrProp;
+import org.yarnandtail.andhow.util.AndHowUtil;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author eeverman
+ */
+public class HttpPropFileLoaderTest {
+
+	static final String ETAG = "\"v1\"";
+
+	StaticPropertyConfigurationMutable appDef;
+	ValidatedValuesWithContextMutable appValuesBuilder;
+	Path cacheDir;
+	HttpServer server;
+	String url;
+
+	//Stand-in server state
+	volatile String body;
+	volatile String etag = ETAG;
+	volatile long delayMillis;
+	volatile long trickleMillis;
+	final AtomicInteger requestCount = new AtomicInteger();
+	final AtomicInteger notModifiedCount = new AtomicInteger();
+
+	public interface SimpleParams {
+		StrProp STR_BOB = StrProp.builder().build();
+		IntProp INT_TEN = IntProp.builder().build();
+	}
+
+	@Before
+	public void init() throws Exception {
+		appValuesBuilder = new ValidatedValuesWithContextMutable();
+		appDef = new StaticPropertyConfigurationMutable(new CaseInsensitiveNaming());
+
+		GroupProxy simpleProxy = AndHowUtil.buildGroupProxy(SimpleParams.class);
+		appDef.addProperty(simpleProxy, SimpleParams.STR_BOB);
+		appDef.addProperty(simpleProxy, SimpleParams.INT_TEN);
+
+		cacheDir = Files.createTempDirectory("andhow_http");
+
+		String prefix = SimpleParams.class.getCanonicalName() + ".";
+		body = prefix + "STR_BOB=first\n" + prefix + "INT_TEN=10\n";
+
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/config.properties", exchange -> {
+			requestCount.incrementAndGet();
+
+			try {
+				if (delayMillis > 0) {
+					Thread.sleep(delayMillis);
+				}
+
+				if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+					notModifiedCount.incrementAndGet();
+					exchange.sendResponseHeaders(304, -1);
+				} else {
+					byte[] bytes = body.getBytes(StandardCharsets.ISO_8859_1);
+					exchange.getResponseHeaders().set("ETag", etag);
+					exchange.sendResponseHeaders(200, bytes.length);
+
+					try (OutputStream out = exchange.getResponseBody()) {
+						if (trickleMillis > 0) {
+							for (byte b : bytes) {
+								out.write(b);
+								out.flush();
+								Thread.sleep(trickleMillis);
+							}
+						} else {
+							out.write(bytes);
+						}
+					}
+				}
+			} catch (InterruptedException | IOException e) {
+				//The client gave up
+			} finally {
+				exchange.close();
+			}
+		});
+		server.start();
+
+		url = "http://127.0.0.1:" + server.getAddress().getPort() + "/config.properties";
+	}
+
+	@After
+	public void afterTest() throws IOException {
+		if (server != null) {
+			server.stop(0);
+		}
+
+		try (Stream<Path> paths = Files.walk(cacheDir)) {
+			paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+		}
+	}
+
+	@Test
+	public void testLoadWithoutCache() throws Exception {
+		HttpPropFileLoader loader = new HttpPropFileLoader();
+		loader.setUrl(url);
+
+		LoaderValues result = loader.load(appDef.toImmutable(), appValuesBuilder);
+
+		assertEquals(0, result.getProblems().size());
+		assertEquals("first", result.getExplicitValue(SimpleParams.STR_BOB));
+		assertEquals(new Integer(10), result.getExplicitValue(SimpleParams.INT_TEN));
+		assertEquals(HttpPropFileLoader.LoadSource.SERVER, loader.getLastLoadSource());
+		assertTrue(loader.getSpecificLoadDescription().contains(url));
+	}
+
+	@Test
+	public void testConditionalGetUsesCache() throws Exception {
+		Path cacheFile = cacheDir.resolve("config.properties");
+
+		HttpPropFileLoader loader = new HttpPropFileLoader();
+		loader.setUrl(url);
+		loader.setFilePath(cacheFile.toString());
+
+		LoaderValues result = loader.load(appDef.toImmutable(), appValuesBuilder);
+		assertEquals("first", result.getExplicitValue(SimpleParams.STR_BOB));
+		assertEquals(HttpPropFileLoader.LoadSource.SERVER, loader.getLastLoadSource());
+		assertTrue(Files.isRegularFile(cacheFile));
+
+		//The cache file is itself a properties file
+		PropFileOnFilesystemLoader fileLoader = new PropFileOnFilesystemLoader();
+		fileLoader.setFilePath(cacheFile.toString());
+		assertEquals("first", fileLoader.load(appDef.toImmutable(), appValuesBuilder).getExplicitValue(SimpleParams.STR_BOB));
+
+		//The second load sends the ETag, so the body is read from the cache
+		result = loader.load(appDef.toImmutable(), appValuesBuilder);
+		assertEquals(0, result.getProblems().size());
+		assertEquals("first", result.getExplicitValue(SimpleParams.STR_BOB));
+		assertEquals(new Integer(10), result.getExplicitValue(SimpleParams.INT_TEN));
+		assertEquals(HttpPropFileLoader.LoadSource.CACHE_NOT_MODIFIED, loader.getLastLoadSource());
+		assertEquals(1, notModifiedCount.get());
+	}
+
+	@Test
+	public void testFreshCacheSkipsServer() throws Exception {
+		HttpPropFileLoader loader = new HttpPropFileLoader();
+		loader.setUrl(url);
+		loader.setFilePath(cacheDir.resolve("config.properties").toString());
+		loader.setCacheMaxAge(60000L);
+
+		loader.load(appDef.toImmutable(), appValuesBuilder);
+		assertEquals(1, requestCount.get());
+
+		LoaderValues result = loader.load(appDef.toImmutable(), appValuesBuilder);
+		assertEquals("first", result.getExplicitValue(SimpleParams.STR_BOB));
+		assertEquals(HttpPropFileLoader.LoadSource.CACHE_FRESH, loader.getLastLoadSource());
+		assertEquals(1, requestCount.get());
+	}
+
+	@Test
+	public void testOutageFallsBackToCache() throws Exception {
+		HttpPropFileLoader loader = new HttpPropFileLoader();
+		loader.setUrl(url);
+		loader.setFilePath(cacheDir.resolve("config.properties").toString());
+
+		loader.load(appDef.toImmutable(), appValuesBuilder);
+
+		server.stop(0);
+		server = null;
+
+		LoaderValues result = loader.load(appDef.toImmutable(), appValuesBuilder);
+		assertEquals(0, result.getProblems().size());
+		assertEquals("first", result.getExplicitValue(SimpleParams.STR_BOB));
+		assertEquals(HttpPropFileLoader.LoadSource.CACHE_FALLBACK, loader.getLastLoadSource());
+	}
+
+	@Test
+	public void testReadTimeoutBoundsLoad() throws Exception {
+		HttpPropFileLoader loader = new HttpPropFileLoader();
+		loader.setUrl(url);
+		loader.setReadTimeout(100);
+		delayMillis = 5000L;
+
+		long start = System.nanoTime();
+		LoaderValues result = loader.load(appDef.toImmutable(), appValuesBuilder);
+		long elapsedMillis = (System.nanoTime() - start) / 1000000L;
+
+		assertTrue("Took " + elapsedMillis + "ms", elapsedMillis < 4000L);
+		assertEquals(1, result.getProblems().size());
+		assertTrue(result.getProblems().get(0) instanceof LoaderProblem.IOLoaderProblem);
+		assertEquals(HttpPropFileLoader.LoadSource.NONE, loader.getLastLoadSource());
+	}
+
+	@Test
+	public void testTricklingServerIsBoundedByDeadline() throws Exception {
+		HttpPropFileLoader loader = new HttpPropFileLoader();
+		loader.setUrl(url);
+		loader.setReadTimeout(1000);
+		loader.setTimeout(300);
+		trickleMillis = 100L;	//Each read completes well within the read timeout
+
+		long start = System.nanoTime();
+		LoaderValues result = loader.load(appDef.toImmutable(), appValuesBuilder);
+		long elapsedMillis = (System.nanoTime() - start) / 1000000L;
+
+		assertTrue("Took " + elapsedMillis + "ms", elapsedMillis < 2000L);
+		assertEquals(1, result.getProblems().size());
+		assertTrue(result.getProblems().get(0) instanceof LoaderProblem.IOLoaderProblem);
+		assertEquals(HttpPropFileLoader.LoadSource.NONE, loader.getLastLoadSource());
+		assertEquals(3000, new HttpPropFileLoader().getTimeout());	//Connect + read timeouts by default
+	}
+
+	@Test
+	public void testResponseWithProblemsDoesNotReplaceCache() throws Exception {
+		Path cacheFile = cacheDir.resolve("config.properties");
+
+		HttpPropFileLoader loader = new HttpPropFileLoader();
+		loader.setUrl(url);
+		loader.setFilePath(cacheFile.toString());
+
+		loader.load(appDef.toImmutable(), appValuesBuilder);
+		byte[] goodCache = Files.readAllBytes(cacheFile);
+
+		//A new response w/ an unparsable value
+		body = SimpleParams.class.getCanonicalName() + ".INT_TEN=ten\n";
+		etag = "\"v2\"";
+
+		LoaderValues result = loader.load(appDef.toImmutable(), appValuesBuilder);
+		assertEquals(1, result.getProblems().size());
+		assertArrayEquals(goodCache, Files.readAllBytes(cacheFile));
+	}
+
+	@Test
+	public void testMissingResource() throws Exception {
+		HttpPropFileLoader loader = new HttpPropFileLoader();
+		loader.setUrl(url.replace("config.properties", "not_there.properties"));
+
+		LoaderValues result = loader.load(appDef.toImmutable(), appValuesBuilder);
+		assertEquals(1, result.getProblems().size());
+		assertTrue(result.getProblems().get(0) instanceof LoaderProblem.SourceNotFoundLoaderProblem);
+
+		loader.setMissingFileAProblem(false);
+		result = loader.load(appDef.toImmutable(), appValuesBuilder);
+		assertEquals(0, result.getProblems().size());
+		assertEquals(0, result.getValues().size());
+	}
+
+	@Test
+	public void testNoUrlIsIgnored() throws Exception {
+		HttpPropFileLoader loader = new HttpPropFileLoader();
+
+		LoaderValues result = loader.load(appDef.toImmutable(), appValuesBuilder);
+		assertEquals(0, result.getProblems().size());
+		assertEquals(0, result.getValues().size());
+		assertEquals(0, requestCount.get());
+	}
+}
@@ -0,0 +1,125 @@
+package org.yarnandtail.andhow.load;
+
+import java.util.*;
+import org.junit.Before;
+import org.junit.Test;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.*;
+import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
+import org.yarnandtail.andhow.property.IntProp;
+import org.yarnandtail.andhow.property.StrProp;
+import org.yarnandtail.andhow.util.AndHowUtil;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author eeverman
+ */
+public class InMemoryLookupLoaderTest {
+
+	StaticPropertyConfigurationMutable appDef;
+	ValidatedValuesWithContextMutable appValuesBuilder;
+	String prefix;
+
+	public interface SimpleParams {
+		StrProp STR_BOB = StrProp.builder().aliasIn("bob").build();
+		StrProp STR_NULL = StrProp.builder().build();
+		IntProp INT_TEN = IntProp.builder().build();
+	}
+
+	@Before
+	public void init() throws Exception {
+		appValuesBuilder = new ValidatedValuesWithContextMutable();
+		appDef = new StaticPropertyConfigurationMutable(new CaseInsensitiveNaming());
+
+		GroupProxy simpleProxy = AndHowUtil.buildGroupProxy(SimpleParams.class);
+		appDef.addProperty(simpleProxy, SimpleParams.STR_BOB);
+		appDef.addProperty(simpleProxy, SimpleParams.STR_NULL);
+		appDef.addProperty(simpleProxy, SimpleParams.INT_TEN);
+
+		prefix = SimpleParams.class.getCanonicalName() + ".";
+	}
+
+	@Test
+	public void testValuesAreFoundInBatches() throws Exception {
+		InMemoryLookupLoader loader = new InMemoryLookupLoader();
+		loader.put("bob", "  found by alias  ");
+		loader.put(prefix + "INT_TEN", "10");
+		loader.setBatchSize(2);
+
+		LoaderValues result = loader.load(appDef.toImmutable(), appValuesBuilder);
+
+		assertEquals(0, result.getProblems().size());
+		assertEquals("found by alias", result.getExplicitValue(SimpleParams.STR_BOB));
+		assertEquals(new Integer(10), result.getExplicitValue(SimpleParams.INT_TEN));
+		assertNull(result.getExplicitValue(SimpleParams.STR_NULL));
+
+		//Four candidate names (the alias adds one) in batches of two
+		assertEquals(4L, loader.getNameCount());
+		assertEquals(2, loader.getBatchCount());
+	}
+
+	@Test
+	public void testResolvedPropertiesAreSkipped() throws Exception {
+		KeyValuePairLoader kvp = new KeyValuePairLoader();
+		kvp.setKeyValuePairs(prefix + "STR_BOB=earlier");
+		appValuesBuilder.addValues(kvp.load(appDef.toImmutable(), appValuesBuilder));
+
+		InMemoryLookupLoader loader = new InMemoryLookupLoader(Collections.singletonMap("bob", "later"));
+		LoaderValues result = loader.load(appDef.toImmutable(), appValuesBuilder);
+
+		assertNull(result.getExplicitValue(SimpleParams.STR_BOB));
+		assertEquals(2L, loader.getNameCount());
+	}
+
+	@Test
+	public void testDuplicateNamesAreAProblem() throws Exception {
+		Map<String, Object> values = new HashMap();
+		values.put("bob", "one");
+		values.put(prefix + "STR_BOB", "two");
+
+		InMemoryLookupLoader loader = new InMemoryLookupLoader(values);
+		LoaderValues result = loader.load(appDef.toImmutable(), appValuesBuilder);
+
+		assertEquals(1, result.getProblems().size());
+		assertTrue(result.getProblems().get(0) instanceof LoaderProblem.DuplicatePropertyLoaderProblem);
+	}
+
+	@Test
+	public void testTimeout() throws Exception {
+		InMemoryLookupLoader loader = new InMemoryLookupLoader(Collections.singletonMap("bob", "slow"));
+		loader.setRoundTripMillis(5000L);
+		loader.setTimeout(100L);
+
+		long start = System.nanoTime();
+		LoaderValues result = loader.load(appDef.toImmutable(), appValuesBuilder);
+		long elapsedMillis = (System.nanoTime() - start) / 1000000L;
+
+		assertTrue("Took " + elapsedMillis + "ms", elapsedMillis < 4000L);
+		assertEquals(1, result.getProblems().size());
+		assertTrue(result.getProblems().get(0) instanceof LoaderProblem.IOLoaderProblem);
+
+		//Not a problem if configured that way
+		loader.setFailedEnvironmentAProblem(false);
+		result = loader.load(appDef.toImmutable(), appValuesBuilder);
+		assertEquals(0, result.getProblems().size());
+		assertEquals(0, result.getValues().size());
+	}
+
+	@Test
+	public void testParallelBatchesOverlap() throws Exception {
+		InMemoryLookupLoader loader = new InMemoryLookupLoader(Collections.singletonMap(prefix + "INT_TEN", 10));
+		loader.setRoundTripMillis(500L);
+		loader.setBatchSize(1);
+		loader.setParallelism(4);
+
+		long start = System.nanoTime();
+		LoaderValues result = loader.load(appDef.toImmutable(), appValuesBuilder);
+		long elapsedMillis = (System.nanoTime() - start) / 1000000L;
+
+		assertEquals(new Integer(10), result.getExplicitValue(SimpleParams.INT_TEN));
+		assertEquals(4, loader.getBatchCount());
+		assertTrue("Took " + elapsedMillis + "ms", elapsedMillis < 1500L);	//Sequential would be 2000ms
+	}
+}
@@ -167,4 +167,25 @@ public class KVPTest {
 	public void newKVPByNameAndValueBadEmptyName() throws Exception {
 		new KVP("  \t \r\n ", "value");
 	}
+	@Test
+	public void splitKVPByCharMatchesRegexSplit() throws Exception {
+		String[] args = new String[] {"flag", "  1a1   ", "flag=value", "  \t flag \t  =  \t value \t  ",
+			"   flag   =    ", "  fl \t ag \r = \n val \t ue  ", "flag = v = a = l = u = e ", "\"1\"=\"  2  \""};
+		
+		for (String arg : args) {
+			KVP byRegex = KVP.splitKVP(arg, "=(?!$)|=$");	//Regex delimiter w/ the same meaning as '='
+			KVP byChar = KVP.splitKVP(arg, '=');
+			
+			assertEquals(arg, byRegex.getName(), byChar.getName());
+			assertEquals(arg, byRegex.getValue(), byChar.getValue());
+		}
+		
+		assertEquals(KVP.NULL_KVP, KVP.splitKVP(null, '='));
+		assertEquals(KVP.NULL_KVP, KVP.splitKVP("   \t\n\r\f ", '='));
+	}
+	
+	@Test(expected=ParsingException.class)
+	public void splitKVPByCharBadSpaceOnlyFlagName() throws Exception {
+		KVP.splitKVP("  \t =value", '=');
+	}
 }
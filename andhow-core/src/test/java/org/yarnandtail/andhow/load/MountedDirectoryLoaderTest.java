@@ -0,0 +1,148 @@
+package org.yarnandtail.andhow.load;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.Comparator;
+import java.util.stream.Stream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.LoaderProblem;
+import org.yarnandtail.andhow.internal.StaticPropertyConfigurationMutable;
+import org.yarnandtail.andhow.internal.ValidatedValuesWithContextMutable;
+import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
+import org.yarnandtail.andhow.property.IntProp;
+import org.yarnandtail.andhow.property.StrProp;
+import org.yarnandtail.andhow.util.AndHowUtil;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author eeverman
+ */
+public class MountedDirectoryLoaderTest {
+
+	StaticPropertyConfigurationMutable appDef;
+	ValidatedValuesWithContextMutable appValuesBuilder;
+	Path mountDir;
+
+	public interface SimpleParams {
+		StrProp STR_BOB = StrProp.builder().aliasIn("db-url").build();
+		StrProp STR_NULL = StrProp.builder().build();
+		IntProp INT_TEN = IntProp.builder().build();
+	}
+
+	@Before
+	public void init() throws Exception {
+		appValuesBuilder = new ValidatedValuesWithContextMutable();
+		appDef = new StaticPropertyConfigurationMutable(new CaseInsensitiveNaming());
+
+		GroupProxy simpleProxy = AndHowUtil.buildGroupProxy(SimpleParams.class);
+		appDef.addProperty(simpleProxy, SimpleParams.STR_BOB);
+		appDef.addProperty(simpleProxy, SimpleParams.STR_NULL);
+		appDef.addProperty(simpleProxy, SimpleParams.INT_TEN);
+
+		mountDir = Files.createTempDirectory("andhow_mount");
+	}
+
+	@After
+	public void afterTest() throws IOException {
+		try (Stream<Path> paths = Files.walk(mountDir)) {
+			paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+		}
+	}
+
+	@Test
+	public void testPlainDirectory() throws Exception {
+		write(mountDir, "DB_URL", "jdbc:x\n");
+		write(mountDir, toEnvName("INT_TEN"), "10\r\n");
+		write(mountDir, "unrelated.file", "ignored");
+
+		MountedDirectoryLoader loader = new MountedDirectoryLoader();
+		loader.setFilePath(mountDir.toString());
+
+		LoaderValues result = loader.load(appDef.toImmutable(), appValuesBuilder);
+
+		assertEquals(0, result.getProblems().size());
+		assertEquals("jdbc:x", result.getExplicitValue(SimpleParams.STR_BOB));
+		assertEquals(new Integer(10), result.getExplicitValue(SimpleParams.INT_TEN));
+		assertNull(result.getExplicitValue(SimpleParams.STR_NULL));
+		assertNull(loader.getLoadedDataVersion());
+		assertFalse(loader.pollForUpdate());
+	}
+
+	@Test
+	public void testTwoFilesForOnePropertyIsADuplicate() throws Exception {
+		write(mountDir, SimpleParams.class.getCanonicalName() + ".STR_BOB", "one");
+		write(mountDir, "db-url", "two");
+
+		MountedDirectoryLoader loader = new MountedDirectoryLoader();
+		loader.setFilePath(mountDir.toString());
+
+		LoaderValues result = loader.load(appDef.toImmutable(), appValuesBuilder);
+
+		assertEquals("one", result.getExplicitValue(SimpleParams.STR_BOB));
+		assertEquals(1, result.getProblems().size());
+		assertTrue(result.getProblems().get(0) instanceof LoaderProblem.DuplicatePropertyLoaderProblem);
+	}
+
+	@Test
+	public void testKubernetesStyleMountAndUpdates() throws Exception {
+		Path v1 = Files.createDirectory(mountDir.resolve("..v1"));
+		write(v1, "db-url", "first");
+		Files.createSymbolicLink(mountDir.resolve(MountedDirectoryLoader.DATA_LINK_NAME), Paths.get("..v1"));
+		Files.createSymbolicLink(mountDir.resolve("db-url"), Paths.get("..data/db-url"));
+
+		MountedDirectoryLoader loader = new MountedDirectoryLoader();
+		loader.setFilePath(mountDir.toString());
+
+		LoaderValues result = loader.load(appDef.toImmutable(), appValuesBuilder);
+
+		assertEquals("first", result.getExplicitValue(SimpleParams.STR_BOB));
+		assertEquals("..v1", loader.getLoadedDataVersion());
+		assertFalse(loader.pollForUpdate());
+		assertFalse(loader.isUpdatePending());
+
+		//Swap the ..data link, as Kubernetes does
+		Path v2 = Files.createDirectory(mountDir.resolve("..v2"));
+		write(v2, "db-url", "second");
+		Path tmpLink = Files.createSymbolicLink(mountDir.resolve("..data_tmp"), Paths.get("..v2"));
+		Files.move(tmpLink, mountDir.resolve(MountedDirectoryLoader.DATA_LINK_NAME), StandardCopyOption.ATOMIC_MOVE);
+
+		assertTrue(loader.isUpdatePending());
+		assertTrue(loader.isUpdatePending());	//Not consumed
+		assertTrue(loader.pollForUpdate());
+		assertFalse(loader.pollForUpdate());	//Only once per update
+		assertTrue(loader.isUpdatePending());	//Until reloaded
+
+		result = loader.load(appDef.toImmutable(), appValuesBuilder);
+		assertEquals("second", result.getExplicitValue(SimpleParams.STR_BOB));
+		assertFalse(loader.isUpdatePending());
+		assertEquals("..v2", loader.getLoadedDataVersion());
+	}
+
+	@Test
+	public void testMissingDirectory() throws Exception {
+		MountedDirectoryLoader loader = new MountedDirectoryLoader();
+		loader.setFilePath(mountDir.resolve("not_a_dir").toString());
+
+		LoaderValues result = loader.load(appDef.toImmutable(), appValuesBuilder);
+		assertEquals(1, result.getProblems().size());
+		assertTrue(result.getProblems().get(0) instanceof LoaderProblem.SourceNotFoundLoaderProblem);
+
+		loader.setMissingFileAProblem(false);
+		result = loader.load(appDef.toImmutable(), appValuesBuilder);
+		assertEquals(0, result.getProblems().size());
+	}
+
+	String toEnvName(String fieldName) {
+		return MountedDirectoryLoader.toEnvName(SimpleParams.class.getCanonicalName() + "." + fieldName);
+	}
+
+	void write(Path dir, String fileName, String content) throws IOException {
+		Files.write(dir.resolve(fileName), content.getBytes(StandardCharsets.UTF_8));
+	}
+}
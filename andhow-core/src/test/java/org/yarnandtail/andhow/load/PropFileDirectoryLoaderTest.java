@@ -0,0 +1,145 @@
+package org.yarnandtail.andhow.load;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.LoaderProblem;
+import org.yarnandtail.andhow.internal.StaticPropertyConfigurationMutable;
+import org.yarnandtail.andhow.internal.ValidatedValuesWithContextMutable;
+import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
+import org.yarnandtail.andhow.property.IntProp;
+import org.yarnandtail.andhow.property.StrProp;
+import org.yarnandtail.andhow.util.AndHowUtil;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author eeverman
+ */
+public class PropFileDirectoryLoaderTest {
+
+	StaticPropertyConfigurationMutable appDef;
+	ValidatedValuesWithContextMutable appValuesBuilder;
+	Path confDir;
+
+	public interface SimpleParams {
+		StrProp STR_BOB = StrProp.builder().aliasIn("String_Bob").build();
+		StrProp STR_NULL = StrProp.builder().build();
+		IntProp INT_TEN = IntProp.builder().build();
+	}
+
+	@Before
+	public void init() throws Exception {
+		appValuesBuilder = new ValidatedValuesWithContextMutable();
+		appDef = new StaticPropertyConfigurationMutable(new CaseInsensitiveNaming());
+
+		GroupProxy simpleProxy = AndHowUtil.buildGroupProxy(SimpleParams.class);
+		appDef.addProperty(simpleProxy, SimpleParams.STR_BOB);
+		appDef.addProperty(simpleProxy, SimpleParams.STR_NULL);
+		appDef.addProperty(simpleProxy, SimpleParams.INT_TEN);
+
+		confDir = Files.createTempDirectory("andhow_conf_d");
+	}
+
+	@After
+	public void afterTest() throws IOException {
+		File[] files = confDir.toFile().listFiles();
+		if (files != null) {
+			for (File f : files) {
+				f.delete();
+			}
+		}
+		Files.deleteIfExists(confDir);
+	}
+
+	@Test
+	public void testLaterFilesOverrideEarlierFiles() throws Exception {
+		write("20-override.properties", "string_bob=override\n");
+		write("10-base.properties", "String_Bob=base\n" + name("INT_TEN") + "=10\n");
+		write("30-ignored.conf", name("STR_NULL") + "=not read\n");
+
+		PropFileDirectoryLoader loader = new PropFileDirectoryLoader();
+		loader.setFilePath(confDir.toString());
+
+		LoaderValues result = loader.load(appDef.toImmutable(), appValuesBuilder);
+
+		assertEquals(0, result.getProblems().size());
+		assertEquals(2, result.getValues().size());
+		assertEquals("override", result.getExplicitValue(SimpleParams.STR_BOB));
+		assertEquals(new Integer(10), result.getExplicitValue(SimpleParams.INT_TEN));
+		assertNull(result.getExplicitValue(SimpleParams.STR_NULL));
+	}
+
+	@Test
+	public void testGlob() throws Exception {
+		write("a.properties", name("STR_BOB") + "=properties\n");
+		write("b.conf", name("STR_NULL") + "=conf\n");
+
+		PropFileDirectoryLoader loader = new PropFileDirectoryLoader();
+		loader.setFilePath(confDir.toString());
+		loader.setFileGlob("*.{properties,conf}");
+
+		LoaderValues result = loader.load(appDef.toImmutable(), appValuesBuilder);
+
+		assertEquals("properties", result.getExplicitValue(SimpleParams.STR_BOB));
+		assertEquals("conf", result.getExplicitValue(SimpleParams.STR_NULL));
+	}
+
+	@Test
+	public void testProblemsIncludeTheFile() throws Exception {
+		write("a.properties", name("INT_TEN") + "=ten\n");
+		write("b.properties", "unknown.prop=1\n");
+
+		PropFileDirectoryLoader loader = new PropFileDirectoryLoader();
+		loader.setFilePath(confDir.toString());
+
+		LoaderValues result = loader.load(appDef.toImmutable(), appValuesBuilder);
+
+		assertEquals(2, result.getProblems().size());
+
+		LoaderProblem conversion = (LoaderProblem) result.getProblems().get(0);
+		assertTrue(conversion instanceof LoaderProblem.StringConversionLoaderProblem);
+		assertTrue(conversion.getSourcePath().endsWith("a.properties"));
+		assertTrue(conversion.getProblemContext().contains("a.properties"));
+
+		LoaderProblem unknown = (LoaderProblem) result.getProblems().get(1);
+		assertTrue(unknown instanceof LoaderProblem.UnknownPropertyLoaderProblem);
+		assertTrue(unknown.getSourcePath().endsWith("b.properties"));
+	}
+
+	@Test
+	public void testMissingAndEmptyDirectory() throws Exception {
+		PropFileDirectoryLoader loader = new PropFileDirectoryLoader();
+		loader.setFilePath(confDir.toString());
+
+		LoaderValues result = loader.load(appDef.toImmutable(), appValuesBuilder);
+		assertEquals(0, result.getProblems().size());
+		assertEquals(0, result.getValues().size());
+
+		loader = new PropFileDirectoryLoader();
+		loader.setFilePath(confDir.resolve("not_a_dir").toString());
+
+		result = loader.load(appDef.toImmutable(), appValuesBuilder);
+		assertEquals(1, result.getProblems().size());
+		assertTrue(result.getProblems().get(0) instanceof LoaderProblem.SourceNotFoundLoaderProblem);
+
+		loader.setMissingFileAProblem(false);
+		result = loader.load(appDef.toImmutable(), appValuesBuilder);
+		assertEquals(0, result.getProblems().size());
+	}
+
+	String name(String fieldName) {
+		return SimpleParams.class.getCanonicalName() + "." + fieldName;
+	}
+
+	void write(String fileName, String content) throws IOException {
+		Files.write(confDir.resolve(fileName), content.getBytes(StandardCharsets.ISO_8859_1));
+	}
+}
@@ -0,0 +1,145 @@
+package org.yarnandtail.andhow.load;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import org.junit.Test;
+import org.yarnandtail.andhow.api.GroupProxy;
+import org.yarnandtail.andhow.internal.StaticPropertyConfigurationMutable;
+import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
+import org.yarnandtail.andhow.property.StrProp;
+import org.yarnandtail.andhow.util.AndHowUtil;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author ericeverman
+ */
+public class PropFileParserTest {
+
+	/** Tricky content, which must parse the same as java.util.Properties */
+	static final String TRICKY =
+			"# A comment\n" +
+			"! Another comment \\\n" +
+			"not.continued.from.comment=1\n" +
+			"   leading.space = value w/ trailing space   \n" +
+			"\n" +
+			"  \t \n" +
+			"colon.sep:2\n" +
+			"space.sep 3\n" +
+			"tab.sep\t4\n" +
+			"both.seps = : 5\n" +
+			"no.value\n" +
+			"empty.value=\n" +
+			"continued = one, \\\n" +
+			"    two, \\\r\n" +
+			"\tthree\n" +
+			"escaped\\ key\\=\\:=a\\tb\\nc\\\\d\\e\n" +
+			"unicode=\\u0041\\u00e9\\u20AC\n" +
+			"key\\u0041=x\n" +
+			"cr.line=a\rlf.line=b\r\ncrlf.line=c\n" +
+			"continued.blank = a\\\n" +
+			"\n" +
+			"after.blank=b\n" +
+			"#not.a.key=1\n" +
+			"continued.hash = a\\\n" +
+			"#b\n" +
+			"dup=first\n" +
+			"dup=last\n" +
+			"=no key\n" +
+			"trailing.backslash.at.eof=abc\\";
+
+	@Test
+	public void testParseMatchesProperties() throws IOException {
+		Map<String, String> parsed = parse(TRICKY.getBytes(StandardCharsets.ISO_8859_1), false, null);
+
+		Properties props = new Properties();
+		props.load(new ByteArrayInputStream(TRICKY.getBytes(StandardCharsets.ISO_8859_1)));
+		props.remove("");	//Empty keys are skipped
+
+		assertEquals(props, toProperties(parsed));
+		assertEquals("one, two, three", parsed.get("continued"));
+		assertEquals("last", parsed.get("dup"));
+		assertEquals("value w/ trailing space   ", parsed.get("leading.space"));
+	}
+
+	@Test
+	public void testKeysAreInFileOrder() {
+		Map<String, String> parsed = parse("c=1\na=2\nb=3\na=4".getBytes(StandardCharsets.ISO_8859_1), false, null);
+
+		assertEquals(Arrays.asList("c", "a", "b"), new ArrayList(parsed.keySet()));
+		assertEquals("4", parsed.get("a"));
+	}
+
+	@Test
+	public void testLatin1AndUtf8() throws IOException {
+		String text = "name=caf\u00e9 \u20ac \ud83d\ude00\n";
+
+		Map<String, String> utf8 = parse(("\ufeff" + text).getBytes(StandardCharsets.UTF_8), true, null);
+		assertEquals("caf\u00e9 \u20ac \ud83d\ude00", utf8.get("name"));
+
+		Properties props = new Properties();
+		props.load(new ByteArrayInputStream(text.getBytes(StandardCharsets.ISO_8859_1)));
+		Map<String, String> latin1 = parse(text.getBytes(StandardCharsets.ISO_8859_1), false, null);
+		assertEquals(props.getProperty("name"), latin1.get("name"));
+
+		//Malformed UTF-8 is replaced, not an error
+		byte[] bad = new byte[] {'a', '=', (byte) 0xC3, 'x'};
+		assertEquals("\ufffdx", parse(bad, true, null).get("a"));
+	}
+
+	@Test
+	public void testFilterSkipsUnknownKeys() throws Exception {
+		StaticPropertyConfigurationMutable config = new StaticPropertyConfigurationMutable(new CaseInsensitiveNaming());
+		GroupProxy proxy = AndHowUtil.buildGroupProxy(SimpleParams.class);
+		config.addProperty(proxy, SimpleParams.STR_BOB);
+
+		PropFileParser.KeyFilter filter = PropFileParser.KeyFilter.forConfig(config.toImmutable());
+		assertNotNull(filter);
+
+		String canon = SimpleParams.class.getCanonicalName() + ".STR_BOB";
+		String text =
+				"other.component.a=1\n" +
+				canon.toLowerCase() + " = bob\n" +
+				"other.component.b=\\uZZZZ\n" +	//Malformed, but skipped
+				"  string_BOB  =alias\n";
+
+		Map<String, String> parsed = parse(text.getBytes(StandardCharsets.ISO_8859_1), false, filter);
+
+		assertEquals(2, parsed.size());
+		assertEquals("bob", parsed.get(canon.toLowerCase()));
+		assertEquals("alias", parsed.get("string_BOB"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testMalformedUnicodeEscapeIsAnError() {
+		parse("a=\\u00G0".getBytes(StandardCharsets.ISO_8859_1), false, null);
+	}
+
+	@Test
+	public void testFilterIsConservative() {
+		PropFileParser.KeyFilter filter = new PropFileParser.KeyFilter(Arrays.asList("ABC.DEF"));
+
+		assertTrue(filter.mightMatch("abc.def".toCharArray(), 0, 7));
+		assertTrue(filter.mightMatch("xABC.DEFx".toCharArray(), 1, 8));
+		assertFalse(filter.mightMatch("abc.deg".toCharArray(), 0, 7));
+		assertTrue(filter.mightMatch("abc.d\u00e9f".toCharArray(), 0, 7));	//Non-ASCII always passes
+	}
+
+	public interface SimpleParams {
+		StrProp STR_BOB = StrProp.builder().aliasIn("String_Bob").build();
+	}
+
+	static Map<String, String> parse(byte[] bytes, boolean utf8, PropFileParser.KeyFilter filter) {
+		return new PropFileParser(utf8).parse(ByteBuffer.wrap(bytes), filter);
+	}
+
+	static Properties toProperties(Map<String, String> map) {
+		Properties props = new Properties();
+		props.putAll(map);
+		return props;
+	}
+}
@@ -0,0 +1,128 @@
+package org.yarnandtail.andhow.load.std;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.Arrays;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.*;
+import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
+import org.yarnandtail.andhow.property.FlagProp;
+import org.yarnandtail.andhow.property.StrProp;
+import org.yarnandtail.andhow.util.AndHowUtil;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author eeverman
+ */
+public class StdMainStringArgsLoaderTest {
+	
+	StaticPropertyConfigurationMutable appDef;
+	ValidatedValuesWithContextMutable appValuesBuilder;
+	Path argFile;
+	String prefix;
+	
+	public interface SimpleParams {
+		StrProp STR_BOB = StrProp.builder().build();
+		StrProp STR_NULL = StrProp.builder().build();
+		FlagProp FLAG_NULL = FlagProp.builder().build();
+	}
+	
+	@Before
+	public void init() throws Exception {
+		appValuesBuilder = new ValidatedValuesWithContextMutable();
+		appDef = new StaticPropertyConfigurationMutable(new CaseInsensitiveNaming());
+
+		GroupProxy simpleProxy = AndHowUtil.buildGroupProxy(SimpleParams.class);
+		appDef.addProperty(simpleProxy, SimpleParams.STR_BOB);
+		appDef.addProperty(simpleProxy, SimpleParams.STR_NULL);
+		appDef.addProperty(simpleProxy, SimpleParams.FLAG_NULL);
+		
+		argFile = Files.createTempFile("andhow_args", ".txt");
+		prefix = SimpleParams.class.getCanonicalName() + ".";
+	}
+	
+	@After
+	public void afterTest() throws Exception {
+		Files.deleteIfExists(argFile);
+	}
+	
+	@Test
+	public void testArgumentFile() throws Exception {
+		Files.write(argFile, Arrays.asList(
+				"# A comment",
+				"",
+				"  " + prefix + "STR_NULL = from file  ",
+				prefix + "FLAG_NULL",
+				"not.a.Property=ignored"), StandardCharsets.UTF_8);
+		
+		StdMainStringArgsLoader loader = new StdMainStringArgsLoader();
+		loader.setArgumentFilesEnabled(true);
+		loader.setKeyValuePairs(prefix + "STR_BOB=from args", "@" + argFile.toString());
+		
+		LoaderValues result = loader.load(appDef.toImmutable(), appValuesBuilder);
+		
+		assertEquals(0, result.getProblems().size());
+		assertEquals("from args", result.getExplicitValue(SimpleParams.STR_BOB));
+		assertEquals("from file", result.getExplicitValue(SimpleParams.STR_NULL));
+		assertEquals(Boolean.TRUE, result.getExplicitValue(SimpleParams.FLAG_NULL));
+	}
+	
+	@Test
+	public void testEscapedAtSign() throws Exception {
+		StdMainStringArgsLoader loader = new StdMainStringArgsLoader();
+		loader.setArgumentFilesEnabled(true);
+		loader.setKeyValuePairs("@@not.a.file=literal");
+		
+		LoaderValues result = loader.load(appDef.toImmutable(), appValuesBuilder);
+		
+		//Read as an (unknown) key, not as the file 'not.a.file=literal'
+		assertEquals(0, result.getProblems().size());
+	}
+	
+	@Test
+	public void testMissingArgumentFile() throws Exception {
+		StdMainStringArgsLoader loader = new StdMainStringArgsLoader();
+		loader.setArgumentFilesEnabled(true);
+		loader.setKeyValuePairs("@" + argFile.toString() + ".not_there");
+		
+		LoaderValues result = loader.load(appDef.toImmutable(), appValuesBuilder);
+		
+		assertEquals(1, result.getProblems().size());
+		assertTrue(result.getProblems().get(0) instanceof LoaderProblem.SourceNotFoundLoaderProblem);
+	}
+	
+	@Test
+	public void testDuplicateAcrossArgsAndFile() throws Exception {
+		Files.write(argFile, Arrays.asList(prefix + "STR_BOB=from file"), StandardCharsets.UTF_8);
+		
+		StdMainStringArgsLoader loader = new StdMainStringArgsLoader();
+		loader.setArgumentFilesEnabled(true);
+		loader.setKeyValuePairs(prefix + "STR_BOB=from args", "@" + argFile.toString());
+		
+		LoaderValues result = loader.load(appDef.toImmutable(), appValuesBuilder);
+		
+		assertEquals(1, result.getProblems().size());
+		assertTrue(result.getProblems().get(0) instanceof LoaderProblem.DuplicatePropertyLoaderProblem);
+	}
+	
+	@Test
+	public void testArgumentFilesAreOffByDefault() throws Exception {
+		Files.write(argFile, Arrays.asList(prefix + "STR_NULL=from file"), StandardCharsets.UTF_8);
+		
+		StdMainStringArgsLoader loader = new StdMainStringArgsLoader();
+		loader.setKeyValuePairs("@foo", "@" + argFile.toString(), prefix + "STR_BOB=from args");
+		
+		LoaderValues result = loader.load(appDef.toImmutable(), appValuesBuilder);
+		
+		//Unrelated '@' args are ignored like any other unknown argument
+		assertFalse(loader.isArgumentFilesEnabled());
+		assertEquals(0, result.getProblems().size());
+		assertEquals("from args", result.getExplicitValue(SimpleParams.STR_BOB));
+		assertNull(result.getExplicitValue(SimpleParams.STR_NULL));
+	}
+}
@@ -0,0 +1,76 @@
+package org.yarnandtail.andhow.property;
+
+import java.util.Arrays;
+import java.util.Map;
+import org.junit.Test;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.ValueProblem;
+import org.yarnandtail.andhow.valuetype.DblArray;
+import org.yarnandtail.andhow.valuetype.IntArray;
+import org.yarnandtail.andhow.valuetype.LngArray;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the delimited Properties, StrListProp, IntArrayProp, LngArrayProp,
+ * DblArrayProp and StrMapProp, as they would be used in an app.
+ * 
+ * @author ericeverman
+ */
+public class DelimitedPropTest extends PropertyTestBase {
+
+	@Test
+	public void validationGroupGoodValuesTest() {
+		this.buildConfig(this, "_validationGroupGood", ValidationGroup.class);
+
+		assertEquals(Arrays.asList("host1", "host2"), ValidationGroup.HOSTS.getValue());
+		assertEquals(IntArray.of(80, 443), ValidationGroup.PORTS.getValue());
+		assertEquals(LngArray.of(1000L, 60000L), ValidationGroup.TIMEOUTS.getValue());
+		assertEquals(DblArray.of(0.5d, 0.25d), ValidationGroup.WEIGHTS.getValue());
+
+		Map<String, String> regions = ValidationGroup.REGIONS.getValue();
+		assertEquals("0.7", regions.get("us"));
+		assertEquals("0.3", regions.get("eu"));
+
+		//Defaults
+		assertEquals(Arrays.asList("a", "b"), ValidationGroup.TAGS.getValue());
+		assertEquals(IntArray.of(1, 2, 3), ValidationGroup.DEFAULT_INTS.getValue());
+
+		//The same parsed instance is returned each time
+		assertSame(ValidationGroup.PORTS.getValue(), ValidationGroup.PORTS.getValue());
+	}
+
+	@Test
+	public void validationGroupBadValuesTest() {
+
+		try {
+			this.buildConfig(this, "_validationGroupBad", ValidationGroup.class);
+			fail("Should have thrown an exception");
+		} catch (AppFatalException e) {
+			ProblemList<Problem> problems = e.getProblems();
+			assertEquals(5, problems.size());
+
+			assertTrue(problems.stream().allMatch(p -> p instanceof ValueProblem));
+		}
+
+	}
+
+	public interface ValidationGroup {
+		StrListProp HOSTS = StrListProp.builder().mustHaveSizeBetween(1, 3)
+				.elementsMustMatchRegex("host[0-9]").build();
+
+		IntArrayProp PORTS = IntArrayProp.builder().delimiter(";")
+				.elementsMustBeGreaterThanOrEqualTo(1).elementsMustBeLessThanOrEqualTo(65535).build();
+
+		LngArrayProp TIMEOUTS = LngArrayProp.builder().elementsMustBeGreaterThanOrEqualTo(0L).build();
+
+		DblArrayProp WEIGHTS = DblArrayProp.builder().elementsMustBeLessThanOrEqualTo(1d).build();
+
+		StrMapProp REGIONS = StrMapProp.builder().delimiters(";", ":")
+				.valuesMustMatchRegex("[0-9.]+").build();
+
+		StrListProp TAGS = StrListProp.builder().defaultValue("a", "b").build();
+
+		IntArrayProp DEFAULT_INTS = IntArrayProp.builder().defaultValue(1, 2, 3).build();
+	}
+}
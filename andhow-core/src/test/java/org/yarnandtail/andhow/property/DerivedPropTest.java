@@ -0,0 +1,176 @@
+package org.yarnandtail.andhow.property;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import org.junit.Test;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.AndHowCore;
+import org.yarnandtail.andhow.internal.LoaderProblem;
+import org.yarnandtail.andhow.internal.RequirementProblem;
+import org.yarnandtail.andhow.load.KeyValuePairLoader;
+import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
+import org.yarnandtail.andhow.util.AndHowUtil;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests DerivedProp instances as they would be used in an app.
+ * 
+ * @author ericeverman
+ */
+public class DerivedPropTest {
+	
+	static final AtomicInteger PATTERN_COUNT = new AtomicInteger();
+	
+	public interface BaseGroup {
+		StrProp REGEX = StrProp.builder().build();
+		StrProp HOST = StrProp.builder().defaultValue("localhost").build();
+		IntProp PORT = IntProp.builder().build();
+		LngProp TIMEOUT_MILLIS = LngProp.builder().defaultValue(1000L).build();
+	}
+	
+	public interface DerivedGroup {
+		DerivedProp<Pattern> PATTERN = DerivedProp.from(BaseGroup.REGEX, r -> {
+			PATTERN_COUNT.incrementAndGet();
+			return Pattern.compile(r);
+		}).build();
+		
+		DerivedProp<String> ADDRESS = DerivedProp.from(BaseGroup.HOST, BaseGroup.PORT,
+				(h, p) -> h + ":" + p).defaultValue("none").build();
+		
+		DerivedProp<Duration> TIMEOUT = DerivedProp.from(BaseGroup.TIMEOUT_MILLIS, Duration::ofMillis).build();
+		
+		//Derived from a derived value
+		DerivedProp<Boolean> PATTERN_MATCHES_HOST = DerivedProp.<Boolean>from(
+				v -> v.getValue(PATTERN).matcher(v.getValue(BaseGroup.HOST)).matches(),
+				PATTERN, BaseGroup.HOST).build();
+	}
+	
+	@Test
+	public void testValuesAreDerivedOnce() throws Exception {
+		AndHowCore core = buildCore(DerivedGroup.class, "REGEX=local.*", "PORT=8080");
+		
+		Pattern pattern = core.getValue(DerivedGroup.PATTERN);
+		assertEquals("local.*", pattern.pattern());
+		assertSame(pattern, core.getValue(DerivedGroup.PATTERN));
+		assertEquals("localhost:8080", core.getValue(DerivedGroup.ADDRESS));
+		assertEquals(Duration.ofSeconds(1), core.getValue(DerivedGroup.TIMEOUT));
+		assertEquals(Boolean.TRUE, core.getValue(DerivedGroup.PATTERN_MATCHES_HOST));
+	}
+	
+	@Test
+	public void testNullInputUsesDefault() throws Exception {
+		AndHowCore core = buildCore(DerivedGroup.class, "REGEX=x");
+		
+		assertEquals("none", core.getValue(DerivedGroup.ADDRESS));
+		assertFalse(core.isExplicitlySet(DerivedGroup.ADDRESS));
+	}
+	
+	@Test
+	public void testRebuildOnlyRederivesChangedInputs() throws Exception {
+		AndHowCore core = buildCore(DerivedGroup.class, "REGEX=same", "PORT=1");
+		Pattern first = core.getValue(DerivedGroup.PATTERN);
+		int count = PATTERN_COUNT.get();
+		
+		core = buildCore(DerivedGroup.class, "REGEX=same", "PORT=2");
+		assertSame(first, core.getValue(DerivedGroup.PATTERN));
+		assertEquals(count, PATTERN_COUNT.get());
+		assertEquals("localhost:2", core.getValue(DerivedGroup.ADDRESS));
+		
+		core = buildCore(DerivedGroup.class, "REGEX=changed", "PORT=2");
+		assertEquals("changed", core.getValue(DerivedGroup.PATTERN).pattern());
+		assertEquals(count + 1, PATTERN_COUNT.get());
+	}
+	
+	@Test
+	public void testFailedDerivationIsAProblem() throws Exception {
+		try {
+			buildCore(DerivedGroup.class, "REGEX=[bad", "PORT=1");
+			fail("Should have thrown an exception");
+		} catch (AppFatalException e) {
+			ProblemList<Problem> problems = e.getProblems();
+			
+			assertEquals(1, problems.size());
+			assertTrue(problems.get(0) instanceof LoaderProblem.DerivedValueLoaderProblem);
+			assertEquals(DerivedGroup.PATTERN, ((LoaderProblem) problems.get(0)).getBadValueCoord().getProperty());
+		}
+	}
+	
+	@Test
+	public void testConfiguringADerivedValueIsAProblem() throws Exception {
+		try {
+			buildCore(DerivedGroup.class, "REGEX=x", "PORT=1", "ADDRESS=other:1");
+			fail("Should have thrown an exception");
+		} catch (AppFatalException e) {
+			ProblemList<Problem> problems = e.getProblems();
+			
+			assertEquals(1, problems.size());
+			assertTrue(problems.get(0) instanceof LoaderProblem.DerivedValueLoaderProblem);
+			assertEquals(DerivedGroup.ADDRESS, ((LoaderProblem) problems.get(0)).getBadValueCoord().getProperty());
+		}
+	}
+	
+	public interface ValidatedGroup {
+		DerivedProp<Duration> TIMEOUT = DerivedProp.from(BaseGroup.TIMEOUT_MILLIS, Duration::ofMillis)
+				.validation(new DurationMustBeShort()).build();
+		
+		DerivedProp<String> ADDRESS = DerivedProp.from(BaseGroup.HOST, BaseGroup.PORT,
+				(h, p) -> h + ":" + p).mustBeNonNull().build();
+	}
+	
+	@Test
+	public void testDerivedValuesAreValidated() throws Exception {
+		try {
+			buildCore(ValidatedGroup.class, "TIMEOUT_MILLIS=60000");
+			fail("Should have thrown an exception");
+		} catch (AppFatalException e) {
+			ProblemList<Problem> problems = e.getProblems();
+			
+			assertEquals(2, problems.size());
+			assertTrue(problems.stream().anyMatch(p -> p.getProblemDescription().contains("be under 10s")));
+			assertTrue(problems.stream().anyMatch(p -> p instanceof RequirementProblem.NonNullPropertyProblem));
+		}
+		
+		assertEquals("localhost:1", buildCore(ValidatedGroup.class, "PORT=1").getValue(ValidatedGroup.ADDRESS));
+	}
+	
+	static class DurationMustBeShort implements Validator<Duration> {
+		
+		@Override
+		public boolean isValid(Duration value) {
+			return value != null && value.getSeconds() < 10;
+		}
+
+		@Override
+		public String getInvalidSpecificationMessage() {
+			return "Always valid";
+		}
+
+		@Override
+		public boolean isSpecificationValid() {
+			return true;
+		}
+
+		@Override
+		public String getTheValueMustDescription() {
+			return "be under 10s";
+		}
+	}
+	
+	AndHowCore buildCore(Class<?> derivedGroup, String... kvps) throws Exception {
+		KeyValuePairLoader kvp = new KeyValuePairLoader();
+		List<String> args = new ArrayList();
+		
+		for (String s : kvps) {
+			String group = (s.startsWith("ADDRESS"))? derivedGroup.getCanonicalName() : BaseGroup.class.getCanonicalName();
+			args.add(group + "." + s);
+		}
+		
+		kvp.setKeyValuePairs(args);
+		
+		return new AndHowCore(new CaseInsensitiveNaming(), Collections.singletonList(kvp),
+				AndHowUtil.buildGroupProxies(Arrays.asList(BaseGroup.class, derivedGroup)));
+	}
+}
@@ -0,0 +1,62 @@
+package org.yarnandtail.andhow.property;
+
+import java.util.*;
+import org.junit.Test;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.AndHowCore;
+import org.yarnandtail.andhow.internal.LoaderProblem;
+import org.yarnandtail.andhow.load.KeyValuePairLoader;
+import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
+import org.yarnandtail.andhow.util.AndHowUtil;
+import org.yarnandtail.andhow.valuetype.FeatureFlag;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests FeatureFlagProp instances as they would be used in an app.
+ *
+ * @author ericeverman
+ */
+public class FeatureFlagPropTest {
+
+	public interface Flags {
+		FeatureFlagProp NEW_CHECKOUT = FeatureFlagProp.builder().build();
+		FeatureFlagProp DARK_MODE = FeatureFlagProp.builder().defaultValue("allow=staff").build();
+	}
+
+	@Test
+	public void testLoadedAndDefaultValues() throws Exception {
+		AndHowCore core = buildCore(Flags.class.getCanonicalName() + ".NEW_CHECKOUT=50%; deny=acme");
+
+		FeatureFlag checkout = core.getValue(Flags.NEW_CHECKOUT);
+		assertEquals("50%; deny=acme", checkout.toString());
+		assertFalse(checkout.isEnabled("acme"));
+		assertEquals(0.5d, checkout.getRolloutFraction(), 0d);
+
+		FeatureFlag darkMode = core.getValue(Flags.DARK_MODE);
+		assertTrue(darkMode.isEnabled("staff"));
+		assertFalse(darkMode.isEnabled("customer"));
+
+		assertEquals(FeatureFlag.OFF, buildCore().getValue(Flags.NEW_CHECKOUT));
+		assertTrue(Flags.NEW_CHECKOUT.isNonNullRequired());
+	}
+
+	@Test
+	public void testInvalidRulesAreAProblem() throws Exception {
+		try {
+			buildCore(Flags.class.getCanonicalName() + ".NEW_CHECKOUT=sometimes");
+			fail("Should have thrown an exception");
+		} catch (AppFatalException e) {
+			assertEquals(1, e.getProblems().size());
+			assertTrue(e.getProblems().get(0) instanceof LoaderProblem.StringConversionLoaderProblem);
+		}
+	}
+
+	AndHowCore buildCore(String... kvps) throws Exception {
+		KeyValuePairLoader kvp = new KeyValuePairLoader();
+		kvp.setKeyValuePairs(Arrays.asList(kvps));
+
+		return new AndHowCore(new CaseInsensitiveNaming(), Collections.singletonList(kvp),
+				AndHowUtil.buildGroupProxies(Collections.singletonList(Flags.class)));
+	}
+}
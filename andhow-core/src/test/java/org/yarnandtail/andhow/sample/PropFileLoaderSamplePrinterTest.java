@@ -9,6 +9,7 @@ import org.yarnandtail.andhow.api.GroupProxyMutable;
 import org.yarnandtail.andhow.internal.NameAndProperty;
 import org.yarnandtail.andhow.internal.StaticPropertyConfigurationMutable;
 import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
+import org.yarnandtail.andhow.property.IntArrayProp;
 import org.yarnandtail.andhow.property.IntProp;
 import org.yarnandtail.andhow.property.StrProp;
 import org.yarnandtail.andhow.util.TextUtil;
@@ -29,6 +30,8 @@ public class PropFileLoaderSamplePrinterTest {
 		StrProp MY_PROP2 = StrProp.builder().defaultValue("La la la").desc("mp description")
 				.helpText("Long text on how to use the property").mustStartWith("La").mustEndWith("la")
 				.mustBeNonNull().aliasIn("mp2").aliasInAndOut("mp2_alias2").aliasOut("mp2_out").build();
+		IntArrayProp MY_PROP3 = IntArrayProp.builder().delimiter(";").defaultValue(80, 443)
+				.elementsMustBeGreaterThanOrEqualTo(1).build();
 	}
 	
 	@Before
@@ -41,9 +44,11 @@ public class PropFileLoaderSamplePrinterTest {
 		);
 		groupProxy1.addProperty(new NameAndProperty("MY_PROP1", Config.MY_PROP1));
 		groupProxy1.addProperty(new NameAndProperty("MY_PROP2", Config.MY_PROP2));
+		groupProxy1.addProperty(new NameAndProperty("MY_PROP3", Config.MY_PROP3));
 		
 		assertNull("Error adding property", config.addProperty(groupProxy1, Config.MY_PROP1));
 		assertNull("Error adding property", config.addProperty(groupProxy1, Config.MY_PROP2));
+		assertNull("Error adding property", config.addProperty(groupProxy1, Config.MY_PROP3));
 
 	}
 	
@@ -135,6 +140,28 @@ public class PropFileLoaderSamplePrinterTest {
 		assertEquals("", lines[0]);
 	}
 
+	@Test
+	public void delimitedPropertyTest() throws UnsupportedEncodingException {
+		
+		TestPrintStream out = new TestPrintStream();
+		PropFileLoaderSamplePrinter printer = new PropFileLoaderSamplePrinter();
+		
+		printer.printProperty(config, out, groupProxy1, Config.MY_PROP3);
+		
+		//System.out.println(out.getTextAsString());
+		String[] lines = out.getTextAsLines();
+		assertEquals(6, lines.length);
+		assertEquals("# ", lines[0]);
+		assertEquals("# MY_PROP3 (int[])", lines[1]);
+		assertEquals("# Format: values delimited by ';'", lines[2]);
+		assertEquals("# Default Value: 80;443", lines[3]);
+		assertEquals("# The property value must have every element be greater than or equal to 1", lines[4]);
+		assertEquals(
+				PropFileLoaderSamplePrinterTest.Config.class.getCanonicalName() +
+						".MY_PROP3 = 80;443",
+				lines[5]);
+	}
+
 	/**
 	 * Test of getFormat method, of class PropFileLoaderSamplePrinter.
 	 */
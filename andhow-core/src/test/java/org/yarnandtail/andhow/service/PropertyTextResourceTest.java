@@ -0,0 +1,70 @@
+package org.yarnandtail.andhow.service;
+
+import org.junit.Test;
+import org.yarnandtail.andhow.property.StrProp;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author ericeverman
+ */
+public class PropertyTextResourceTest {
+	
+	private static final String ROOT = PropertyTextResourceTest.class.getCanonicalName();
+	
+	@Test
+	public void testNaming() {
+		assertEquals("$PropertyTextResourceTest_AndHowText.properties", PropertyTextResource.getResourceName(ROOT));
+		assertEquals("org/yarnandtail/andhow/service/$PropertyTextResourceTest_AndHowText.properties",
+				PropertyTextResource.getResourcePath(ROOT));
+		assertEquals("$Root_AndHowText.properties", PropertyTextResource.getResourcePath("Root"));
+		
+		assertEquals("PROP", PropertyTextResource.getPropertyPath("PROP"));
+		assertEquals("PROP", PropertyTextResource.getPropertyPath("PROP", (String[]) null));
+		assertEquals("A.B.PROP", PropertyTextResource.getPropertyPath("PROP", "A", "B"));
+	}
+	
+	@Test
+	public void testFind() {
+		ClassLoader cl = PropertyTextResourceTest.class.getClassLoader();
+		
+		PropertyTextResource text = PropertyTextResource.find(ROOT, cl);
+		assertNotNull(text);
+		assertEquals("External description", text.getDescription("EXTERNAL"));
+		assertEquals("External help", text.getHelpText("EXTERNAL"));
+		assertTrue(text.hasDescription("Inner.DESC_ONLY"));
+		assertFalse(text.hasHelpText("Inner.DESC_ONLY"));
+		assertNull(text.getHelpText("Inner.DESC_ONLY"));
+		
+		assertNull(PropertyTextResource.find("org.yarnandtail.andhow.service.NoSuchClass", cl));
+	}
+	
+	@Test
+	public void testExternalizeText() {
+		PropertyTextResource text = PropertyTextResource.find(ROOT, PropertyTextResourceTest.class.getClassLoader());
+		
+		StrProp external = StrProp.builder().build();
+		external.externalizeText(text, "EXTERNAL");
+		assertEquals("External description", external.getDescription());
+		assertEquals("External help", external.getHelpText());
+		
+		//Only text present in the resource is loaded from it
+		StrProp descOnly = StrProp.builder().build();
+		descOnly.externalizeText(text, "Inner.DESC_ONLY");
+		assertEquals("Inner description", descOnly.getDescription());
+		assertEquals("", descOnly.getHelpText());
+		
+		StrProp missing = StrProp.builder().build();
+		missing.externalizeText(text, "MISSING");
+		assertEquals("", missing.getDescription());
+		assertEquals("", missing.getHelpText());
+		
+		//Text the Property was built with is kept, e.g. from a constant
+		StrProp inline = StrProp.builder().desc("Inline description").build();
+		inline.externalizeText(text, "EXTERNAL");
+		assertEquals("Inline description", inline.getDescription());
+		assertEquals("External help", inline.getHelpText());
+	}
+	
+}
@@ -7,7 +7,13 @@ import static org.junit.Assert.*;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 /**
  *
@@ -91,4 +97,29 @@ public class IOUtilTest {
 		}
 	}
 	
+	@Test
+	public void testReadFileMapsOnlyLargeFiles() throws IOException {
+		Path file = Files.createTempFile("andhow_io", ".properties");
+		file.toFile().deleteOnExit();	//Windows can't delete a file while it is mapped
+		
+		Files.write(file, "a=1".getBytes(StandardCharsets.UTF_8));
+		
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			ByteBuffer buffer = IOUtil.readFile(channel);
+			
+			assertFalse(buffer instanceof MappedByteBuffer);
+			assertEquals(3, buffer.remaining());
+			assertEquals('a', buffer.get(0));
+		}
+		
+		Files.write(file, new byte[(int) IOUtil.MAP_THRESHOLD_BYTES]);
+		
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			ByteBuffer buffer = IOUtil.readFile(channel);
+			
+			assertTrue(buffer instanceof MappedByteBuffer);
+			assertEquals(IOUtil.MAP_THRESHOLD_BYTES, buffer.remaining());
+		}
+	}
+
 }
@@ -0,0 +1,30 @@
+package org.yarnandtail.andhow.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author eeverman
+ */
+public class StringPoolTest {
+
+	@Test
+	public void testIntern() {
+		StringPool pool = new StringPool();
+		
+		String a1 = new String("abc");
+		String a2 = new String("abc");
+		String b = new String("xyz");
+		
+		assertSame(a1, pool.intern(a1));
+		assertSame(a1, pool.intern(a2));
+		assertSame(b, pool.intern(b));
+		assertNull(pool.intern(null));
+		
+		assertEquals(2, pool.size());
+		assertEquals(1, pool.getHitCount());
+	}
+	
+}
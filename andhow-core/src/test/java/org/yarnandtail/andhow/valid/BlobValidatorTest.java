@@ -0,0 +1,36 @@
+package org.yarnandtail.andhow.valid;
+
+import org.junit.Test;
+import org.yarnandtail.andhow.valuetype.Blob;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author ericeverman
+ */
+public class BlobValidatorTest {
+
+	@Test
+	public void testMaxSize() {
+		BlobValidator.MaxSize instance = new BlobValidator.MaxSize(3);
+		assertTrue(instance.isSpecificationValid());
+		assertTrue(instance.isValid(Blob.ofBytes(new byte[3])));
+		assertFalse(instance.isValid(Blob.ofBytes(new byte[4])));
+		assertFalse(instance.isValid(null));
+
+		assertFalse(new BlobValidator.MaxSize(-1).isSpecificationValid());
+	}
+
+	@Test
+	public void testStartsWith() {
+		BlobValidator.StartsWith instance = new BlobValidator.StartsWith("-----BEGIN");
+		assertTrue(instance.isSpecificationValid());
+		assertTrue(instance.isValid(Blob.ofBytes("-----BEGIN CERTIFICATE-----".getBytes())));
+		assertFalse(instance.isValid(Blob.ofBytes("BEGIN".getBytes())));
+		assertFalse(instance.isValid(Blob.ofBytes("-----END".getBytes())));
+		assertFalse(instance.isValid(null));
+
+		assertFalse(new BlobValidator.StartsWith(null).isSpecificationValid());
+	}
+}
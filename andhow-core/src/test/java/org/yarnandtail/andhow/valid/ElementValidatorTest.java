@@ -0,0 +1,82 @@
+package org.yarnandtail.andhow.valid;
+
+import java.util.*;
+import org.junit.Test;
+import org.yarnandtail.andhow.valuetype.DblArray;
+import org.yarnandtail.andhow.valuetype.IntArray;
+import org.yarnandtail.andhow.valuetype.LngArray;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author ericeverman
+ */
+public class ElementValidatorTest {
+
+	@Test
+	public void testIntEach() {
+		ElementValidator.IntEach instance = new ElementValidator.IntEach(new IntValidator.GreaterThan(0));
+
+		assertTrue(instance.isSpecificationValid());
+		assertTrue(instance.isValid(IntArray.of(1, 2, 3)));
+		assertTrue(instance.isValid(IntArray.EMPTY));
+		assertFalse(instance.isValid(IntArray.of(1, 0, 3)));
+		assertFalse(instance.isValid(null));
+		assertEquals("have every element be greater than 0", instance.getTheValueMustDescription());
+		assertEquals("The element '0' at index 1 must be greater than 0", instance.getInvalidMessage(IntArray.of(1, 0, 3)));
+	}
+
+	@Test
+	public void testLngAndDblEach() {
+		assertTrue(new ElementValidator.LngEach(new LngValidator.LessThan(10L)).isValid(LngArray.of(1L, 9L)));
+		assertFalse(new ElementValidator.LngEach(new LngValidator.LessThan(10L)).isValid(LngArray.of(1L, 10L)));
+		assertTrue(new ElementValidator.DblEach(new DblValidator.LessThanOrEqualTo(1d)).isValid(DblArray.of(0.5d, 1d)));
+		assertFalse(new ElementValidator.DblEach(new DblValidator.LessThanOrEqualTo(1d)).isValid(DblArray.of(1.5d)));
+	}
+
+	@Test
+	public void testListEach() {
+		ElementValidator.ListEach instance = new ElementValidator.ListEach(new StringValidator.Regex("[a-z]+"));
+
+		assertTrue(instance.isValid(Arrays.asList("abc", "def")));
+		assertFalse(instance.isValid(Arrays.asList("abc", "DEF")));
+		assertTrue(instance.getInvalidMessage(Arrays.asList("abc", "DEF")).startsWith("The element 'DEF' at index 1"));
+
+		//The element validator's specification is checked
+		ElementValidator.ListEach bad = new ElementValidator.ListEach(new StringValidator.Regex("[a-z"));
+		assertFalse(bad.isSpecificationValid());
+		assertFalse(new ElementValidator.ListEach(null).isSpecificationValid());
+	}
+
+	@Test
+	public void testMapEachValue() {
+		ElementValidator.MapEachValue instance = new ElementValidator.MapEachValue(new StringValidator.Regex("[0-9.]+"));
+		Map<String, String> map = new LinkedHashMap();
+		map.put("us", "0.7");
+		map.put("eu", "x");
+
+		assertFalse(instance.isValid(map));
+		assertTrue(instance.getInvalidMessage(map).startsWith("The element 'eu=x' at index 1"));
+		map.put("eu", "0.3");
+		assertTrue(instance.isValid(map));
+		assertTrue(instance.getTheValueMustDescription().startsWith("have every value "));
+	}
+
+	@Test
+	public void testSize() {
+		ElementValidator.Size instance = new ElementValidator.Size(1, 2);
+
+		assertTrue(instance.isSpecificationValid());
+		assertTrue(instance.isValid(IntArray.of(1)));
+		assertTrue(instance.isValid(Arrays.asList("a", "b")));
+		assertFalse(instance.isValid(Collections.emptyMap()));
+		assertFalse(instance.isValid(DblArray.of(1d, 2d, 3d)));
+		assertFalse(instance.isValid("not a collection"));
+		assertEquals("have from 1 to 2 elements", instance.getTheValueMustDescription());
+		assertEquals("have exactly 3 elements", new ElementValidator.Size(3, 3).getTheValueMustDescription());
+
+		assertFalse(new ElementValidator.Size(-1, 2).isSpecificationValid());
+		assertFalse(new ElementValidator.Size(3, 2).isSpecificationValid());
+	}
+}
@@ -38,7 +38,10 @@ public class StringValidatorTest {
 		assertTrue(instance.isValid("ABCXYZ"));
 		assertFalse(instance.isValid("\tabc"));
 		assertFalse(instance.isValid("cba"));
+		assertFalse(instance.isValid("ab"));
+		assertFalse(instance.isValid(""));
 		assertFalse(instance.isValid(null));
+		assertTrue(new StringValidator.StartsWith("", true).isValid(""));
 		
 		instance = new StringValidator.StartsWith("abc", false);
 		assertTrue(instance.isValid("abc"));
@@ -76,7 +79,10 @@ public class StringValidatorTest {
 		assertTrue(instance.isValid("XYZABC"));
 		assertFalse(instance.isValid("abc\t"));
 		assertFalse(instance.isValid("cba"));
+		assertFalse(instance.isValid("bc"));
+		assertFalse(instance.isValid(""));
 		assertFalse(instance.isValid(null));
+		assertTrue(new StringValidator.EndsWith("", true).isValid(""));
 		
 		instance = new StringValidator.EndsWith("abc", false);
 		assertTrue(instance.isValid("abc"));
@@ -114,6 +120,10 @@ public class StringValidatorTest {
 		assertTrue(instance.isValid("abcXYZ"));
 		assertFalse(instance.isValid("cba"));
 		assertFalse(instance.isValid(null));
+		
+		//An invalid regex matches nothing
+		instance = new StringValidator.Regex("abc.*[");
+		assertFalse(instance.isValid("abc"));
 	}
 	
 }
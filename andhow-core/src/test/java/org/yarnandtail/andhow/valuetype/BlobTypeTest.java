@@ -0,0 +1,88 @@
+package org.yarnandtail.andhow.valuetype;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.yarnandtail.andhow.api.ParsingException;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author eeverman
+ */
+public class BlobTypeTest {
+
+	Path file;
+
+	@Before
+	public void init() throws Exception {
+		file = Files.createTempFile("andhow_blob", ".pem");
+		Files.write(file, "-----BEGIN CERTIFICATE-----\nabc\n".getBytes(StandardCharsets.UTF_8));
+	}
+
+	@After
+	public void afterTest() throws Exception {
+		Files.deleteIfExists(file);
+	}
+
+	@Test
+	public void testParseFileIsMappedLazily() throws Exception {
+		BlobType type = BlobType.instance();
+
+		Blob blob = type.parse(Blob.FILE_PREFIX + file);
+
+		assertTrue(blob.isFile());
+		assertEquals(file, blob.getPath());
+		assertFalse(blob.isLoaded());
+		assertEquals(Files.size(file), blob.size());
+
+		ByteBuffer buf = blob.getBuffer();
+		assertTrue(blob.isLoaded());
+		assertTrue(buf.isReadOnly());
+		assertEquals('-', buf.get(0));
+
+		//Each view has its own position
+		buf.get();
+		assertEquals(0, blob.getBuffer().position());
+
+		assertEquals(blob, type.parse(type.toString(blob)));
+	}
+
+	@Test
+	public void testParseInline() throws Exception {
+		BlobType type = BlobType.instance();
+
+		Blob text = type.parse("some text");
+		assertFalse(text.isFile());
+		assertTrue(text.isLoaded());
+		assertTrue(text.getBuffer().isDirect());
+		assertEquals(ByteBuffer.wrap("some text".getBytes(StandardCharsets.UTF_8)), text.getBuffer());
+
+		Blob bytes = type.parse(Blob.BASE64_PREFIX + "AAEC/w==");
+		assertEquals(ByteBuffer.wrap(new byte[] {0, 1, 2, (byte) 0xFF}), bytes.getBuffer());
+
+		//Reversible
+		assertEquals(text, type.parse(type.toString(text)));
+		assertEquals(bytes, type.parse(type.toString(bytes)));
+		assertEquals("[4 inline bytes]", bytes.toString());
+	}
+
+	@Test
+	public void testParseBadValues() throws Exception {
+		BlobType type = BlobType.instance();
+
+		assertNull(type.parse(null));
+		assertFalse(type.isParsable(Blob.FILE_PREFIX + file + ".not_there"));
+		assertFalse(type.isParsable(Blob.BASE64_PREFIX + "not base64!"));
+	}
+
+	@Test(expected=ParsingException.class)
+	public void testParseMissingFile() throws Exception {
+		BlobType.instance().parse(Blob.FILE_PREFIX + file + ".not_there");
+	}
+}
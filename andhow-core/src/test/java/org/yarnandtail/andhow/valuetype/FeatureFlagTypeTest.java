@@ -0,0 +1,127 @@
+package org.yarnandtail.andhow.valuetype;
+
+import org.junit.Test;
+import org.yarnandtail.andhow.api.ParseResult;
+import org.yarnandtail.andhow.api.ParsingException;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author eeverman
+ */
+public class FeatureFlagTypeTest {
+
+	@Test
+	public void testOnAndOff() throws ParsingException {
+		FeatureFlagType type = FeatureFlagType.instance();
+
+		assertTrue(type.parse("on").isEnabled());
+		assertTrue(type.parse("TRUE").isEnabled("anyone"));
+		assertTrue(type.parse("100%").isEnabled("anyone"));
+		assertFalse(type.parse("off").isEnabled("anyone"));
+		assertFalse(type.parse("0%").isEnabled("anyone"));
+		assertFalse(type.parse("allow=a").isEnabled());
+		assertNull(type.parse(null));
+	}
+
+	@Test
+	public void testAllowAndDeny() throws ParsingException {
+		FeatureFlag flag = FeatureFlagType.instance().parse("on; deny=initech, umbrella");
+
+		assertFalse(flag.isEnabled("initech"));
+		assertFalse(flag.isEnabled("umbrella"));
+		assertTrue(flag.isEnabled("acme"));
+
+		flag = FeatureFlagType.instance().parse("allow = acme ,globex;deny=globex");
+
+		assertTrue(flag.isEnabled("acme"));
+		assertFalse(flag.isEnabled("globex"));	//Deny wins
+		assertFalse(flag.isEnabled("ACME"));
+		assertFalse(flag.isEnabled("other"));
+		assertFalse(flag.isEnabled(new String("globex")));
+		assertFalse(flag.isEnabled((String) null));
+	}
+
+	@Test
+	public void testLargeAllowSet() throws ParsingException {
+		StringBuilder rule = new StringBuilder("allow=");
+
+		for (int i = 0; i < 1000; i++) {
+			rule.append("tenant-").append(i).append(',');
+		}
+
+		FeatureFlag flag = FeatureFlagType.instance().parse(rule.toString());
+
+		for (int i = 0; i < 1000; i++) {
+			assertTrue(flag.isEnabled("tenant-" + i));
+			assertFalse(flag.isEnabled("other-" + i));
+		}
+	}
+
+	@Test
+	public void testPercentageIsStableAndProportional() throws ParsingException {
+		FeatureFlag ten = FeatureFlagType.instance().parse("10%");
+		FeatureFlag twenty = FeatureFlagType.instance().parse("20%");
+		FeatureFlag salted = FeatureFlagType.instance().parse("10%; salt=checkout");
+
+		int tenCount = 0;
+		int saltedCount = 0;
+		int both = 0;
+
+		for (int i = 0; i < 100000; i++) {
+			String key = "user-" + i;
+
+			if (ten.isEnabled(key)) {
+				tenCount++;
+				assertTrue("Raising the percentage keeps the keys", twenty.isEnabled(key));
+			}
+
+			if (salted.isEnabled(key)) {
+				saltedCount++;
+				if (ten.isEnabled(key)) both++;
+			}
+		}
+
+		assertEquals(10000d, tenCount, 500d);
+		assertEquals(10000d, saltedCount, 500d);
+		assertEquals(1000d, both, 200d);	//Salted buckets are independent
+		assertEquals(0.1d, ten.getRolloutFraction(), 0.0001d);
+
+		//String.hashCode() is specified, so the buckets are the same on every JVM
+		assertTrue(ten.isEnabled("user-8"));
+		assertFalse(ten.isEnabled("user-7"));
+	}
+
+	@Test
+	public void testRuleIsNormalized() throws ParsingException {
+		FeatureFlagType type = FeatureFlagType.instance();
+
+		assertEquals("12.5%; allow=a,b; deny=c; salt=x", type.toString(type.parse(" deny=c;salt=x ; 12.50% ; allow=a, b,")));
+		assertEquals("off", type.parse("").toString());
+		assertEquals(type.parse("on; allow=a"), type.parse("yes;allow=a"));
+		assertEquals(FeatureFlag.ON, FeatureFlag.of("on"));
+	}
+
+	@Test
+	public void testParseFailures() {
+		FeatureFlagType type = FeatureFlagType.instance();
+
+		ParseResult<FeatureFlag> result = type.tryParse("on; 10%");
+		assertFalse(result.isSuccess());
+		assertTrue(result.getFailureMessage().contains("'10%'"));
+
+		assertFalse(type.isParsable("101%"));
+		assertFalse(type.isParsable("-1%"));
+		assertFalse(type.isParsable("1.00001%"));
+		assertFalse(type.isParsable("x%"));
+		assertFalse(type.isParsable("maybe"));
+		assertFalse(type.isParsable("include=a"));
+		assertFalse(type.isParsable("salt=a; salt=b"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testOfThrowsForBadRules() {
+		FeatureFlag.of("sometimes");
+	}
+}
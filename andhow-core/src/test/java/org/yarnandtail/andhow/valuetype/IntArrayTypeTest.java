@@ -0,0 +1,91 @@
+package org.yarnandtail.andhow.valuetype;
+
+import java.nio.IntBuffer;
+import org.junit.Test;
+import org.yarnandtail.andhow.api.ParseResult;
+import org.yarnandtail.andhow.api.ParsingException;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author eeverman
+ */
+public class IntArrayTypeTest {
+
+	@Test
+	public void testParseHappyPath() throws ParsingException {
+		IntArrayType type = IntArrayType.instance();
+
+		assertEquals(IntArray.of(80, 443, 8080), type.parse("80, 443,8080"));
+		assertEquals(IntArray.of(-1), type.parse(" -1 "));
+		assertEquals(IntArray.EMPTY, type.parse(""));
+		assertEquals(IntArray.of(1, 2), type.parse("1,,2,"));
+		assertNull(type.parse(null));
+	}
+
+	@Test
+	public void testParseBadElement() {
+		ParseResult<IntArray> result = IntArrayType.instance().tryParse("1, two, 3");
+
+		assertFalse(result.isSuccess());
+		assertTrue(result.getFailureMessage().contains("'two'"));
+		assertFalse(IntArrayType.instance().isParsable("1, 99999999999"));
+	}
+
+	@Test
+	public void testDelimiter() throws ParsingException {
+		IntArrayType type = IntArrayType.withDelimiter("|");
+
+		assertEquals(IntArray.of(1, 2, 3), type.parse("1 | 2 | 3"));
+		assertEquals("1|2|3", type.toString(IntArray.of(1, 2, 3)));
+		assertEquals("|", type.getDelimiter());
+		assertSame(IntArrayType.instance(), IntArrayType.withDelimiter(","));
+		assertEquals(type, IntArrayType.withDelimiter("|"));
+		assertNotEquals(type, IntArrayType.instance());
+	}
+
+	@Test
+	public void testToStringRoundTrip() throws ParsingException {
+		IntArrayType type = IntArrayType.instance();
+		IntArray value = type.parse("3, 2, 1");
+
+		assertEquals("3,2,1", type.toString(value));
+		assertEquals(value, type.parse(type.toString(value)));
+		assertNull(type.toString(null));
+	}
+
+	@Test
+	public void testValueIsImmutable() throws ParsingException {
+		int[] source = new int[] {1, 2, 3};
+		IntArray value = IntArray.of(source);
+		source[0] = 99;
+
+		assertEquals(1, value.get(0));
+
+		int[] copy = value.toArray();
+		copy[1] = 99;
+		assertEquals(2, value.get(1));
+
+		IntBuffer buffer = value.asBuffer();
+		assertTrue(buffer.isReadOnly());
+		assertEquals(3, buffer.remaining());
+		assertEquals(6, value.stream().sum());
+	}
+
+	@Test
+	public void testTypeDescription() {
+		assertEquals("int[]", IntArrayType.instance().getTypeName());
+		assertEquals("long[]", LngArrayType.instance().getTypeName());
+		assertEquals("double[]", DblArrayType.instance().getTypeName());
+		assertEquals("values delimited by ','", IntArrayType.instance().getFormatDescription());
+	}
+
+	@Test
+	public void testLngAndDblArrays() throws ParsingException {
+		assertEquals(LngArray.of(1000L, 9999999999L), LngArrayType.instance().parse("1000, 9999999999"));
+		assertEquals(DblArray.of(0.7d, 0.2d, 0.1d), DblArrayType.instance().parse("0.7, 0.2, 0.1"));
+		assertEquals("0.5;1.0", DblArrayType.withDelimiter(";").toString(DblArray.of(0.5d, 1d)));
+		assertFalse(DblArrayType.instance().isParsable("0.5, x"));
+	}
+}
@@ -3,6 +3,7 @@
 package org.yarnandtail.andhow.valuetype;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import static org.junit.Assert.*;
 import org.junit.Test;
 import org.yarnandtail.andhow.api.ParsingException;
@@ -60,6 +61,34 @@ public class LocalDateTimeTypeTest {
 		type.parse("2007-12-03T10:15:3");
 	}
 	
+	@Test
+	public void testTryParseMatchesLocalDateTimeParse() throws ParsingException {
+		LocalDateTimeType type = LocalDateTimeType.instance();
+		
+		String[] values = new String[] {
+			"2011-12-03T10:15:30", "2011-12-03T10:15", "2011-12-03T10:15:25.1",
+			"2011-12-03T10:15:25.123456789", "2012-02-29T00:00", "2011-02-29T00:00",
+			"2011-04-31T00:00", "2011-13-01T00:00", "2011-12-03T10:60", "2011-12-03T10:15:60",
+			"+12011-12-03T10:15:30", "-0001-12-03T10:15:30", "2011-12-03T10:15:30Z",
+			"2011-12-03", "2011-12-03T10"
+		};
+		
+		for (String value : values) {
+			LocalDateTime expected = null;
+			try {
+				expected = LocalDateTime.parse(value);
+			} catch (DateTimeParseException e) {
+				//expected stays null
+			}
+			
+			assertEquals(value, expected != null, type.isParsable(value));
+			
+			if (expected != null) {
+				assertEquals(value, expected, type.parse(value));
+			}
+		}
+	}
+	
 	@Test
 	public void testCast() {
 		
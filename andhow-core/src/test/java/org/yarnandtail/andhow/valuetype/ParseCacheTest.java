@@ -0,0 +1,126 @@
+package org.yarnandtail.andhow.valuetype;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.yarnandtail.andhow.api.ParseResult;
+import org.yarnandtail.andhow.api.ParsingException;
+import org.yarnandtail.andhow.property.StrProp;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author ericeverman
+ */
+public class ParseCacheTest {
+
+	@Before
+	public void setup() {
+		ParseCache.setMaxSize(3);
+	}
+
+	@After
+	public void cleanup() {
+		ParseCache.setMaxSize(0);
+	}
+
+	@Test
+	public void testHitsAndMisses() {
+		ParseResult<Integer> first = ParseCache.tryParse(IntType.instance(), "1234");
+		ParseResult<Integer> second = ParseCache.tryParse(IntType.instance(), "1234");
+
+		assertEquals(new Integer(1234), first.getValue());
+		assertSame(first, second);
+		assertEquals(1, ParseCache.getHitCount());
+		assertEquals(1, ParseCache.getMissCount());
+
+		//Same text, different type is a different entry
+		ParseResult<Long> lng = ParseCache.tryParse(LngType.instance(), "1234");
+		assertEquals(new Long(1234), lng.getValue());
+		assertEquals(2, ParseCache.getMissCount());
+		assertEquals(2, ParseCache.size());
+
+		//Failures are cached too
+		ParseResult<Integer> bad = ParseCache.tryParse(IntType.instance(), "apple");
+		assertFalse(bad.isSuccess());
+		assertSame(bad, ParseCache.tryParse(IntType.instance(), "apple"));
+	}
+
+	@Test
+	public void testLeastRecentlyUsedIsEvicted() {
+		ParseResult<Integer> one = ParseCache.tryParse(IntType.instance(), "1");
+		ParseCache.tryParse(IntType.instance(), "2");
+		ParseCache.tryParse(IntType.instance(), "3");
+		ParseCache.tryParse(IntType.instance(), "1");	//2 is now the eldest
+		ParseCache.tryParse(IntType.instance(), "4");
+
+		assertEquals(3, ParseCache.size());
+		assertEquals(1, ParseCache.getEvictionCount());
+		assertSame(one, ParseCache.tryParse(IntType.instance(), "1"));
+
+		long misses = ParseCache.getMissCount();
+		ParseCache.tryParse(IntType.instance(), "2");
+		assertEquals(misses + 1, ParseCache.getMissCount());
+	}
+
+	@Test
+	public void testSecretValuesAreNotCached() {
+		StrProp secret = StrProp.builder().secret().build();
+		StrProp plain = StrProp.builder().build();
+
+		assertEquals("pw", ParseCache.tryParse(secret, "pw").getValue());
+		assertEquals("pw", ParseCache.tryParse(secret, "pw").getValue());
+		assertEquals(0, ParseCache.size());
+		assertEquals(0, ParseCache.getMissCount());
+
+		ParseResult<String> first = ParseCache.tryParse(plain, "pw");
+		assertSame(first, ParseCache.tryParse(plain, "pw"));
+		assertEquals(1, ParseCache.size());
+	}
+
+	@Test
+	public void testDisabledCacheAlwaysParses() {
+		ParseCache.setMaxSize(0);
+
+		assertFalse(ParseCache.isEnabled());
+		assertEquals(new Integer(1), ParseCache.tryParse(IntType.instance(), "1").getValue());
+		assertEquals(0, ParseCache.size());
+		assertEquals(0, ParseCache.getMissCount());
+	}
+
+	@Test
+	public void testMutableValuesAreNotCached() {
+		MutableType type = new MutableType();
+
+		ParseResult<List> first = ParseCache.tryParse(type, "a");
+		ParseResult<List> second = ParseCache.tryParse(type, "a");
+
+		assertNotSame(first.getValue(), second.getValue());
+		assertEquals(2, type.parseCount);
+		assertEquals(0, ParseCache.size());
+	}
+
+	static class MutableType extends BaseValueType<List> {
+		int parseCount;
+
+		MutableType() {
+			super(List.class);
+		}
+
+		@Override
+		public List parse(String sourceValue) throws ParsingException {
+			parseCount++;
+			List list = new ArrayList();
+			list.add(sourceValue);
+			return list;
+		}
+
+		@Override
+		public List cast(Object o) throws RuntimeException {
+			return (List) o;
+		}
+	}
+}
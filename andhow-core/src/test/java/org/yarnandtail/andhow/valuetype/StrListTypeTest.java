@@ -0,0 +1,48 @@
+package org.yarnandtail.andhow.valuetype;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+import org.yarnandtail.andhow.api.ParsingException;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author eeverman
+ */
+public class StrListTypeTest {
+
+	@Test
+	public void testParseHappyPath() throws ParsingException {
+		StrListType type = StrListType.instance();
+
+		assertEquals(Arrays.asList("host1", "host2", "host3"), type.parse("host1, host2 ,host3"));
+		assertEquals(Arrays.asList("a"), type.parse("a,"));
+		assertEquals(Collections.emptyList(), type.parse(" , "));
+		assertNull(type.parse(null));
+	}
+
+	@Test(expected=UnsupportedOperationException.class)
+	public void testValueIsUnmodifiable() throws ParsingException {
+		List<String> list = StrListType.instance().parse("a, b");
+		list.add("c");
+	}
+
+	@Test
+	public void testMultiCharDelimiterIsNotARegex() throws ParsingException {
+		StrListType type = StrListType.withDelimiter("||");
+
+		assertEquals(Arrays.asList("a|b", "c.d"), type.parse("a|b || c.d"));
+		assertEquals("a|b||c.d", type.toString(Arrays.asList("a|b", "c.d")));
+
+		type = StrListType.withDelimiter(".");
+		assertEquals(Arrays.asList("a", "b"), type.parse("a.b"));
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testEmptyDelimiter() {
+		StrListType.withDelimiter("");
+	}
+}
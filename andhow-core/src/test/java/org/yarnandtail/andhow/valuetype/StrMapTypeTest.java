@@ -0,0 +1,58 @@
+package org.yarnandtail.andhow.valuetype;
+
+import java.util.*;
+import org.junit.Test;
+import org.yarnandtail.andhow.api.ParseResult;
+import org.yarnandtail.andhow.api.ParsingException;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author eeverman
+ */
+public class StrMapTypeTest {
+
+	@Test
+	public void testParseHappyPath() throws ParsingException {
+		StrMapType type = StrMapType.instance();
+		Map<String, String> map = type.parse("us = 0.7, eu=0.2, ap=, url=http://x?a=b");
+
+		assertEquals(Arrays.asList("us", "eu", "ap", "url"), new ArrayList(map.keySet()));
+		assertEquals("0.7", map.get("us"));
+		assertEquals("", map.get("ap"));
+		assertEquals("http://x?a=b", map.get("url"));
+		assertEquals(Collections.emptyMap(), type.parse(""));
+		assertNull(type.parse(null));
+	}
+
+	@Test
+	public void testParseFailures() {
+		StrMapType type = StrMapType.instance();
+
+		ParseResult<Map<String, String>> result = type.tryParse("a=1, b");
+		assertFalse(result.isSuccess());
+		assertTrue(result.getFailureMessage().contains("'b'"));
+
+		assertFalse(type.isParsable("=1"));
+		assertFalse(type.isParsable("a=1, a=2"));
+	}
+
+	@Test
+	public void testDelimitersAndRoundTrip() throws ParsingException {
+		StrMapType type = StrMapType.withDelimiters(";", ":");
+		Map<String, String> map = type.parse("a: 1; b: 2");
+
+		assertEquals("1", map.get("a"));
+		assertEquals("a:1;b:2", type.toString(map));
+		assertEquals(map, type.parse(type.toString(map)));
+		assertEquals("key:value entries delimited by ';'", type.getFormatDescription());
+		assertEquals("Map<String,String>", type.getTypeName());
+		assertSame(StrMapType.instance(), StrMapType.withDelimiters(",", "="));
+	}
+
+	@Test(expected=UnsupportedOperationException.class)
+	public void testValueIsUnmodifiable() throws ParsingException {
+		StrMapType.instance().parse("a=1").put("b", "2");
+	}
+}
@@ -0,0 +1,146 @@
+package org.yarnandtail.andhow.valuetype;
+
+import java.time.LocalDateTime;
+import org.junit.Test;
+import org.yarnandtail.andhow.api.ParseResult;
+import org.yarnandtail.andhow.api.ParsingException;
+import org.yarnandtail.andhow.util.TextUtil;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that the scanners and tryParse() agree w/ the JDK parsing methods
+ * they replace.
+ *
+ * @author ericeverman
+ */
+public class TextScannerTest {
+
+	static final String[] NUMBERS = new String[] {
+		"0", "-0", "+0", "1", "-1", "+1", "1234", "-1234", "007",
+		"2147483647", "2147483648", "-2147483648", "-2147483649",
+		"9223372036854775807", "9223372036854775808", "-9223372036854775808",
+		"-9223372036854775809", "99999999999999999999999",
+		"", "-", "+", "--1", "+-1", " 1", "1 ", "1.0", "1e3", "1L", "0x10", "apple",
+		"١٢", "١x", "1.", ".5", "-.5", "1.5e-3", "1.5E+3", "1e", "1e+",
+		".", "-.", "e5", "1.5f", "1.5D", "1.5x", "NaN", "-NaN", "Infinity", "-Infinity",
+		"NaNx", "Infinityd", " 12.5 ", "\t3\n", "0x1.8p1", "-0X1P-2", "0x", "0xZZ",
+		"1_000"
+	};
+
+	static final String[] BOOLEANS = new String[] {
+		"true", "TRUE", "True", "t", "T", "yes", "YES", "y", "Y", "on", "ON",
+		" true ", "\ttrue\n", "false", "no", "off", "f", "1", "0", "tru", "truee",
+		"o", "yess", "", " ", null
+	};
+
+	@Test
+	public void testScanLongMatchesJdk() {
+		for (String s : NUMBERS) {
+			Long expected;
+			try {
+				expected = Long.parseLong(s);
+			} catch (NumberFormatException e) {
+				expected = null;
+			}
+
+			assertEquals("Text: '" + s + "'", expected, TextScanner.scanLong(s, Long.MIN_VALUE, Long.MAX_VALUE));
+		}
+
+		assertNull(TextScanner.scanLong(null, Long.MIN_VALUE, Long.MAX_VALUE));
+	}
+
+	@Test
+	public void testIntTypeMatchesJdk() throws ParsingException {
+		IntType type = IntType.instance();
+
+		for (String s : NUMBERS) {
+			Integer expected;
+			try {
+				expected = Integer.parseInt(s);
+			} catch (NumberFormatException e) {
+				expected = null;
+			}
+
+			ParseResult<Integer> result = type.tryParse(s);
+			assertEquals("Text: '" + s + "'", expected != null, result.isSuccess());
+			assertEquals("Text: '" + s + "'", expected, result.getValue());
+		}
+	}
+
+	@Test
+	public void testDblTypeMatchesJdk() {
+		DblType type = DblType.instance();
+
+		for (String s : NUMBERS) {
+			Double expected;
+			try {
+				expected = Double.parseDouble(s);
+			} catch (NumberFormatException e) {
+				expected = null;
+			}
+
+			ParseResult<Double> result = type.tryParse(s);
+			assertEquals("Text: '" + s + "'", expected != null, result.isSuccess());
+			assertEquals("Text: '" + s + "'", expected, result.getValue());
+		}
+	}
+
+	@Test
+	public void testScanBooleanMatchesTextUtil() {
+		for (String s : BOOLEANS) {
+			Boolean expected = (TextUtil.trimToNull(s) != null)? TextUtil.toBoolean(s) : null;
+			assertEquals("Text: '" + s + "'", expected, TextScanner.scanBoolean(s));
+		}
+	}
+
+	@Test
+	public void testLocalDateTimeTypeMatchesJdk() {
+		LocalDateTimeType type = LocalDateTimeType.instance();
+
+		String[] dates = new String[] {
+			"2011-12-03T10:15:30", "2011-12-03T10:15", "2011-12-03T10:15:25.123456789",
+			"2011-12-03T10:15:25.1234567891", "2011-12-03T24:15:30", "2011-12-03T10:60",
+			"2011-13-03T10:15", "2011-02-29T10:15", "2012-02-29T10:15", "2011-04-31T10:15",
+			"2011-12-03", "2011-12-03T10:15:3", "2011-12-03T10:15:30Z", " 2011-12-03T10:15:30",
+			"+12011-12-03T10:15:30", "", "apple"
+		};
+
+		for (String s : dates) {
+			LocalDateTime expected;
+			try {
+				expected = LocalDateTime.parse(s);
+			} catch (Exception e) {
+				expected = null;
+			}
+
+			ParseResult<LocalDateTime> result = type.tryParse(s);
+			assertEquals("Text: '" + s + "'", expected != null, result.isSuccess());
+			assertEquals("Text: '" + s + "'", expected, result.getValue());
+		}
+	}
+
+	@Test
+	public void testFailedResultCreatesExceptionOnlyWhenAsked() {
+		ParseResult<Integer> result = IntType.instance().tryParse("apple");
+
+		assertFalse(result.isSuccess());
+		assertNull(result.getValue());
+		assertEquals("apple", result.getSourceValue());
+
+		ParsingException e = result.toParsingException();
+		assertEquals("apple", e.getProblemText());
+		assertEquals(result.getFailureMessage(), e.getMessage());
+
+		try {
+			result.getValueOrThrow();
+			fail("Should have thrown");
+		} catch (ParsingException pe) {
+			assertEquals("apple", pe.getProblemText());
+		}
+
+		assertTrue(IntType.instance().tryParse(null).isSuccess());
+		assertNull(IntType.instance().tryParse(null).toParsingException());
+	}
+
+}
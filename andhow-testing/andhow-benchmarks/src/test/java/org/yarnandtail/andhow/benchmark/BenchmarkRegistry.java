@@ -0,0 +1,118 @@
+package org.yarnandtail.andhow.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.NameAndProperty;
+import org.yarnandtail.andhow.load.KeyValuePairLoader;
+import org.yarnandtail.andhow.property.*;
+
+/**
+ * Builds synthetic property registries of arbitrary size for benchmarks.
+ * <p>
+ * Groups are built as GroupProxyMutable instances rather than real classes so
+ * that the registry size can be varied at runtime.  Each group contains a mix
+ * of property types, each with a description, help text, aliases and a
+ * validator, similar to a typical hand written group.
+ *
+ * @author ericeverman
+ */
+public class BenchmarkRegistry {
+
+	public static final String GROUP_NAME_PREFIX = "org.yarnandtail.bench.Group";
+
+	private final List<GroupProxy> groups = new ArrayList();
+	private final List<Property<?>> properties = new ArrayList();
+	private final List<String> canonicalNames = new ArrayList();
+
+	/**
+	 * Create a registry.
+	 *
+	 * @param propertyCount Total number of properties to create
+	 * @param propertiesPerGroup Max number of properties in each group
+	 */
+	public BenchmarkRegistry(int propertyCount, int propertiesPerGroup) {
+
+		GroupProxyMutable group = null;
+
+		for (int i = 0; i < propertyCount; i++) {
+
+			if (i % propertiesPerGroup == 0) {
+				group = new GroupProxyMutable(GROUP_NAME_PREFIX + (i / propertiesPerGroup),
+						BenchmarkRegistry.class.getName());
+				groups.add(group);
+			}
+
+			String fieldName = "PROP_" + i;
+			Property<?> prop = buildProperty(i);
+
+			group.addProperty(new NameAndProperty(fieldName, prop));
+			properties.add(prop);
+			canonicalNames.add(group.getCanonicalName() + "." + fieldName);
+		}
+	}
+
+	private Property<?> buildProperty(int i) {
+		switch (i % 3) {
+			case 0:
+				return StrProp.builder()
+						.mustStartWith("val").aliasIn("str_in_" + i).aliasInAndOut("STR_INOUT_" + i)
+						.desc("A string property used to connect to remote service number " + i)
+						.helpText("Values must start with 'val'.  This help text is intentionally "
+								+ "a sentence or two long, similar to real world help text.")
+						.build();
+			case 1:
+				return IntProp.builder()
+						.mustBeGreaterThan(0).defaultValue(i + 1).aliasIn("int_in_" + i)
+						.desc("A connection timeout in seconds for worker pool " + i)
+						.build();
+			default:
+				return FlagProp.builder()
+						.aliasIn("flag_in_" + i)
+						.desc("Enables feature number " + i)
+						.build();
+		}
+	}
+
+	/**
+	 * A KeyValuePairLoader w/ values for every Nth property.
+	 *
+	 * @param every Assign a value to every Nth property, starting w/ the first.
+	 * @return A new loader
+	 */
+	public KeyValuePairLoader buildLoader(int every) {
+		List<String> kvps = new ArrayList();
+
+		for (int i = 0; i < properties.size(); i += every) {
+			Property<?> p = properties.get(i);
+			String value;
+
+			if (p instanceof StrProp) {
+				value = "value_" + i;
+			} else if (p instanceof IntProp) {
+				value = Integer.toString(i + 100);
+			} else {
+				value = "true";
+			}
+
+			kvps.add(canonicalNames.get(i) + KeyValuePairLoader.KVP_DELIMITER + value);
+		}
+
+		KeyValuePairLoader loader = new KeyValuePairLoader();
+		loader.setKeyValuePairs(kvps);
+		return loader;
+	}
+
+	public List<GroupProxy> getGroups() {
+		return groups;
+	}
+
+	public List<Property<?>> getProperties() {
+		return properties;
+	}
+
+	public List<String> getCanonicalNames() {
+		return canonicalNames;
+	}
+
+}
@@ -0,0 +1,72 @@
+package org.yarnandtail.andhow.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.yarnandtail.andhow.valuetype.FeatureFlag;
+import org.yarnandtail.andhow.valuetype.FeatureFlagType;
+
+/**
+ * JMH benchmarks of evaluating a FeatureFlag for a key.
+ * <p>
+ * Each invocation evaluates one key from a fixed set of keys, so the keys
+ * cycle through in and out of the rollout and the branches are not all
+ * predicted the same way.  Run by FeatureFlagBenchmarkTest.
+ *
+ * @author ericeverman
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FeatureFlagBenchmark {
+
+	static final int KEY_COUNT = 1024;	//Power of two to cycle w/ a mask
+	static final int ALLOWED_COUNT = 200;
+	static final int DENIED_COUNT = 50;
+
+	FeatureFlag percentFlag;
+	FeatureFlag rulesFlag;
+	String[] keys;
+	int index;
+
+	@Setup
+	public void setup() throws Exception {
+		StringBuilder rule = new StringBuilder("10%; allow=");
+
+		for (int i = 0; i < ALLOWED_COUNT; i++) {
+			rule.append("tenant-").append(i * 3).append(',');
+		}
+
+		rule.append("; deny=");
+
+		for (int i = 0; i < DENIED_COUNT; i++) {
+			rule.append("tenant-").append(i * 7).append(',');
+		}
+
+		percentFlag = FeatureFlagType.instance().parse("10%");
+		rulesFlag = FeatureFlagType.instance().parse(rule.toString());
+
+		keys = new String[KEY_COUNT];
+
+		for (int i = 0; i < KEY_COUNT; i++) {
+			keys[i] = "tenant-" + i;
+		}
+	}
+
+	/** A percentage rollout */
+	@Benchmark
+	public boolean percentRollout() {
+		return percentFlag.isEnabled(keys[index++ & (KEY_COUNT - 1)]);
+	}
+
+	/** A percentage rollout w/ allow and deny sets */
+	@Benchmark
+	public boolean rolloutWithAllowAndDeny() {
+		return rulesFlag.isEnabled(keys[index++ & (KEY_COUNT - 1)]);
+	}
+
+	/** The cost of reading the next key, to compare the others against */
+	@Benchmark
+	public String baseline() {
+		return keys[index++ & (KEY_COUNT - 1)];
+	}
+}
@@ -0,0 +1,128 @@
+package org.yarnandtail.andhow.benchmark;
+
+import java.io.*;
+import java.util.*;
+import org.junit.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Runs the FeatureFlagBenchmark w/ JMH and writes the time per evaluation to
+ * <code>target/feature-flag-benchmark-report.txt</code>.
+ * <p>
+ * The benchmark runs in the test JVM, w/ short iterations, so the numbers are
+ * a guide rather than a precise measurement.  For precise numbers, run the
+ * FeatureFlagBenchmark class w/ the JMH runner in a forked JVM.
+ * <p>
+ * To fail the build if an evaluation takes longer than a budget, set the
+ * <code>andhow.benchmark.maxFeatureFlagNanos</code> system property.
+ *
+ * @author ericeverman
+ */
+public class FeatureFlagBenchmarkTest {
+
+	public static final String MAX_NANOS = "andhow.benchmark.maxFeatureFlagNanos";
+	public static final File REPORT_FILE = new File("target", "feature-flag-benchmark-report.txt");
+
+	/** Allocation per evaluation, above which it is not allocation free */
+	static final double MAX_BYTES_PER_OP = 1d;
+
+	private static Collection<RunResult> results;
+
+	@BeforeClass
+	public static void measure() throws Exception {
+		Options opts = new OptionsBuilder()
+				.include(FeatureFlagBenchmark.class.getName() + ".")
+				.forks(0)
+				.warmupIterations(3)
+				.warmupTime(TimeValue.milliseconds(200))
+				.measurementIterations(5)
+				.measurementTime(TimeValue.milliseconds(200))
+				.addProfiler(GCProfiler.class)
+				.build();
+
+		results = new Runner(opts).run();
+
+		writeReport();
+	}
+
+	@Test
+	public void testEvaluationsDoNotAllocate() {
+		int checked = 0;
+
+		for (RunResult r : results) {
+			Result alloc = findSecondary(r, "gc.alloc.rate.norm");
+
+			assertNotNull("The GC profiler did not report allocation for " + getName(r), alloc);
+
+			if (! getName(r).equals("baseline")) {
+				assertTrue(getName(r) + " allocates " + alloc.getScore() + " bytes per evaluation",
+						alloc.getScore() < MAX_BYTES_PER_OP);
+				checked++;
+			}
+		}
+
+		assertEquals("Both flag benchmarks should have run", 2, checked);
+	}
+
+	@Test
+	public void testNanosPerEvaluationBudget() {
+		String budget = System.getProperty(MAX_NANOS);
+
+		Assume.assumeTrue("Set " + MAX_NANOS + " to enforce a budget", budget != null);
+
+		double max = Double.parseDouble(budget);
+		for (RunResult r : results) {
+			double nanos = r.getPrimaryResult().getScore();
+
+			assertTrue(getName(r) + " takes " + nanos + "ns per evaluation, which is over the budget of " + max,
+					nanos <= max);
+		}
+	}
+
+	static String getName(RunResult r) {
+		String name = r.getParams().getBenchmark();
+		return name.substring(name.lastIndexOf('.') + 1);
+	}
+
+	static Result findSecondary(RunResult r, String suffix) {
+		for (Map.Entry<String, Result> e : r.getSecondaryResults().entrySet()) {
+			if (e.getKey().endsWith(suffix)) {
+				return e.getValue();
+			}
+		}
+		return null;
+	}
+
+	static void writeReport() throws IOException {
+		REPORT_FILE.getParentFile().mkdirs();
+
+		try (PrintStream out = new PrintStream(new FileOutputStream(REPORT_FILE, false), true, "UTF-8")) {
+			printReport(out);
+		}
+
+		printReport(System.out);
+	}
+
+	static void printReport(PrintStream out) {
+		out.println("AndHow feature flag evaluation benchmark report");
+		out.println("JVM: " + System.getProperty("java.vm.name") + " " + System.getProperty("java.version"));
+		out.println("Keys cycle through " + FeatureFlagBenchmark.KEY_COUNT + " tenants.  The rules flag has "
+				+ FeatureFlagBenchmark.ALLOWED_COUNT + " allowed and " + FeatureFlagBenchmark.DENIED_COUNT + " denied tenants.");
+		out.println();
+
+		for (RunResult r : results) {
+			Result time = r.getPrimaryResult();
+			Result alloc = findSecondary(r, "gc.alloc.rate.norm");
+
+			out.println(String.format("%-36s %8.2f ± %.2f %s%s", getName(r), time.getScore(),
+					time.getScoreError(), time.getScoreUnit(),
+					(alloc != null)? String.format("   %.2f %s", alloc.getScore(), alloc.getScoreUnit()) : ""));
+		}
+	}
+}
@@ -0,0 +1,230 @@
+package org.yarnandtail.andhow.benchmark;
+
+import java.io.PrintStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Measures the retained heap of object graphs and breaks it down into named
+ * components, using JOL to walk the graph and size each object.
+ * <p>
+ * Retained size here is approximated as the size of everything reachable from
+ * a root, minus anything reachable from an 'excluded' set of shared objects,
+ * such as Property instances that are static and would exist w/o AndHow.
+ * JOL matches objects by address, so the excluded graph is parsed just
+ * before and just after each measured graph, following a full GC so the
+ * excluded objects are in the old generation.  If a GC moved any excluded
+ * object in between anyway, the measurement is repeated.
+ * Components of a single root may share sub-objects, so component sizes can
+ * add up to more than the total.
+ *
+ * @author ericeverman
+ */
+public class HeapFootprint {
+
+	private final String name;
+	private final long totalBytes;
+	private final long excludedBytes;
+	private final int propertyCount;
+	private final List<Component> components = new ArrayList();
+
+	/** Times to repeat a measurement that a GC moved objects during */
+	static final int MAX_ATTEMPTS = 10;
+
+	private HeapFootprint(String name, long[] bytes, int propertyCount) {
+		this.name = name;
+		this.totalBytes = bytes[0];
+		this.excludedBytes = bytes[1];
+		this.propertyCount = propertyCount;
+	}
+
+	/**
+	 * Measure an object and each of its instance fields, including fields
+	 * declared in superclasses.
+	 *
+	 * @param name A name for the report
+	 * @param root The object to measure
+	 * @param propertyCount Number of properties in the registry, for per-property stats
+	 * @param exclude Roots of shared objects to exclude from the measurement.  May be null.
+	 * @return A new footprint
+	 */
+	public static HeapFootprint ofFields(String name, Object root, int propertyCount, Object[] exclude) {
+
+		HeapFootprint fp = new HeapFootprint(name, measure(exclude, root), propertyCount);
+
+		for (Class<?> c = root.getClass(); c != null && c != Object.class; c = c.getSuperclass()) {
+			for (Field f : c.getDeclaredFields()) {
+				if (! Modifier.isStatic(f.getModifiers()) && ! f.getType().isPrimitive()) {
+					try {
+						f.setAccessible(true);
+						Object value = f.get(root);
+						if (value != null) {
+							fp.components.add(new Component(f.getName(), size(exclude, value)));
+						}
+					} catch (IllegalAccessException | RuntimeException e) {
+						fp.components.add(new Component(f.getName() + " (inaccessible)", 0L));
+					}
+				}
+			}
+		}
+
+		fp.sortComponents();
+		return fp;
+	}
+
+	/**
+	 * Measure a set of named component groups, each of which may have many roots.
+	 *
+	 * @param name A name for the report
+	 * @param propertyCount Number of properties in the registry, for per-property stats
+	 * @param exclude Roots of shared objects to exclude from the measurement.  May be null.
+	 * @param namedRoots Component names mapped to the roots of each component.
+	 * @return A new footprint
+	 */
+	public static HeapFootprint ofComponents(String name, int propertyCount,
+			Object[] exclude, Map<String, Object[]> namedRoots) {
+
+		List<Object> all = new ArrayList();
+		for (Object[] roots : namedRoots.values()) {
+			all.addAll(Arrays.asList(roots));
+		}
+
+		HeapFootprint fp = new HeapFootprint(name, measure(exclude, all.toArray()), propertyCount);
+
+		for (Map.Entry<String, Object[]> e : namedRoots.entrySet()) {
+			fp.components.add(new Component(e.getKey(), size(exclude, e.getValue())));
+		}
+
+		fp.sortComponents();
+		return fp;
+	}
+
+	/**
+	 * Total bytes reachable from the roots, less any bytes reachable from exclude.
+	 *
+	 * @param exclude Roots of the objects to exclude.  May be null.
+	 * @param roots
+	 * @return
+	 */
+	public static long size(Object[] exclude, Object... roots) {
+		return measure(exclude, roots)[0];
+	}
+
+	/**
+	 * Bytes reachable from the roots, as the included and excluded bytes.
+	 */
+	private static long[] measure(Object[] exclude, Object... roots) {
+
+		for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+			
+			//Settle new objects into the old generation, where the young
+			//collections caused by parsing do not move them.
+			System.gc();
+			
+			GraphLayout before = parse(exclude);
+			GraphLayout all = parse(roots);
+			GraphLayout after = parse(exclude);
+
+			if (all == null) {
+				return new long[] {0L, 0L};
+			} else if (before == null) {
+				return new long[] {all.totalSize(), 0L};
+			} else if (before.addresses().equals(after.addresses())) {
+				long kept = all.subtract(before).totalSize();
+				return new long[] {kept, all.totalSize() - kept};
+			}
+		}
+
+		throw new IllegalStateException("The excluded objects were moved by a GC during "
+				+ MAX_ATTEMPTS + " attempts to measure");
+	}
+
+	/**
+	 * Parses the graph of the non-null roots.
+	 *
+	 * @return The graph or null if there are no non-null roots.
+	 */
+	private static GraphLayout parse(Object[] roots) {
+
+		if (roots == null) {
+			return null;
+		}
+
+		List<Object> nonNull = new ArrayList();
+		for (Object r : roots) {
+			if (r != null) nonNull.add(r);
+		}
+
+		return nonNull.isEmpty()? null : GraphLayout.parseInstance(nonNull.toArray());
+	}
+
+	private void sortComponents() {
+		components.sort((a, b) -> Long.compare(b.bytes, a.bytes));
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public long getTotalBytes() {
+		return totalBytes;
+	}
+
+	/**
+	 * Bytes reachable from the root that were excluded from the total.
+	 *
+	 * @return
+	 */
+	public long getExcludedBytes() {
+		return excludedBytes;
+	}
+
+	public double getBytesPerProperty() {
+		return (propertyCount > 0)? ((double)totalBytes / propertyCount) : 0d;
+	}
+
+	public List<Component> getComponents() {
+		return Collections.unmodifiableList(components);
+	}
+
+	/**
+	 * Print this footprint with up to maxComponents of the largest components.
+	 *
+	 * @param out
+	 * @param maxComponents
+	 */
+	public void print(PrintStream out, int maxComponents) {
+		out.println(String.format("%-62s %,12d bytes %,10.1f bytes/property",
+				name, totalBytes, getBytesPerProperty()));
+
+		for (int i = 0; i < components.size() && i < maxComponents; i++) {
+			Component c = components.get(i);
+			out.println(String.format("    %-58s %,12d bytes %5.1f%%",
+					c.name, c.bytes, (totalBytes > 0)? (100d * c.bytes / totalBytes) : 0d));
+		}
+	}
+
+	/**
+	 * A single named part of a footprint.
+	 */
+	public static class Component {
+		private final String name;
+		private final long bytes;
+
+		public Component(String name, long bytes) {
+			this.name = name;
+			this.bytes = bytes;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public long getBytes() {
+			return bytes;
+		}
+	}
+
+}
@@ -0,0 +1,208 @@
+package org.yarnandtail.andhow.benchmark;
+
+import java.io.*;
+import java.lang.reflect.Field;
+import java.util.*;
+import org.junit.*;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.AndHowCore;
+import org.yarnandtail.andhow.load.KeyValuePairLoader;
+import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
+
+import static org.junit.Assert.*;
+
+/**
+ * Measures the retained heap of AndHow as the number of registered properties
+ * grows and writes a report of the largest contributors to
+ * <code>target/heap-footprint-report.txt</code>.
+ * <p>
+ * Property instances are measured separately and excluded from the other
+ * measurements, since they are static fields that exist whether or not AndHow
+ * is initialized.
+ * <p>
+ * To fail the build if per-property overhead exceeds a budget, set the
+ * <code>andhow.benchmark.maxCoreBytesPerProperty</code> system property.
+ *
+ * @author ericeverman
+ */
+public class HeapFootprintTest {
+
+	public static final String MAX_CORE_BYTES_PER_PROP = "andhow.benchmark.maxCoreBytesPerProperty";
+	public static final File REPORT_FILE = new File("target", "heap-footprint-report.txt");
+
+	static final int[] PROPERTY_COUNTS = new int[] {100, 1000, 4000};
+	static final int PROPERTIES_PER_GROUP = 50;
+	static final int MAX_COMPONENTS = 8;
+
+	/** Core footprint w/o compaction, by property count */
+	private static final Map<Integer, HeapFootprint> coreFootprints = new TreeMap();
+
+	/** Loaded values footprint, compacted and not, by property count */
+	private static final Map<Integer, HeapFootprint> valueFootprints = new TreeMap();
+	private static final Map<Integer, HeapFootprint> compactValueFootprints = new TreeMap();
+
+	private static final List<HeapFootprint> report = new ArrayList();
+
+	@BeforeClass
+	public static void measure() throws Exception {
+
+		for (int count : PROPERTY_COUNTS) {
+			BenchmarkRegistry registry = new BenchmarkRegistry(count, PROPERTIES_PER_GROUP);
+			Object[] propRoots = registry.getProperties().toArray();
+
+			//Properties
+			report.add(measureProperties(registry));
+
+			//Full core
+			AndHowCore core = buildCore(registry, false);
+			HeapFootprint coreFp = HeapFootprint.ofFields(
+					"AndHowCore (" + count + " properties)", core, count, propRoots);
+			coreFootprints.put(count, coreFp);
+			report.add(coreFp);
+
+			report.add(HeapFootprint.ofFields(
+					"StaticPropertyConfigurationImmutable (" + count + " properties)",
+					getField(core, "staticConfig"), count, propRoots));
+
+			HeapFootprint valFp = HeapFootprint.ofFields(
+					"ValidatedValuesWithContextImmutable (" + count + " properties)",
+					core.getValuesWithContext(), count, propRoots);
+			valueFootprints.put(count, valFp);
+			report.add(valFp);
+
+			//Compact core
+			AndHowCore compactCore = buildCore(registry, true);
+			report.add(HeapFootprint.ofFields(
+					"AndHowCore, compact memory (" + count + " properties)", compactCore, count, propRoots));
+
+			HeapFootprint compactValFp = HeapFootprint.ofFields(
+					"ValidatedValuesWithContextCompact (" + count + " properties)",
+					compactCore.getValuesWithContext(), count, propRoots);
+			compactValueFootprints.put(count, compactValFp);
+			report.add(compactValFp);
+		}
+
+		writeReport();
+	}
+
+	@Test
+	public void testPerPropertyCoreOverheadDoesNotGrowWithRegistrySize() {
+		double small = coreFootprints.get(1000).getBytesPerProperty();
+		double large = coreFootprints.get(4000).getBytesPerProperty();
+
+		assertTrue("Per-property overhead grew from " + small + " to " + large
+				+ " bytes - AndHowCore memory use is no longer linear in the number of properties",
+				large <= small * 1.25d);
+	}
+
+	@Test
+	public void testPropertiesAreExcludedFromCore() {
+		for (HeapFootprint fp : coreFootprints.values()) {
+			assertTrue(fp.getName() + " did not exclude the Property instances",
+					fp.getExcludedBytes() > 0);
+		}
+	}
+
+	@Test
+	public void testCompactValuesAreSmallerThanFullValues() {
+		for (int count : PROPERTY_COUNTS) {
+			assertTrue(compactValueFootprints.get(count).getTotalBytes() <
+					valueFootprints.get(count).getTotalBytes());
+		}
+	}
+
+	@Test
+	public void testCoreBytesPerPropertyBudget() {
+		String budget = System.getProperty(MAX_CORE_BYTES_PER_PROP);
+
+		Assume.assumeTrue("Set " + MAX_CORE_BYTES_PER_PROP + " to enforce a budget", budget != null);
+
+		double max = Double.parseDouble(budget);
+		for (HeapFootprint fp : coreFootprints.values()) {
+			assertTrue(fp.getName() + " uses " + fp.getBytesPerProperty()
+					+ " bytes/property, which is over the budget of " + max,
+					fp.getBytesPerProperty() <= max);
+		}
+	}
+
+	/**
+	 * Break down the Property instances by the parts of a Property.
+	 * Singletons shared by all properties, like ValueTypes and Trimmers, are excluded.
+	 */
+	static HeapFootprint measureProperties(BenchmarkRegistry registry) {
+		List<Property<?>> props = registry.getProperties();
+
+		Set<Object> shared = Collections.newSetFromMap(new IdentityHashMap());
+		List<Object> descs = new ArrayList();
+		List<Object> helps = new ArrayList();
+		List<Object> aliases = new ArrayList();
+		List<Object> validators = new ArrayList();
+		List<Object> defaults = new ArrayList();
+
+		for (Property<?> p : props) {
+			shared.add(p.getValueType());
+			shared.add(p.getTrimmer());
+			shared.add(p.getPropertyType());
+			descs.add(p.getDescription());
+			helps.add(p.getHelpText());
+			aliases.add(p.getRequestedAliases());
+			validators.add(p.getValidators());
+			defaults.add(p.getDefaultValue());
+		}
+
+		Map<String, Object[]> parts = new LinkedHashMap();
+		parts.put("property instances, including all parts", props.toArray());
+		parts.put("descriptions", descs.toArray());
+		parts.put("help text", helps.toArray());
+		parts.put("requested alias lists", aliases.toArray());
+		parts.put("validator lists", validators.toArray());
+		parts.put("default values", defaults.toArray());
+
+		return HeapFootprint.ofComponents("PropertyBase (" + props.size() + " properties)",
+				props.size(), shared.toArray(), parts);
+	}
+
+	static AndHowCore buildCore(BenchmarkRegistry registry, boolean compact) {
+		List<Loader> loaders = new ArrayList();
+		KeyValuePairLoader loader = registry.buildLoader(2);
+
+		if (compact) {
+			KeyValuePairLoader options = new KeyValuePairLoader();
+			options.setKeyValuePairs("AHCompactMemory");
+			loaders.add(options);
+		}
+
+		loaders.add(loader);
+		return new AndHowCore(new CaseInsensitiveNaming(), loaders, registry.getGroups());
+	}
+
+	static Object getField(Object target, String name) throws Exception {
+		Field f = target.getClass().getDeclaredField(name);
+		f.setAccessible(true);
+		return f.get(target);
+	}
+
+	static void writeReport() throws IOException {
+		REPORT_FILE.getParentFile().mkdirs();
+
+		try (PrintStream out = new PrintStream(new FileOutputStream(REPORT_FILE, false), true, "UTF-8")) {
+			printReport(out);
+		}
+
+		printReport(System.out);
+	}
+
+	static void printReport(PrintStream out) {
+		out.println("AndHow heap footprint report");
+		out.println("JVM: " + System.getProperty("java.vm.name") + " " + System.getProperty("java.version"));
+		out.println("Largest " + MAX_COMPONENTS + " contributors are listed for each group.");
+		out.println("Property instances are excluded from all but the PropertyBase group.");
+		out.println();
+
+		for (HeapFootprint fp : report) {
+			fp.print(out, MAX_COMPONENTS);
+			out.println();
+		}
+	}
+
+}
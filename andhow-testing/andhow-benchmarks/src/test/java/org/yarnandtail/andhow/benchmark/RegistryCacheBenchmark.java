@@ -0,0 +1,73 @@
+package org.yarnandtail.andhow.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.RegistryCache;
+import org.yarnandtail.andhow.internal.StaticPropertyConfigurationMutable;
+import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
+import org.yarnandtail.andhow.util.AndHowUtil;
+
+/**
+ * JMH benchmarks of building the registry of Properties the normal way,
+ * compared to restoring it from a RegistryCache file.
+ * <p>
+ * The cache file is written once in setup.  The RegistryCache system
+ * property is not set, so the normal build never uses the file.  Run by
+ * RegistryCacheBenchmarkTest.
+ *
+ * @author ericeverman
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RegistryCacheBenchmark {
+
+	static final int PROPERTY_COUNT = 1000;
+	static final int PROPERTIES_PER_GROUP = 10;
+
+	NamingStrategy naming;
+	List<GroupProxy> groups;
+	Path cacheFile;
+
+	@Setup
+	public void setup() throws Exception {
+		naming = new CaseInsensitiveNaming();
+		groups = new BenchmarkRegistry(PROPERTY_COUNT, PROPERTIES_PER_GROUP).getGroups();
+		cacheFile = Files.createTempDirectory("andhow_bench").resolve("registry.cache");
+
+		StaticPropertyConfigurationMutable built = build();
+		RegistryCache.write(cacheFile, built, groups, naming);
+
+		if (readCache() == null) {
+			throw new IllegalStateException("The registry cache could not be read back");
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws Exception {
+		Files.deleteIfExists(cacheFile);
+		Files.deleteIfExists(cacheFile.getParent());
+	}
+
+	/** Names and checks every Property, as on a start w/o the cache */
+	@Benchmark
+	public StaticPropertyConfigurationMutable build() {
+		return AndHowUtil.buildDefinition(groups, null, naming, new ProblemList());
+	}
+
+	/** Checks the fingerprint and restores the names from the cache file */
+	@Benchmark
+	public StaticPropertyConfigurationMutable readCache() {
+		return RegistryCache.read(cacheFile, groups, naming);
+	}
+
+	/** Just the fingerprint, which is part of readCache */
+	@Benchmark
+	public long fingerprint() throws Exception {
+		return RegistryCache.fingerprint(groups, naming);
+	}
+}
@@ -0,0 +1,83 @@
+package org.yarnandtail.andhow.benchmark;
+
+import java.io.*;
+import java.util.*;
+import org.junit.*;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.*;
+
+import static org.junit.Assert.*;
+import static org.yarnandtail.andhow.benchmark.FeatureFlagBenchmarkTest.getName;
+
+/**
+ * Runs the RegistryCacheBenchmark w/ JMH and writes the time to build the
+ * registry, w/ and w/o the cache, to
+ * <code>target/registry-cache-benchmark-report.txt</code>.
+ * <p>
+ * The benchmark runs in the test JVM, w/ short iterations, so the numbers are
+ * a guide rather than a precise measurement.
+ *
+ * @author ericeverman
+ */
+public class RegistryCacheBenchmarkTest {
+
+	public static final File REPORT_FILE = new File("target", "registry-cache-benchmark-report.txt");
+
+	private static Map<String, Result> results;
+
+	@BeforeClass
+	public static void measure() throws Exception {
+		Options opts = new OptionsBuilder()
+				.include(RegistryCacheBenchmark.class.getName() + ".")
+				.forks(0)
+				.warmupIterations(3)
+				.warmupTime(TimeValue.milliseconds(300))
+				.measurementIterations(5)
+				.measurementTime(TimeValue.milliseconds(300))
+				.build();
+
+		results = new LinkedHashMap();
+
+		for (RunResult r : new Runner(opts).run()) {
+			results.put(getName(r), r.getPrimaryResult());
+		}
+
+		writeReport();
+	}
+
+	@Test
+	public void testReadingTheCacheIsFasterThanBuilding() {
+		double build = results.get("build").getScore();
+		double read = results.get("readCache").getScore();
+
+		assertTrue("Reading the cache takes " + read + " vs " + build + " to build w/o it",
+				read < build);
+	}
+
+	static void writeReport() throws IOException {
+		REPORT_FILE.getParentFile().mkdirs();
+
+		try (PrintStream out = new PrintStream(new FileOutputStream(REPORT_FILE, false), true, "UTF-8")) {
+			printReport(out);
+		}
+
+		printReport(System.out);
+	}
+
+	static void printReport(PrintStream out) {
+		out.println("AndHow registry cache benchmark report");
+		out.println("JVM: " + System.getProperty("java.vm.name") + " " + System.getProperty("java.version"));
+		out.println(RegistryCacheBenchmark.PROPERTY_COUNT + " Properties in groups of "
+				+ RegistryCacheBenchmark.PROPERTIES_PER_GROUP);
+		out.println();
+
+		for (Map.Entry<String, Result> e : results.entrySet()) {
+			Result time = e.getValue();
+
+			out.println(String.format("%-36s %10.2f ± %.2f %s", e.getKey(), time.getScore(),
+					time.getScoreError(), time.getScoreUnit()));
+		}
+	}
+}